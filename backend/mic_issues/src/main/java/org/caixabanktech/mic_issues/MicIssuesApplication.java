@@ -2,8 +2,10 @@ package org.caixabanktech.mic_issues;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class MicIssuesApplication {
 
 	public static void main(String[] args) {
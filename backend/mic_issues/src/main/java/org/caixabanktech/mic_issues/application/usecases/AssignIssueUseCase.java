@@ -2,17 +2,20 @@ package org.caixabanktech.mic_issues.application.usecases;
 
 import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
 import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
 import org.caixabanktech.mic_issues.domain.entities.Issue;
 import org.caixabanktech.mic_issues.domain.entities.User;
 import org.caixabanktech.mic_issues.domain.events.IssueEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use Case: Assign an Issue to a User
  * Assigns an existing issue to a user, changing its status to IN_PROGRESS
  */
 @Service
+@Transactional
 public class AssignIssueUseCase {
 
     private final IssueRepository issueRepository;
@@ -65,6 +68,7 @@ public class AssignIssueUseCase {
             );
 
         // Use domain method to assign (business logic in domain)
+        IssueStatus previousStatus = issue.getStatus();
         issue.assign(user);
 
         // Save
@@ -76,7 +80,8 @@ public class AssignIssueUseCase {
                 this,
                 updatedIssue,
                 IssueEvent.EventType.ASSIGNED,
-                userId
+                userId,
+                previousStatus
             )
         );
 
@@ -0,0 +1,91 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.WorkloadIndex;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Use Case: Auto-assign an Issue
+ * Assigns an issue to the least-loaded eligible user, optionally restricted by department or skill
+ */
+@Service
+public class AutoAssignIssueUseCase {
+
+    // The index may still list a user deleted on another path; skip a few such entries
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final WorkloadIndex workloadIndex;
+    private final UserRepository userRepository;
+    private final AssignIssueUseCase assignIssueUseCase;
+
+    public AutoAssignIssueUseCase(WorkloadIndex workloadIndex,
+                                  UserRepository userRepository,
+                                  AssignIssueUseCase assignIssueUseCase) {
+        this.workloadIndex = workloadIndex;
+        this.userRepository = userRepository;
+        this.assignIssueUseCase = assignIssueUseCase;
+    }
+
+    /**
+     * Assigns an issue to the least-loaded eligible user
+     *
+     * @param issueId the issue ID
+     * @param department only consider users of this department; null for any
+     * @param skill only consider users who have worked on issues with this tag; null for any
+     * @return the updated issue
+     * @throws GetIssueByIdUseCase.IssueNotFoundException if issue doesn't exist
+     * @throws NoEligibleAssigneeException if no user matches
+     */
+    public Issue execute(Long issueId, String department, String skill) {
+        if (issueId == null) {
+            throw new IllegalArgumentException("Issue ID cannot be null");
+        }
+        User assignee = pickAssignee(department, skill)
+                .orElseThrow(() -> new NoEligibleAssigneeException(
+                        "No eligible user" + describe(department, skill)));
+        return assignIssueUseCase.execute(issueId, assignee.getId());
+    }
+
+    /**
+     * The least-loaded eligible user, without assigning anything
+     *
+     * @param department only consider users of this department; null for any
+     * @param skill only consider users who have worked on issues with this tag; null for any
+     * @return the user, empty if no user matches
+     */
+    public Optional<User> pickAssignee(String department, String skill) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Optional<Long> candidate = workloadIndex.leastLoaded(department, skill);
+            if (candidate.isEmpty()) {
+                return Optional.empty();
+            }
+            Optional<User> user = userRepository.findById(candidate.get());
+            if (user.isPresent()) {
+                return user;
+            }
+            workloadIndex.forget(candidate.get());
+        }
+        return Optional.empty();
+    }
+
+    private static String describe(String department, String skill) {
+        StringBuilder criteria = new StringBuilder();
+        if (department != null) {
+            criteria.append(" in department ").append(department);
+        }
+        if (skill != null) {
+            criteria.append(department != null ? " and" : "").append(" with skill ").append(skill);
+        }
+        return criteria.toString();
+    }
+
+    public static class NoEligibleAssigneeException extends RuntimeException {
+        public NoEligibleAssigneeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Shared types and chunk loop of the bulk import use cases
+ *
+ * Rows are pulled from the source one chunk at a time: the chunk is validated, written in its
+ * own transaction and reported before the next one is read, so memory follows the chunk size
+ * rather than the size of the upload. When a chunk fails to write, its rows are retried one by
+ * one so only the offending ones are rejected.
+ */
+@Slf4j
+public final class BulkImport {
+
+    private BulkImport() {
+    }
+
+    /**
+     * One input row, numbered from 1 as in the source; error is set when it could not be parsed
+     */
+    public record Row<T>(long line, T value, String error) {
+
+        public static <T> Row<T> of(long line, T value) {
+            return new Row<>(line, value, null);
+        }
+
+        public static <T> Row<T> unreadable(long line, String error) {
+            return new Row<>(line, null, error);
+        }
+    }
+
+    public record RowError(long line, String message) {
+    }
+
+    /**
+     * Running totals after a chunk, with the rows of that chunk that were rejected
+     */
+    public record Progress(long processed, long imported, long failed, List<RowError> errors) {
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onChunk(Progress progress);
+    }
+
+    /**
+     * A validated row, ready to be written
+     */
+    record Prepared<E>(long line, E entity) {
+    }
+
+    interface ChunkHandler<T, E> {
+
+        /**
+         * Turns the valid rows into entities; rejected rows are added to errors
+         */
+        List<Prepared<E>> prepare(List<Row<T>> rows, List<RowError> errors);
+
+        /**
+         * Writes the entities; runs inside a transaction
+         */
+        void write(List<E> entities);
+    }
+
+    /**
+     * Imports every row of the source
+     *
+     * @return the final totals; errors holds the rows rejected in the last chunk only
+     */
+    static <T, E> Progress run(Iterator<Row<T>> rows, int chunkSize, TransactionTemplate transactionTemplate,
+                               ChunkHandler<T, E> handler, ProgressListener listener) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        long processed = 0;
+        long imported = 0;
+        long failed = 0;
+        Progress progress = new Progress(0, 0, 0, List.of());
+        List<Row<T>> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            chunk.clear();
+            while (chunk.size() < chunkSize && rows.hasNext()) {
+                chunk.add(rows.next());
+            }
+
+            List<RowError> errors = new ArrayList<>();
+            List<Row<T>> readable = new ArrayList<>(chunk.size());
+            for (Row<T> row : chunk) {
+                if (row.error() != null) {
+                    errors.add(new RowError(row.line(), row.error()));
+                } else {
+                    readable.add(row);
+                }
+            }
+            List<Prepared<E>> prepared = readable.isEmpty() ? List.of() : handler.prepare(readable, errors);
+            int written = write(prepared, transactionTemplate, handler::write, errors);
+
+            processed += chunk.size();
+            imported += written;
+            failed += chunk.size() - written;
+            errors.sort(Comparator.comparingLong(RowError::line));
+            progress = new Progress(processed, imported, failed, List.copyOf(errors));
+            listener.onChunk(progress);
+        }
+        return progress;
+    }
+
+    private static <E> int write(List<Prepared<E>> prepared, TransactionTemplate transactionTemplate,
+                                 Consumer<List<E>> writer, List<RowError> errors) {
+        if (prepared.isEmpty()) {
+            return 0;
+        }
+        try {
+            List<E> entities = prepared.stream().map(Prepared::entity).toList();
+            transactionTemplate.executeWithoutResult(status -> writer.accept(entities));
+            return prepared.size();
+        } catch (DataAccessException e) {
+            log.warn("Import chunk of {} rows failed, retrying row by row: {}", prepared.size(), e.getMessage());
+        }
+        int written = 0;
+        for (Prepared<E> row : prepared) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writer.accept(List.of(row.entity())));
+                written++;
+            } catch (DataAccessException e) {
+                errors.add(new RowError(row.line(), e.getMostSpecificCause().getMessage()));
+            }
+        }
+        return written;
+    }
+}
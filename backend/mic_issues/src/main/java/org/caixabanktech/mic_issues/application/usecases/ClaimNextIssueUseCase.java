@@ -0,0 +1,64 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Use Case: Claim the next Issue from the work queue
+ * Hands the caller the highest-priority, oldest unassigned OPEN issue and assigns it to them
+ */
+@Service
+@Transactional
+public class ClaimNextIssueUseCase {
+
+    private static final int MAX_TAG_LENGTH = 255;
+
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ClaimNextIssueUseCase(IssueRepository issueRepository,
+                                 UserRepository userRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Claims the next waiting issue; two callers never get the same one
+     *
+     * @param userId the user picking up work
+     * @param tag    only issues with this tag, ignoring case; null or blank for any
+     * @return the issue, now IN_PROGRESS and assigned to the user; empty if none is waiting
+     * @throws GetUserByIdUseCase.UserNotFoundException if user doesn't exist
+     */
+    public Optional<Issue> execute(Long userId, String tag) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        String wanted = tag != null && !tag.isBlank() ? tag.strip() : null;
+        if (wanted != null && wanted.length() > MAX_TAG_LENGTH) {
+            throw new IllegalArgumentException("Tag cannot be longer than " + MAX_TAG_LENGTH + " characters");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GetUserByIdUseCase.UserNotFoundException("User not found with id: " + userId));
+
+        Optional<Issue> claimed = issueRepository.claimNext(user, wanted);
+
+        // Publish event for real-time updates
+        claimed.ifPresent(issue -> eventPublisher.publishEvent(
+                new IssueEvent(this, issue, IssueEvent.EventType.ASSIGNED, userId, IssueStatus.OPEN)));
+        return claimed;
+    }
+}
@@ -1,12 +1,15 @@
 package org.caixabanktech.mic_issues.application.usecases;
 
+import org.caixabanktech.mic_issues.application.usecases.FindSimilarIssuesUseCase.SimilarIssue;
 import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
 import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
 import org.caixabanktech.mic_issues.domain.entities.Issue;
 import org.caixabanktech.mic_issues.domain.entities.User;
 import org.caixabanktech.mic_issues.domain.events.IssueEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -15,18 +18,40 @@ import java.util.List;
  * Orchestrates the creation of an issue in the system
  */
 @Service
+@Transactional
 public class CreateIssueUseCase {
 
+    /**
+     * Open issues at least this similar to a new one are reported as possible duplicates
+     */
+    public static final double DUPLICATE_SIMILARITY = 0.6;
+    private static final int MAX_DUPLICATES = 5;
+
     private final IssueRepository issueRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final GetUserByIdUseCase getUserByIdUseCase;
+    private final AutoAssignIssueUseCase autoAssignIssueUseCase;
+    private final FindSimilarIssuesUseCase findSimilarIssuesUseCase;
 
     public CreateIssueUseCase(IssueRepository issueRepository,
                              ApplicationEventPublisher eventPublisher,
-                             GetUserByIdUseCase getUserByIdUseCase) {
+                             GetUserByIdUseCase getUserByIdUseCase,
+                             AutoAssignIssueUseCase autoAssignIssueUseCase,
+                             FindSimilarIssuesUseCase findSimilarIssuesUseCase) {
         this.issueRepository = issueRepository;
         this.eventPublisher = eventPublisher;
         this.getUserByIdUseCase = getUserByIdUseCase;
+        this.autoAssignIssueUseCase = autoAssignIssueUseCase;
+        this.findSimilarIssuesUseCase = findSimilarIssuesUseCase;
+    }
+
+    /**
+     * Criteria for picking the assignee of a new issue by workload
+     *
+     * @param department only consider users of this department; null for any
+     * @param skill only consider users who have worked on issues with this tag; null for any
+     */
+    public record AutoAssign(String department, String skill) {
     }
 
     /**
@@ -42,10 +67,46 @@ public class CreateIssueUseCase {
      */
     public Issue execute(String title, String description, String requester,
                         String priorityStr, List<String> tags, Long assignedUserId) {
+        return execute(title, description, requester, priorityStr, tags, assignedUserId, null);
+    }
+
+    /**
+     * Creates a new issue, assigning it to the least-loaded eligible user when asked to
+     *
+     * @param autoAssign criteria for picking the assignee when assignedUserId is null; null to
+     *                   leave the issue unassigned. No eligible user also leaves it unassigned.
+     * @return the created issue with generated ID
+     */
+    public Issue execute(String title, String description, String requester,
+                        String priorityStr, List<String> tags, Long assignedUserId, AutoAssign autoAssign) {
+        return execute(title, description, requester, priorityStr, tags, assignedUserId, autoAssign, false);
+    }
+
+    /**
+     * Creates a new issue unless it looks like one already open, when asked to check
+     *
+     * @param checkDuplicates refuse to create the issue while an OPEN or IN_PROGRESS issue is at
+     *                        least DUPLICATE_SIMILARITY similar; the caller can link to one of
+     *                        them or resubmit without the check
+     * @return the created issue with generated ID
+     * @throws PossibleDuplicateException with the candidates, most similar first
+     */
+    public Issue execute(String title, String description, String requester,
+                        String priorityStr, List<String> tags, Long assignedUserId, AutoAssign autoAssign,
+                        boolean checkDuplicates) {
         if (title == null || title.trim().isEmpty()) {
             throw new IllegalArgumentException("Title cannot be empty");
         }
 
+        if (checkDuplicates) {
+            List<SimilarIssue> candidates = findSimilarIssuesUseCase
+                    .find(title, description, null, DUPLICATE_SIMILARITY, MAX_DUPLICATES,
+                            issue -> issue.getStatus() == IssueStatus.OPEN || issue.getStatus() == IssueStatus.IN_PROGRESS);
+            if (!candidates.isEmpty()) {
+                throw new PossibleDuplicateException(candidates);
+            }
+        }
+
         IssuePriority priority;
         try {
             priority = priorityStr != null ? IssuePriority.valueOf(priorityStr.toUpperCase()) : IssuePriority.NORMAL;
@@ -56,6 +117,8 @@ public class CreateIssueUseCase {
         User assignedUser = null;
         if (assignedUserId != null) {
             assignedUser = getUserByIdUseCase.execute(assignedUserId);
+        } else if (autoAssign != null) {
+            assignedUser = autoAssignIssueUseCase.pickAssignee(autoAssign.department(), autoAssign.skill()).orElse(null);
         }
 
         Issue issue = Issue.create(title, description, requester, priority, tags, assignedUser);
@@ -65,4 +128,21 @@ public class CreateIssueUseCase {
 
         return savedIssue;
     }
+
+    /**
+     * Raised instead of creating an issue that resembles open ones
+     */
+    public static class PossibleDuplicateException extends RuntimeException {
+
+        private final List<SimilarIssue> candidates;
+
+        public PossibleDuplicateException(List<SimilarIssue> candidates) {
+            super("Possible duplicate of issue " + candidates.getFirst().issue().getId());
+            this.candidates = List.copyOf(candidates);
+        }
+
+        public List<SimilarIssue> getCandidates() {
+            return candidates;
+        }
+    }
 }
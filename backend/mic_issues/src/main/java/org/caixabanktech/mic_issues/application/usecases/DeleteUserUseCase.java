@@ -1,19 +1,34 @@
 package org.caixabanktech.mic_issues.application.usecases;
 
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
 import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.domain.events.UserEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 /**
  * Use Case: Delete a User
- * Removes a user from the system
+ * Removes a user from the system, together with the issues assigned to them
  */
 @Service
+@Transactional
 public class DeleteUserUseCase {
 
     private final UserRepository userRepository;
+    private final IssueRepository issueRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DeleteUserUseCase(UserRepository userRepository) {
+    public DeleteUserUseCase(UserRepository userRepository, IssueRepository issueRepository,
+                             ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.issueRepository = issueRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -27,10 +42,17 @@ public class DeleteUserUseCase {
             throw new IllegalArgumentException("User ID cannot be null");
         }
 
-        if (!userRepository.existsById(id)) {
-            throw new GetUserByIdUseCase.UserNotFoundException("User not found with id: " + id);
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new GetUserByIdUseCase.UserNotFoundException("User not found with id: " + id));
 
+        // The store deletes them with the user; each gets its own event so clients and indexes drop it
+        List<Issue> assignedIssues = issueRepository.findByAssignedUserId(id);
         userRepository.deleteById(id);
+
+        // Publish event for real-time updates and the in-memory indexes
+        for (Issue issue : assignedIssues) {
+            eventPublisher.publishEvent(new IssueEvent(this, issue, IssueEvent.EventType.DELETED, null));
+        }
+        eventPublisher.publishEvent(new UserEvent(this, user, UserEvent.EventType.DELETED));
     }
 }
@@ -0,0 +1,99 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.SimilarityIndex;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Find Issues similar to another
+ * Looks up near-duplicates by title and description in the similarity index
+ */
+@Service
+@Transactional(readOnly = true)
+public class FindSimilarIssuesUseCase {
+
+    public static final int DEFAULT_LIMIT = 5;
+    public static final int MAX_LIMIT = 50;
+    public static final double DEFAULT_MIN_SIMILARITY = 0.3;
+
+    private final IssueRepository issueRepository;
+    private final SimilarityIndex similarityIndex;
+
+    public FindSimilarIssuesUseCase(IssueRepository issueRepository, SimilarityIndex similarityIndex) {
+        this.issueRepository = issueRepository;
+        this.similarityIndex = similarityIndex;
+    }
+
+    /**
+     * @param similarity estimated share of text the two issues have in common, 0 to 1
+     */
+    public record SimilarIssue(Issue issue, double similarity) {
+    }
+
+    /**
+     * Issues resembling an existing one, most similar first
+     *
+     * @param id            the issue ID
+     * @param minSimilarity 0 to 1; null for DEFAULT_MIN_SIMILARITY
+     * @param limit         1 to MAX_LIMIT; null for DEFAULT_LIMIT
+     * @throws GetIssueByIdUseCase.IssueNotFoundException if the issue doesn't exist
+     */
+    public List<SimilarIssue> execute(Long id, Double minSimilarity, Integer limit) {
+        if (id == null) {
+            throw new IllegalArgumentException("Issue ID cannot be null");
+        }
+        double threshold = minSimilarity != null ? minSimilarity : DEFAULT_MIN_SIMILARITY;
+        if (threshold < 0 || threshold > 1) {
+            throw new IllegalArgumentException("Minimum similarity must be between 0 and 1");
+        }
+        int maxResults = limit != null ? limit : DEFAULT_LIMIT;
+        if (maxResults < 1 || maxResults > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        Issue issue = issueRepository.findById(id)
+                .orElseThrow(() -> new GetIssueByIdUseCase.IssueNotFoundException("Issue not found with id: " + id));
+        return find(issue.getTitle(), issue.getDescription(), id, threshold, maxResults);
+    }
+
+    /**
+     * Issues resembling the given text, most similar first
+     * Matches the store no longer has, say deleted since, are skipped.
+     */
+    public List<SimilarIssue> find(String title, String description, Long excludeId, double minSimilarity, int limit) {
+        return find(title, description, excludeId, minSimilarity, limit, issue -> true);
+    }
+
+    /**
+     * Issues resembling the given text that {@code filter} accepts, most similar first
+     * The limit applies after the filter, so rejected matches never crowd out accepted ones.
+     */
+    public List<SimilarIssue> find(String title, String description, Long excludeId, double minSimilarity, int limit,
+                                   Predicate<Issue> filter) {
+        List<SimilarityIndex.Match> matches = similarityIndex.similarTo(title, description, excludeId, minSimilarity,
+                Integer.MAX_VALUE);
+        List<SimilarIssue> result = new ArrayList<>(Math.min(limit, matches.size()));
+        // Issues are loaded a page at a time, usually just the first
+        for (int from = 0; from < matches.size() && result.size() < limit; from += limit) {
+            List<SimilarityIndex.Match> page = matches.subList(from, Math.min(matches.size(), from + limit));
+            Map<Long, Issue> issues = issueRepository.findAllById(page.stream().map(SimilarityIndex.Match::issueId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Issue::getId, Function.identity()));
+            for (SimilarityIndex.Match match : page) {
+                Issue issue = issues.get(match.issueId());
+                if (issue != null && filter.test(issue) && result.size() < limit) {
+                    result.add(new SimilarIssue(issue, match.similarity()));
+                }
+            }
+        }
+        return result;
+    }
+}
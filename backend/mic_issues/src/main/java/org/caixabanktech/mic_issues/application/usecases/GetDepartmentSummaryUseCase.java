@@ -0,0 +1,28 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.DepartmentStatistics;
+import org.caixabanktech.mic_issues.application.usecases.ports.DepartmentStatistics.DepartmentReport;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use Case: Department Summary
+ * Users, open and in-progress issues and their priority mix per department
+ */
+@Service
+public class GetDepartmentSummaryUseCase {
+
+    private final DepartmentStatistics departmentStatistics;
+
+    public GetDepartmentSummaryUseCase(DepartmentStatistics departmentStatistics) {
+        this.departmentStatistics = departmentStatistics;
+    }
+
+    /**
+     * Reads the current rollup; served from in-memory counters, no query runs
+     *
+     * @return the department report
+     */
+    public DepartmentReport execute() {
+        return departmentStatistics.report();
+    }
+}
@@ -0,0 +1,59 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.ActivityBucket;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.Granularity;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Use Case: Issue Activity time series
+ * Issues created and resolved per minute, hour or day over a date range
+ */
+@Service
+public class GetIssueActivityUseCase {
+
+    public static final int MAX_BUCKETS = 5_000;
+
+    private final IssueActivityStatistics activityStatistics;
+
+    public GetIssueActivityUseCase(IssueActivityStatistics activityStatistics) {
+        this.activityStatistics = activityStatistics;
+    }
+
+    /**
+     * Reads the buckets covering [from, to) from pre-aggregated rollups, never from the issues
+     * Runs without a transaction, so persisted buckets come from the primary and counts a flush
+     * has just moved there are never hidden by replica lag.
+     *
+     * @param granularity bucket size
+     * @param from range start, rounded down to the start of its bucket
+     * @param to range end, exclusive
+     * @return one bucket per step, oldest first
+     * @throws IllegalArgumentException if the range is empty, spans more than MAX_BUCKETS buckets,
+     *                                  or asks for minutes older than the minute retention
+     */
+    public List<ActivityBucket> execute(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (granularity == null || from == null || to == null) {
+            throw new IllegalArgumentException("Granularity, from and to are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        long step = granularity.length().toSeconds();
+        long buckets = (Duration.between(granularity.truncate(from), to).toSeconds() + step - 1) / step;
+        if (buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Range cannot span more than " + MAX_BUCKETS + " "
+                    + granularity.name().toLowerCase() + " buckets");
+        }
+        Duration retention = activityStatistics.minuteRetention();
+        if (granularity == Granularity.MINUTE && from.isBefore(LocalDateTime.now().minus(retention))) {
+            throw new IllegalArgumentException("Minute buckets only cover the last " + retention.toMinutes()
+                    + " minutes; use HOUR or DAY for older ranges");
+        }
+        return activityStatistics.series(granularity, from, to);
+    }
+}
@@ -1,14 +1,17 @@
 package org.caixabanktech.mic_issues.application.usecases;
 
 import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueScope;
 import org.caixabanktech.mic_issues.domain.entities.Issue;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use Case: Get an Issue by ID
  * Retrieves a specific issue from the system
  */
 @Service
+@Transactional(readOnly = true)
 public class GetIssueByIdUseCase {
 
     private final IssueRepository issueRepository;
@@ -25,11 +28,23 @@ public class GetIssueByIdUseCase {
      * @throws IssueNotFoundException if issue doesn't exist
      */
     public Issue execute(Long id) {
+        return execute(id, IssueScope.HOT);
+    }
+
+    /**
+     * Retrieves an issue by its ID, optionally looking into the archive
+     *
+     * @param id the issue ID
+     * @param scope HOT for the working set, ALL to include archived issues
+     * @return the issue if found
+     * @throws IssueNotFoundException if issue doesn't exist in the scope
+     */
+    public Issue execute(Long id, IssueScope scope) {
         if (id == null) {
             throw new IllegalArgumentException("Issue ID cannot be null");
         }
 
-        return issueRepository.findById(id)
+        return issueRepository.findById(id, scope)
                 .orElseThrow(() -> new IssueNotFoundException("Issue not found with id: " + id));
     }
 
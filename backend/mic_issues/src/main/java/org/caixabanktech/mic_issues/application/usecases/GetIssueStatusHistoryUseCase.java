@@ -0,0 +1,47 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueScope;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Use Case: Get the status history of an Issue
+ * Lists every status transition of an issue, oldest first
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetIssueStatusHistoryUseCase {
+
+    private final IssueStatusHistoryRepository historyRepository;
+    private final IssueRepository issueRepository;
+
+    public GetIssueStatusHistoryUseCase(IssueStatusHistoryRepository historyRepository,
+                                        IssueRepository issueRepository) {
+        this.historyRepository = historyRepository;
+        this.issueRepository = issueRepository;
+    }
+
+    /**
+     * Retrieves the transitions of an issue; history outlives archiving and deletion
+     *
+     * @param issueId the issue ID
+     * @return the transitions, oldest first
+     * @throws GetIssueByIdUseCase.IssueNotFoundException if the issue has no history and doesn't exist
+     */
+    public List<StatusTransition> execute(Long issueId) {
+        if (issueId == null) {
+            throw new IllegalArgumentException("Issue ID cannot be null");
+        }
+
+        List<StatusTransition> history = historyRepository.findByIssueId(issueId);
+        if (history.isEmpty() && issueRepository.findById(issueId, IssueScope.ALL).isEmpty()) {
+            throw new GetIssueByIdUseCase.IssueNotFoundException("Issue not found with id: " + issueId);
+        }
+        return history;
+    }
+}
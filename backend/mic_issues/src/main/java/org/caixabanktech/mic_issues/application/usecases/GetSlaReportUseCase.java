@@ -0,0 +1,28 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueSlaStatistics;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueSlaStatistics.SlaReport;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use Case: SLA Report
+ * Live time-to-assign, time-to-resolve and open-age percentiles per priority and department
+ */
+@Service
+public class GetSlaReportUseCase {
+
+    private final IssueSlaStatistics slaStatistics;
+
+    public GetSlaReportUseCase(IssueSlaStatistics slaStatistics) {
+        this.slaStatistics = slaStatistics;
+    }
+
+    /**
+     * Reads the current percentiles; served from in-memory sketches, no query runs
+     *
+     * @return the SLA report
+     */
+    public SlaReport execute() {
+        return slaStatistics.report();
+    }
+}
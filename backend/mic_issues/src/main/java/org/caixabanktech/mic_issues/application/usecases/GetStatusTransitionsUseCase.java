@@ -0,0 +1,37 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository.TransitionCount;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Use Case: Status Transitions report
+ * Counts issue status transitions per (from, to) pair within a date range
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetStatusTransitionsUseCase {
+
+    private final IssueStatusHistoryRepository historyRepository;
+
+    public GetStatusTransitionsUseCase(IssueStatusHistoryRepository historyRepository) {
+        this.historyRepository = historyRepository;
+    }
+
+    /**
+     * Counts the transitions that happened in [from, to)
+     *
+     * @param from range start, inclusive
+     * @param to range end, exclusive
+     * @return transition counts, most frequent first
+     * @throws IllegalArgumentException if the range is empty or longer than GetTimeInStatusUseCase.MAX_RANGE
+     */
+    public List<TransitionCount> execute(LocalDateTime from, LocalDateTime to) {
+        GetTimeInStatusUseCase.validateRange(from, to);
+        return historyRepository.countTransitions(from, to);
+    }
+}
@@ -0,0 +1,55 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository.TimeInStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Use Case: Time in Status report
+ * How long issues stayed in each status they entered within a date range
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetTimeInStatusUseCase {
+
+    /**
+     * Ranges are capped so one request cannot scan the whole history
+     */
+    public static final Duration MAX_RANGE = Duration.ofDays(366);
+
+    private final IssueStatusHistoryRepository historyRepository;
+
+    public GetTimeInStatusUseCase(IssueStatusHistoryRepository historyRepository) {
+        this.historyRepository = historyRepository;
+    }
+
+    /**
+     * Computes time in status for stays that began in [from, to)
+     *
+     * @param from range start, inclusive
+     * @param to range end, exclusive
+     * @return one entry per status entered within the range
+     * @throws IllegalArgumentException if the range is empty or longer than MAX_RANGE
+     */
+    public List<TimeInStatus> execute(LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        return historyRepository.timeInStatus(from, to);
+    }
+
+    static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new IllegalArgumentException("Range cannot exceed " + MAX_RANGE.toDays() + " days");
+        }
+    }
+}
@@ -3,12 +3,14 @@ package org.caixabanktech.mic_issues.application.usecases;
 import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
 import org.caixabanktech.mic_issues.domain.entities.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use Case: Get a User by ID
  * Retrieves a specific user from the system
  */
 @Service
+@Transactional(readOnly = true)
 public class GetUserByIdUseCase {
 
     private final UserRepository userRepository;
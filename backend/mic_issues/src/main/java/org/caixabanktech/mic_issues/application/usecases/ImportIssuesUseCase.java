@@ -0,0 +1,157 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.IssuesImportedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Bulk import Issues
+ * Creates issues from a stream of rows, as CreateIssueUseCase would, one chunk per transaction
+ */
+@Service
+public class ImportIssuesUseCase {
+
+    private static final int MAX_TITLE = 200;
+    private static final int MAX_REQUESTER = 100;
+    private static final int MAX_TAG = 255;
+
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImportIssuesUseCase(IssueRepository issueRepository,
+                               UserRepository userRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager) {
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * One issue to import
+     *
+     * @param priority LOW, NORMAL, HIGH or URGENT; blank for NORMAL
+     * @param assignee username of the assignee; blank to leave the issue open
+     */
+    public record IssueRow(String title, String description, String requester, String priority,
+                           List<String> tags, String assignee) {
+    }
+
+    /**
+     * Imports every row; invalid rows are reported and skipped, the rest are created
+     *
+     * @param rows      the rows, read lazily
+     * @param chunkSize rows per transaction
+     * @param listener  called after every chunk with the running totals and that chunk's rejected rows
+     * @return the final totals
+     */
+    public BulkImport.Progress execute(Iterator<BulkImport.Row<IssueRow>> rows, int chunkSize,
+                                       BulkImport.ProgressListener listener) {
+        return BulkImport.run(rows, chunkSize, transactionTemplate, new BulkImport.ChunkHandler<IssueRow, Issue>() {
+            @Override
+            public List<BulkImport.Prepared<Issue>> prepare(List<BulkImport.Row<IssueRow>> chunk,
+                                                            List<BulkImport.RowError> errors) {
+                return prepareChunk(chunk, errors);
+            }
+
+            @Override
+            public void write(List<Issue> issues) {
+                List<Issue> saved = issueRepository.saveAll(issues);
+                eventPublisher.publishEvent(new IssuesImportedEvent(ImportIssuesUseCase.this, saved));
+            }
+        }, listener);
+    }
+
+    private List<BulkImport.Prepared<Issue>> prepareChunk(List<BulkImport.Row<IssueRow>> chunk,
+                                                          List<BulkImport.RowError> errors) {
+        // One lookup for every assignee of the chunk
+        Set<String> usernames = chunk.stream()
+                .map(row -> blankToNull(row.value().assignee()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, User> assignees = usernames.isEmpty()
+                ? Map.of()
+                : userRepository.findAllByUsername(usernames).stream()
+                        .collect(Collectors.toMap(User::getUsername, Function.identity()));
+
+        List<BulkImport.Prepared<Issue>> prepared = new ArrayList<>(chunk.size());
+        for (BulkImport.Row<IssueRow> row : chunk) {
+            try {
+                prepared.add(new BulkImport.Prepared<>(row.line(), toIssue(row.value(), assignees)));
+            } catch (IllegalArgumentException e) {
+                errors.add(new BulkImport.RowError(row.line(), e.getMessage()));
+            }
+        }
+        return prepared;
+    }
+
+    private static Issue toIssue(IssueRow row, Map<String, User> assignees) {
+        String title = blankToNull(row.title());
+        if (title == null) {
+            throw new IllegalArgumentException("Title cannot be empty");
+        }
+        if (title.length() > MAX_TITLE) {
+            throw new IllegalArgumentException("Title is longer than " + MAX_TITLE + " characters");
+        }
+        String requester = blankToNull(row.requester());
+        if (requester != null && requester.length() > MAX_REQUESTER) {
+            throw new IllegalArgumentException("Requester is longer than " + MAX_REQUESTER + " characters");
+        }
+
+        IssuePriority priority = null;
+        String priorityName = blankToNull(row.priority());
+        if (priorityName != null) {
+            try {
+                priority = IssuePriority.valueOf(priorityName.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown priority: " + priorityName);
+            }
+        }
+
+        List<String> tags = new ArrayList<>();
+        for (String tag : row.tags() != null ? row.tags() : List.<String>of()) {
+            String trimmed = blankToNull(tag);
+            if (trimmed == null) {
+                continue;
+            }
+            if (trimmed.length() > MAX_TAG) {
+                throw new IllegalArgumentException("Tag is longer than " + MAX_TAG + " characters");
+            }
+            tags.add(trimmed);
+        }
+
+        User assignee = null;
+        String username = blankToNull(row.assignee());
+        if (username != null) {
+            assignee = assignees.get(username);
+            if (assignee == null) {
+                throw new IllegalArgumentException("Unknown assignee: " + username);
+            }
+        }
+
+        return Issue.create(title, row.description(), requester, priority, tags, assignee);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,150 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.UsersImportedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Bulk import Users
+ * Creates users from a stream of rows, as CreateUserUseCase would, one chunk per transaction
+ */
+@Service
+public class ImportUsersUseCase {
+
+    private static final int MAX_USERNAME = 50;
+    private static final int MAX_PASSWORD = 255;
+    private static final int MAX_NAME = 100;
+    private static final int MAX_EMAIL = 100;
+    private static final int MAX_PHONE = 20;
+    private static final int MAX_ADDRESS = 255;
+    private static final int MAX_DEPARTMENT = 100;
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImportUsersUseCase(UserRepository userRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * One user to import; phone, address and department are optional
+     */
+    public record UserRow(String username, String password, String name, String email,
+                          String phone, String address, String department) {
+    }
+
+    /**
+     * Imports every row; invalid rows and duplicate usernames or emails are reported and skipped
+     *
+     * @param rows      the rows, read lazily
+     * @param chunkSize rows per transaction
+     * @param listener  called after every chunk with the running totals and that chunk's rejected rows
+     * @return the final totals
+     */
+    public BulkImport.Progress execute(Iterator<BulkImport.Row<UserRow>> rows, int chunkSize,
+                                       BulkImport.ProgressListener listener) {
+        return BulkImport.run(rows, chunkSize, transactionTemplate, new BulkImport.ChunkHandler<UserRow, User>() {
+            @Override
+            public List<BulkImport.Prepared<User>> prepare(List<BulkImport.Row<UserRow>> chunk,
+                                                           List<BulkImport.RowError> errors) {
+                return prepareChunk(chunk, errors);
+            }
+
+            @Override
+            public void write(List<User> users) {
+                List<User> saved = userRepository.saveAll(users);
+                eventPublisher.publishEvent(new UsersImportedEvent(ImportUsersUseCase.this, saved));
+            }
+        }, listener);
+    }
+
+    private List<BulkImport.Prepared<User>> prepareChunk(List<BulkImport.Row<UserRow>> chunk,
+                                                         List<BulkImport.RowError> errors) {
+        // One lookup each for the usernames and emails already taken; earlier chunks are committed
+        Set<String> takenUsernames = userRepository.findAllByUsername(chunk.stream()
+                        .map(row -> blankToNull(row.value().username()))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .map(User::getUsername)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<String> takenEmails = userRepository.findAllByEmail(chunk.stream()
+                        .map(row -> blankToNull(row.value().email()))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .map(User::getEmail)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BulkImport.Prepared<User>> prepared = new ArrayList<>(chunk.size());
+        for (BulkImport.Row<UserRow> row : chunk) {
+            try {
+                User user = toUser(row.value(), now);
+                if (!takenUsernames.add(user.getUsername())) {
+                    throw new IllegalArgumentException("Username already exists: " + user.getUsername());
+                }
+                if (!takenEmails.add(user.getEmail())) {
+                    throw new IllegalArgumentException("Email already exists: " + user.getEmail());
+                }
+                prepared.add(new BulkImport.Prepared<>(row.line(), user));
+            } catch (IllegalArgumentException e) {
+                errors.add(new BulkImport.RowError(row.line(), e.getMessage()));
+            }
+        }
+        return prepared;
+    }
+
+    private static User toUser(UserRow row, LocalDateTime createdAt) {
+        // Passwords are taken verbatim, surrounding spaces included
+        required("Password", row.password(), MAX_PASSWORD);
+        return User.builder()
+                .username(required("Username", row.username(), MAX_USERNAME))
+                .password(row.password())
+                .name(required("Name", row.name(), MAX_NAME))
+                .email(required("Email", row.email(), MAX_EMAIL))
+                .phone(optional("Phone", row.phone(), MAX_PHONE))
+                .address(optional("Address", row.address(), MAX_ADDRESS))
+                .department(optional("Department", row.department(), MAX_DEPARTMENT))
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static String required(String field, String value, int maxLength) {
+        String trimmed = optional(field, value, maxLength);
+        if (trimmed == null) {
+            throw new IllegalArgumentException(field + " cannot be empty");
+        }
+        return trimmed;
+    }
+
+    private static String optional(String field, String value, int maxLength) {
+        String trimmed = blankToNull(value);
+        if (trimmed != null && trimmed.length() > maxLength) {
+            throw new IllegalArgumentException(field + " is longer than " + maxLength + " characters");
+        }
+        return trimmed;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -1,8 +1,10 @@
 package org.caixabanktech.mic_issues.application.usecases;
 
 import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueScope;
 import org.caixabanktech.mic_issues.domain.entities.Issue;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -11,6 +13,7 @@ import java.util.List;
  * Retrieves all issues in the system
  */
 @Service
+@Transactional(readOnly = true)
 public class ListIssuesUseCase {
 
     private final IssueRepository issueRepository;
@@ -20,11 +23,21 @@ public class ListIssuesUseCase {
     }
 
     /**
-     * Retrieves all issues
+     * Retrieves all issues in the working set
      *
-     * @return list of all issues
+     * @return list of all non-archived issues
      */
     public List<Issue> execute() {
         return issueRepository.findAll();
     }
+
+    /**
+     * Retrieves all issues in the given scope
+     *
+     * @param scope HOT for the working set, ALL to include archived issues
+     * @return list of issues
+     */
+    public List<Issue> execute(IssueScope scope) {
+        return issueRepository.findAll(scope);
+    }
 }
@@ -0,0 +1,80 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueCursor;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Use Case: List the Issues assigned to a User
+ * Keyset-paginated inbox, most recently changed first, with the user's issue count per status
+ */
+@Service
+@Transactional(readOnly = true)
+public class ListUserIssuesUseCase {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+
+    public ListUserIssuesUseCase(IssueRepository issueRepository, UserRepository userRepository) {
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * One inbox page
+     *
+     * @param issues the page
+     * @param counts issues assigned to the user per status, regardless of the status filter
+     * @param next   cursor for the following page; null on the last page
+     */
+    public record UserInbox(List<Issue> issues, Map<IssueStatus, Long> counts, IssueCursor next) {
+    }
+
+    /**
+     * Retrieves one page of a user's issues
+     *
+     * @param userId   the user ID
+     * @param statuses statuses to include; null or empty for all
+     * @param after    cursor returned with the previous page; null for the first page
+     * @param limit    page size, 1 to MAX_LIMIT; null for DEFAULT_LIMIT
+     * @return the page and the per-status counts
+     * @throws GetUserByIdUseCase.UserNotFoundException if the user doesn't exist
+     */
+    public UserInbox execute(Long userId, Collection<IssueStatus> statuses, IssueCursor after, Integer limit) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        int pageSize = limit != null ? limit : DEFAULT_LIMIT;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new GetUserByIdUseCase.UserNotFoundException("User not found with id: " + userId);
+        }
+
+        Set<IssueStatus> included = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(IssueStatus.class)
+                : EnumSet.copyOf(statuses);
+        // One extra row tells whether another page follows
+        List<Issue> issues = issueRepository.findByAssignedUserId(userId, included, after, pageSize + 1);
+        IssueCursor next = null;
+        if (issues.size() > pageSize) {
+            issues = issues.subList(0, pageSize);
+            next = IssueCursor.of(issues.getLast());
+        }
+        return new UserInbox(issues, issueRepository.countByStatusForAssignee(userId), next);
+    }
+}
@@ -3,6 +3,7 @@ package org.caixabanktech.mic_issues.application.usecases;
 import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
 import org.caixabanktech.mic_issues.domain.entities.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -11,6 +12,7 @@ import java.util.List;
  * Retrieves all users from the system
  */
 @Service
+@Transactional(readOnly = true)
 public class ListUsersUseCase {
 
     private final UserRepository userRepository;
@@ -0,0 +1,47 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.UserDirectory;
+import org.caixabanktech.mic_issues.application.usecases.ports.UserDirectory.SearchPage;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use Case: Search Users
+ * Paged prefix and substring search over username, name, email and department
+ */
+@Service
+public class SearchUsersUseCase {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final UserDirectory userDirectory;
+
+    public SearchUsersUseCase(UserDirectory userDirectory) {
+        this.userDirectory = userDirectory;
+    }
+
+    /**
+     * Served from the in-memory user directory, no query runs
+     *
+     * @param query  terms that must all match; null or blank lists everyone by name
+     * @param offset matches to skip; null for 0
+     * @param limit  page size, 1 to MAX_LIMIT; null for DEFAULT_LIMIT
+     * @return the page of matching users and the total number of matches
+     */
+    public SearchPage execute(String query, Integer offset, Integer limit) {
+        String terms = query != null ? query.strip() : "";
+        if (terms.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Query cannot be longer than " + MAX_QUERY_LENGTH + " characters");
+        }
+        int skip = offset != null ? offset : 0;
+        if (skip < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        int pageSize = limit != null ? limit : DEFAULT_LIMIT;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return userDirectory.search(terms, skip, pageSize);
+    }
+}
@@ -0,0 +1,44 @@
+package org.caixabanktech.mic_issues.application.usecases;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.TagIndex;
+import org.caixabanktech.mic_issues.application.usecases.ports.TagIndex.TagUsage;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use Case: Suggest Tags
+ * Autocompletes a tag prefix with the most used matching tags
+ */
+@Service
+public class SuggestTagsUseCase {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+    private static final int MAX_PREFIX_LENGTH = 255;
+
+    private final TagIndex tagIndex;
+
+    public SuggestTagsUseCase(TagIndex tagIndex) {
+        this.tagIndex = tagIndex;
+    }
+
+    /**
+     * Served from the in-memory tag index, no query runs
+     *
+     * @param prefix case-insensitive start of the tag; null or blank for the most used tags
+     * @param limit  1 to MAX_LIMIT; null for DEFAULT_LIMIT
+     * @return matching tags with their usage, most used first
+     */
+    public List<TagUsage> execute(String prefix, Integer limit) {
+        String start = prefix != null ? prefix.strip() : "";
+        if (start.length() > MAX_PREFIX_LENGTH) {
+            throw new IllegalArgumentException("Prefix cannot be longer than " + MAX_PREFIX_LENGTH + " characters");
+        }
+        int maxResults = limit != null ? limit : DEFAULT_LIMIT;
+        if (maxResults < 1 || maxResults > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return tagIndex.complete(start, maxResults);
+    }
+}
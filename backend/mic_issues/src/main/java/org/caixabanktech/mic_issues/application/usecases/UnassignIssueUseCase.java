@@ -1,16 +1,19 @@
 package org.caixabanktech.mic_issues.application.usecases;
 
 import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
 import org.caixabanktech.mic_issues.domain.entities.Issue;
 import org.caixabanktech.mic_issues.domain.events.IssueEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use Case: Unassign Issue
  * Removes the assigned user from an issue and changes status back to OPEN
  */
 @Service
+@Transactional
 public class UnassignIssueUseCase {
 
     private final IssueRepository issueRepository;
@@ -36,6 +39,7 @@ public class UnassignIssueUseCase {
                 .orElseThrow(() -> new IssueNotFoundException("Issue not found with id: " + issueId));
 
         // Unassign the issue (sets assignedUser to null and status to OPEN)
+        IssueStatus previousStatus = issue.getStatus();
         issue.unassign();
 
         // Save updated issue
@@ -43,7 +47,7 @@ public class UnassignIssueUseCase {
 
         // Publish event for real-time updates
         eventPublisher.publishEvent(
-            new IssueEvent(this, updatedIssue, IssueEvent.EventType.UPDATED, userId)
+            new IssueEvent(this, updatedIssue, IssueEvent.EventType.UPDATED, userId, previousStatus)
         );
 
         return updatedIssue;
@@ -7,6 +7,7 @@ import org.caixabanktech.mic_issues.domain.entities.Issue;
 import org.caixabanktech.mic_issues.domain.events.IssueEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use Case: Update Issue Status
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
  */
 @Slf4j
 @Service
+@Transactional
 public class UpdateIssueStatusUseCase {
 
     private final IssueRepository issueRepository;
@@ -38,6 +40,7 @@ public class UpdateIssueStatusUseCase {
         Issue issue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new IssueNotFoundException("Issue not found with id: " + issueId));
 
+        IssueStatus previousStatus = issue.getStatus();
         try {
             switch (newStatus) {
                 case RESOLVED -> issue.resolve();
@@ -66,7 +69,7 @@ public class UpdateIssueStatusUseCase {
         };
 
         eventPublisher.publishEvent(
-            new IssueEvent(this, updatedIssue, eventType, userId)
+            new IssueEvent(this, updatedIssue, eventType, userId, previousStatus)
         );
 
         return updatedIssue;
@@ -0,0 +1,35 @@
+package org.caixabanktech.mic_issues.application.usecases.ports;
+
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Department Statistics Port (Interface) - Application Layer
+ * Users and open workload per department, kept current from issue and user events
+ * Implementation will be in the infrastructure layer
+ */
+public interface DepartmentStatistics {
+
+    DepartmentReport report();
+
+    /**
+     * OPEN and IN_PROGRESS issues; byPriority counts both and lists every priority
+     */
+    record IssueCounts(long open, long inProgress, Map<IssuePriority, Long> byPriority) {
+    }
+
+    /**
+     * @param department null for users without one
+     */
+    record DepartmentSummary(String department, long users, IssueCounts issues) {
+    }
+
+    /**
+     * @param departments by department name, users without one last
+     * @param unassigned  issues nobody is assigned to
+     */
+    record DepartmentReport(List<DepartmentSummary> departments, IssueCounts unassigned) {
+    }
+}
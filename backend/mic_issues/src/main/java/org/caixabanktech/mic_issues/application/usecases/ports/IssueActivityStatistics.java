@@ -0,0 +1,58 @@
+package org.caixabanktech.mic_issues.application.usecases.ports;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Issue Activity Port (Interface) - Application Layer
+ * Issues created and resolved per minute, hour or day, kept current from issue events
+ * Implementation will be in the infrastructure layer
+ */
+public interface IssueActivityStatistics {
+
+    /**
+     * One bucket per step from the bucket holding from up to to (exclusive), oldest first,
+     * empty buckets included
+     */
+    List<ActivityBucket> series(Granularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * How far back minute buckets go; earlier activity is only kept per hour and day
+     */
+    Duration minuteRetention();
+
+    enum Granularity {
+        MINUTE(ChronoUnit.MINUTES),
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * Start of the bucket holding the given time
+         */
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+
+        public LocalDateTime next(LocalDateTime bucket) {
+            return bucket.plus(1, unit);
+        }
+
+        public Duration length() {
+            return unit.getDuration();
+        }
+    }
+
+    /**
+     * @param resolved issues that moved into RESOLVED within the bucket
+     */
+    record ActivityBucket(LocalDateTime start, long created, long resolved) {
+    }
+}
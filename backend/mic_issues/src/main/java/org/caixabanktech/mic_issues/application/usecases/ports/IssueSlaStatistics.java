@@ -0,0 +1,41 @@
+package org.caixabanktech.mic_issues.application.usecases.ports;
+
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Statistics Port (Interface) - Application Layer
+ * Live SLA percentiles per priority and department, maintained incrementally from issue events
+ * Implementation will be in the infrastructure layer
+ */
+public interface IssueSlaStatistics {
+
+    SlaReport report();
+
+    /**
+     * @param window  time-to-assign and time-to-resolve cover changes within this trailing window
+     * @param groups  one entry per (priority, department) seen
+     * @param totals  one entry per priority, all departments merged (department is null)
+     */
+    record SlaReport(Instant generatedAt, Duration window, List<SlaGroup> groups, List<SlaGroup> totals) {
+    }
+
+    /**
+     * @param department department of the assignee; null when unassigned, or for a priority total
+     * @param openAge    age of the issues currently OPEN or IN_PROGRESS
+     */
+    record SlaGroup(IssuePriority priority, String department,
+                    Percentiles timeToAssign, Percentiles timeToResolve, Percentiles openAge) {
+    }
+
+    /**
+     * Durations in seconds
+     */
+    record Percentiles(long count, double p50Seconds, double p90Seconds, double p99Seconds) {
+
+        public static final Percentiles EMPTY = new Percentiles(0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,26 @@
+package org.caixabanktech.mic_issues.application.usecases.ports;
+
+import java.util.List;
+
+/**
+ * Similarity Port (Interface) - Application Layer
+ * Approximate text similarity between issues, kept current from issue events, for spotting duplicates
+ * Implementation will be in the infrastructure layer
+ */
+public interface SimilarityIndex {
+
+    /**
+     * Indexed issues whose title and description resemble the given text, most similar first
+     *
+     * @param excludeId     issue to leave out of the result, typically the one being compared; null for none
+     * @param minSimilarity matches below this estimated similarity are left out
+     * @param limit         maximum number of matches
+     */
+    List<Match> similarTo(String title, String description, Long excludeId, double minSimilarity, int limit);
+
+    /**
+     * @param similarity estimated Jaccard similarity of the two texts' shingle sets, 0 to 1
+     */
+    record Match(Long issueId, double similarity) {
+    }
+}
@@ -0,0 +1,26 @@
+package org.caixabanktech.mic_issues.application.usecases.ports;
+
+import java.util.List;
+
+/**
+ * Tag Port (Interface) - Application Layer
+ * Distinct issue tags with usage counts, kept current from issue events, for autocompletion
+ * Implementation will be in the infrastructure layer
+ */
+public interface TagIndex {
+
+    /**
+     * Tags starting with the prefix, ignoring case, most used first
+     *
+     * @param prefix empty for the most used tags overall
+     * @param limit  maximum number of tags
+     */
+    List<TagUsage> complete(String prefix, int limit);
+
+    /**
+     * @param tag   the spelling most issues use
+     * @param count number of issues in the working set carrying the tag
+     */
+    record TagUsage(String tag, long count) {
+    }
+}
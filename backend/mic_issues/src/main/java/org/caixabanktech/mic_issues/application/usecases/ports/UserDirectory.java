@@ -0,0 +1,35 @@
+package org.caixabanktech.mic_issues.application.usecases.ports;
+
+import java.util.List;
+
+/**
+ * Directory Port (Interface) - Application Layer
+ * Searchable summary of every user, kept current from user events, for pickers and lookups
+ * Implementation will be in the infrastructure layer
+ */
+public interface UserDirectory {
+
+    /**
+     * Users matching every term of the query, ignoring case
+     * Terms of three or more characters match anywhere in the username, name, email or department,
+     * shorter ones the start of one of them or of a word in them. Users matching at the start of
+     * a field or word rank first, then by name.
+     *
+     * @param query  whitespace-separated terms; blank lists everyone by name
+     * @param offset matches to skip
+     * @param limit  maximum number of users
+     */
+    SearchPage search(String query, int offset, int limit);
+
+    /**
+     * @param total number of matching users, across all pages
+     */
+    record SearchPage(List<UserSummary> users, int total) {
+    }
+
+    /**
+     * What pickers show of a user; no credentials or contact details beyond the email
+     */
+    record UserSummary(Long id, String username, String name, String email, String department) {
+    }
+}
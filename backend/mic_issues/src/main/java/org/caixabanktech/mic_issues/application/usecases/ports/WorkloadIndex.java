@@ -0,0 +1,25 @@
+package org.caixabanktech.mic_issues.application.usecases.ports;
+
+import java.util.Optional;
+
+/**
+ * Workload Port (Interface) - Application Layer
+ * Per-user open workload, kept current from issue and user events, for picking assignees
+ * Implementation will be in the infrastructure layer
+ */
+public interface WorkloadIndex {
+
+    /**
+     * The user with the lowest weighted open workload among the eligible ones
+     *
+     * @param department only users of this department; null for any
+     * @param skill only users who have worked on issues with this tag; null for any
+     * @return the user ID, empty if nobody is eligible
+     */
+    Optional<Long> leastLoaded(String department, String skill);
+
+    /**
+     * Drops a user the index still lists but the user store no longer has
+     */
+    void forget(Long userId);
+}
@@ -0,0 +1,39 @@
+package org.caixabanktech.mic_issues.application.usecases.repositories;
+
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Keyset position in a list of issues ordered by last change, newest first
+ * lastChangedAt is updatedAt, or createdAt for issues never updated; the id breaks ties
+ */
+public record IssueCursor(LocalDateTime lastChangedAt, Long id) {
+
+    public static final Comparator<Issue> NEWEST_FIRST = Comparator
+            .comparing(IssueCursor::changedAt, Comparator.reverseOrder())
+            .thenComparing(Issue::getId, Comparator.reverseOrder());
+
+    public IssueCursor {
+        if (lastChangedAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor needs a timestamp and an id");
+        }
+    }
+
+    public static IssueCursor of(Issue issue) {
+        return new IssueCursor(changedAt(issue), issue.getId());
+    }
+
+    /**
+     * Whether the issue comes after this position in NEWEST_FIRST order
+     */
+    public boolean isBefore(Issue issue) {
+        int byTime = changedAt(issue).compareTo(lastChangedAt);
+        return byTime < 0 || (byTime == 0 && issue.getId() < id);
+    }
+
+    private static LocalDateTime changedAt(Issue issue) {
+        return issue.getUpdatedAt() != null ? issue.getUpdatedAt() : issue.getCreatedAt();
+    }
+}
@@ -1,9 +1,13 @@
 package org.caixabanktech.mic_issues.application.usecases.repositories;
 
 import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
 import org.caixabanktech.mic_issues.domain.IssueStatus;
 
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -15,14 +19,89 @@ public interface IssueRepository {
 
     Issue save(Issue issue);
 
+    /**
+     * Inserts new issues in bulk, returning them with their ids in the same order
+     * Joins the caller's transaction where the store has one
+     */
+    default List<Issue> saveAll(List<Issue> issues) {
+        return issues.stream().map(this::save).toList();
+    }
+
+    /**
+     * Queries without a scope read the hot working set only
+     */
     Optional<Issue> findById(Long id);
 
     List<Issue> findAll();
 
+    /**
+     * Issues with the given ids from the hot working set; missing ids are skipped, order is unspecified
+     */
+    default List<Issue> findAllById(Collection<Long> ids) {
+        return ids.stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
     List<Issue> findByStatus(IssueStatus status);
 
     List<Issue> findByAssignedUserId(Long userId);
 
+    /**
+     * Scoped variants; stores that never archive have nothing beyond the hot set
+     */
+    default Optional<Issue> findById(Long id, IssueScope scope) {
+        return findById(id);
+    }
+
+    default List<Issue> findAll(IssueScope scope) {
+        return findAll();
+    }
+
+    default List<Issue> findByStatus(IssueStatus status, IssueScope scope) {
+        return findByStatus(status);
+    }
+
+    default List<Issue> findByAssignedUserId(Long userId, IssueScope scope) {
+        return findByAssignedUserId(userId);
+    }
+
+    /**
+     * One page of a user's issues in the given statuses, most recently changed first
+     * Pass the cursor of the last issue of the previous page, or null for the first page
+     */
+    default List<Issue> findByAssignedUserId(Long userId, Collection<IssueStatus> statuses,
+                                             IssueCursor after, int limit) {
+        return findByAssignedUserId(userId).stream()
+                .filter(issue -> statuses.contains(issue.getStatus()))
+                .filter(issue -> after == null || after.isBefore(issue))
+                .sorted(IssueCursor.NEWEST_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Number of issues assigned to a user per status; statuses with none are left out
+     */
+    default Map<IssueStatus, Long> countByStatusForAssignee(Long userId) {
+        Map<IssueStatus, Long> counts = new EnumMap<>(IssueStatus.class);
+        for (Issue issue : findByAssignedUserId(userId)) {
+            counts.merge(issue.getStatus(), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Assigns the next waiting issue to the user and saves it: the unassigned OPEN issue of the
+     * highest priority, oldest first. Concurrent claims never get the same issue; where the store
+     * has transactions, the claimed issue stays locked until the caller's transaction ends.
+     *
+     * @param tag only issues with this tag, ignoring case; null for any
+     * @return the claimed issue, empty if none is waiting
+     */
+    Optional<Issue> claimNext(User assignee, String tag);
+
     void deleteById(Long id);
 
     boolean existsById(Long id);
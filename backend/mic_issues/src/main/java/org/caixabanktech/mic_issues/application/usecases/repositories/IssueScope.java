@@ -0,0 +1,10 @@
+package org.caixabanktech.mic_issues.application.usecases.repositories;
+
+/**
+ * Which part of the issue store a query reads
+ * HOT is the working set; ALL also reads issues that were archived after reaching a terminal status
+ */
+public enum IssueScope {
+    HOT,
+    ALL
+}
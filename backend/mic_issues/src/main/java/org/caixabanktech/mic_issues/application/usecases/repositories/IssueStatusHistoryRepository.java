@@ -0,0 +1,66 @@
+package org.caixabanktech.mic_issues.application.usecases.repositories;
+
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository Port (Interface) - Application Layer
+ * Append-only history of issue status transitions and the analytics computed over it
+ * Ranges are half-open: from inclusive, to exclusive
+ */
+public interface IssueStatusHistoryRepository {
+
+    /**
+     * Records a transition; joins the caller's transaction where the store has one
+     */
+    void append(StatusTransition transition);
+
+    /**
+     * Records several transitions at once, e.g. the initial status of imported issues
+     */
+    default void appendAll(List<StatusTransition> transitions) {
+        transitions.forEach(this::append);
+    }
+
+    /**
+     * Transitions of one issue, oldest first
+     */
+    List<StatusTransition> findByIssueId(Long issueId);
+
+    /**
+     * Transitions into any of the given statuses within the range, oldest first
+     */
+    List<StatusTransition> findTransitionsInto(Collection<IssueStatus> statuses, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * How long issues stayed in each status they entered within the range
+     * A stay ends at the issue's next transition, which may fall after the range;
+     * stays still in progress are measured up to now.
+     */
+    List<TimeInStatus> timeInStatus(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Number of transitions per (from, to) pair within the range, most frequent first
+     */
+    List<TransitionCount> countTransitions(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Time spent in one status, in seconds
+     *
+     * @param entered number of times an issue entered the status within the range
+     * @param left    how many of those stays have already ended
+     */
+    record TimeInStatus(IssueStatus status, long entered, long left,
+                        double averageSeconds, double medianSeconds, double p95Seconds, double maxSeconds) {
+    }
+
+    /**
+     * @param fromStatus null counts issues created directly in toStatus
+     */
+    record TransitionCount(IssueStatus fromStatus, IssueStatus toStatus, long count) {
+    }
+}
@@ -2,6 +2,7 @@ package org.caixabanktech.mic_issues.application.usecases.repositories;
 
 import org.caixabanktech.mic_issues.domain.entities.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,12 +15,53 @@ public interface UserRepository {
 
     User save(User user);
 
+    /**
+     * Inserts new users in bulk, returning them with their ids in the same order
+     * Joins the caller's transaction where the store has one
+     */
+    default List<User> saveAll(List<User> users) {
+        return users.stream().map(this::save).toList();
+    }
+
     Optional<User> findById(Long id);
 
+    /**
+     * Users for the given ids, in no particular order; unknown ids are skipped
+     */
+    default List<User> findAllById(Collection<Long> ids) {
+        return ids.stream()
+                .distinct()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
     Optional<User> findByUsername(String username);
 
     Optional<User> findByEmail(String email);
 
+    /**
+     * Users with any of the given usernames, in no particular order; unknown ones are skipped
+     */
+    default List<User> findAllByUsername(Collection<String> usernames) {
+        return usernames.stream()
+                .distinct()
+                .map(this::findByUsername)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * Users with any of the given emails, in no particular order; unknown ones are skipped
+     */
+    default List<User> findAllByEmail(Collection<String> emails) {
+        return emails.stream()
+                .distinct()
+                .map(this::findByEmail)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
     List<User> findAll();
 
     List<User> findByDepartment(String department);
@@ -5,8 +5,12 @@ public enum IssueStatus {
     IN_PROGRESS,
     RESOLVED,
     CLOSED,
-    REJECTED
-}
-
-
+    REJECTED;
 
+    /**
+     * Terminal issues no longer take part in day-to-day work and may be archived
+     */
+    public boolean isTerminal() {
+        return this == CLOSED || this == REJECTED;
+    }
+}
@@ -0,0 +1,16 @@
+package org.caixabanktech.mic_issues.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * One move of an issue from a status to another
+ *
+ * @param issueId    the issue
+ * @param fromStatus status before the change; null when the issue was created
+ * @param toStatus   status after the change
+ * @param changedBy  user who triggered the change, when known
+ * @param changedAt  when the change happened
+ */
+public record StatusTransition(Long issueId, IssueStatus fromStatus, IssueStatus toStatus,
+                               Long changedBy, LocalDateTime changedAt) {
+}
@@ -1,6 +1,7 @@
 package org.caixabanktech.mic_issues.domain.events;
 
 import lombok.Getter;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
 import org.caixabanktech.mic_issues.domain.entities.Issue;
 import org.springframework.context.ApplicationEvent;
 
@@ -14,12 +15,25 @@ public class IssueEvent extends ApplicationEvent {
     private final Issue issue;
     private final EventType eventType;
     private final Long userId; // User who triggered the event
+    private final IssueStatus previousStatus; // Status before the change; null for new issues
 
     public IssueEvent(Object source, Issue issue, EventType eventType, Long userId) {
+        this(source, issue, eventType, userId, null);
+    }
+
+    public IssueEvent(Object source, Issue issue, EventType eventType, Long userId, IssueStatus previousStatus) {
         super(source);
         this.issue = issue;
         this.eventType = eventType;
         this.userId = userId;
+        this.previousStatus = previousStatus;
+    }
+
+    /**
+     * Whether the change moved the issue into a different status, creation included
+     */
+    public boolean isStatusChange() {
+        return eventType != EventType.DELETED && issue.getStatus() != previousStatus;
     }
 
     public enum EventType {
@@ -0,0 +1,21 @@
+package org.caixabanktech.mic_issues.domain.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Domain Event - Issues Archived
+ * Published once per archive batch; the issues left the working set but still exist in the archive
+ */
+@Getter
+public class IssuesArchivedEvent extends ApplicationEvent {
+
+    private final List<Long> issueIds;
+
+    public IssuesArchivedEvent(Object source, List<Long> issueIds) {
+        super(source);
+        this.issueIds = List.copyOf(issueIds);
+    }
+}
@@ -0,0 +1,22 @@
+package org.caixabanktech.mic_issues.domain.events;
+
+import lombok.Getter;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Domain Event - Issues Imported
+ * Published once per chunk of a bulk import instead of one CREATED IssueEvent per issue
+ */
+@Getter
+public class IssuesImportedEvent extends ApplicationEvent {
+
+    private final List<Issue> issues;
+
+    public IssuesImportedEvent(Object source, List<Issue> issues) {
+        super(source);
+        this.issues = List.copyOf(issues);
+    }
+}
@@ -0,0 +1,22 @@
+package org.caixabanktech.mic_issues.domain.events;
+
+import lombok.Getter;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Domain Event - Users Imported
+ * Published once per chunk of a bulk import instead of one CREATED UserEvent per user
+ */
+@Getter
+public class UsersImportedEvent extends ApplicationEvent {
+
+    private final List<User> users;
+
+    public UsersImportedEvent(Object source, List<User> users) {
+        super(source);
+        this.users = List.copyOf(users);
+    }
+}
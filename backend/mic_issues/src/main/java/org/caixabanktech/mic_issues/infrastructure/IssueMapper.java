@@ -2,6 +2,7 @@ package org.caixabanktech.mic_issues.infrastructure;
 
 import org.caixabanktech.mic_issues.domain.entities.Issue;
 import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.infrastructure.persistence.ArchivedIssueJpaEntity;
 import org.caixabanktech.mic_issues.infrastructure.persistence.IssueJpaEntity;
 import org.caixabanktech.mic_issues.infrastructure.persistence.UserJpaEntity;
 import org.springframework.stereotype.Component;
@@ -72,4 +73,31 @@ public class IssueMapper {
                 .withUpdatedAt(jpaEntity.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * Converts an archived JPA Entity to domain Issue
+     */
+    public Issue toDomain(ArchivedIssueJpaEntity jpaEntity) {
+        if (jpaEntity == null) {
+            return null;
+        }
+
+        User assignedUser = null;
+        if (jpaEntity.getAssignedUser() != null) {
+            assignedUser = userMapper.toDomain(jpaEntity.getAssignedUser());
+        }
+
+        return Issue.reconstitute()
+                .withId(jpaEntity.getId())
+                .withTitle(jpaEntity.getTitle())
+                .withDescription(jpaEntity.getDescription())
+                .withRequester(jpaEntity.getRequester())
+                .withStatus(jpaEntity.getStatus())
+                .withPriority(jpaEntity.getPriority())
+                .withAssignedUser(assignedUser)
+                .withTags(jpaEntity.getTags())
+                .withCreatedAt(jpaEntity.getCreatedAt())
+                .withUpdatedAt(jpaEntity.getUpdatedAt())
+                .build();
+    }
 }
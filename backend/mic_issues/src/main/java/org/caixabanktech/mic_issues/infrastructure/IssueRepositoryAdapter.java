@@ -1,12 +1,30 @@
 package org.caixabanktech.mic_issues.infrastructure;
 
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueCursor;
 import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueScope;
 import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
 import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.infrastructure.persistence.ArchivedIssueJpaRepository;
+import org.caixabanktech.mic_issues.infrastructure.persistence.IssueJpaEntity;
 import org.caixabanktech.mic_issues.infrastructure.persistence.IssueJpaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.Optional;
 
 /**
@@ -14,14 +32,24 @@ import java.util.Optional;
  * Bridges the application layer with the infrastructure layer
  */
 @Component
+@Profile("!inmemory & !eventstore")
 public class IssueRepositoryAdapter implements IssueRepository {
 
+    private static final Set<IssueStatus> ALL_STATUSES = EnumSet.allOf(IssueStatus.class);
+
     private final IssueJpaRepository jpaRepository;
+    private final ArchivedIssueJpaRepository archiveRepository;
     private final IssueMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
-    public IssueRepositoryAdapter(IssueJpaRepository jpaRepository, IssueMapper mapper) {
+    public IssueRepositoryAdapter(IssueJpaRepository jpaRepository,
+                                  ArchivedIssueJpaRepository archiveRepository,
+                                  IssueMapper mapper,
+                                  JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.archiveRepository = archiveRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -31,6 +59,33 @@ public class IssueRepositoryAdapter implements IssueRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    /**
+     * New issues only, written with multi-row INSERTs; collaborators are not imported
+     */
+    @Override
+    public List<Issue> saveAll(List<Issue> issues) {
+        List<Long> ids = JdbcBulkInsert.nextIds(jdbcTemplate, "issues", issues.size());
+        List<Issue> saved = new ArrayList<>(issues.size());
+        for (int i = 0; i < issues.size(); i++) {
+            saved.add(withId(issues.get(i), ids.get(i)));
+        }
+
+        JdbcBulkInsert.insert(jdbcTemplate, "issues",
+                List.of("id", "title", "description", "requester", "status", "priority",
+                        "assigned_user_id", "created_at", "updated_at"),
+                saved, issue -> new Object[]{
+                        issue.getId(), issue.getTitle(), issue.getDescription(), issue.getRequester(),
+                        issue.getStatus().name(), issue.getPriority().name(),
+                        issue.getAssignedUser() != null ? issue.getAssignedUser().getId() : null,
+                        issue.getCreatedAt(), issue.getUpdatedAt()});
+
+        List<Object[]> tags = saved.stream()
+                .flatMap(issue -> issue.getTags().stream().map(tag -> new Object[]{issue.getId(), tag}))
+                .toList();
+        JdbcBulkInsert.insert(jdbcTemplate, "issue_tags", List.of("issue_id", "tag"), tags, Function.identity());
+        return saved;
+    }
+
     @Override
     public Optional<Issue> findById(Long id) {
         return jpaRepository.findById(id)
@@ -45,6 +100,17 @@ public class IssueRepositoryAdapter implements IssueRepository {
                 .toList();
     }
 
+    @Override
+    public List<Issue> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByIdIn(ids)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Issue> findByStatus(IssueStatus status) {
         return jpaRepository.findByStatus(status)
@@ -61,6 +127,98 @@ public class IssueRepositoryAdapter implements IssueRepository {
                 .toList();
     }
 
+    @Override
+    public Optional<Issue> findById(Long id, IssueScope scope) {
+        Optional<Issue> hot = findById(id);
+        if (hot.isPresent() || scope == IssueScope.HOT) {
+            return hot;
+        }
+        return archiveRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Issue> findAll(IssueScope scope) {
+        if (scope == IssueScope.HOT) {
+            return findAll();
+        }
+        return Stream.concat(
+                findAll().stream(),
+                archiveRepository.findAll().stream().map(mapper::toDomain)
+        ).toList();
+    }
+
+    @Override
+    public List<Issue> findByStatus(IssueStatus status, IssueScope scope) {
+        // Only terminal statuses are ever archived
+        if (scope == IssueScope.HOT || !status.isTerminal()) {
+            return findByStatus(status);
+        }
+        return Stream.concat(
+                findByStatus(status).stream(),
+                archiveRepository.findByStatus(status).stream().map(mapper::toDomain)
+        ).toList();
+    }
+
+    @Override
+    public List<Issue> findByAssignedUserId(Long userId, IssueScope scope) {
+        if (scope == IssueScope.HOT) {
+            return findByAssignedUserId(userId);
+        }
+        return Stream.concat(
+                findByAssignedUserId(userId).stream(),
+                archiveRepository.findByAssignedUserId(userId).stream().map(mapper::toDomain)
+        ).toList();
+    }
+
+    @Override
+    public List<Issue> findByAssignedUserId(Long userId, Collection<IssueStatus> statuses,
+                                            IssueCursor after, int limit) {
+        List<Long> ids;
+        if (statuses.containsAll(ALL_STATUSES)) {
+            ids = after == null
+                    ? jpaRepository.findInboxPage(userId, Limit.of(limit))
+                    : jpaRepository.findInboxPageAfter(userId, after.lastChangedAt(), after.id(), Limit.of(limit));
+        } else {
+            ids = after == null
+                    ? jpaRepository.findInboxPage(userId, statuses, Limit.of(limit))
+                    : jpaRepository.findInboxPageAfter(userId, statuses, after.lastChangedAt(), after.id(), Limit.of(limit));
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, IssueJpaEntity> loaded = jpaRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(IssueJpaEntity::getId, Function.identity()));
+        // Keep the page order; an issue deleted between the two statements is skipped
+        return ids.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Map<IssueStatus, Long> countByStatusForAssignee(Long userId) {
+        Map<IssueStatus, Long> counts = new EnumMap<>(IssueStatus.class);
+        jpaRepository.countByStatusForAssignee(userId)
+                .forEach(row -> counts.put(row.getStatus(), row.getCount()));
+        return counts;
+    }
+
+    /**
+     * Locks the next waiting row with FOR UPDATE SKIP LOCKED, so concurrent claims each get a
+     * different issue instead of queueing on the same one; the lock is held until commit
+     */
+    @Override
+    public Optional<Issue> claimNext(User assignee, String tag) {
+        List<Long> next = tag == null ? jpaRepository.lockNextWaiting() : jpaRepository.lockNextWaitingTagged(tag);
+        if (next.isEmpty()) {
+            return Optional.empty();
+        }
+        Issue issue = findById(next.getFirst()).orElseThrow();
+        issue.assign(assignee);
+        return Optional.of(save(issue));
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -70,4 +228,19 @@ public class IssueRepositoryAdapter implements IssueRepository {
     public boolean existsById(Long id) {
         return jpaRepository.existsById(id);
     }
+
+    private static Issue withId(Issue issue, Long id) {
+        return Issue.reconstitute()
+                .withId(id)
+                .withTitle(issue.getTitle())
+                .withDescription(issue.getDescription())
+                .withRequester(issue.getRequester())
+                .withStatus(issue.getStatus())
+                .withPriority(issue.getPriority())
+                .withAssignedUser(issue.getAssignedUser())
+                .withTags(issue.getTags())
+                .withCreatedAt(issue.getCreatedAt())
+                .withUpdatedAt(issue.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,54 @@
+package org.caixabanktech.mic_issues.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Multi-row INSERTs for the bulk saveAll of the JPA adapters
+ *
+ * Hibernate cannot batch inserts into IDENTITY tables, since it needs every generated id back
+ * before the next insert. Bulk writes therefore draw their ids from the identity sequence in one
+ * statement and write ROWS_PER_STATEMENT rows per INSERT with a multi-row VALUES list, which
+ * keeps the bind parameters well under the PostgreSQL limit of 65535. Runs in the caller's transaction.
+ */
+final class JdbcBulkInsert {
+
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private JdbcBulkInsert() {
+    }
+
+    /**
+     * Reserves count ids from the identity sequence of table.id
+     */
+    static List<Long> nextIds(JdbcTemplate jdbcTemplate, String table, int count) {
+        if (count == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)",
+                Long.class, table, count);
+    }
+
+    /**
+     * Inserts the rows, values giving the column values of one row in column order
+     */
+    static <T> void insert(JdbcTemplate jdbcTemplate, String table, List<String> columns,
+                           List<T> rows, Function<T, Object[]> values) {
+        String prefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        String tuple = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<T> slice = rows.subList(from, Math.min(rows.size(), from + ROWS_PER_STATEMENT));
+            List<Object> arguments = new ArrayList<>(slice.size() * columns.size());
+            for (T row : slice) {
+                Collections.addAll(arguments, values.apply(row));
+            }
+            jdbcTemplate.update(prefix + String.join(", ", Collections.nCopies(slice.size(), tuple)),
+                    arguments.toArray());
+        }
+    }
+}
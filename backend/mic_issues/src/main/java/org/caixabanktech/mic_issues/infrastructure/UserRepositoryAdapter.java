@@ -1,10 +1,18 @@
 package org.caixabanktech.mic_issues.infrastructure;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
 import org.caixabanktech.mic_issues.domain.entities.User;
 import org.caixabanktech.mic_issues.infrastructure.persistence.UserJpaRepository;
+import org.hibernate.SessionFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,14 +21,20 @@ import java.util.Optional;
  * Bridges the application layer with the infrastructure layer
  */
 @Component
+@Profile("!inmemory")
 public class UserRepositoryAdapter implements UserRepository {
 
     private final UserJpaRepository jpaRepository;
     private final UserMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
 
-    public UserRepositoryAdapter(UserJpaRepository jpaRepository, UserMapper mapper) {
+    public UserRepositoryAdapter(UserJpaRepository jpaRepository, UserMapper mapper,
+                                 JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     @Override
@@ -30,12 +44,53 @@ public class UserRepositoryAdapter implements UserRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    /**
+     * New users only, written with multi-row INSERTs
+     * Hibernate doesn't see these writes, so the cached user queries are evicted now and again
+     * after completion, in case another transaction cached a result that misses the new users.
+     */
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<Long> ids = JdbcBulkInsert.nextIds(jdbcTemplate, "users", users.size());
+        List<User> saved = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            saved.add(withId(users.get(i), ids.get(i)));
+        }
+
+        JdbcBulkInsert.insert(jdbcTemplate, "users",
+                List.of("id", "username", "password", "name", "email", "phone", "address", "department",
+                        "created_at", "updated_at"),
+                saved, user -> new Object[]{
+                        user.getId(), user.getUsername(), user.getPassword(), user.getName(), user.getEmail(),
+                        user.getPhone(), user.getAddress(), user.getDepartment(),
+                        user.getCreatedAt(), user.getUpdatedAt()});
+
+        evictUserQueries();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictUserQueries();
+                }
+            });
+        }
+        return saved;
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         return jpaRepository.findById(id)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<User> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<User> findByUsername(String username) {
         return jpaRepository.findByUsername(username)
@@ -48,6 +103,22 @@ public class UserRepositoryAdapter implements UserRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<User> findAllByUsername(Collection<String> usernames) {
+        return jpaRepository.findByUsernameIn(usernames)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<User> findAllByEmail(Collection<String> emails) {
+        return jpaRepository.findByEmailIn(emails)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<User> findAll() {
         return jpaRepository.findAll()
@@ -83,4 +154,24 @@ public class UserRepositoryAdapter implements UserRepository {
     public boolean existsByEmail(String email) {
         return jpaRepository.existsByEmail(email);
     }
+
+    private void evictUserQueries() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictQueryRegion(UserJpaRepository.USER_QUERY_REGION);
+    }
+
+    private static User withId(User user, Long id) {
+        return User.builder()
+                .id(id)
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .name(user.getName())
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .address(user.getAddress())
+                .department(user.getDepartment())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
 }
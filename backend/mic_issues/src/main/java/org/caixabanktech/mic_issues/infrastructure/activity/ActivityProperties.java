@@ -0,0 +1,19 @@
+package org.caixabanktech.mic_issues.infrastructure.activity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the issue activity rollups
+ *
+ * @param minuteRetention per-minute buckets are kept in memory for this long, one ring slot per minute
+ */
+@ConfigurationProperties(prefix = "worksync.activity")
+public record ActivityProperties(
+        Duration minuteRetention
+) {
+    public ActivityProperties {
+        minuteRetention = minuteRetention != null ? minuteRetention : Duration.ofHours(24);
+    }
+}
@@ -0,0 +1,24 @@
+package org.caixabanktech.mic_issues.infrastructure.activity;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.ActivityBucket;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.Granularity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Persisted hour and day rollups of issue activity
+ */
+interface ActivityRollupStore {
+
+    /**
+     * Adds the counts of each bucket to what is stored for it
+     */
+    void add(Granularity granularity, Collection<ActivityBucket> deltas);
+
+    /**
+     * Stored buckets starting within [from, to), oldest first; buckets without activity are absent
+     */
+    List<ActivityBucket> find(Granularity granularity, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,45 @@
+package org.caixabanktech.mic_issues.infrastructure.activity;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.ActivityBucket;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.Granularity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Activity rollups in sorted maps, one per granularity, mirroring the table's primary key
+ * Enabled with the "inmemory" profile.
+ */
+@Component
+@Profile("inmemory")
+class InMemoryActivityRollupStore implements ActivityRollupStore {
+
+    private final Map<Granularity, NavigableMap<LocalDateTime, ActivityBucket>> buckets = new EnumMap<>(Granularity.class);
+
+    InMemoryActivityRollupStore() {
+        for (Granularity granularity : Granularity.values()) {
+            buckets.put(granularity, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    @Override
+    public void add(Granularity granularity, Collection<ActivityBucket> deltas) {
+        NavigableMap<LocalDateTime, ActivityBucket> stored = buckets.get(granularity);
+        for (ActivityBucket delta : deltas) {
+            stored.merge(delta.start(), delta, (existing, added) -> new ActivityBucket(existing.start(),
+                    existing.created() + added.created(), existing.resolved() + added.resolved()));
+        }
+    }
+
+    @Override
+    public List<ActivityBucket> find(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        return List.copyOf(buckets.get(granularity).subMap(from, true, to, false).values());
+    }
+}
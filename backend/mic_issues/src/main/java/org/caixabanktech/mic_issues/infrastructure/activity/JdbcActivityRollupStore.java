@@ -0,0 +1,70 @@
+package org.caixabanktech.mic_issues.infrastructure.activity;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.ActivityBucket;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.Granularity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Activity rollups in the issue_activity_rollup table
+ *
+ * One row per (granularity, bucket); a flush is one batch of additive upserts, so several nodes
+ * can flush into the same buckets. A range read is one scan of the primary key.
+ * With the eventstore profile the rollups still live in PostgreSQL, next to the users.
+ */
+@Component
+@Profile("!inmemory")
+class JdbcActivityRollupStore implements ActivityRollupStore {
+
+    private static final String UPSERT = """
+            INSERT INTO issue_activity_rollup (granularity, bucket_start, created, resolved)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (granularity, bucket_start) DO UPDATE
+            SET created = issue_activity_rollup.created + EXCLUDED.created,
+                resolved = issue_activity_rollup.resolved + EXCLUDED.resolved""";
+    private static final String SELECT_RANGE = """
+            SELECT bucket_start, created, resolved
+            FROM issue_activity_rollup
+            WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?
+            ORDER BY bucket_start""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JdbcActivityRollupStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void add(Granularity granularity, Collection<ActivityBucket> deltas) {
+        jdbcTemplate.batchUpdate(UPSERT, deltas, 1000, (ps, delta) -> {
+            ps.setShort(1, code(granularity));
+            ps.setTimestamp(2, Timestamp.valueOf(delta.start()));
+            ps.setLong(3, delta.created());
+            ps.setLong(4, delta.resolved());
+        });
+    }
+
+    @Override
+    public List<ActivityBucket> find(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(SELECT_RANGE, (rs, rowNum) -> new ActivityBucket(
+                        rs.getTimestamp("bucket_start").toLocalDateTime(),
+                        rs.getLong("created"),
+                        rs.getLong("resolved")),
+                code(granularity), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    // Stored codes, see V8__create_issue_activity_rollup.sql; minutes are never persisted
+    private static short code(Granularity granularity) {
+        return switch (granularity) {
+            case HOUR -> 1;
+            case DAY -> 2;
+            case MINUTE -> throw new IllegalArgumentException("Minute buckets are not persisted");
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package org.caixabanktech.mic_issues.infrastructure.activity;
+
+import java.util.Arrays;
+
+/**
+ * Created and resolved counts per minute over a trailing window
+ * One slot per minute of the window, keyed by the minute it holds; counting into a slot whose
+ * minute has passed recycles it, so the ring never grows and needs no cleanup.
+ */
+class MinuteRing {
+
+    private final long[] minutes;
+    private final long[] created;
+    private final long[] resolved;
+
+    MinuteRing(int size) {
+        this.minutes = new long[size];
+        this.created = new long[size];
+        this.resolved = new long[size];
+        Arrays.fill(minutes, Long.MIN_VALUE);
+    }
+
+    /**
+     * Counts activity in the given minute; minutes outside the window are ignored
+     */
+    synchronized void add(long minute, long nowMinute, long createdDelta, long resolvedDelta) {
+        if (minute <= nowMinute - minutes.length || minute > nowMinute) {
+            return;
+        }
+        int slot = slot(minute);
+        if (minutes[slot] != minute) {
+            minutes[slot] = minute;
+            created[slot] = 0;
+            resolved[slot] = 0;
+        }
+        created[slot] += createdDelta;
+        resolved[slot] += resolvedDelta;
+    }
+
+    /**
+     * Created and resolved counts of count consecutive minutes starting at fromMinute
+     */
+    synchronized long[][] read(long fromMinute, int count, long nowMinute) {
+        long[][] counts = new long[count][2];
+        for (int i = 0; i < count; i++) {
+            long minute = fromMinute + i;
+            int slot = slot(minute);
+            if (minute > nowMinute - minutes.length && minutes[slot] == minute) {
+                counts[i][0] = created[slot];
+                counts[i][1] = resolved[slot];
+            }
+        }
+        return counts;
+    }
+
+    private int slot(long minute) {
+        return (int) Math.floorMod(minute, (long) minutes.length);
+    }
+}
@@ -0,0 +1,236 @@
+package org.caixabanktech.mic_issues.infrastructure.activity;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.infrastructure.index.WorkingSetIndex;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Issue activity as a ring of minute counters plus persisted hour and day rollups
+ *
+ * Every created or resolved issue adds one to its minute slot in memory and to the pending
+ * counts of its hour and day; every worksync.activity.flush-interval the pending counts are
+ * added to the stored rollups in one batch. A series is then a read of at most one bucket per
+ * step, whatever the number of issues behind it: minutes from the ring, hours and days from the
+ * store plus what this node has not flushed yet.
+ *
+ * With several nodes, hour and day series include the counts of the others once they flush.
+ * The minute ring is never shared: a MINUTE series holds only the changes this node committed,
+ * plus what its status history held at startup.
+ *
+ * The ring is loaded from the status history at startup; counts still pending when the process
+ * dies are lost, at most one flush interval's worth.
+ */
+@Slf4j
+@Component
+public class RollupIssueActivityStatistics extends WorkingSetIndex implements IssueActivityStatistics {
+
+    private static final List<Granularity> PERSISTED = List.of(Granularity.HOUR, Granularity.DAY);
+
+    private final ActivityRollupStore store;
+    private final IssueStatusHistoryRepository historyRepository;
+    private final Duration minuteRetention;
+    private final MinuteRing minutes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<Granularity, Map<LocalDateTime, long[]>> pending = emptyPending();
+    // Readers hold it shared, a flush exclusively: counts are either pending or stored, never neither
+    private final ReadWriteLock flushGate = new ReentrantReadWriteLock();
+
+    public RollupIssueActivityStatistics(ActivityRollupStore store,
+                                         IssueStatusHistoryRepository historyRepository,
+                                         ActivityProperties properties,
+                                         EventRelay eventRelay,
+                                         PlatformTransactionManager transactionManager) {
+        // Other nodes' counts reach the hour and day series through the store, not their events
+        super(null, null, eventRelay, transactionManager);
+        this.store = store;
+        this.historyRepository = historyRepository;
+        this.minuteRetention = properties.minuteRetention();
+        this.minutes = new MinuteRing(Math.toIntExact(Math.max(1, minuteRetention.toMinutes())));
+    }
+
+    /**
+     * Refills the minute ring only; the persisted rollups already hold these counts
+     */
+    @Override
+    public void bootstrap() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StatusTransition> transitions = read(() -> historyRepository.findTransitionsInto(
+                EnumSet.allOf(IssueStatus.class), now.minus(minuteRetention), now.plusMinutes(1)));
+        long nowMinute = minute(now);
+        for (StatusTransition transition : transitions) {
+            minutes.add(minute(transition.changedAt()), nowMinute,
+                    transition.fromStatus() == null ? 1 : 0,
+                    transition.toStatus() == IssueStatus.RESOLVED ? 1 : 0);
+        }
+        log.info("Issue activity loaded: {} transitions in the last {} minutes", transitions.size(),
+                minuteRetention.toMinutes());
+    }
+
+    @Override
+    public List<ActivityBucket> series(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = granularity.truncate(from);
+        List<LocalDateTime> starts = new ArrayList<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(to); bucket = granularity.next(bucket)) {
+            starts.add(bucket);
+        }
+        if (granularity == Granularity.MINUTE) {
+            long[][] counts = minutes.read(minute(start), starts.size(), minute(LocalDateTime.now()));
+            List<ActivityBucket> series = new ArrayList<>(starts.size());
+            for (int i = 0; i < starts.size(); i++) {
+                series.add(new ActivityBucket(starts.get(i), counts[i][0], counts[i][1]));
+            }
+            return series;
+        }
+
+        Map<LocalDateTime, long[]> counts = new HashMap<>();
+        flushGate.readLock().lock();
+        try {
+            for (ActivityBucket stored : store.find(granularity, start, to)) {
+                counts.put(stored.start(), new long[]{stored.created(), stored.resolved()});
+            }
+            lock.lock();
+            try {
+                pending.get(granularity).forEach((bucket, delta) -> {
+                    if (!bucket.isBefore(start) && bucket.isBefore(to)) {
+                        long[] total = counts.computeIfAbsent(bucket, b -> new long[2]);
+                        total[0] += delta[0];
+                        total[1] += delta[1];
+                    }
+                });
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            flushGate.readLock().unlock();
+        }
+        return starts.stream().map(bucket -> {
+            long[] total = counts.getOrDefault(bucket, new long[2]);
+            return new ActivityBucket(bucket, total[0], total[1]);
+        }).toList();
+    }
+
+    @Override
+    public Duration minuteRetention() {
+        return minuteRetention;
+    }
+
+    @Override
+    protected void issueChanged(IssueEvent event) {
+        if (!event.isStatusChange()) {
+            return;
+        }
+        Issue issue = event.getIssue();
+        boolean created = event.getPreviousStatus() == null;
+        // The same instant the status history records for the change
+        LocalDateTime at = created ? issue.getCreatedAt() : issue.getUpdatedAt();
+        count(at != null ? at : LocalDateTime.now(), created ? 1 : 0, issue.getStatus() == IssueStatus.RESOLVED ? 1 : 0);
+    }
+
+    /**
+     * Imported issues count at their own creation time, however long ago
+     */
+    @Override
+    protected void issuesImported(List<Issue> issues) {
+        for (Issue issue : issues) {
+            LocalDateTime at = issue.getCreatedAt() != null ? issue.getCreatedAt() : LocalDateTime.now();
+            count(at, 1, issue.getStatus() == IssueStatus.RESOLVED ? 1 : 0);
+        }
+    }
+
+    /**
+     * Adds the pending hour and day counts to the stored rollups; on failure they stay pending
+     */
+    @Scheduled(fixedDelayString = "${worksync.activity.flush-interval:10s}")
+    @PreDestroy
+    public void flush() {
+        flushGate.writeLock().lock();
+        try {
+            Map<Granularity, Map<LocalDateTime, long[]>> batch;
+            lock.lock();
+            try {
+                batch = pending;
+                pending = emptyPending();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                for (Granularity granularity : PERSISTED) {
+                    List<ActivityBucket> deltas = batch.get(granularity).entrySet().stream()
+                            .map(entry -> new ActivityBucket(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                            .toList();
+                    if (!deltas.isEmpty()) {
+                        store.add(granularity, deltas);
+                    }
+                    // Written; a failure on the next granularity must not re-add these
+                    batch.get(granularity).clear();
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Issue activity flush failed, keeping the counts pending: {}", ex.getMessage());
+                lock.lock();
+                try {
+                    batch.forEach((granularity, buckets) -> buckets.forEach((bucket, delta) ->
+                            addPending(granularity, bucket, delta[0], delta[1])));
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            flushGate.writeLock().unlock();
+        }
+    }
+
+    private void count(LocalDateTime at, long created, long resolved) {
+        minutes.add(minute(at), minute(LocalDateTime.now()), created, resolved);
+        lock.lock();
+        try {
+            for (Granularity granularity : PERSISTED) {
+                addPending(granularity, granularity.truncate(at), created, resolved);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Caller holds the lock
+    private void addPending(Granularity granularity, LocalDateTime bucket, long created, long resolved) {
+        long[] delta = pending.get(granularity).computeIfAbsent(bucket, b -> new long[2]);
+        delta[0] += created;
+        delta[1] += resolved;
+    }
+
+    private static Map<Granularity, Map<LocalDateTime, long[]>> emptyPending() {
+        Map<Granularity, Map<LocalDateTime, long[]>> empty = new EnumMap<>(Granularity.class);
+        for (Granularity granularity : PERSISTED) {
+            empty.put(granularity, new HashMap<>());
+        }
+        return empty;
+    }
+
+    private static long minute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+}
@@ -0,0 +1,28 @@
+package org.caixabanktech.mic_issues.infrastructure.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for archival of terminal issues
+ *
+ * @param enabled         whether the background job runs on this node
+ * @param after           CLOSED / REJECTED issues untouched for this long are archived
+ * @param batchSize       issues moved per transaction
+ * @param maxBatchesPerRun upper bound of batches per run, so a large backlog is drained gradually
+ */
+@ConfigurationProperties(prefix = "worksync.archive")
+public record ArchiveProperties(
+        Boolean enabled,
+        Duration after,
+        Integer batchSize,
+        Integer maxBatchesPerRun
+) {
+    public ArchiveProperties {
+        enabled = enabled != null ? enabled : Boolean.TRUE;
+        after = after != null ? after : Duration.ofDays(90);
+        batchSize = batchSize != null ? batchSize : 500;
+        maxBatchesPerRun = maxBatchesPerRun != null ? maxBatchesPerRun : 100;
+    }
+}
@@ -0,0 +1,116 @@
+package org.caixabanktech.mic_issues.infrastructure.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.domain.events.IssuesArchivedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Background job moving terminal issues out of the hot tables
+ *
+ * CLOSED and REJECTED issues not updated for worksync.archive.after are copied with their
+ * tags and collaborators into the *_archive tables and deleted from the hot ones, one batch
+ * per transaction. Candidates are locked with SKIP LOCKED, so several nodes can run the job
+ * at once and a concurrent status change simply defers that issue to the next run.
+ * Archived issues stay readable through IssueScope.ALL but are no longer mutable.
+ */
+@Slf4j
+@Component
+@Profile("!inmemory & !eventstore")
+@ConditionalOnProperty(prefix = "worksync.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IssueArchiver {
+
+    private static final String SELECT_BATCH = """
+            SELECT id FROM issues
+            WHERE status IN ('CLOSED', 'REJECTED')
+              AND COALESCE(updated_at, created_at) < ?
+            ORDER BY COALESCE(updated_at, created_at)
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED""";
+    private static final String COPY_ISSUES = """
+            INSERT INTO issues_archive (id, title, description, requester, status, priority,
+                                        assigned_user_id, created_at, updated_at, archived_at)
+            SELECT id, title, description, requester, status, priority,
+                   assigned_user_id, created_at, updated_at, now()
+            FROM issues WHERE id = ANY (?)""";
+    private static final String COPY_TAGS =
+            "INSERT INTO issue_tags_archive (issue_id, tag) SELECT issue_id, tag FROM issue_tags WHERE issue_id = ANY (?)";
+    private static final String COPY_COLLABORATORS = """
+            INSERT INTO user_issue_collaborators_archive (user_id, issue_id)
+            SELECT user_id, issue_id FROM user_issue_collaborators WHERE issue_id = ANY (?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter archivedCounter;
+
+    public IssueArchiver(JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         ArchiveProperties properties,
+                         ApplicationEventPublisher eventPublisher,
+                         MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.archivedCounter = meterRegistry.counter("worksync.archive.issues");
+    }
+
+    @Scheduled(initialDelayString = "${worksync.archive.initial-delay:1m}",
+            fixedDelayString = "${worksync.archive.interval:1h}")
+    public void archive() {
+        LocalDateTime threshold = LocalDateTime.now().minus(properties.after());
+        int total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(threshold));
+            total += moved != null ? moved : 0;
+            if (moved == null || moved < properties.batchSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} terminal issues not updated since {}", total, threshold);
+        }
+    }
+
+    private int archiveBatch(LocalDateTime threshold) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_BATCH, Long.class,
+                Timestamp.valueOf(threshold), properties.batchSize());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // Parents first into the archive, children first out of the hot tables
+        update(COPY_ISSUES, ids);
+        update(COPY_TAGS, ids);
+        update(COPY_COLLABORATORS, ids);
+        update("DELETE FROM issue_tags WHERE issue_id = ANY (?)", ids);
+        update("DELETE FROM user_issue_collaborators WHERE issue_id = ANY (?)", ids);
+        update("DELETE FROM issues WHERE id = ANY (?)", ids);
+
+        archivedCounter.increment(ids.size());
+        eventPublisher.publishEvent(new IssuesArchivedEvent(this, ids));
+        return ids.size();
+    }
+
+    private void update(String sql, List<Long> ids) {
+        jdbcTemplate.update(sql, statement -> {
+            Array array = statement.getConnection().createArrayOf("bigint", ids.toArray());
+            statement.setArray(1, array);
+        });
+    }
+}
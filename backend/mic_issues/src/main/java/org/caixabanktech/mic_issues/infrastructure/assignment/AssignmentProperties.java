@@ -0,0 +1,33 @@
+package org.caixabanktech.mic_issues.infrastructure.assignment;
+
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration for load-aware auto-assignment
+ *
+ * @param weights load each open assigned issue adds to its assignee, by priority; missing priorities weigh 1
+ */
+@ConfigurationProperties(prefix = "worksync.assignment")
+public record AssignmentProperties(
+        Map<IssuePriority, Integer> weights
+) {
+    public AssignmentProperties {
+        Map<IssuePriority, Integer> defaults = new EnumMap<>(Map.of(
+                IssuePriority.LOW, 1,
+                IssuePriority.NORMAL, 2,
+                IssuePriority.HIGH, 4,
+                IssuePriority.URGENT, 8));
+        if (weights != null) {
+            defaults.putAll(weights);
+        }
+        weights = defaults;
+    }
+
+    public int weight(IssuePriority priority) {
+        return priority != null ? weights.getOrDefault(priority, 1) : 1;
+    }
+}
@@ -0,0 +1,279 @@
+package org.caixabanktech.mic_issues.infrastructure.assignment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.application.usecases.ports.WorkloadIndex;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.infrastructure.index.WorkingSetIndex;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Workload index of indexed min-heaps, one per eligibility pool
+ *
+ * A user's load is the sum of the priority weights of their OPEN and IN_PROGRESS issues; ties
+ * go to fewer open issues, then the lower id. Every user sits in the pool of everyone, of their
+ * department, of each skill, and of each (department, skill) pair, so any lookup is a peek at
+ * one heap and a load change re-positions the user in each of their pools in O(log n).
+ * Skills are the tags of the issues a user has been assigned.
+ *
+ * Loaded from the working set at startup and updated from committed issue and user events,
+ * including those relayed from other nodes.
+ */
+@Slf4j
+@Component
+public class HeapWorkloadIndex extends WorkingSetIndex implements WorkloadIndex {
+
+    private record Pool(String department, String skill) {
+
+        static final Pool ANYONE = new Pool(null, null);
+    }
+
+    /**
+     * What one open assigned issue adds to its assignee
+     */
+    private record Contribution(Long userId, int weight) {
+    }
+
+    private static final class Workload {
+        String department;
+        long load;
+        int openIssues;
+        final Set<String> skills = new HashSet<>();
+    }
+
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final AssignmentProperties properties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Workload> users = new HashMap<>();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private final Map<Pool, IndexedMinHeap<Long>> pools = new HashMap<>();
+    private final Comparator<Long> byLoad = Comparator
+            .comparingLong((Long id) -> users.get(id).load)
+            .thenComparingInt(id -> users.get(id).openIssues)
+            .thenComparing(Comparator.naturalOrder());
+
+    public HeapWorkloadIndex(IssueRepository issueRepository,
+                             UserRepository userRepository,
+                             AssignmentProperties properties,
+                             EventRelay eventRelay,
+                             PlatformTransactionManager transactionManager) {
+        super(issueRepository, userRepository, eventRelay, transactionManager);
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    public void bootstrap() {
+        List<User> allUsers = read(userRepository::findAll);
+        List<Issue> issues = read(issueRepository::findAll);
+        lock.lock();
+        try {
+            allUsers.forEach(this::upsertUser);
+            issues.forEach(this::apply);
+        } finally {
+            lock.unlock();
+        }
+        log.info("Workload index loaded: {} users, {} open assigned issues", users.size(), contributions.size());
+    }
+
+    @Override
+    public Optional<Long> leastLoaded(String department, String skill) {
+        lock.lock();
+        try {
+            IndexedMinHeap<Long> pool = pools.get(new Pool(normalize(department), normalize(skill)));
+            return pool != null ? Optional.ofNullable(pool.peek()) : Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void forget(Long userId) {
+        lock.lock();
+        try {
+            removeUser(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void issuesChanged(List<Issue> issues) {
+        lock.lock();
+        try {
+            issues.forEach(this::apply);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void issuesRemoved(List<Long> issueIds) {
+        lock.lock();
+        try {
+            issueIds.forEach(this::withdraw);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void usersChanged(List<User> changed) {
+        lock.lock();
+        try {
+            changed.forEach(this::upsertUser);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void userRemoved(Long userId) {
+        forget(userId);
+    }
+
+    // Callers hold the lock for every method below
+
+    private void apply(Issue issue) {
+        User assignee = issue.getAssignedUser();
+        if (assignee != null) {
+            learnSkills(assignee, issue.getTags());
+        }
+        boolean open = issue.getStatus() == IssueStatus.OPEN || issue.getStatus() == IssueStatus.IN_PROGRESS;
+        Contribution next = open && assignee != null
+                ? new Contribution(assignee.getId(), properties.weight(issue.getPriority()))
+                : null;
+        if (Objects.equals(contributions.get(issue.getId()), next)) {
+            return;
+        }
+        withdraw(issue.getId());
+        if (next == null) {
+            return;
+        }
+        contributions.put(issue.getId(), next);
+        Workload workload = users.get(next.userId());
+        workload.load += next.weight();
+        workload.openIssues++;
+        reposition(next.userId());
+    }
+
+    private void learnSkills(User assignee, List<String> tags) {
+        if (!users.containsKey(assignee.getId())) {
+            upsertUser(assignee);
+        }
+        Workload workload = users.get(assignee.getId());
+        for (String tag : tags) {
+            String skill = normalize(tag);
+            if (skill != null && workload.skills.add(skill)) {
+                join(assignee.getId(), new Pool(null, skill));
+                if (workload.department != null) {
+                    join(assignee.getId(), new Pool(workload.department, skill));
+                }
+            }
+        }
+    }
+
+    private void withdraw(Long issueId) {
+        Contribution previous = contributions.remove(issueId);
+        if (previous == null) {
+            return;
+        }
+        Workload workload = users.get(previous.userId());
+        if (workload != null) {
+            workload.load -= previous.weight();
+            workload.openIssues--;
+            reposition(previous.userId());
+        }
+    }
+
+    private void upsertUser(User user) {
+        String department = normalize(user.getDepartment());
+        Workload workload = users.get(user.getId());
+        if (workload != null && Objects.equals(workload.department, department)) {
+            return;
+        }
+        if (workload == null) {
+            workload = new Workload();
+            users.put(user.getId(), workload);
+        } else {
+            poolsOf(workload).forEach(pool -> leave(user.getId(), pool));
+        }
+        workload.department = department;
+        for (Pool pool : poolsOf(workload)) {
+            join(user.getId(), pool);
+        }
+    }
+
+    private void removeUser(Long userId) {
+        Workload workload = users.get(userId);
+        if (workload == null) {
+            return;
+        }
+        poolsOf(workload).forEach(pool -> leave(userId, pool));
+        users.remove(userId);
+        contributions.values().removeIf(contribution -> contribution.userId().equals(userId));
+    }
+
+    private List<Pool> poolsOf(Workload workload) {
+        List<Pool> result = new ArrayList<>();
+        result.add(Pool.ANYONE);
+        if (workload.department != null) {
+            result.add(new Pool(workload.department, null));
+        }
+        for (String skill : workload.skills) {
+            result.add(new Pool(null, skill));
+            if (workload.department != null) {
+                result.add(new Pool(workload.department, skill));
+            }
+        }
+        return result;
+    }
+
+    private void join(Long userId, Pool pool) {
+        pools.computeIfAbsent(pool, p -> new IndexedMinHeap<>(byLoad)).offer(userId);
+    }
+
+    private void leave(Long userId, Pool pool) {
+        IndexedMinHeap<Long> heap = pools.get(pool);
+        if (heap != null) {
+            heap.remove(userId);
+            if (heap.isEmpty()) {
+                pools.remove(pool);
+            }
+        }
+    }
+
+    private void reposition(Long userId) {
+        Workload workload = users.get(userId);
+        for (Pool pool : poolsOf(workload)) {
+            IndexedMinHeap<Long> heap = pools.get(pool);
+            if (heap != null) {
+                heap.changed(userId);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,123 @@
+package org.caixabanktech.mic_issues.infrastructure.assignment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary min-heap that knows where each element sits
+ * Besides the usual offer/peek it can re-position or remove an arbitrary element in O(log n)
+ * after its priority changed, which a PriorityQueue can only do in O(n). Not thread-safe.
+ *
+ * @param <K> element identity; the comparator reads the element's current priority
+ */
+class IndexedMinHeap<K> {
+
+    private final Comparator<K> comparator;
+    private final List<K> heap = new ArrayList<>();
+    private final Map<K, Integer> positions = new HashMap<>();
+
+    IndexedMinHeap(Comparator<K> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Inserts the element, or restores heap order around it if already present
+     */
+    void offer(K key) {
+        Integer position = positions.get(key);
+        if (position == null) {
+            heap.add(key);
+            positions.put(key, heap.size() - 1);
+            siftUp(heap.size() - 1);
+        } else {
+            update(position);
+        }
+    }
+
+    /**
+     * Restores heap order after the element's priority changed; unknown elements are ignored
+     */
+    void changed(K key) {
+        Integer position = positions.get(key);
+        if (position != null) {
+            update(position);
+        }
+    }
+
+    void remove(K key) {
+        Integer position = positions.remove(key);
+        if (position == null) {
+            return;
+        }
+        K last = heap.removeLast();
+        if (position < heap.size()) {
+            heap.set(position, last);
+            positions.put(last, position);
+            update(position);
+        }
+    }
+
+    K peek() {
+        return heap.isEmpty() ? null : heap.getFirst();
+    }
+
+    boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    int size() {
+        return heap.size();
+    }
+
+    private void update(int position) {
+        if (!siftUp(position)) {
+            siftDown(position);
+        }
+    }
+
+    private boolean siftUp(int position) {
+        boolean moved = false;
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (comparator.compare(heap.get(position), heap.get(parent)) >= 0) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+            moved = true;
+        }
+        return moved;
+    }
+
+    private void siftDown(int position) {
+        int size = heap.size();
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && comparator.compare(heap.get(left), heap.get(smallest)) < 0) {
+                smallest = left;
+            }
+            if (right < size && comparator.compare(heap.get(right), heap.get(smallest)) < 0) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        K first = heap.get(a);
+        K second = heap.get(b);
+        heap.set(a, second);
+        heap.set(b, first);
+        positions.put(second, a);
+        positions.put(first, b);
+    }
+}
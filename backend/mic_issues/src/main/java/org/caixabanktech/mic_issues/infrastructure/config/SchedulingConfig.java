@@ -0,0 +1,13 @@
+package org.caixabanktech.mic_issues.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables background jobs such as relay housekeeping
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,10 +1,14 @@
 package org.caixabanktech.mic_issues.infrastructure.config;
 
+import org.caixabanktech.mic_issues.infrastructure.websocket.SubscriptionReceiptInterceptor;
+import org.caixabanktech.mic_issues.infrastructure.websocket.WebSocketSessionMonitor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket Configuration for real-time reactive updates
@@ -14,6 +18,17 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketProperties properties;
+    private final WebSocketSessionMonitor sessionMonitor;
+    private final SubscriptionReceiptInterceptor subscriptionReceipts;
+
+    public WebSocketConfig(WebSocketProperties properties, WebSocketSessionMonitor sessionMonitor,
+                           SubscriptionReceiptInterceptor subscriptionReceipts) {
+        this.properties = properties;
+        this.sessionMonitor = sessionMonitor;
+        this.subscriptionReceipts = subscriptionReceipts;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // Enable a simple memory-based message broker to send messages to clients
@@ -29,5 +44,32 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*") // For development - restrict in production
                 .withSockJS();
+
+        // Raw WebSocket for clients that don't need the SockJS fallback transports
+        if (properties.nativeEndpoint()) {
+            registry.addEndpoint("/ws-native")
+                    .setAllowedOriginPatterns("*");
+        }
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // A client that can't keep up is evicted once either limit is exceeded,
+        // instead of growing its outbound buffer without bound
+        registration.setSendTimeLimit((int) properties.sendTimeLimit().toMillis())
+                .setSendBufferSizeLimit((int) properties.sendBufferSizeLimit().toBytes())
+                .setMessageSizeLimit((int) properties.messageSizeLimit().toBytes())
+                .setTimeToFirstMessage((int) properties.timeToFirstMessage().toMillis())
+                .addDecoratorFactory(sessionMonitor);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(subscriptionReceipts);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(sessionMonitor);
     }
 }
@@ -0,0 +1,32 @@
+package org.caixabanktech.mic_issues.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Transport limits for the /ws endpoints
+ *
+ * @param sendTimeLimit       max time a single send to a client may take before the session is evicted
+ * @param sendBufferSizeLimit max data buffered for a client that is not keeping up before it is evicted
+ * @param messageSizeLimit    max size of an inbound STOMP message
+ * @param timeToFirstMessage  max time a new connection may stay silent before it is closed
+ * @param nativeEndpoint      whether to expose /ws-native, a raw WebSocket endpoint without SockJS
+ */
+@ConfigurationProperties(prefix = "worksync.websocket")
+public record WebSocketProperties(
+        Duration sendTimeLimit,
+        DataSize sendBufferSizeLimit,
+        DataSize messageSizeLimit,
+        Duration timeToFirstMessage,
+        Boolean nativeEndpoint
+) {
+    public WebSocketProperties {
+        sendTimeLimit = sendTimeLimit != null ? sendTimeLimit : Duration.ofSeconds(10);
+        sendBufferSizeLimit = sendBufferSizeLimit != null ? sendBufferSizeLimit : DataSize.ofKilobytes(512);
+        messageSizeLimit = messageSizeLimit != null ? messageSizeLimit : DataSize.ofKilobytes(64);
+        timeToFirstMessage = timeToFirstMessage != null ? timeToFirstMessage : Duration.ofSeconds(60);
+        nativeEndpoint = nativeEndpoint != null ? nativeEndpoint : Boolean.TRUE;
+    }
+}
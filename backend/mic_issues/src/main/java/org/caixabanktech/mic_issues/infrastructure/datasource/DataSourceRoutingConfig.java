@@ -0,0 +1,87 @@
+package org.caixabanktech.mic_issues.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica routing, active when worksync.datasource.replicas is configured
+ * Replaces the auto-configured DataSource: writes and anything pinned by
+ * {@link ReadYourWrites} use spring.datasource, read-only transactions use a replica.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "worksync.datasource.replicas[0]", name = "url")
+public class DataSourceRoutingConfig {
+
+    /**
+     * The primary pool, configured like the auto-configured one from spring.datasource.hikari.*;
+     * not a candidate for injection by type, which goes to the routing DataSource
+     */
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             DataSourceRoutingProperties routingProperties,
+                                                             TaskScheduler taskScheduler,
+                                                             MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < routingProperties.replicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = routingProperties.replicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+            dataSource.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+            dataSource.setReadOnly(true);
+            // Start even if a replica is down; it joins the rotation once a lag check succeeds
+            dataSource.setInitializationFailTimeout(-1);
+            if (replica.maximumPoolSize() != null) {
+                dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            }
+            replicas.add(dataSource);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, replicas, routingProperties.maxReplicationLag(), meterRegistry);
+        taskScheduler.scheduleWithFixedDelay(routing::checkReplicas, routingProperties.lagCheckInterval());
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        // Known upfront so the proxy does not open a connection just to read the defaults
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(DataSourceRoutingProperties routingProperties) {
+        return new ReadYourWritesFilter(routingProperties.stickyWindow());
+    }
+}
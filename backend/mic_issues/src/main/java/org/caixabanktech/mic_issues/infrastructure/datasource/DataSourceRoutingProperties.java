@@ -0,0 +1,40 @@
+package org.caixabanktech.mic_issues.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration for read-replica routing
+ * Routing is enabled as soon as one replica is configured; without replicas every
+ * transaction uses spring.datasource as before.
+ *
+ * @param replicas           replica connection settings, tried round-robin
+ * @param maxReplicationLag  replicas lagging further behind the primary are skipped
+ * @param lagCheckInterval   how often replica reachability and lag are sampled
+ * @param stickyWindow       how long a client that just wrote keeps reading from the primary
+ */
+@ConfigurationProperties(prefix = "worksync.datasource")
+public record DataSourceRoutingProperties(
+        List<Replica> replicas,
+        Duration maxReplicationLag,
+        Duration lagCheckInterval,
+        Duration stickyWindow
+) {
+    public DataSourceRoutingProperties {
+        replicas = replicas != null ? replicas : List.of();
+        maxReplicationLag = maxReplicationLag != null ? maxReplicationLag : Duration.ofSeconds(5);
+        lagCheckInterval = lagCheckInterval != null ? lagCheckInterval : Duration.ofSeconds(2);
+        stickyWindow = stickyWindow != null ? stickyWindow : Duration.ofSeconds(5);
+    }
+
+    /**
+     * @param url              JDBC url of the replica
+     * @param username         defaults to spring.datasource.username
+     * @param password         defaults to spring.datasource.password
+     * @param maximumPoolSize  replica pool size, defaults to Hikari's default
+     */
+    public record Replica(String url, String username, String password, Integer maximumPoolSize) {
+    }
+}
@@ -0,0 +1,45 @@
+package org.caixabanktech.mic_issues.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread flag that pins read-only transactions to the primary
+ * Set for the rest of a request by {@link ReadYourWritesFilter} after the client wrote,
+ * or around a block of code that must not observe replication lag.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    /**
+     * Runs the supplier with every read routed to the primary
+     */
+    public static <T> T onPrimary(Supplier<T> supplier) {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+
+    static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    static void clear() {
+        PINNED.remove();
+    }
+}
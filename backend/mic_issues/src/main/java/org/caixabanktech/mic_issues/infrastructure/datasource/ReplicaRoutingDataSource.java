@@ -0,0 +1,146 @@
+package org.caixabanktech.mic_issues.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource that sends read-only transactions to a healthy replica
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the physical connection is then only
+ * requested at the first statement, once the transaction's read-only flag is known.
+ *
+ * - Read-only transaction, not pinned: next healthy replica, round-robin
+ * - Anything else, no replica healthy, or the replica refuses a connection: primary
+ * - A replica is healthy when its last lag check succeeded within the lag bound
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /**
+     * Replication lag in seconds; 0 when the server is caught up or is not a standby at all
+     */
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END""";
+
+    private final HikariDataSource primary;
+    private final List<ReplicaTarget> replicas;
+    private final Duration maxReplicationLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryConnections;
+    private final Counter fallbackConnections;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    Duration maxReplicationLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxReplicationLag = maxReplicationLag;
+        this.replicas = replicas.stream()
+                .map(dataSource -> new ReplicaTarget(dataSource, meterRegistry))
+                .toList();
+        this.primaryConnections = Counter.builder("worksync.datasource.connections")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        this.fallbackConnections = Counter.builder("worksync.datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because no replica was usable")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadYourWrites.isPinned()) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                ReplicaTarget replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    replica.connections.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    replica.markDown(e);
+                }
+            }
+            fallbackConnections.increment();
+        }
+        primaryConnections.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Samples reachability and replication lag of every replica
+     */
+    public void checkReplicas() {
+        for (ReplicaTarget replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                replica.lagSeconds = resultSet.getDouble(1);
+                boolean healthy = replica.lagSeconds <= maxReplicationLag.toMillis() / 1000.0;
+                if (healthy != replica.healthy) {
+                    log.info("Replica {} is now {} (lag {}s)", replica.dataSource.getPoolName(),
+                            healthy ? "in rotation" : "out of rotation", replica.lagSeconds);
+                }
+                replica.healthy = healthy;
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private static final class ReplicaTarget {
+
+        private final HikariDataSource dataSource;
+        private final Counter connections;
+        private volatile boolean healthy;
+        private volatile double lagSeconds = Double.NaN;
+
+        private ReplicaTarget(HikariDataSource dataSource, MeterRegistry meterRegistry) {
+            this.dataSource = dataSource;
+            this.connections = Counter.builder("worksync.datasource.connections")
+                    .tag("target", dataSource.getPoolName())
+                    .register(meterRegistry);
+            Gauge.builder("worksync.datasource.replica.lag", this, target -> target.lagSeconds)
+                    .tag("replica", dataSource.getPoolName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        private void markDown(SQLException e) {
+            if (healthy) {
+                log.warn("Replica {} is unreachable, reads fall back to the primary: {}",
+                        dataSource.getPoolName(), e.getMessage());
+            }
+            healthy = false;
+            lagSeconds = Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package org.caixabanktech.mic_issues.infrastructure.departments;
+
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.application.usecases.ports.DepartmentStatistics;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.infrastructure.index.WorkingSetIndex;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Department statistics as a rollup of per-user counters
+ *
+ * Every user has a counter of themselves plus their OPEN and IN_PROGRESS issues by status and
+ * priority, and every department the sum of its users' counters. An assignment or status change
+ * moves one issue between two cells and a department change moves one user's counter between
+ * two departments, so the report is a copy of the department counters whatever the number of
+ * users and issues. Departments are keyed by User.department as given.
+ *
+ * Loaded from the working set at startup and updated from committed issue and user events,
+ * including those relayed from other nodes.
+ */
+@Slf4j
+@Component
+public class RollupDepartmentStatistics extends WorkingSetIndex implements DepartmentStatistics {
+
+    private static final IssuePriority[] PRIORITIES = IssuePriority.values();
+
+    /**
+     * Where one open issue counts; userId is null when unassigned
+     */
+    private record Contribution(Long userId, int cell) {
+    }
+
+    private static final class Counter {
+        long users;
+        // OPEN by priority, then IN_PROGRESS by priority
+        final long[] cells = new long[2 * PRIORITIES.length];
+
+        void add(Counter other, int sign) {
+            users += sign * other.users;
+            for (int cell = 0; cell < cells.length; cell++) {
+                cells[cell] += sign * other.cells[cell];
+            }
+        }
+
+        IssueCounts issues() {
+            long open = 0;
+            long inProgress = 0;
+            Map<IssuePriority, Long> byPriority = new EnumMap<>(IssuePriority.class);
+            for (IssuePriority priority : PRIORITIES) {
+                long opened = cells[priority.ordinal()];
+                long started = cells[PRIORITIES.length + priority.ordinal()];
+                open += opened;
+                inProgress += started;
+                byPriority.put(priority, opened + started);
+            }
+            return new IssueCounts(open, inProgress, byPriority);
+        }
+    }
+
+    private static final class Member {
+        String department;
+        final Counter counter = new Counter();
+    }
+
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Member> members = new HashMap<>();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private final TreeMap<String, Counter> departments = new TreeMap<>(Comparator.nullsLast(Comparator.naturalOrder()));
+    private final Counter unassigned = new Counter();
+
+    public RollupDepartmentStatistics(IssueRepository issueRepository,
+                                      UserRepository userRepository,
+                                      EventRelay eventRelay,
+                                      PlatformTransactionManager transactionManager) {
+        super(issueRepository, userRepository, eventRelay, transactionManager);
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void bootstrap() {
+        List<User> users = read(userRepository::findAll);
+        List<Issue> issues = read(issueRepository::findAll);
+        lock.writeLock().lock();
+        try {
+            users.forEach(this::upsertUser);
+            issues.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Department statistics loaded: {} departments, {} users, {} open issues",
+                departments.size(), members.size(), contributions.size());
+    }
+
+    @Override
+    public DepartmentReport report() {
+        lock.readLock().lock();
+        try {
+            List<DepartmentSummary> summaries = new ArrayList<>(departments.size());
+            departments.forEach((department, counter) ->
+                    summaries.add(new DepartmentSummary(department, counter.users, counter.issues())));
+            return new DepartmentReport(summaries, unassigned.issues());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void issuesChanged(List<Issue> issues) {
+        lock.writeLock().lock();
+        try {
+            issues.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void issuesRemoved(List<Long> issueIds) {
+        lock.writeLock().lock();
+        try {
+            issueIds.forEach(this::withdraw);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void usersChanged(List<User> users) {
+        lock.writeLock().lock();
+        try {
+            users.forEach(this::upsertUser);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void userRemoved(Long userId) {
+        lock.writeLock().lock();
+        try {
+            removeUser(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock for every method below
+
+    private void apply(Issue issue) {
+        User assignee = issue.getAssignedUser();
+        Contribution next = contribution(issue);
+        if (Objects.equals(contributions.get(issue.getId()), next)) {
+            return;
+        }
+        withdraw(issue.getId());
+        if (next == null) {
+            return;
+        }
+        if (assignee != null && !members.containsKey(assignee.getId())) {
+            upsertUser(assignee);
+        }
+        contributions.put(issue.getId(), next);
+        count(next, 1);
+    }
+
+    private void withdraw(Long issueId) {
+        Contribution previous = contributions.remove(issueId);
+        if (previous != null) {
+            count(previous, -1);
+        }
+    }
+
+    private void count(Contribution contribution, int delta) {
+        if (contribution.userId() == null) {
+            unassigned.cells[contribution.cell()] += delta;
+            return;
+        }
+        Member member = members.get(contribution.userId());
+        member.counter.cells[contribution.cell()] += delta;
+        departments.get(member.department).cells[contribution.cell()] += delta;
+    }
+
+    private void upsertUser(User user) {
+        String department = clean(user.getDepartment());
+        Member member = members.get(user.getId());
+        if (member != null && Objects.equals(member.department, department)) {
+            return;
+        }
+        if (member == null) {
+            member = new Member();
+            member.counter.users = 1;
+            members.put(user.getId(), member);
+        } else {
+            leave(member);
+        }
+        member.department = department;
+        departments.computeIfAbsent(department, d -> new Counter()).add(member.counter, 1);
+    }
+
+    private void removeUser(Long userId) {
+        Member member = members.remove(userId);
+        if (member == null) {
+            return;
+        }
+        leave(member);
+        contributions.values().removeIf(contribution -> userId.equals(contribution.userId()));
+    }
+
+    private void leave(Member member) {
+        Counter counter = departments.get(member.department);
+        counter.add(member.counter, -1);
+        // Issues count through their assignee, so no users means nothing left
+        if (counter.users == 0) {
+            departments.remove(member.department);
+        }
+    }
+
+    private static Contribution contribution(Issue issue) {
+        int offset;
+        if (issue.getStatus() == IssueStatus.OPEN) {
+            offset = 0;
+        } else if (issue.getStatus() == IssueStatus.IN_PROGRESS) {
+            offset = PRIORITIES.length;
+        } else {
+            return null;
+        }
+        User assignee = issue.getAssignedUser();
+        return new Contribution(assignee != null ? assignee.getId() : null, offset + issue.getPriority().ordinal());
+    }
+
+    private static String clean(String department) {
+        return department == null || department.isBlank() ? null : department.strip();
+    }
+}
@@ -0,0 +1,224 @@
+package org.caixabanktech.mic_issues.infrastructure.directory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.application.usecases.ports.UserDirectory;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.infrastructure.index.WorkingSetIndex;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * User directory with a trigram index over username, name, email and department
+ *
+ * Every trigram of every lower-cased field has a posting set of the users containing it, and
+ * every one- and two-letter start of a field or word has one too. A search takes the smallest
+ * posting set any query term maps to and checks only those users against all the terms, so it
+ * costs the size of the rarest term's matches rather than the size of the directory. Terms of
+ * three or more characters match anywhere in a field; shorter ones match the start of a field
+ * or word.
+ *
+ * Holds a summary of each user, never credentials. Loaded at startup and updated from committed
+ * user events, including those relayed from other nodes.
+ */
+@Slf4j
+@Component
+public class NgramUserDirectory extends WorkingSetIndex implements UserDirectory {
+
+    private static final int GRAM = 3;
+
+    private record Entry(UserSummary summary, List<String> fields, List<String> words, String sortKey) {
+
+        static final Comparator<Entry> BY_NAME = Comparator.comparing(Entry::sortKey)
+                .thenComparing(entry -> entry.summary().id());
+
+        boolean contains(String term) {
+            if (term.length() < GRAM) {
+                return startsWith(term);
+            }
+            return fields.stream().anyMatch(field -> field.contains(term));
+        }
+
+        boolean startsWith(String term) {
+            return fields.stream().anyMatch(field -> field.startsWith(term))
+                    || words.stream().anyMatch(word -> word.startsWith(term));
+        }
+    }
+
+    private final UserRepository userRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> byName = new TreeSet<>(Entry.BY_NAME);
+    private final Map<Long, Set<Long>> postings = new HashMap<>();
+
+    public NgramUserDirectory(UserRepository userRepository, EventRelay eventRelay,
+                              PlatformTransactionManager transactionManager) {
+        super(null, userRepository, eventRelay, transactionManager);
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void bootstrap() {
+        List<User> users = read(userRepository::findAll);
+        usersChanged(users);
+        log.info("User directory loaded: {} users, {} index keys", entries.size(), postings.size());
+    }
+
+    @Override
+    public SearchPage search(String query, int offset, int limit) {
+        List<String> terms = Stream.of(normalize(query).split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty()) {
+                return new SearchPage(byName.stream().skip(offset).limit(limit).map(Entry::summary).toList(),
+                        byName.size());
+            }
+            Set<Long> candidates = null;
+            for (String term : terms) {
+                for (long key : queryKeys(term)) {
+                    Set<Long> posting = postings.getOrDefault(key, Set.of());
+                    if (candidates == null || posting.size() < candidates.size()) {
+                        candidates = posting;
+                    }
+                }
+            }
+            List<Entry> matches = new ArrayList<>();
+            for (Long id : candidates) {
+                Entry entry = entries.get(id);
+                if (terms.stream().allMatch(entry::contains)) {
+                    matches.add(entry);
+                }
+            }
+            // Fewer terms matched only mid-word first, then by name
+            matches.sort(Comparator.comparingLong((Entry entry) -> terms.stream().filter(term -> !entry.startsWith(term)).count())
+                    .thenComparing(Entry.BY_NAME));
+            return new SearchPage(matches.stream().skip(offset).limit(limit).map(Entry::summary).toList(),
+                    matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void userRemoved(Long userId) {
+        lock.writeLock().lock();
+        try {
+            remove(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void usersChanged(List<User> users) {
+        List<Entry> created = users.stream().map(NgramUserDirectory::entry).toList();
+        lock.writeLock().lock();
+        try {
+            for (Entry entry : created) {
+                Long id = entry.summary().id();
+                remove(id);
+                entries.put(id, entry);
+                byName.add(entry);
+                for (long key : indexKeys(entry)) {
+                    postings.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        byName.remove(entry);
+        for (long key : indexKeys(entry)) {
+            Set<Long> posting = postings.get(key);
+            if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static Entry entry(User user) {
+        UserSummary summary = new UserSummary(user.getId(), user.getUsername(), user.getName(),
+                user.getEmail(), user.getDepartment());
+        List<String> fields = Stream.of(user.getUsername(), user.getName(), user.getEmail(), user.getDepartment())
+                .map(NgramUserDirectory::normalize)
+                .filter(field -> !field.isEmpty())
+                .toList();
+        List<String> words = fields.stream()
+                .flatMap(field -> Stream.of(field.split("[^\\p{L}\\p{N}]+")))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+        String sortKey = normalize(user.getName() != null ? user.getName() : user.getUsername());
+        return new Entry(summary, fields, words, sortKey);
+    }
+
+    private static Set<Long> indexKeys(Entry entry) {
+        Set<Long> keys = new HashSet<>();
+        for (String field : entry.fields()) {
+            for (int i = 0; i + GRAM <= field.length(); i++) {
+                keys.add(gram(field, i));
+            }
+        }
+        Stream.concat(entry.fields().stream(), entry.words().stream()).forEach(start -> {
+            keys.add(prefix(start, 1));
+            if (start.length() > 1) {
+                keys.add(prefix(start, 2));
+            }
+        });
+        return keys;
+    }
+
+    private static List<Long> queryKeys(String term) {
+        if (term.length() < GRAM) {
+            return List.of(prefix(term, term.length()));
+        }
+        List<Long> keys = new ArrayList<>(term.length() - GRAM + 1);
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            keys.add(gram(term, i));
+        }
+        return keys;
+    }
+
+    // Three chars packed into the low 48 bits
+    private static long gram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    // Length in the top bits keeps prefixes apart from trigrams and from each other
+    private static long prefix(String text, int length) {
+        long key = (long) length << 60;
+        for (int i = 0; i < length; i++) {
+            key |= (long) text.charAt(i) << (16 * (length - 1 - i));
+        }
+        return key;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+}
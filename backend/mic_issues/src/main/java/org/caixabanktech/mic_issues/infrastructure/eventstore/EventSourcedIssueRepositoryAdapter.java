@@ -0,0 +1,473 @@
+package org.caixabanktech.mic_issues.infrastructure.eventstore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.domain.events.UserEvent;
+import org.caixabanktech.mic_issues.infrastructure.eventstore.IssueLogCodec.IssueLogRecord;
+import org.caixabanktech.mic_issues.infrastructure.inmemory.IssueProjection;
+import org.caixabanktech.mic_issues.infrastructure.inmemory.IssueProjection.IssueState;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Event-sourced adapter implementing the application issue repository port
+ *
+ * Every save or delete appends one record, the event type plus the full issue state after the
+ * change, to a memory-mapped {@link SegmentLog}, then applies it to an in-memory
+ * {@link IssueProjection} that serves all reads. Writes are sequential appends under one lock;
+ * reads never touch the disk. Every snapshotEvery records a compact snapshot of the projection
+ * is written in the background, so a restart loads the latest snapshot and replays only the
+ * tail of the log. Segments are never rewritten, which keeps the full history of every issue.
+ *
+ * Inside a transaction the records are held until it commits, then appended and applied in
+ * commit order; a rollback leaves neither the log nor the projection touched. The transaction
+ * reads its own changes, other readers only see them once committed, and claims skip issues an
+ * open transaction has changed, as SKIP LOCKED does. An I/O failure while appending after the
+ * commit loses the change even though the rest of the transaction is committed.
+ *
+ * Users stay in the user repository; assignees are resolved on read in one batch per query.
+ * Enabled with the "eventstore" profile.
+ */
+@Slf4j
+@Component
+@Profile("eventstore")
+public class EventSourcedIssueRepositoryAdapter implements IssueRepository, AutoCloseable {
+
+    private final UserRepository userRepository;
+    private final EventStoreProperties properties;
+    private final SegmentLog segmentLog;
+    private final SnapshotStore snapshotStore;
+    private final IssueProjection projection = new IssueProjection();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    // Issues changed by open transactions, with how many of them; guarded by appendLock
+    private final Map<Long, Integer> held = new HashMap<>();
+    private final Object transactionKey = new Object();
+    private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("eventstore-snapshot").daemon().factory());
+
+    private final Timer appendTimer;
+    private final Counter snapshotCounter;
+
+    private volatile long sequence;
+    private volatile long snapshotSequence;
+    private boolean snapshotPending;
+
+    public EventSourcedIssueRepositoryAdapter(UserRepository userRepository,
+                                              EventStoreProperties properties,
+                                              MeterRegistry meterRegistry) throws IOException {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.segmentLog = new SegmentLog(properties.directory(), Math.toIntExact(properties.segmentSize().toBytes()));
+        this.snapshotStore = new SnapshotStore(properties.directory());
+
+        this.appendTimer = Timer.builder("worksync.eventstore.append")
+                .description("Time to append one record to the issue log")
+                .register(meterRegistry);
+        this.snapshotCounter = meterRegistry.counter("worksync.eventstore.snapshots");
+        Gauge.builder("worksync.eventstore.sequence", this, store -> store.sequence)
+                .description("Sequence of the last record in the issue log")
+                .register(meterRegistry);
+
+        recover();
+    }
+
+    @Override
+    public Issue save(Issue issue) {
+        IssueState saved;
+        appendLock.lock();
+        try {
+            Long id = issue.getId() != null ? issue.getId() : projection.nextId();
+            saved = write(issue, id, current(id).orElse(null));
+        } finally {
+            appendLock.unlock();
+        }
+        maybeSnapshot();
+        return toDomain(List.of(saved)).getFirst();
+    }
+
+    /**
+     * Writers are already serialized by the append lock, so the first waiting issue no open
+     * transaction holds is claimed
+     */
+    @Override
+    public Optional<Issue> claimNext(User assignee, String tag) {
+        IssueState saved;
+        appendLock.lock();
+        try {
+            Optional<IssueState> next = projection.firstWaiting(
+                    state -> state.hasTag(tag) && !held.containsKey(state.id()));
+            if (next.isEmpty()) {
+                return Optional.empty();
+            }
+            IssueState existing = next.get();
+            Issue issue = existing.toDomain(null);
+            issue.assign(assignee);
+            saved = write(issue, existing.id(), existing);
+        } finally {
+            appendLock.unlock();
+        }
+        maybeSnapshot();
+        return Optional.of(toDomain(List.of(saved)).getFirst());
+    }
+
+    @Override
+    public Optional<Issue> findById(Long id) {
+        return current(id).map(state -> toDomain(List.of(state)).getFirst());
+    }
+
+    @Override
+    public List<Issue> findAll() {
+        return toDomain(visible(projection.all(), state -> true));
+    }
+
+    @Override
+    public List<Issue> findAllById(Collection<Long> ids) {
+        return toDomain(ids.stream().map(this::current).flatMap(Optional::stream).toList());
+    }
+
+    @Override
+    public List<Issue> findByStatus(IssueStatus status) {
+        return toDomain(visible(projection.withStatus(status), state -> state.status() == status));
+    }
+
+    @Override
+    public List<Issue> findByAssignedUserId(Long userId) {
+        return toDomain(visible(projection.assignedTo(userId), state -> userId.equals(state.assignedUserId())));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        appendLock.lock();
+        try {
+            if (current(id).isEmpty()) {
+                return;
+            }
+            record(new IssueLogRecord(IssueEvent.EventType.DELETED, Instant.now(), id, null));
+        } finally {
+            appendLock.unlock();
+        }
+        maybeSnapshot();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return current(id).isPresent();
+    }
+
+    /**
+     * Deletes the issues of a deleted user, as the foreign key cascade does for the JPA store;
+     * in the transaction that deletes the user when there is one
+     */
+    @EventListener
+    public void onUserEvent(UserEvent event) {
+        if (event.getEventType() != UserEvent.EventType.DELETED) {
+            return;
+        }
+        Long userId = event.getUser().getId();
+        appendLock.lock();
+        try {
+            for (IssueState state : visible(projection.assignedTo(userId), s -> userId.equals(s.assignedUserId()))) {
+                record(new IssueLogRecord(IssueEvent.EventType.DELETED, Instant.now(), state.id(), null));
+            }
+        } finally {
+            appendLock.unlock();
+        }
+        maybeSnapshot();
+    }
+
+    /**
+     * Forces appended records to disk; with sync-writes every append already is
+     */
+    @Scheduled(fixedDelayString = "${worksync.eventstore.flush-interval:1s}")
+    public void flush() {
+        if (properties.syncWrites()) {
+            return;
+        }
+        appendLock.lock();
+        try {
+            segmentLog.force();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        snapshotExecutor.shutdown();
+        snapshotExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        appendLock.lock();
+        try {
+            segmentLog.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        long started = System.nanoTime();
+        Optional<SnapshotStore.Snapshot> snapshot = snapshotStore.latest();
+        snapshot.ifPresent(s -> {
+            s.issues().forEach(projection::put);
+            projection.reserveIds(s.lastId());
+        });
+        snapshotSequence = snapshot.map(SnapshotStore.Snapshot::sequence).orElse(0L);
+
+        long[] replayed = new long[1];
+        sequence = segmentLog.open(snapshotSequence, (recordSequence, payload) -> {
+            apply(IssueLogCodec.decode(payload));
+            replayed[0]++;
+        });
+        log.info("Recovered {} issues from {} in {} ms: snapshot at sequence {}, {} records replayed",
+                projection.size(), properties.directory().toAbsolutePath(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), snapshotSequence, replayed[0]);
+    }
+
+    private void apply(IssueLogRecord record) {
+        if (record.type() == IssueEvent.EventType.DELETED) {
+            projection.remove(record.issueId(), state -> true);
+        } else {
+            projection.put(record.state());
+        }
+    }
+
+    // Caller holds appendLock
+    private void record(IssueLogRecord record) {
+        UnitOfWork work = unitOfWork();
+        if (work != null) {
+            work.add(record);
+        } else {
+            append(record);
+            apply(record);
+        }
+    }
+
+    // Caller holds appendLock
+    private void append(IssueLogRecord record) {
+        byte[] payload = IssueLogCodec.encode(record);
+        long next = sequence + 1;
+        appendTimer.record(() -> {
+            segmentLog.append(next, payload);
+            if (properties.syncWrites()) {
+                segmentLog.force();
+            }
+        });
+        sequence = next;
+    }
+
+    /**
+     * Captures the projection under the append lock, so it matches the sequence exactly, and
+     * writes it on the snapshot thread
+     */
+    private void maybeSnapshot() {
+        long snapshotAt;
+        long lastId;
+        List<IssueState> issues;
+        appendLock.lock();
+        try {
+            if (snapshotPending || sequence - snapshotSequence < properties.snapshotEvery()) {
+                return;
+            }
+            snapshotPending = true;
+            snapshotAt = sequence;
+            lastId = projection.lastId();
+            issues = projection.all();
+        } finally {
+            appendLock.unlock();
+        }
+        snapshotExecutor.execute(() -> {
+            try {
+                snapshotStore.write(snapshotAt, lastId, issues);
+                snapshotSequence = snapshotAt;
+                snapshotCounter.increment();
+                log.info("Wrote issue snapshot at sequence {} ({} issues)", snapshotAt, issues.size());
+            } catch (IOException | UncheckedIOException e) {
+                log.error("Failed to write issue snapshot at sequence {}", snapshotAt, e);
+            } finally {
+                appendLock.lock();
+                try {
+                    snapshotPending = false;
+                } finally {
+                    appendLock.unlock();
+                }
+            }
+        });
+    }
+
+    // Caller holds the append lock
+    private IssueState write(Issue issue, Long id, IssueState existing) {
+        IssueState saved = IssueState.of(issue, id, existing);
+        record(new IssueLogRecord(eventType(existing, saved), Instant.now(), id, saved));
+        return saved;
+    }
+
+    /**
+     * The issue as the caller sees it: with the changes of its own transaction, if any
+     */
+    private Optional<IssueState> current(Long id) {
+        UnitOfWork work = (UnitOfWork) TransactionSynchronizationManager.getResource(transactionKey);
+        if (work != null && work.changes.containsKey(id)) {
+            return Optional.ofNullable(work.changes.get(id));
+        }
+        return projection.get(id);
+    }
+
+    private List<IssueState> visible(List<IssueState> committed, Predicate<IssueState> filter) {
+        UnitOfWork work = (UnitOfWork) TransactionSynchronizationManager.getResource(transactionKey);
+        if (work == null) {
+            return committed;
+        }
+        List<IssueState> states = new ArrayList<>();
+        committed.stream().filter(state -> !work.changes.containsKey(state.id())).forEach(states::add);
+        work.changes.values().stream().filter(Objects::nonNull).filter(filter).forEach(states::add);
+        return states;
+    }
+
+    /**
+     * The records of the caller's transaction, null when there is none to defer them to
+     */
+    private UnitOfWork unitOfWork() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        UnitOfWork work = (UnitOfWork) TransactionSynchronizationManager.getResource(transactionKey);
+        if (work == null) {
+            work = new UnitOfWork();
+            TransactionSynchronizationManager.bindResource(transactionKey, work);
+            TransactionSynchronizationManager.registerSynchronization(work);
+        }
+        return work;
+    }
+
+    private static IssueEvent.EventType eventType(IssueState existing, IssueState saved) {
+        if (existing == null) {
+            return IssueEvent.EventType.CREATED;
+        }
+        if (existing.status() != saved.status()) {
+            switch (saved.status()) {
+                case RESOLVED -> {
+                    return IssueEvent.EventType.RESOLVED;
+                }
+                case CLOSED -> {
+                    return IssueEvent.EventType.CLOSED;
+                }
+                case REJECTED -> {
+                    return IssueEvent.EventType.REJECTED;
+                }
+                default -> {
+                    // Reopened or started: told apart by the assignee below
+                }
+            }
+        }
+        if (saved.assignedUserId() != null && !Objects.equals(existing.assignedUserId(), saved.assignedUserId())) {
+            return IssueEvent.EventType.ASSIGNED;
+        }
+        return IssueEvent.EventType.UPDATED;
+    }
+
+    /**
+     * Records of one transaction, appended on commit before any after-commit listener runs
+     */
+    private final class UnitOfWork implements TransactionSynchronization {
+
+        private final List<IssueLogRecord> records = new ArrayList<>();
+        // Latest state per issue changed in the transaction, null once deleted
+        private final Map<Long, IssueState> changes = new HashMap<>();
+
+        // Caller holds appendLock
+        void add(IssueLogRecord record) {
+            if (!changes.containsKey(record.issueId())) {
+                held.merge(record.issueId(), 1, Integer::sum);
+            }
+            records.add(record);
+            changes.put(record.issueId(), record.state());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(transactionKey);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(transactionKey, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            appendLock.lock();
+            try {
+                for (IssueLogRecord record : records) {
+                    append(record);
+                    apply(record);
+                }
+            } finally {
+                appendLock.unlock();
+            }
+            maybeSnapshot();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(transactionKey);
+            appendLock.lock();
+            try {
+                changes.keySet().forEach(id -> held.computeIfPresent(id, (key, count) -> count > 1 ? count - 1 : null));
+            } finally {
+                appendLock.unlock();
+            }
+        }
+    }
+
+    private List<Issue> toDomain(List<IssueState> states) {
+        List<Long> assigneeIds = states.stream()
+                .map(IssueState::assignedUserId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, User> assignees = assigneeIds.isEmpty()
+                ? Map.of()
+                : userRepository.findAllById(assigneeIds).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+        return states.stream()
+                .map(state -> state.toDomain(state.assignedUserId() != null ? assignees.get(state.assignedUserId()) : null))
+                .toList();
+    }
+}
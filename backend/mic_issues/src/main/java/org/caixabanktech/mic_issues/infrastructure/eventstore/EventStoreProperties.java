@@ -0,0 +1,33 @@
+package org.caixabanktech.mic_issues.infrastructure.eventstore;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the event-sourced issue store ("eventstore" profile)
+ *
+ * @param directory      where segments and snapshots are written
+ * @param segmentSize    size each memory-mapped segment is preallocated to
+ * @param snapshotEvery  records appended between two snapshots
+ * @param syncWrites     force every append to disk before returning; otherwise appends are forced every flushInterval
+ * @param flushInterval  how often dirty pages of the active segment are forced to disk
+ */
+@ConfigurationProperties(prefix = "worksync.eventstore")
+public record EventStoreProperties(
+        Path directory,
+        DataSize segmentSize,
+        Integer snapshotEvery,
+        Boolean syncWrites,
+        Duration flushInterval
+) {
+    public EventStoreProperties {
+        directory = directory != null ? directory : Path.of("data", "eventstore");
+        segmentSize = segmentSize != null ? segmentSize : DataSize.ofMegabytes(64);
+        snapshotEvery = snapshotEvery != null ? snapshotEvery : 10_000;
+        syncWrites = syncWrites != null ? syncWrites : Boolean.FALSE;
+        flushInterval = flushInterval != null ? flushInterval : Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,139 @@
+package org.caixabanktech.mic_issues.infrastructure.eventstore;
+
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.infrastructure.inmemory.IssueProjection.IssueState;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of log records and issue states
+ * Enums are written by name so reordering constants never changes the meaning of old segments.
+ */
+final class IssueLogCodec {
+
+    private IssueLogCodec() {
+    }
+
+    /**
+     * One entry of the issue log
+     *
+     * @param type        what happened, as published on the IssueEvent
+     * @param recordedAt  when the record was appended
+     * @param issueId     the issue
+     * @param state       full state after the change; null for DELETED
+     */
+    record IssueLogRecord(IssueEvent.EventType type, Instant recordedAt, Long issueId, IssueState state) {
+    }
+
+    static byte[] encode(IssueLogRecord record) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(record.type().name());
+            out.writeLong(record.recordedAt().getEpochSecond());
+            out.writeInt(record.recordedAt().getNano());
+            out.writeLong(record.issueId());
+            out.writeBoolean(record.state() != null);
+            if (record.state() != null) {
+                writeState(out, record.state());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static IssueLogRecord decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        IssueEvent.EventType type = IssueEvent.EventType.valueOf(in.readUTF());
+        Instant recordedAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+        long issueId = in.readLong();
+        IssueState state = in.readBoolean() ? readState(in) : null;
+        return new IssueLogRecord(type, recordedAt, issueId, state);
+    }
+
+    static void writeState(DataOutput out, IssueState state) throws IOException {
+        out.writeLong(state.id());
+        writeString(out, state.title());
+        writeString(out, state.description());
+        writeString(out, state.requester());
+        out.writeUTF(state.status().name());
+        writeString(out, state.priority() != null ? state.priority().name() : null);
+        out.writeLong(state.assignedUserId() != null ? state.assignedUserId() : -1L);
+        out.writeInt(state.tags().size());
+        for (String tag : state.tags()) {
+            writeString(out, tag);
+        }
+        writeTimestamp(out, state.createdAt());
+        writeTimestamp(out, state.updatedAt());
+    }
+
+    static IssueState readState(DataInput in) throws IOException {
+        long id = in.readLong();
+        String title = readString(in);
+        String description = readString(in);
+        String requester = readString(in);
+        IssueStatus status = IssueStatus.valueOf(in.readUTF());
+        String priority = readString(in);
+        long assignedUserId = in.readLong();
+        int tagCount = in.readInt();
+        List<String> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(readString(in));
+        }
+        return new IssueState(id, title, description, requester, status,
+                priority != null ? IssuePriority.valueOf(priority) : null,
+                assignedUserId >= 0 ? assignedUserId : null,
+                tags, readTimestamp(in), readTimestamp(in));
+    }
+
+    // Length-prefixed UTF-8; writeUTF caps at 64 KB, descriptions may not
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeTimestamp(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readTimestamp(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
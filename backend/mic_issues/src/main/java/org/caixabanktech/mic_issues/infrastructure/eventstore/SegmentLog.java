@@ -0,0 +1,201 @@
+package org.caixabanktech.mic_issues.infrastructure.eventstore;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of memory-mapped segment files
+ *
+ * Each segment is preallocated to a fixed size and named after the sequence of its first
+ * record. A record is {@code [int length][int crc32c][long sequence][payload]}, the checksum
+ * covering sequence and payload; a zero length marks the end of the data in a segment.
+ * Appends are single-writer (callers serialize them) and land in the page cache; {@link #force()}
+ * makes them durable. On open the log is replayed and a torn record at the tail of the last
+ * segment, left by a crash mid-append, is discarded. Segments whose records all precede the
+ * replay start, as the next segment's name tells, are neither mapped nor checked.
+ */
+@Slf4j
+class SegmentLog implements AutoCloseable {
+
+    static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+
+    private FileChannel channel;
+    private MappedByteBuffer active;
+    private long lastSequence;
+
+    SegmentLog(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    @FunctionalInterface
+    interface RecordHandler {
+        void accept(long sequence, byte[] payload) throws IOException;
+    }
+
+    /**
+     * Replays records after {@code afterSequence} and positions the log for appending
+     *
+     * @return sequence of the last record in the log
+     */
+    long open(long afterSequence, RecordHandler handler) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = segments();
+        lastSequence = afterSequence;
+
+        for (int i = 0; i < segments.size(); i++) {
+            boolean last = i == segments.size() - 1;
+            if (!last && firstSequence(segments.get(i + 1)) <= afterSequence + 1) {
+                continue;
+            }
+            Path segment = segments.get(i);
+            FileChannel segmentChannel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            int end = replaySegment(segment, buffer, afterSequence, handler, last);
+            if (last) {
+                channel = segmentChannel;
+                active = buffer;
+                active.position(end);
+            } else {
+                segmentChannel.close();
+            }
+        }
+        if (active == null) {
+            roll(lastSequence + 1);
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Appends one record; the caller assigns consecutive sequences
+     */
+    void append(long sequence, byte[] payload) {
+        int size = HEADER_BYTES + payload.length;
+        if (size > segmentSize - Integer.BYTES) {
+            throw new IllegalArgumentException("Record of " + size + " bytes exceeds the segment size " + segmentSize);
+        }
+        try {
+            // Keep room for the zero length that terminates the segment
+            if (active.remaining() < size + Integer.BYTES) {
+                roll(sequence);
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(longBytes(sequence));
+            crc.update(payload);
+            int start = active.position();
+            active.putInt(start + Integer.BYTES, (int) crc.getValue());
+            active.putLong(start + 2 * Integer.BYTES, sequence);
+            active.put(start + HEADER_BYTES, payload);
+            // Length last: a record only becomes visible once it is complete in memory
+            active.putInt(start, payload.length);
+            active.position(start + size);
+            lastSequence = sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot roll event log segment", e);
+        }
+    }
+
+    void force() {
+        if (active != null) {
+            active.force();
+        }
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private int replaySegment(Path segment, MappedByteBuffer buffer, long afterSequence,
+                              RecordHandler handler, boolean last) throws IOException {
+        int position = 0;
+        while (position + HEADER_BYTES <= segmentSize) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            int checksum = buffer.getInt(position + Integer.BYTES);
+            long sequence = buffer.getLong(position + 2 * Integer.BYTES);
+            byte[] payload = length > 0 && position + HEADER_BYTES + length <= segmentSize ? new byte[length] : null;
+            if (payload != null) {
+                buffer.get(position + HEADER_BYTES, payload);
+            }
+            if (payload == null || !valid(checksum, sequence, payload)) {
+                if (!last) {
+                    throw new IllegalStateException("Corrupt record in " + segment + " at offset " + position);
+                }
+                log.warn("Discarding torn record at the tail of {} (offset {})", segment, position);
+                buffer.put(position, new byte[segmentSize - position]);
+                buffer.force();
+                break;
+            }
+            if (sequence > afterSequence) {
+                handler.accept(sequence, payload);
+            }
+            lastSequence = Math.max(lastSequence, sequence);
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        if (channel != null) {
+            active.force();
+            channel.close();
+        }
+        Path segment = directory.resolve(String.format("%020d%s", firstSequence, SUFFIX));
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        log.info("Opened event log segment {}", segment.getFileName());
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    private static boolean valid(int checksum, long sequence, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(longBytes(sequence));
+        crc.update(payload);
+        return (int) crc.getValue() == checksum;
+    }
+
+    private static byte[] longBytes(long value) {
+        byte[] bytes = new byte[Long.BYTES];
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,127 @@
+package org.caixabanktech.mic_issues.infrastructure.eventstore;
+
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.infrastructure.inmemory.IssueProjection.IssueState;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact snapshots of the issue projection
+ * A snapshot holds the state of every live issue and the highest id handed out as of a log
+ * sequence, so recovery replays only the records after it. Files are written to a temporary name and moved into place, end with a
+ * checksum, and the previous snapshot is kept as a fallback.
+ */
+@Slf4j
+class SnapshotStore {
+
+    private static final int MAGIC = 0x57534953; // "WSIS"
+    private static final int VERSION = 1;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+    private static final int RETAINED = 2;
+
+    private final Path directory;
+
+    SnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    record Snapshot(long sequence, long lastId, List<IssueState> issues) {
+    }
+
+    void write(long sequence, long lastId, Collection<IssueState> issues) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, sequence, SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+
+        CRC32C crc = new CRC32C();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16), crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sequence);
+            out.writeLong(lastId);
+            out.writeInt(issues.size());
+            for (IssueState issue : issues) {
+                IssueLogCodec.writeState(out, issue);
+            }
+            // The checksum covers everything before it
+            out.writeInt((int) crc.getValue());
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        List<Path> snapshots = snapshots();
+        for (Path old : snapshots.subList(0, Math.max(0, snapshots.size() - RETAINED))) {
+            Files.deleteIfExists(old);
+        }
+    }
+
+    /**
+     * Newest readable snapshot; unreadable ones are skipped with a warning
+     */
+    Optional<Snapshot> latest() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        List<Path> snapshots = new ArrayList<>(snapshots());
+        snapshots.sort(Comparator.reverseOrder());
+        for (Path path : snapshots) {
+            try {
+                return Optional.of(read(path));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Ignoring unreadable snapshot {}: {}", path.getFileName(), e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Snapshot read(Path path) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(path), 1 << 16), crc);
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a version " + VERSION + " snapshot");
+            }
+            long sequence = in.readLong();
+            long lastId = in.readLong();
+            int count = in.readInt();
+            List<IssueState> issues = new ArrayList<>(Math.min(count, 1 << 16));
+            for (int i = 0; i < count; i++) {
+                issues.add(IssueLogCodec.readState(in));
+            }
+            int expected = (int) crc.getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("Checksum mismatch");
+            }
+            return new Snapshot(sequence, lastId, issues);
+        }
+    }
+
+    private List<Path> snapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+}
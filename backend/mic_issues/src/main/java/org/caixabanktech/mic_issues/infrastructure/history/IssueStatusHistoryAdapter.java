@@ -0,0 +1,173 @@
+package org.caixabanktech.mic_issues.infrastructure.history;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Adapter implementing the status history port on the issue_status_history table
+ *
+ * Plain JDBC: inserts join the surrounding transaction, and the reports are single aggregate
+ * statements. Range filters only ever use changed_at, which the BRIN index prunes; the
+ * time-in-status report finds the end of each stay with one probe of the (issue_id, changed_at, id)
+ * index per row, so its cost follows the rows in the range, not the size of the table.
+ * With the eventstore profile the history still lives in PostgreSQL, next to the users.
+ */
+@Component
+@Profile("!inmemory")
+public class IssueStatusHistoryAdapter implements IssueStatusHistoryRepository {
+
+    private static final String INSERT = """
+            INSERT INTO issue_status_history (issue_id, changed_by, changed_at, from_status, to_status)
+            VALUES (?, ?, ?, ?, ?)""";
+    private static final String SELECT_BY_ISSUE = """
+            SELECT issue_id, changed_by, changed_at, from_status, to_status
+            FROM issue_status_history
+            WHERE issue_id = ?
+            ORDER BY changed_at, id""";
+    private static final String SELECT_INTO = """
+            SELECT issue_id, changed_by, changed_at, from_status, to_status
+            FROM issue_status_history
+            WHERE changed_at >= ? AND changed_at < ? AND to_status = ANY (?)
+            ORDER BY changed_at, id""";
+    private static final String TIME_IN_STATUS = """
+            SELECT h.to_status,
+                   count(*) AS entered,
+                   count(next.changed_at) AS left_count,
+                   avg(stay.seconds) AS average_seconds,
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY stay.seconds) AS median_seconds,
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY stay.seconds) AS p95_seconds,
+                   max(stay.seconds) AS max_seconds
+            FROM issue_status_history h
+            LEFT JOIN LATERAL (
+                SELECT n.changed_at FROM issue_status_history n
+                WHERE n.issue_id = h.issue_id AND (n.changed_at, n.id) > (h.changed_at, h.id)
+                ORDER BY n.changed_at, n.id
+                LIMIT 1) next ON true
+            CROSS JOIN LATERAL (
+                SELECT EXTRACT(EPOCH FROM COALESCE(next.changed_at, ?) - h.changed_at)::float8 AS seconds) stay
+            WHERE h.changed_at >= ? AND h.changed_at < ?
+            GROUP BY h.to_status
+            ORDER BY h.to_status""";
+    private static final String COUNT_TRANSITIONS = """
+            SELECT from_status, to_status, count(*) AS transitions
+            FROM issue_status_history
+            WHERE changed_at >= ? AND changed_at < ?
+            GROUP BY from_status, to_status
+            ORDER BY transitions DESC, from_status NULLS FIRST, to_status""";
+
+    private static final RowMapper<StatusTransition> TRANSITION_MAPPER = (rs, rowNum) -> new StatusTransition(
+            rs.getLong("issue_id"),
+            status(rs, "from_status"),
+            status(rs, "to_status"),
+            rs.getObject("changed_by", Long.class),
+            rs.getTimestamp("changed_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IssueStatusHistoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(StatusTransition transition) {
+        jdbcTemplate.update(INSERT, ps -> {
+            ps.setLong(1, transition.issueId());
+            ps.setObject(2, transition.changedBy(), Types.BIGINT);
+            ps.setTimestamp(3, Timestamp.valueOf(transition.changedAt()));
+            ps.setObject(4, transition.fromStatus() != null ? code(transition.fromStatus()) : null, Types.SMALLINT);
+            ps.setShort(5, code(transition.toStatus()));
+        });
+    }
+
+    @Override
+    public void appendAll(List<StatusTransition> transitions) {
+        jdbcTemplate.batchUpdate(INSERT, transitions, 1000, (ps, transition) -> {
+            ps.setLong(1, transition.issueId());
+            ps.setObject(2, transition.changedBy(), Types.BIGINT);
+            ps.setTimestamp(3, Timestamp.valueOf(transition.changedAt()));
+            ps.setObject(4, transition.fromStatus() != null ? code(transition.fromStatus()) : null, Types.SMALLINT);
+            ps.setShort(5, code(transition.toStatus()));
+        });
+    }
+
+    @Override
+    public List<StatusTransition> findByIssueId(Long issueId) {
+        return jdbcTemplate.query(SELECT_BY_ISSUE, TRANSITION_MAPPER, issueId);
+    }
+
+    @Override
+    public List<StatusTransition> findTransitionsInto(Collection<IssueStatus> statuses,
+                                                      LocalDateTime from, LocalDateTime to) {
+        if (statuses.isEmpty()) {
+            return List.of();
+        }
+        Short[] codes = statuses.stream().map(IssueStatusHistoryAdapter::code).toArray(Short[]::new);
+        return jdbcTemplate.query(SELECT_INTO, ps -> {
+            ps.setTimestamp(1, Timestamp.valueOf(from));
+            ps.setTimestamp(2, Timestamp.valueOf(to));
+            ps.setArray(3, ps.getConnection().createArrayOf("smallint", codes));
+        }, TRANSITION_MAPPER);
+    }
+
+    @Override
+    public List<TimeInStatus> timeInStatus(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(TIME_IN_STATUS, (rs, rowNum) -> new TimeInStatus(
+                        status(rs, "to_status"),
+                        rs.getLong("entered"),
+                        rs.getLong("left_count"),
+                        rs.getDouble("average_seconds"),
+                        rs.getDouble("median_seconds"),
+                        rs.getDouble("p95_seconds"),
+                        rs.getDouble("max_seconds")),
+                Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public List<TransitionCount> countTransitions(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(COUNT_TRANSITIONS, (rs, rowNum) -> new TransitionCount(
+                        status(rs, "from_status"),
+                        status(rs, "to_status"),
+                        rs.getLong("transitions")),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    // Stored codes; never renumber, new statuses take the next code (and widen the CHECK constraints)
+    static short code(IssueStatus status) {
+        return switch (status) {
+            case OPEN -> 1;
+            case IN_PROGRESS -> 2;
+            case RESOLVED -> 3;
+            case CLOSED -> 4;
+            case REJECTED -> 5;
+        };
+    }
+
+    static IssueStatus status(short code) {
+        return switch (code) {
+            case 1 -> IssueStatus.OPEN;
+            case 2 -> IssueStatus.IN_PROGRESS;
+            case 3 -> IssueStatus.RESOLVED;
+            case 4 -> IssueStatus.CLOSED;
+            case 5 -> IssueStatus.REJECTED;
+            default -> throw new IllegalStateException("Unknown status code " + code);
+        };
+    }
+
+    private static IssueStatus status(ResultSet rs, String column) throws SQLException {
+        short code = rs.getShort(column);
+        return rs.wasNull() ? null : status(code);
+    }
+}
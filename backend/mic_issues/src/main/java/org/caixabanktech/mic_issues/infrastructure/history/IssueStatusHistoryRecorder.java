@@ -0,0 +1,53 @@
+package org.caixabanktech.mic_issues.infrastructure.history;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.domain.events.IssuesImportedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Appends a status history entry for every issue event that changes the status
+ * Runs synchronously inside the publishing use case's transaction, so the history row
+ * commits or rolls back together with the issue.
+ */
+@Component
+public class IssueStatusHistoryRecorder {
+
+    private final IssueStatusHistoryRepository historyRepository;
+
+    public IssueStatusHistoryRecorder(IssueStatusHistoryRepository historyRepository) {
+        this.historyRepository = historyRepository;
+    }
+
+    @EventListener
+    public void recordTransition(IssueEvent event) {
+        if (!event.isStatusChange()) {
+            return;
+        }
+        Issue issue = event.getIssue();
+        LocalDateTime changedAt = event.getPreviousStatus() == null ? issue.getCreatedAt() : issue.getUpdatedAt();
+        historyRepository.append(new StatusTransition(
+                issue.getId(),
+                event.getPreviousStatus(),
+                issue.getStatus(),
+                event.getUserId(),
+                changedAt != null ? changedAt : LocalDateTime.now()));
+    }
+
+    /**
+     * Imported issues enter their initial status on creation; one batch per import chunk
+     */
+    @EventListener
+    public void recordImport(IssuesImportedEvent event) {
+        List<StatusTransition> transitions = event.getIssues().stream()
+                .map(issue -> new StatusTransition(issue.getId(), null, issue.getStatus(), null, issue.getCreatedAt()))
+                .toList();
+        historyRepository.appendAll(transitions);
+    }
+}
@@ -0,0 +1,196 @@
+package org.caixabanktech.mic_issues.infrastructure.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming RFC 4180 reader: comma separated, double-quoted fields may hold commas, quotes ("")
+ * and line breaks; the first record names the columns
+ * Records are read one at a time from the reader. A record longer than maxRecordChars is
+ * skipped to its end without being kept and returned as unreadable, and so is a record whose
+ * field count doesn't match the header. Blank lines are ignored.
+ */
+final class CsvRecordReader implements Iterator<ImportRecord> {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final int maxRecordChars;
+    private final List<String> columns;
+
+    private long line = 1;
+    private int pushedBack = NONE;
+    private ImportRecord next;
+
+    // State of the record being read
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private long recordLine;
+    private int recordChars;
+    private String recordError;
+
+    /**
+     * Reads the header record
+     *
+     * @throws IllegalArgumentException if the upload is empty or the header can't be read
+     */
+    CsvRecordReader(Reader reader, int maxRecordChars) {
+        this.reader = reader;
+        this.maxRecordChars = maxRecordChars;
+        if (!readRecord()) {
+            throw new IllegalArgumentException("The CSV upload is empty");
+        }
+        if (recordError != null) {
+            throw new IllegalArgumentException("Unreadable CSV header: " + recordError);
+        }
+        this.columns = fields.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+    }
+
+    List<String> columns() {
+        return columns;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && readRecord()) {
+            next = toRecord();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRecord record = next;
+        next = null;
+        return record;
+    }
+
+    private ImportRecord toRecord() {
+        if (recordError != null) {
+            return ImportRecord.unreadable(recordLine, recordError);
+        }
+        if (fields.size() != columns.size()) {
+            return ImportRecord.unreadable(recordLine,
+                    "Expected " + columns.size() + " fields but found " + fields.size());
+        }
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            values.put(columns.get(i), fields.get(i));
+        }
+        return ImportRecord.of(recordLine, values);
+    }
+
+    /**
+     * Reads the next non-blank record into fields
+     *
+     * @return false at the end of the input
+     */
+    private boolean readRecord() {
+        try {
+            while (true) {
+                fields.clear();
+                field.setLength(0);
+                recordLine = line;
+                recordChars = 0;
+                recordError = null;
+                boolean quoted = false;
+
+                int c;
+                while ((c = read()) != -1) {
+                    if (c != '\r' && c != '\n' || quoted) {
+                        consume();
+                    }
+                    if (quoted) {
+                        if (c == '"') {
+                            int following = read();
+                            if (following == '"') {
+                                consume();
+                                append('"');
+                            } else {
+                                quoted = false;
+                                pushedBack = following;
+                            }
+                        } else {
+                            if (c == '\n') {
+                                line++;
+                            }
+                            append((char) c);
+                        }
+                    } else if (c == '"' && field.isEmpty()) {
+                        quoted = true;
+                    } else if (c == ',') {
+                        endField();
+                    } else if (c == '\r' || c == '\n') {
+                        if (c == '\r') {
+                            int following = read();
+                            if (following != '\n') {
+                                pushedBack = following;
+                            }
+                        }
+                        line++;
+                        break;
+                    } else {
+                        append((char) c);
+                    }
+                }
+
+                if (quoted) {
+                    recordError = "Unterminated quoted field";
+                }
+                if (recordChars > 0) {
+                    endField();
+                    return true;
+                }
+                // Blank line, or the end of the input
+                if (c == -1) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the CSV upload", e);
+        }
+    }
+
+    // Counts every character of the record, separators included, so neither a long field nor
+    // a flood of empty ones is kept past the limit
+    private void consume() {
+        if (++recordChars > maxRecordChars && recordError == null) {
+            recordError = "Record longer than " + maxRecordChars + " characters";
+            fields.clear();
+            field.setLength(0);
+        }
+    }
+
+    private void append(char c) {
+        if (recordChars <= maxRecordChars) {
+            field.append(c);
+        }
+    }
+
+    private void endField() {
+        if (recordChars <= maxRecordChars) {
+            fields.add(field.toString());
+        }
+        field.setLength(0);
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+}
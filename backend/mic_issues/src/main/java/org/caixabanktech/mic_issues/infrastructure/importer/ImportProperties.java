@@ -0,0 +1,29 @@
+package org.caixabanktech.mic_issues.infrastructure.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the bulk import endpoints
+ *
+ * @param chunkSize      rows validated and written per transaction
+ * @param maxRecordSize  longest accepted CSV record or NDJSON line; longer ones are rejected unread
+ * @param timeout        max duration of one import, upload included
+ * @param maxConcurrent  imports running at once on this node; further ones are turned away
+ */
+@ConfigurationProperties(prefix = "worksync.import")
+public record ImportProperties(
+        Integer chunkSize,
+        DataSize maxRecordSize,
+        Duration timeout,
+        Integer maxConcurrent
+) {
+    public ImportProperties {
+        chunkSize = chunkSize != null ? chunkSize : 1000;
+        maxRecordSize = maxRecordSize != null ? maxRecordSize : DataSize.ofKilobytes(64);
+        timeout = timeout != null ? timeout : Duration.ofHours(2);
+        maxConcurrent = maxConcurrent != null ? maxConcurrent : 2;
+    }
+}
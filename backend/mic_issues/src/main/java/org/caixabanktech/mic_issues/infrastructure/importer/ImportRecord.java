@@ -0,0 +1,47 @@
+package org.caixabanktech.mic_issues.infrastructure.importer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One record of an upload, before validation
+ *
+ * @param line   line of the upload the record starts on, from 1
+ * @param fields values by lower-case field name: a String, a List of Strings, or null
+ * @param error  why the record could not be read; fields is empty then
+ */
+record ImportRecord(long line, Map<String, Object> fields, String error) {
+
+    private static final String LIST_SEPARATOR = ";";
+
+    static ImportRecord of(long line, Map<String, Object> fields) {
+        return new ImportRecord(line, fields, null);
+    }
+
+    static ImportRecord unreadable(long line, String error) {
+        return new ImportRecord(line, Map.of(), error);
+    }
+
+    String text(String field) {
+        Object value = fields.get(field);
+        if (value instanceof List<?> list) {
+            return String.join(LIST_SEPARATOR, list.stream().map(String::valueOf).toList());
+        }
+        return (String) value;
+    }
+
+    /**
+     * A list field; plain text is split on ';', as CSV has no lists
+     */
+    List<String> list(String field) {
+        Object value = fields.get(field);
+        if (value == null) {
+            return List.of();
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        return Arrays.asList(((String) value).split(LIST_SEPARATOR));
+    }
+}
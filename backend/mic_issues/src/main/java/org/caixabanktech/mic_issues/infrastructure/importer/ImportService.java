@@ -0,0 +1,193 @@
+package org.caixabanktech.mic_issues.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.application.usecases.BulkImport;
+import org.caixabanktech.mic_issues.application.usecases.ImportIssuesUseCase;
+import org.caixabanktech.mic_issues.application.usecases.ImportUsersUseCase;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.ImportProgressResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs bulk imports of issues and users from CSV or NDJSON uploads
+ *
+ * The upload is parsed while it arrives and fed to the import use case, which writes one chunk
+ * per transaction; after every chunk an NDJSON progress line with that chunk's rejected rows is
+ * streamed back, and a final line closes the response. Imports run on their own threads, at
+ * most maxConcurrent at once, outside the request's SQL statement budget.
+ */
+@Slf4j
+@Component
+public class ImportService {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final ImportIssuesUseCase importIssuesUseCase;
+    private final ImportUsersUseCase importUsersUseCase;
+    private final ImportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+
+    public ImportService(ImportIssuesUseCase importIssuesUseCase,
+                         ImportUsersUseCase importUsersUseCase,
+                         ImportProperties properties,
+                         ObjectMapper objectMapper) {
+        this.importIssuesUseCase = importIssuesUseCase;
+        this.importUsersUseCase = importUsersUseCase;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        // No queue: an import over the limit is refused rather than left holding its upload open
+        this.executor = new ThreadPoolExecutor(properties.maxConcurrent(), properties.maxConcurrent(),
+                0, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                Thread.ofPlatform().name("import-", 1).daemon().factory());
+    }
+
+    /**
+     * Starts an issue import
+     *
+     * @throws IllegalArgumentException if the content type isn't CSV or NDJSON, or the CSV header lacks a title
+     * @throws ImportCapacityExceededException if this node already runs maxConcurrent imports
+     */
+    public ResponseBodyEmitter importIssues(MediaType contentType, InputStream body) {
+        Iterator<ImportRecord> records = open(contentType, body, List.of("title"));
+        Iterator<BulkImport.Row<ImportIssuesUseCase.IssueRow>> rows = rows(records, record ->
+                new ImportIssuesUseCase.IssueRow(
+                        record.text("title"),
+                        record.text("description"),
+                        record.text("requester"),
+                        record.text("priority"),
+                        record.list("tags"),
+                        record.text("assignee")));
+        return start("issues", listener -> importIssuesUseCase.execute(rows, properties.chunkSize(), listener));
+    }
+
+    /**
+     * Starts a user import
+     *
+     * @throws IllegalArgumentException if the content type isn't CSV or NDJSON, or the CSV header lacks a required column
+     * @throws ImportCapacityExceededException if this node already runs maxConcurrent imports
+     */
+    public ResponseBodyEmitter importUsers(MediaType contentType, InputStream body) {
+        Iterator<ImportRecord> records = open(contentType, body, List.of("username", "password", "name", "email"));
+        Iterator<BulkImport.Row<ImportUsersUseCase.UserRow>> rows = rows(records, record ->
+                new ImportUsersUseCase.UserRow(
+                        record.text("username"),
+                        record.text("password"),
+                        record.text("name"),
+                        record.text("email"),
+                        record.text("phone"),
+                        record.text("address"),
+                        record.text("department")));
+        return start("users", listener -> importUsersUseCase.execute(rows, properties.chunkSize(), listener));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Iterator<ImportRecord> open(MediaType contentType, InputStream body, List<String> requiredColumns) {
+        Reader reader = new BufferedReader(new InputStreamReader(body,
+                contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8), 1 << 16);
+        int maxChars = Math.toIntExact(properties.maxRecordSize().toBytes());
+        if (TEXT_CSV.includes(contentType)) {
+            CsvRecordReader csv = new CsvRecordReader(reader, maxChars);
+            for (String column : requiredColumns) {
+                if (!csv.columns().contains(column)) {
+                    throw new IllegalArgumentException("The CSV header has no " + column + " column");
+                }
+            }
+            return csv;
+        }
+        if (MediaType.APPLICATION_NDJSON.includes(contentType)) {
+            return new NdjsonRecordReader(reader, maxChars, objectMapper);
+        }
+        throw new IllegalArgumentException("Expected text/csv or application/x-ndjson, got " + contentType);
+    }
+
+    private static <T> Iterator<BulkImport.Row<T>> rows(Iterator<ImportRecord> records, Function<ImportRecord, T> mapper) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public BulkImport.Row<T> next() {
+                ImportRecord record = records.next();
+                return record.error() != null
+                        ? BulkImport.Row.unreadable(record.line(), record.error())
+                        : BulkImport.Row.of(record.line(), mapper.apply(record));
+            }
+        };
+    }
+
+    private ResponseBodyEmitter start(String entity, Function<BulkImport.ProgressListener, BulkImport.Progress> task) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(properties.timeout().toMillis());
+        try {
+            executor.execute(() -> run(entity, emitter, task));
+        } catch (RejectedExecutionException e) {
+            throw new ImportCapacityExceededException("Too many imports running, retry later");
+        }
+        return emitter;
+    }
+
+    private void run(String entity, ResponseBodyEmitter emitter,
+                     Function<BulkImport.ProgressListener, BulkImport.Progress> task) {
+        long started = System.nanoTime();
+        try {
+            BulkImport.Progress result = task.apply(progress -> send(emitter, ImportProgressResponse.progress(progress)));
+            send(emitter, ImportProgressResponse.completed(result));
+            emitter.complete();
+            log.info("Imported {} of {} {} rows in {} ms", result.imported(), result.processed(), entity,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (RuntimeException e) {
+            // Chunks already reported stay imported
+            log.warn("Import of {} aborted", entity, e);
+            try {
+                send(emitter, ImportProgressResponse.aborted(e.getMessage()));
+                emitter.complete();
+            } catch (RuntimeException sendFailure) {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void send(ResponseBodyEmitter emitter, ImportProgressResponse line) {
+        try {
+            emitter.send(objectMapper.writeValueAsString(line) + "\n", MediaType.TEXT_PLAIN);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize import progress", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Client went away", e);
+        }
+    }
+
+    /**
+     * Raised when an import is refused because this node already runs maxConcurrent imports
+     */
+    public static class ImportCapacityExceededException extends RuntimeException {
+        public ImportCapacityExceededException(String message) {
+            super(message);
+        }
+    }
+}
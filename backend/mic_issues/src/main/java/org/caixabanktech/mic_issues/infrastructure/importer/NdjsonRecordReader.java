@@ -0,0 +1,120 @@
+package org.caixabanktech.mic_issues.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming NDJSON reader: one JSON object per line
+ * Lines are read one at a time; a line longer than maxLineChars is skipped without being kept
+ * and returned as unreadable, as is a line that isn't a JSON object. Blank lines are ignored.
+ * Arrays of scalars become lists, other scalars text; nested objects are rejected.
+ */
+final class NdjsonRecordReader implements Iterator<ImportRecord> {
+
+    private final Reader reader;
+    private final int maxLineChars;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder buffer = new StringBuilder();
+
+    private long line;
+    private boolean endOfInput;
+    private ImportRecord next;
+
+    NdjsonRecordReader(Reader reader, int maxLineChars, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.maxLineChars = maxLineChars;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !endOfInput) {
+            next = readLine();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRecord record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * @return the record on the next line, or null for a blank line or the end of the input
+     */
+    private ImportRecord readLine() {
+        buffer.setLength(0);
+        line++;
+        boolean tooLong = false;
+        try {
+            int c;
+            while ((c = reader.read()) != -1 && c != '\n') {
+                if (buffer.length() < maxLineChars) {
+                    buffer.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+            endOfInput = c == -1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the NDJSON upload", e);
+        }
+
+        if (tooLong) {
+            return ImportRecord.unreadable(line, "Line longer than " + maxLineChars + " characters");
+        }
+        if (buffer.toString().isBlank()) {
+            return null;
+        }
+        try {
+            return parse(objectMapper.readTree(buffer.toString()));
+        } catch (JsonProcessingException e) {
+            return ImportRecord.unreadable(line, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportRecord parse(JsonNode node) {
+        if (!node.isObject()) {
+            return ImportRecord.unreadable(line, "Expected a JSON object");
+        }
+        Map<String, Object> fields = new HashMap<>();
+        for (Map.Entry<String, JsonNode> entry : node.properties()) {
+            JsonNode value = entry.getValue();
+            String name = entry.getKey().toLowerCase(Locale.ROOT);
+            if (value.isNull()) {
+                fields.put(name, null);
+            } else if (value.isValueNode()) {
+                fields.put(name, value.asText());
+            } else if (value.isArray()) {
+                List<String> items = new ArrayList<>(value.size());
+                for (JsonNode item : value) {
+                    if (!item.isValueNode()) {
+                        return ImportRecord.unreadable(line, "Field " + entry.getKey() + " must be a list of values");
+                    }
+                    items.add(item.asText());
+                }
+                fields.put(name, items);
+            } else {
+                return ImportRecord.unreadable(line, "Field " + entry.getKey() + " must not be an object");
+            }
+        }
+        return ImportRecord.of(line, fields);
+    }
+}
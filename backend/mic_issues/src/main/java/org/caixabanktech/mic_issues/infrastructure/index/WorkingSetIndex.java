@@ -0,0 +1,165 @@
+package org.caixabanktech.mic_issues.infrastructure.index;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.domain.events.IssuesArchivedEvent;
+import org.caixabanktech.mic_issues.domain.events.IssuesImportedEvent;
+import org.caixabanktech.mic_issues.domain.events.UserEvent;
+import org.caixabanktech.mic_issues.domain.events.UsersImportedEvent;
+import org.caixabanktech.mic_issues.infrastructure.datasource.ReadYourWrites;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Base of the in-memory indexes over the working set
+ *
+ * Loads the working set once the application is ready, then follows committed changes. Domain
+ * events of this node are applied after commit, or inline when published without a transaction,
+ * so a rolled-back change never shows. Changes committed on other nodes arrive as relayed events
+ * and are re-read by id from the primary, where replication lag cannot hide them; an issue or
+ * user gone by then was deleted or archived.
+ *
+ * Subclasses load themselves in {@link #bootstrap()} and override the hooks of what they index;
+ * the other hooks do nothing.
+ */
+public abstract class WorkingSetIndex {
+
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final EventRelay eventRelay;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * @param issueRepository re-reads issues changed on other nodes; null to ignore those changes
+     * @param userRepository  re-reads users changed on other nodes; null to ignore those changes
+     */
+    protected WorkingSetIndex(IssueRepository issueRepository,
+                              UserRepository userRepository,
+                              EventRelay eventRelay,
+                              PlatformTransactionManager transactionManager) {
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.eventRelay = eventRelay;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        bootstrap();
+    }
+
+    /**
+     * Loads the working set; changes committed meanwhile arrive as events
+     */
+    public abstract void bootstrap();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        if (event.getEventType() == IssueEvent.EventType.DELETED) {
+            issuesRemoved(List.of(event.getIssue().getId()));
+        } else {
+            issueChanged(event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssuesImported(IssuesImportedEvent event) {
+        issuesImported(event.getIssues());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssuesArchived(IssuesArchivedEvent event) {
+        issuesRemoved(event.getIssueIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserEvent(UserEvent event) {
+        if (event.getEventType() == UserEvent.EventType.DELETED) {
+            userRemoved(event.getUser().getId());
+        } else {
+            usersChanged(List.of(event.getUser()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersImported(UsersImportedEvent event) {
+        usersChanged(event.getUsers());
+    }
+
+    /**
+     * Changes of this node were already applied from its domain events
+     */
+    @EventListener
+    public void onRelayedEvent(RelayedEvent event) {
+        Long id = event.entityId();
+        if (id == null || eventRelay.nodeId().equals(event.originNode())) {
+            return;
+        }
+        if (event.topic() == RelayTopic.ISSUES && issueRepository != null) {
+            Optional<Issue> issue = ReadYourWrites.onPrimary(() -> read(() -> issueRepository.findById(id)));
+            issue.ifPresentOrElse(found -> issuesChanged(List.of(found)), () -> issuesRemoved(List.of(id)));
+        } else if (event.topic() == RelayTopic.USERS && userRepository != null) {
+            Optional<User> user = ReadYourWrites.onPrimary(() -> read(() -> userRepository.findById(id)));
+            user.ifPresentOrElse(found -> usersChanged(List.of(found)), () -> userRemoved(id));
+        }
+    }
+
+    /**
+     * Runs a query in a read-only transaction
+     */
+    protected <T> T read(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    /**
+     * An issue of this node was created or changed; by default applied as its new state
+     */
+    protected void issueChanged(IssueEvent event) {
+        issuesChanged(List.of(event.getIssue()));
+    }
+
+    /**
+     * Issues were imported on this node; by default applied as their new state
+     */
+    protected void issuesImported(List<Issue> issues) {
+        issuesChanged(issues);
+    }
+
+    /**
+     * The current state of changed issues
+     */
+    protected void issuesChanged(List<Issue> issues) {
+    }
+
+    /**
+     * Issues deleted or archived
+     */
+    protected void issuesRemoved(List<Long> issueIds) {
+    }
+
+    /**
+     * The current state of created, changed or imported users
+     */
+    protected void usersChanged(List<User> users) {
+    }
+
+    /**
+     * A deleted user; their issues are removed with their own issue events
+     */
+    protected void userRemoved(Long userId) {
+    }
+}
@@ -0,0 +1,49 @@
+package org.caixabanktech.mic_issues.infrastructure.inmemory;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * In-memory profile configuration
+ * DataSource, JPA and Flyway auto-configuration are excluded in application-inmemory.yaml;
+ * use cases keep their @Transactional boundaries, which the in-memory adapters do not need,
+ * so they run against a transaction manager that only tracks synchronizations.
+ */
+@Configuration
+@Profile("inmemory")
+public class InMemoryConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new NoOpTransactionManager();
+    }
+
+    /**
+     * Transaction manager without a resource: begin, commit and rollback do nothing, while
+     * synchronizations and after-commit listeners still run
+     */
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.caixabanktech.mic_issues.infrastructure.inmemory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Demo data for the in-memory store, the counterpart of db/seed/R__demo_data.sql
+ * Loaded with --spring.profiles.active=inmemory,seed
+ */
+@Slf4j
+@Component
+@Profile("inmemory & seed")
+public class InMemoryDemoData implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final IssueRepository issueRepository;
+
+    public InMemoryDemoData(UserRepository userRepository, IssueRepository issueRepository) {
+        this.userRepository = userRepository;
+        this.issueRepository = issueRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<User> users = List.of(
+                user(1L, "admin", "admin123", "Admin User", "admin@company.com", "+34 600 111 111", "Madrid, Spain", "IT"),
+                user(2L, "john", "password123", "John Doe", "john@company.com", "+34 600 222 222", "Barcelona, Spain", "Development"),
+                user(3L, "jane", "password123", "Jane Smith", "jane@company.com", "+34 600 333 333", "Valencia, Spain", "QA"),
+                user(4L, "bob", "password123", "Bob Johnson", "bob@company.com", "+34 600 444 444", "Seville, Spain", "Support"),
+                user(5L, "alice", "password123", "Alice Williams", "alice@company.com", "+34 600 555 555", "Bilbao, Spain", "Operations")
+        );
+        users.forEach(userRepository::save);
+
+        issueRepository.save(issue(1L, "User login error",
+                "Users cannot login after the latest update. Error 500 when attempting to authenticate.",
+                "Admin User", IssueStatus.OPEN, IssuePriority.URGENT, null,
+                List.of("authentication", "critical"), now.minusDays(2), null));
+        issueRepository.save(issue(2L, "Dashboard improvements",
+                "Add real-time statistics charts to the main dashboard.",
+                "Jane Smith", IssueStatus.IN_PROGRESS, IssuePriority.HIGH, users.get(1),
+                List.of("frontend", "dashboard"), now.minusDays(5), now.minusDays(1)));
+        issueRepository.save(issue(3L, "Report export bug",
+                "Exported PDF reports are corrupted or empty.",
+                "Bob Johnson", IssueStatus.IN_PROGRESS, IssuePriority.HIGH, users.get(2),
+                List.of("reports", "pdf"), now.minusDays(3), now.minusHours(6)));
+        issueRepository.save(issue(4L, "Update API documentation",
+                "API REST documentation is outdated and missing information about new endpoints.",
+                "John Doe", IssueStatus.RESOLVED, IssuePriority.NORMAL, users.get(3),
+                List.of("documentation"), now.minusDays(10), now.minusDays(2)));
+        issueRepository.save(issue(5L, "Optimize database queries",
+                "Database queries are slow in production. Need to optimize indexes.",
+                "Alice Williams", IssueStatus.OPEN, IssuePriority.HIGH, null,
+                List.of("performance", "database"), now.minusDays(4), null));
+        issueRepository.save(issue(6L, "Implement push notifications",
+                "Add push notification system for important alerts.",
+                "Admin User", IssueStatus.OPEN, IssuePriority.NORMAL, null,
+                List.of("notifications", "feature"), now.minusDays(1), null));
+        issueRepository.save(issue(7L, "Price calculation error",
+                "System is incorrectly calculating discounts in some specific cases.",
+                "Jane Smith", IssueStatus.IN_PROGRESS, IssuePriority.URGENT, users.get(4),
+                List.of("pricing", "calculations"), now.minusDays(6), now.minusHours(12)));
+        issueRepository.save(issue(8L, "Improve security",
+                "Implement two-factor authentication (2FA) for admin users.",
+                "Bob Johnson", IssueStatus.CLOSED, IssuePriority.NORMAL, users.get(0),
+                List.of("security", "authentication"), now.minusDays(12), now.minusDays(5)));
+
+        log.info("Loaded in-memory demo data: {} users, {} issues",
+                userRepository.findAll().size(), issueRepository.findAll().size());
+    }
+
+    private static User user(Long id, String username, String password, String name, String email,
+                             String phone, String address, String department) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .password(password)
+                .name(name)
+                .email(email)
+                .phone(phone)
+                .address(address)
+                .department(department)
+                .build();
+    }
+
+    private static Issue issue(Long id, String title, String description, String requester,
+                               IssueStatus status, IssuePriority priority, User assignedUser,
+                               List<String> tags, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return Issue.reconstitute()
+                .withId(id)
+                .withTitle(title)
+                .withDescription(description)
+                .withRequester(requester)
+                .withStatus(status)
+                .withPriority(priority)
+                .withAssignedUser(assignedUser)
+                .withTags(tags)
+                .withCreatedAt(createdAt)
+                .withUpdatedAt(updatedAt)
+                .build();
+    }
+}
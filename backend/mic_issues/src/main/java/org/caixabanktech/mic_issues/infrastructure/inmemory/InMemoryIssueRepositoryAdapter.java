@@ -0,0 +1,105 @@
+package org.caixabanktech.mic_issues.infrastructure.inmemory;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * In-memory adapter implementing the application issue repository port
+ *
+ * Issues live in an {@link IssueProjection}, a ConcurrentHashMap with status and assignee
+ * indexes. The assignee is stored by id and resolved on read, like the JPA join, so profile
+ * changes show up on every issue assigned to the user.
+ * Enabled with the "inmemory" profile.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryIssueRepositoryAdapter implements IssueRepository {
+
+    private final IssueProjection projection = new IssueProjection();
+
+    private Function<Long, Optional<User>> userLookup = id -> Optional.empty();
+
+    /**
+     * Wired by the user adapter, which owns the users the assignee ids point to
+     */
+    void setUserLookup(Function<Long, Optional<User>> userLookup) {
+        this.userLookup = userLookup;
+    }
+
+    @Override
+    public Issue save(Issue issue) {
+        Long assigneeId = issue.getAssignedUser() != null ? issue.getAssignedUser().getId() : null;
+        if (assigneeId != null && userLookup.apply(assigneeId).isEmpty()) {
+            throw new DataIntegrityViolationException("Assigned user does not exist: " + assigneeId);
+        }
+        Long id = issue.getId() != null ? issue.getId() : projection.nextId();
+        return toDomain(projection.upsert(id, existing -> IssueProjection.IssueState.of(issue, id, existing)));
+    }
+
+    /**
+     * Claims with a compare-and-set on the issue, walking the projection's pick-up queue
+     */
+    @Override
+    public Optional<Issue> claimNext(User assignee, String tag) {
+        if (userLookup.apply(assignee.getId()).isEmpty()) {
+            throw new DataIntegrityViolationException("Assigned user does not exist: " + assignee.getId());
+        }
+        return projection.claimWaiting(state -> state.hasTag(tag), state -> {
+            Issue issue = state.toDomain(null);
+            issue.assign(assignee);
+            return IssueProjection.IssueState.of(issue, state.id(), state);
+        }).map(this::toDomain);
+    }
+
+    @Override
+    public Optional<Issue> findById(Long id) {
+        return projection.get(id).map(this::toDomain);
+    }
+
+    @Override
+    public List<Issue> findAll() {
+        return projection.all().stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<Issue> findByStatus(IssueStatus status) {
+        return projection.withStatus(status).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<Issue> findByAssignedUserId(Long userId) {
+        return projection.assignedTo(userId).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        projection.remove(id, state -> true);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return projection.contains(id);
+    }
+
+    void deleteByAssignedUserId(Long userId) {
+        for (IssueProjection.IssueState state : projection.assignedTo(userId)) {
+            projection.remove(state.id(), current -> userId.equals(current.assignedUserId()));
+        }
+    }
+
+    private Issue toDomain(IssueProjection.IssueState state) {
+        User assignedUser = state.assignedUserId() != null
+                ? userLookup.apply(state.assignedUserId()).orElse(null)
+                : null;
+        return state.toDomain(assignedUser);
+    }
+}
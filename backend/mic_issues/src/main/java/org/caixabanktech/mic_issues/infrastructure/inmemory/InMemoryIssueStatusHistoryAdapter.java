@@ -0,0 +1,159 @@
+package org.caixabanktech.mic_issues.infrastructure.inmemory;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory adapter implementing the status history port
+ *
+ * Entries are kept in a time-ordered set for range scans and in one time-ordered set per issue
+ * for timelines and the next-transition lookup, mirroring the BRIN and (issue_id, changed_at)
+ * indexes of the table. Ties on the timestamp are broken by insertion order.
+ * Enabled with the "inmemory" profile.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryIssueStatusHistoryAdapter implements IssueStatusHistoryRepository {
+
+    private record Entry(long sequence, StatusTransition transition) {
+    }
+
+    private static final Comparator<Entry> TIME_ORDER = Comparator
+            .comparing((Entry entry) -> entry.transition().changedAt())
+            .thenComparingLong(Entry::sequence);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableSet<Entry> byTime = new TreeSet<>(TIME_ORDER);
+    private final Map<Long, NavigableSet<Entry>> byIssue = new HashMap<>();
+    private long sequence;
+
+    @Override
+    public void append(StatusTransition transition) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = new Entry(++sequence, transition);
+            byTime.add(entry);
+            byIssue.computeIfAbsent(transition.issueId(), id -> new TreeSet<>(TIME_ORDER)).add(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<StatusTransition> findByIssueId(Long issueId) {
+        lock.readLock().lock();
+        try {
+            return byIssue.getOrDefault(issueId, new TreeSet<>(TIME_ORDER)).stream()
+                    .map(Entry::transition)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<StatusTransition> findTransitionsInto(Collection<IssueStatus> statuses,
+                                                      LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            return range(from, to).stream()
+                    .map(Entry::transition)
+                    .filter(transition -> statuses.contains(transition.toStatus()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<TimeInStatus> timeInStatus(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<IssueStatus, List<Double>> stays = new EnumMap<>(IssueStatus.class);
+        Map<IssueStatus, Long> left = new EnumMap<>(IssueStatus.class);
+        lock.readLock().lock();
+        try {
+            for (Entry entry : range(from, to)) {
+                Entry next = byIssue.get(entry.transition().issueId()).higher(entry);
+                LocalDateTime end = next != null ? next.transition().changedAt() : now;
+                IssueStatus status = entry.transition().toStatus();
+                stays.computeIfAbsent(status, s -> new ArrayList<>())
+                        .add(Duration.between(entry.transition().changedAt(), end).toNanos() / 1e9);
+                if (next != null) {
+                    left.merge(status, 1L, Long::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<TimeInStatus> result = new ArrayList<>();
+        stays.forEach((status, seconds) -> {
+            seconds.sort(null);
+            result.add(new TimeInStatus(status, seconds.size(), left.getOrDefault(status, 0L),
+                    seconds.stream().mapToDouble(Double::doubleValue).average().orElse(0),
+                    percentile(seconds, 0.5), percentile(seconds, 0.95), seconds.getLast()));
+        });
+        return result;
+    }
+
+    @Override
+    public List<TransitionCount> countTransitions(LocalDateTime from, LocalDateTime to) {
+        Map<List<IssueStatus>, Long> counts = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Entry entry : range(from, to)) {
+                StatusTransition transition = entry.transition();
+                // Arrays.asList allows the null "created" status as a key component
+                counts.merge(Arrays.asList(transition.fromStatus(), transition.toStatus()), 1L, Long::sum);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts.entrySet().stream()
+                .map(e -> new TransitionCount(e.getKey().get(0), e.getKey().get(1), e.getValue()))
+                .sorted(Comparator.comparingLong(TransitionCount::count).reversed()
+                        .thenComparing(TransitionCount::fromStatus, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(TransitionCount::toStatus))
+                .toList();
+    }
+
+    // Caller holds the read lock
+    private NavigableSet<Entry> range(LocalDateTime from, LocalDateTime to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        if (!from.isBefore(to)) {
+            return new TreeSet<>(TIME_ORDER);
+        }
+        StatusTransition fromKey = new StatusTransition(null, null, null, null, from);
+        StatusTransition toKey = new StatusTransition(null, null, null, null, to);
+        return byTime.subSet(new Entry(Long.MIN_VALUE, fromKey), true, new Entry(Long.MIN_VALUE, toKey), false);
+    }
+
+    // Linear interpolation between closest ranks, as percentile_cont does
+    private static double percentile(List<Double> sorted, double fraction) {
+        double position = fraction * (sorted.size() - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        return sorted.get(lower) + (sorted.get(upper) - sorted.get(lower)) * (position - lower);
+    }
+}
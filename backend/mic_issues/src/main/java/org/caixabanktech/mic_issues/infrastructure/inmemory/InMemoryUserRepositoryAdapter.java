@@ -0,0 +1,192 @@
+package org.caixabanktech.mic_issues.infrastructure.inmemory;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory adapter implementing the application user repository port
+ *
+ * Users live in a ConcurrentHashMap keyed by id, with secondary indexes on username, email and
+ * department. Every write runs inside {@code compute} for its id, which locks only that bin, so
+ * writes to different users never contend; the unique indexes are claimed with
+ * {@code putIfAbsent} inside it, making username/email uniqueness atomic across ids. Stored users
+ * are private copies: callers get fresh instances, as they do from the JPA adapter.
+ * Enabled with the "inmemory" profile.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryUserRepositoryAdapter implements UserRepository {
+
+    private final Map<Long, User> users = new ConcurrentHashMap<>();
+    private final Map<String, Long> byUsername = new ConcurrentHashMap<>();
+    private final Map<String, Long> byEmail = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> byDepartment = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final InMemoryIssueRepositoryAdapter issueRepository;
+
+    public InMemoryUserRepositoryAdapter(InMemoryIssueRepositoryAdapter issueRepository) {
+        this.issueRepository = issueRepository;
+        issueRepository.setUserLookup(this::findById);
+    }
+
+    @Override
+    public User save(User user) {
+        Long id = user.getId() != null ? user.getId() : sequence.incrementAndGet();
+        sequence.accumulateAndGet(id, Math::max);
+
+        User saved = users.compute(id, (key, existing) -> {
+            User candidate = copy(user, key,
+                    existing != null ? existing.getCreatedAt() : createdAt(user),
+                    existing != null ? LocalDateTime.now() : user.getUpdatedAt());
+            claim(byUsername, candidate.getUsername(), key, "username");
+            try {
+                claim(byEmail, candidate.getEmail(), key, "email");
+            } catch (DataIntegrityViolationException e) {
+                if (existing == null || !Objects.equals(existing.getUsername(), candidate.getUsername())) {
+                    byUsername.remove(candidate.getUsername(), key);
+                }
+                throw e;
+            }
+            if (existing != null) {
+                release(existing, candidate);
+            }
+            if (candidate.getDepartment() != null) {
+                byDepartment.computeIfAbsent(candidate.getDepartment(), d -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+            return candidate;
+        });
+        return copy(saved);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return Optional.ofNullable(users.get(id)).map(InMemoryUserRepositoryAdapter::copy);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        Long id = byUsername.get(username);
+        return id != null ? findById(id).filter(u -> username.equals(u.getUsername())) : Optional.empty();
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        Long id = byEmail.get(email);
+        return id != null ? findById(id).filter(u -> email.equals(u.getEmail())) : Optional.empty();
+    }
+
+    @Override
+    public List<User> findAll() {
+        return users.values().stream()
+                .sorted(Comparator.comparing(User::getId))
+                .map(InMemoryUserRepositoryAdapter::copy)
+                .toList();
+    }
+
+    @Override
+    public List<User> findByDepartment(String department) {
+        Set<Long> ids = byDepartment.getOrDefault(department, Set.of());
+        return ids.stream()
+                .sorted()
+                .map(users::get)
+                // The index can briefly lead or trail a concurrent write; the record decides
+                .filter(u -> u != null && department.equals(u.getDepartment()))
+                .map(InMemoryUserRepositoryAdapter::copy)
+                .toList();
+    }
+
+    /**
+     * Issues assigned to the user go with it, matching the JPA cascade on assignedIssues
+     */
+    @Override
+    public void deleteById(Long id) {
+        users.computeIfPresent(id, (key, existing) -> {
+            release(existing, null);
+            return null;
+        });
+        issueRepository.deleteByAssignedUserId(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return users.containsKey(id);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return findByUsername(username).isPresent();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+
+    private static void claim(Map<String, Long> index, String value, Long id, String column) {
+        if (value == null) {
+            return;
+        }
+        Long owner = index.putIfAbsent(value, id);
+        if (owner != null && !owner.equals(id)) {
+            throw new DataIntegrityViolationException("Duplicate " + column + ": " + value);
+        }
+    }
+
+    /**
+     * Drops index entries the previous version held and the new one (null on delete) no longer does
+     */
+    private void release(User previous, User current) {
+        if (previous.getUsername() != null
+                && (current == null || !previous.getUsername().equals(current.getUsername()))) {
+            byUsername.remove(previous.getUsername(), previous.getId());
+        }
+        if (previous.getEmail() != null
+                && (current == null || !previous.getEmail().equals(current.getEmail()))) {
+            byEmail.remove(previous.getEmail(), previous.getId());
+        }
+        if (previous.getDepartment() != null
+                && (current == null || !previous.getDepartment().equals(current.getDepartment()))) {
+            Set<Long> ids = byDepartment.get(previous.getDepartment());
+            if (ids != null) {
+                ids.remove(previous.getId());
+            }
+        }
+    }
+
+    private static LocalDateTime createdAt(User user) {
+        return user.getCreatedAt() != null ? user.getCreatedAt() : LocalDateTime.now();
+    }
+
+    static User copy(User user) {
+        return copy(user, user.getId(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    private static User copy(User user, Long id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return User.builder()
+                .id(id)
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .name(user.getName())
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .address(user.getAddress())
+                .department(user.getDepartment())
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
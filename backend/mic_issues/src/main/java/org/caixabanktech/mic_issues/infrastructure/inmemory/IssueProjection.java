@@ -0,0 +1,278 @@
+package org.caixabanktech.mic_issues.infrastructure.inmemory;
+
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Concurrent issue table with secondary indexes on status and assignee
+ *
+ * Issues are immutable {@link IssueState} records in a ConcurrentHashMap keyed by id. Writes
+ * run inside {@code compute} for their id and move the index entries there, so only writers of
+ * the same issue serialize. Readers go through an index and re-check each record, which keeps
+ * results exact while an index update is in flight. Unassigned OPEN issues are also kept in a
+ * concurrent skip list in the order they are to be picked up.
+ * Backs the in-memory adapter and the read side of the event store.
+ */
+public class IssueProjection {
+
+    private final Map<Long, IssueState> issues = new ConcurrentHashMap<>();
+    private final Map<IssueStatus, Set<Long>> byStatus = new EnumMap<>(IssueStatus.class);
+    private final Map<Long, Set<Long>> byAssignee = new ConcurrentHashMap<>();
+    private final Set<IssueState> waiting = new ConcurrentSkipListSet<>(IssueState.NEXT_UP);
+    private final AtomicLong lastId = new AtomicLong();
+
+    public IssueProjection() {
+        for (IssueStatus status : IssueStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Id for a new issue
+     */
+    public long nextId() {
+        return lastId.incrementAndGet();
+    }
+
+    public long lastId() {
+        return lastId.get();
+    }
+
+    /**
+     * Makes sure ids up to {@code id} are never handed out again, e.g. those of deleted issues
+     */
+    public void reserveIds(long id) {
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Replaces the issue with what {@code update} returns for the current record (null if absent)
+     */
+    public IssueState upsert(Long id, UnaryOperator<IssueState> update) {
+        lastId.accumulateAndGet(id, Math::max);
+        return issues.compute(id, (key, existing) -> {
+            IssueState next = update.apply(existing);
+            if (existing != null) {
+                unindex(existing);
+            }
+            if (next != null) {
+                index(next);
+            }
+            return next;
+        });
+    }
+
+    public void put(IssueState state) {
+        upsert(state.id(), existing -> state);
+    }
+
+    /**
+     * Removes the issue if {@code condition} holds for it
+     *
+     * @return the removed record
+     */
+    public Optional<IssueState> remove(Long id, Predicate<IssueState> condition) {
+        IssueState[] removed = new IssueState[1];
+        issues.computeIfPresent(id, (key, existing) -> {
+            if (!condition.test(existing)) {
+                return existing;
+            }
+            unindex(existing);
+            removed[0] = existing;
+            return null;
+        });
+        return Optional.ofNullable(removed[0]);
+    }
+
+    public Optional<IssueState> get(Long id) {
+        return Optional.ofNullable(issues.get(id));
+    }
+
+    public boolean contains(Long id) {
+        return issues.containsKey(id);
+    }
+
+    public int size() {
+        return issues.size();
+    }
+
+    /**
+     * All issues, in id order
+     */
+    public List<IssueState> all() {
+        return issues.values().stream()
+                .sorted(Comparator.comparing(IssueState::id))
+                .toList();
+    }
+
+    public List<IssueState> withStatus(IssueStatus status) {
+        return resolve(byStatus.get(status), state -> state.status() == status);
+    }
+
+    public List<IssueState> assignedTo(Long userId) {
+        return resolve(byAssignee.getOrDefault(userId, Set.of()), state -> userId.equals(state.assignedUserId()));
+    }
+
+    /**
+     * The unassigned OPEN issue next up that {@code filter} accepts
+     */
+    public Optional<IssueState> firstWaiting(Predicate<IssueState> filter) {
+        return waiting.stream()
+                .filter(filter)
+                .map(state -> issues.get(state.id()))
+                .filter(state -> state != null && state.isWaiting() && filter.test(state))
+                .findFirst();
+    }
+
+    /**
+     * Replaces the unassigned OPEN issue next up that {@code filter} accepts with what
+     * {@code claim} returns for it. The check and the write are one {@code compute}, so an issue
+     * claimed or assigned by another writer in the meantime is skipped for the next one.
+     *
+     * @return the claimed record, empty if nothing is waiting
+     */
+    public Optional<IssueState> claimWaiting(Predicate<IssueState> filter, UnaryOperator<IssueState> claim) {
+        for (IssueState candidate : waiting) {
+            if (!filter.test(candidate)) {
+                continue;
+            }
+            IssueState[] claimed = new IssueState[1];
+            issues.computeIfPresent(candidate.id(), (key, existing) -> {
+                if (!existing.isWaiting() || !filter.test(existing)) {
+                    return existing;
+                }
+                IssueState next = claim.apply(existing);
+                unindex(existing);
+                index(next);
+                claimed[0] = next;
+                return next;
+            });
+            if (claimed[0] != null) {
+                return Optional.of(claimed[0]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void clear() {
+        issues.clear();
+        byStatus.values().forEach(Set::clear);
+        byAssignee.clear();
+        waiting.clear();
+        lastId.set(0);
+    }
+
+    private List<IssueState> resolve(Collection<Long> ids, Predicate<IssueState> stillMatches) {
+        return ids.stream()
+                .sorted()
+                .map(issues::get)
+                .filter(state -> state != null && stillMatches.test(state))
+                .toList();
+    }
+
+    private void index(IssueState state) {
+        byStatus.get(state.status()).add(state.id());
+        if (state.assignedUserId() != null) {
+            byAssignee.computeIfAbsent(state.assignedUserId(), k -> ConcurrentHashMap.newKeySet()).add(state.id());
+        }
+        if (state.isWaiting()) {
+            waiting.add(state);
+        }
+    }
+
+    private void unindex(IssueState state) {
+        byStatus.get(state.status()).remove(state.id());
+        if (state.assignedUserId() != null) {
+            Set<Long> ids = byAssignee.get(state.assignedUserId());
+            if (ids != null) {
+                ids.remove(state.id());
+            }
+        }
+        if (state.isWaiting()) {
+            waiting.remove(state);
+        }
+    }
+
+    /**
+     * Stored form of an issue; the assignee is kept by id and resolved on read
+     */
+    public record IssueState(
+            Long id,
+            String title,
+            String description,
+            String requester,
+            IssueStatus status,
+            IssuePriority priority,
+            Long assignedUserId,
+            List<String> tags,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        /**
+         * Pick-up order: highest priority, then oldest, then lowest id
+         */
+        static final Comparator<IssueState> NEXT_UP = Comparator
+                .comparing(IssueState::priority, Comparator.reverseOrder())
+                .thenComparing(IssueState::createdAt)
+                .thenComparing(IssueState::id);
+
+        public IssueState {
+            tags = tags != null ? List.copyOf(tags) : List.of();
+        }
+
+        public boolean isWaiting() {
+            return status == IssueStatus.OPEN && assignedUserId == null;
+        }
+
+        /**
+         * @param tag compared ignoring case; null matches every issue
+         */
+        public boolean hasTag(String tag) {
+            return tag == null || tags.stream().anyMatch(tag::equalsIgnoreCase);
+        }
+
+        /**
+         * State to store for {@code issue}; createdAt is kept from the existing record and
+         * updatedAt stamped on updates, as the JPA entity callbacks do
+         */
+        public static IssueState of(Issue issue, Long id, IssueState existing) {
+            Long assignedUserId = issue.getAssignedUser() != null ? issue.getAssignedUser().getId() : null;
+            LocalDateTime createdAt = existing != null ? existing.createdAt()
+                    : issue.getCreatedAt() != null ? issue.getCreatedAt() : LocalDateTime.now();
+            LocalDateTime updatedAt = existing != null ? LocalDateTime.now() : issue.getUpdatedAt();
+            return new IssueState(id, issue.getTitle(), issue.getDescription(), issue.getRequester(),
+                    issue.getStatus(), issue.getPriority(), assignedUserId, issue.getTags(), createdAt, updatedAt);
+        }
+
+        public Issue toDomain(User assignedUser) {
+            return Issue.reconstitute()
+                    .withId(id)
+                    .withTitle(title)
+                    .withDescription(description)
+                    .withRequester(requester)
+                    .withStatus(status)
+                    .withPriority(priority)
+                    .withAssignedUser(assignedUser)
+                    .withTags(tags)
+                    .withCreatedAt(createdAt)
+                    .withUpdatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
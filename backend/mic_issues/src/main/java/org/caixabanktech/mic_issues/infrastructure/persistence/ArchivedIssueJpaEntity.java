@@ -0,0 +1,61 @@
+package org.caixabanktech.mic_issues.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA Entity - Archived Issue
+ * Read-only view of issues_archive; rows are written in bulk by IssueArchiver
+ */
+@Entity
+@Table(name = "issues_archive")
+@Getter
+@NoArgsConstructor
+@Immutable
+public class ArchivedIssueJpaEntity {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(length = 100)
+    private String requester;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private IssueStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IssuePriority priority;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_user_id")
+    private UserJpaEntity assignedUser;
+
+    @ElementCollection
+    @CollectionTable(name = "issue_tags_archive", joinColumns = @JoinColumn(name = "issue_id"))
+    @Column(name = "tag")
+    private List<String> tags = new ArrayList<>();
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
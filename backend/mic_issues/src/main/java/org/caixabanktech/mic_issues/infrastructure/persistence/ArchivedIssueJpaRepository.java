@@ -0,0 +1,27 @@
+package org.caixabanktech.mic_issues.infrastructure.persistence;
+
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA Repository for archived issues
+ * Infrastructure implementation
+ */
+@Repository
+public interface ArchivedIssueJpaRepository extends JpaRepository<ArchivedIssueJpaEntity, Long> {
+
+    // Same fetch plan as IssueJpaRepository
+    @Override
+    @EntityGraph(attributePaths = {"assignedUser", "tags"})
+    List<ArchivedIssueJpaEntity> findAll();
+
+    @EntityGraph(attributePaths = {"assignedUser", "tags"})
+    List<ArchivedIssueJpaEntity> findByStatus(IssueStatus status);
+
+    @EntityGraph(attributePaths = {"assignedUser", "tags"})
+    List<ArchivedIssueJpaEntity> findByAssignedUserId(Long userId);
+}
@@ -1,9 +1,15 @@
 package org.caixabanktech.mic_issues.infrastructure.persistence;
 
 import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,7 +19,100 @@ import java.util.List;
 @Repository
 public interface IssueJpaRepository extends JpaRepository<IssueJpaEntity, Long> {
 
+    /**
+     * List queries fetch the assignee and tags in the same statement; the mapper reads both,
+     * so lazy loading them would cost two extra statements per issue
+     */
+    @Override
+    @EntityGraph(attributePaths = {"assignedUser", "tags"})
+    List<IssueJpaEntity> findAll();
+
+    @EntityGraph(attributePaths = {"assignedUser", "tags"})
     List<IssueJpaEntity> findByStatus(IssueStatus status);
 
+    @EntityGraph(attributePaths = {"assignedUser", "tags"})
     List<IssueJpaEntity> findByAssignedUserId(Long userId);
+
+    @EntityGraph(attributePaths = {"assignedUser", "tags"})
+    List<IssueJpaEntity> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Inbox pages select ids only, newest change first, walking idx_issues_assignee_inbox;
+     * the issues themselves are then loaded with findByIdIn
+     */
+    @Query("""
+            select i.id from IssueJpaEntity i
+            where i.assignedUser.id = :userId and i.status in :statuses
+            order by coalesce(i.updatedAt, i.createdAt) desc, i.id desc""")
+    List<Long> findInboxPage(@Param("userId") Long userId,
+                             @Param("statuses") Collection<IssueStatus> statuses,
+                             Limit limit);
+
+    @Query("""
+            select i.id from IssueJpaEntity i
+            where i.assignedUser.id = :userId and i.status in :statuses
+              and (coalesce(i.updatedAt, i.createdAt) < :changedAt
+                   or (coalesce(i.updatedAt, i.createdAt) = :changedAt and i.id < :id))
+            order by coalesce(i.updatedAt, i.createdAt) desc, i.id desc""")
+    List<Long> findInboxPageAfter(@Param("userId") Long userId,
+                                  @Param("statuses") Collection<IssueStatus> statuses,
+                                  @Param("changedAt") LocalDateTime changedAt,
+                                  @Param("id") Long id,
+                                  Limit limit);
+
+    /**
+     * Inbox pages across every status, walking idx_issues_assignee_recent; a status predicate
+     * would make the planner read the status-keyed inbox index and sort
+     */
+    @Query("""
+            select i.id from IssueJpaEntity i
+            where i.assignedUser.id = :userId
+            order by coalesce(i.updatedAt, i.createdAt) desc, i.id desc""")
+    List<Long> findInboxPage(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+            select i.id from IssueJpaEntity i
+            where i.assignedUser.id = :userId
+              and (coalesce(i.updatedAt, i.createdAt) < :changedAt
+                   or (coalesce(i.updatedAt, i.createdAt) = :changedAt and i.id < :id))
+            order by coalesce(i.updatedAt, i.createdAt) desc, i.id desc""")
+    List<Long> findInboxPageAfter(@Param("userId") Long userId,
+                                  @Param("changedAt") LocalDateTime changedAt,
+                                  @Param("id") Long id,
+                                  Limit limit);
+
+    /**
+     * The unassigned OPEN issue next up, locked for the rest of the transaction; rows other
+     * transactions hold are skipped rather than waited for. Walks idx_issues_waiting in order.
+     */
+    @Query(value = """
+            SELECT i.id FROM issues i
+            WHERE i.status = 'OPEN' AND i.assigned_user_id IS NULL
+            ORDER BY CASE i.priority WHEN 'URGENT' THEN 0 WHEN 'HIGH' THEN 1 WHEN 'NORMAL' THEN 2 ELSE 3 END,
+                     i.created_at, i.id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<Long> lockNextWaiting();
+
+    @Query(value = """
+            SELECT i.id FROM issues i
+            WHERE i.status = 'OPEN' AND i.assigned_user_id IS NULL
+              AND EXISTS (SELECT 1 FROM issue_tags t WHERE t.issue_id = i.id AND lower(t.tag) = lower(:tag))
+            ORDER BY CASE i.priority WHEN 'URGENT' THEN 0 WHEN 'HIGH' THEN 1 WHEN 'NORMAL' THEN 2 ELSE 3 END,
+                     i.created_at, i.id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<Long> lockNextWaitingTagged(@Param("tag") String tag);
+
+    @Query("""
+            select i.status as status, count(i) as count from IssueJpaEntity i
+            where i.assignedUser.id = :userId
+            group by i.status""")
+    List<StatusCount> countByStatusForAssignee(@Param("userId") Long userId);
+
+    interface StatusCount {
+        IssueStatus getStatus();
+
+        long getCount();
+    }
 }
@@ -0,0 +1,42 @@
+package org.caixabanktech.mic_issues.infrastructure.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
+import org.hibernate.SessionFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the local user cache coherent across nodes
+ * Hibernate invalidates the second-level cache for writes made on this node only; user
+ * changes relayed from other nodes evict the entity and the cached user queries here.
+ */
+@Slf4j
+@Component
+@Profile("!inmemory")
+public class UserCacheInvalidator {
+
+    private final SessionFactory sessionFactory;
+    private final EventRelay eventRelay;
+
+    public UserCacheInvalidator(EntityManagerFactory entityManagerFactory, EventRelay eventRelay) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.eventRelay = eventRelay;
+    }
+
+    @EventListener
+    public void onRelayedEvent(RelayedEvent event) {
+        if (event.topic() != RelayTopic.USERS || eventRelay.nodeId().equals(event.originNode())) {
+            return;
+        }
+        if (event.entityId() != null) {
+            sessionFactory.getCache().evictEntityData(UserJpaEntity.class, event.entityId());
+        }
+        sessionFactory.getCache().evictQueryRegion(UserJpaRepository.USER_QUERY_REGION);
+        log.debug("Evicted cached user {} after a change on node {}", event.entityId(), event.originNode());
+    }
+}
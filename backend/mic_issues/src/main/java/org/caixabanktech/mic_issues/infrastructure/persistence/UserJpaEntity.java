@@ -2,6 +2,8 @@ package org.caixabanktech.mic_issues.infrastructure.persistence;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -10,8 +12,11 @@ import java.util.Set;
 /**
  * JPA Entity - User
  * Infrastructure layer with JPA annotations for ORM mapping
+ * Cached in the "users" second-level region: loaded for nearly every issue operation, rarely changed
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "username"),
         @UniqueConstraint(columnNames = "email")
@@ -1,8 +1,12 @@
 package org.caixabanktech.mic_issues.infrastructure.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,12 +17,29 @@ import java.util.Optional;
 @Repository
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
 
+    /**
+     * Query cache region for user lookups; results are invalidated whenever the users table changes
+     */
+    String USER_QUERY_REGION = "user-queries";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USER_QUERY_REGION)
+    })
     Optional<UserJpaEntity> findByUsername(String username);
 
     Optional<UserJpaEntity> findByEmail(String email);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USER_QUERY_REGION)
+    })
     List<UserJpaEntity> findByDepartment(String department);
 
+    List<UserJpaEntity> findByUsernameIn(Collection<String> usernames);
+
+    List<UserJpaEntity> findByEmailIn(Collection<String> emails);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
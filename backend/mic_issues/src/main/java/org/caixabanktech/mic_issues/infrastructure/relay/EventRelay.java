@@ -0,0 +1,28 @@
+package org.caixabanktech.mic_issues.infrastructure.relay;
+
+/**
+ * Relay between the node where a domain event happens and the nodes that fan it out
+ * Implementations deliver every published message as a {@link RelayedEvent}
+ * to the local application context, in sequence order
+ */
+public interface EventRelay {
+
+    /**
+     * Publishes a message so that every node (including this one) broadcasts it
+     *
+     * @param topic    the relay topic
+     * @param entityId the id of the issue or user the message is about
+     * @param message  the WebSocket DTO to broadcast
+     */
+    void publish(RelayTopic topic, Long entityId, Object message);
+
+    /**
+     * @return the id of this node within the cluster
+     */
+    String nodeId();
+
+    /**
+     * @return the sequence of the last event delivered on this node
+     */
+    long lastDeliveredSequence();
+}
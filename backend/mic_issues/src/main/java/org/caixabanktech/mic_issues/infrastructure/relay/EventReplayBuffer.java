@@ -0,0 +1,123 @@
+package org.caixabanktech.mic_issues.infrastructure.relay;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Ring buffer of the most recent relayed events
+ * Lets stream clients resume after a known sequence without missing or repeating events
+ */
+@Component
+public class EventReplayBuffer {
+
+    private final EventRelay eventRelay;
+    private final RelayedEvent[] ring;
+    private final List<Consumer<RelayedEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private int next;
+    private int size;
+    private long evictedSequence = -1;
+
+    public EventReplayBuffer(EventRelay eventRelay, RelayProperties properties) {
+        this.eventRelay = eventRelay;
+        this.ring = new RelayedEvent[properties.replayCapacity()];
+    }
+
+    /**
+     * Stores the event and hands it to every live subscriber
+     * Subscribers are called under the buffer lock and must not block
+     */
+    @EventListener
+    public synchronized void onRelayedEvent(RelayedEvent event) {
+        RelayedEvent evicted = ring[next];
+        if (evicted != null) {
+            evictedSequence = evicted.sequence();
+        }
+        ring[next] = event;
+        next = (next + 1) % ring.length;
+        size = Math.min(size + 1, ring.length);
+
+        for (Consumer<RelayedEvent> subscriber : subscribers) {
+            subscriber.accept(event);
+        }
+    }
+
+    /**
+     * Returns the buffered events after the given sequence
+     *
+     * A sequence this node has not reached yet was handed out before a restart (or by a node
+     * whose counter is ahead); nothing after it can be told apart, so the replay is incomplete too.
+     *
+     * @param afterSequence last sequence the caller has already seen
+     * @return the events after it, flagged incomplete when some were already evicted
+     *         or the sequence is ahead of this node
+     */
+    public synchronized Replay since(long afterSequence) {
+        List<RelayedEvent> events = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            RelayedEvent event = ring[(next - size + i + ring.length) % ring.length];
+            if (event.sequence() > afterSequence) {
+                events.add(event);
+            }
+        }
+        long latest = latestSequence();
+        return new Replay(afterSequence >= floor() && afterSequence <= latest, events, latest);
+    }
+
+    /**
+     * Atomically replays the events after the given sequence and subscribes to the next ones,
+     * so nothing is published between the replay and the first live event
+     *
+     * @param afterSequence last sequence the caller has already seen
+     * @param subscriber    receives every event published after this call, must not block
+     * @return the replay, plus a handle to cancel the subscription
+     */
+    public synchronized Subscription subscribe(long afterSequence, Consumer<RelayedEvent> subscriber) {
+        Replay replay = since(afterSequence);
+        subscribers.add(subscriber);
+        return new Subscription(replay, () -> subscribers.remove(subscriber));
+    }
+
+    /**
+     * @return the sequence of the latest event seen by this node
+     */
+    public synchronized long latestSequence() {
+        if (size == 0) {
+            return eventRelay.lastDeliveredSequence();
+        }
+        return ring[(next - 1 + ring.length) % ring.length].sequence();
+    }
+
+    /**
+     * Resuming after this sequence is gap-free
+     * Before the first event, that is anything this node has already delivered
+     */
+    private long floor() {
+        if (evictedSequence >= 0) {
+            return evictedSequence;
+        }
+        if (size == 0) {
+            return eventRelay.lastDeliveredSequence();
+        }
+        return ring[(next - size + ring.length) % ring.length].sequence() - 1;
+    }
+
+    /**
+     * @param complete       whether the events cover everything after the requested sequence
+     * @param events         the buffered events in sequence order
+     * @param latestSequence the latest sequence when the replay was taken; live events follow it
+     */
+    public record Replay(boolean complete, List<RelayedEvent> events, long latestSequence) {
+    }
+
+    /**
+     * @param replay the events published before the subscription
+     * @param cancel stops delivering live events to the subscriber
+     */
+    public record Subscription(Replay replay, Runnable cancel) {
+    }
+}
@@ -0,0 +1,49 @@
+package org.caixabanktech.mic_issues.infrastructure.relay;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Single-node relay
+ * Delivers messages straight to local listeners with an in-process sequence, seeded from the
+ * start time so that a client resuming after a restart is told to bootstrap again
+ */
+@Component
+@ConditionalOnProperty(prefix = "worksync.relay", name = "mode", havingValue = "local", matchIfMissing = true)
+public class LocalEventRelay implements EventRelay {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private long sequence;
+
+    public LocalEventRelay(ApplicationEventPublisher eventPublisher, RelayProperties properties) {
+        this.eventPublisher = eventPublisher;
+        this.nodeId = properties.nodeId();
+        // Resumes from before a restart must not land inside the new run's sequence range:
+        // starting from the clock keeps every run above the previous one
+        this.sequence = Math.multiplyExact(Instant.now().toEpochMilli(), 1_000L);
+    }
+
+    /**
+     * Assigning the sequence and dispatching under the same lock keeps
+     * local delivery in sequence order when several requests publish at once
+     */
+    @Override
+    public synchronized void publish(RelayTopic topic, Long entityId, Object message) {
+        sequence++;
+        eventPublisher.publishEvent(new RelayedEvent(sequence, nodeId, topic, entityId, message, Instant.now()));
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public synchronized long lastDeliveredSequence() {
+        return sequence;
+    }
+}
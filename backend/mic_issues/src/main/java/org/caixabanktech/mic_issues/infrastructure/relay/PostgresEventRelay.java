@@ -0,0 +1,290 @@
+package org.caixabanktech.mic_issues.infrastructure.relay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.regex.Pattern;
+
+/**
+ * Multi-node relay backed by the PostgreSQL instance the service already uses
+ *
+ * Publishing appends the message to the relay_events table (migration V2) and sends a NOTIFY in the
+ * same transaction, a new one started after the business transaction has committed. Every node (the origin included) LISTENs on the channel and reads
+ * new rows in id order, so all nodes fan out the same events in the same order.
+ *
+ * - Ordering: inserts are serialized with a transaction-scoped advisory lock, so ids
+ *   become visible in increasing order and the read cursor never skips a late commit
+ * - De-duplication: rows at or below the cursor are never delivered twice, including
+ *   the re-read that follows a listener reconnect
+ * - Lag: published_at is stamped by the origin node and compared on delivery
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "worksync.relay", name = "mode", havingValue = "postgres")
+public class PostgresEventRelay implements EventRelay, SmartLifecycle {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO relay_events (origin_node, topic, entity_id, payload, published_at)
+            VALUES (?, ?, ?, ?, ?)
+            RETURNING id""";
+    private static final String SELECT_PENDING = """
+            SELECT id, origin_node, topic, entity_id, payload, published_at
+            FROM relay_events
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RelayProperties properties;
+
+    private final Counter publishedCounter;
+    private final Counter deliveredLocalCounter;
+    private final Counter deliveredRemoteCounter;
+    private final Counter duplicateCounter;
+    private final Counter reconnectCounter;
+    private final Timer lagTimer;
+
+    private volatile long cursor;
+    private volatile boolean running;
+    private Thread listenerThread;
+    private volatile Connection listenerConnection;
+
+    public PostgresEventRelay(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              DataSourceProperties dataSourceProperties,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry,
+                              RelayProperties properties) {
+        if (!CHANNEL_NAME.matcher(properties.channel()).matches()) {
+            throw new IllegalArgumentException("Invalid relay channel name: " + properties.channel());
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Publishing runs after the business transaction commits, whose connection is still bound
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+
+        this.publishedCounter = meterRegistry.counter("worksync.relay.published");
+        this.deliveredLocalCounter = meterRegistry.counter("worksync.relay.delivered", "origin", "local");
+        this.deliveredRemoteCounter = meterRegistry.counter("worksync.relay.delivered", "origin", "remote");
+        this.duplicateCounter = meterRegistry.counter("worksync.relay.duplicates");
+        this.reconnectCounter = meterRegistry.counter("worksync.relay.reconnects");
+        this.lagTimer = Timer.builder("worksync.relay.lag")
+                .description("Time between publication on the origin node and delivery on this node")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("worksync.relay.cursor", this, relay -> relay.cursor)
+                .description("Sequence of the last event delivered on this node")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(RelayTopic topic, Long entityId, Object message) {
+        String payload = serialize(message);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext(?))", rs -> null, properties.channel());
+            Long id = jdbcTemplate.queryForObject(INSERT_EVENT, Long.class,
+                    properties.nodeId(), topic.getKey(), entityId, payload, Timestamp.from(Instant.now()));
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, properties.channel(), String.valueOf(id));
+        });
+        publishedCounter.increment();
+    }
+
+    @Override
+    public String nodeId() {
+        return properties.nodeId();
+    }
+
+    @Override
+    public long lastDeliveredSequence() {
+        return cursor;
+    }
+
+    @Override
+    public void start() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM relay_events", Long.class);
+        cursor = maxId != null ? maxId : 0L;
+
+        running = true;
+        listenerThread = new Thread(this::listen, "relay-listener-" + properties.nodeId());
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("PostgreSQL event relay started on node {} (channel {}, cursor {})",
+                properties.nodeId(), properties.channel(), cursor);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(listenerConnection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Removes rows older than the retention window
+     * Any node may run it, the delete is idempotent
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void purgeExpired() {
+        Timestamp threshold = Timestamp.from(Instant.now().minus(properties.retention()));
+        int deleted = jdbcTemplate.update("DELETE FROM relay_events WHERE published_at < ?", threshold);
+        if (deleted > 0) {
+            log.debug("Purged {} relay events older than {}", deleted, threshold);
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = openListenerConnection()) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.channel());
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                // Catch up on anything committed while we were not listening
+                deliverPending(connection);
+                while (running) {
+                    // Wakes up on NOTIFY, or after the poll interval as a safety net
+                    pgConnection.getNotifications((int) properties.pollInterval().toMillis());
+                    deliverPending(connection);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                reconnectCounter.increment();
+                log.warn("Relay listener connection lost, reconnecting in {}: {}",
+                        properties.reconnectDelay(), e.getMessage());
+                sleep(properties.reconnectDelay());
+            }
+        }
+    }
+
+    private Connection openListenerConnection() throws SQLException {
+        // Dedicated connection, so LISTEN never pins one of the pool's connections
+        return DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+    }
+
+    private void deliverPending(Connection connection) throws SQLException {
+        int read;
+        do {
+            read = 0;
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_PENDING)) {
+                statement.setLong(1, cursor);
+                statement.setInt(2, properties.batchSize());
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        read++;
+                        deliver(rs);
+                    }
+                }
+            }
+        } while (read == properties.batchSize() && running);
+    }
+
+    private void deliver(ResultSet rs) throws SQLException {
+        long id = rs.getLong("id");
+        if (id <= cursor) {
+            duplicateCounter.increment();
+            return;
+        }
+
+        String originNode = rs.getString("origin_node");
+        Instant publishedAt = rs.getTimestamp("published_at").toInstant();
+        long entityIdValue = rs.getLong("entity_id");
+        Long entityId = rs.wasNull() ? null : entityIdValue;
+
+        try {
+            RelayTopic topic = RelayTopic.fromKey(rs.getString("topic"));
+            Object message = objectMapper.readValue(rs.getString("payload"), topic.getPayloadType());
+            eventPublisher.publishEvent(new RelayedEvent(id, originNode, topic, entityId, message, publishedAt));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("Skipping unreadable relay event {} from node {}: {}", id, originNode, e.getMessage());
+        } catch (RuntimeException e) {
+            // A failing local listener must not stall the relay for every other event
+            log.error("Local delivery of relay event {} failed", id, e);
+        }
+
+        cursor = id;
+        if (properties.nodeId().equals(originNode)) {
+            deliveredLocalCounter.increment();
+        } else {
+            deliveredRemoteCounter.increment();
+        }
+        Duration lag = Duration.between(publishedAt, Instant.now());
+        lagTimer.record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    private String serialize(Object message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize relay message " + message.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Error closing relay listener connection: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.caixabanktech.mic_issues.infrastructure.relay;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Configuration for the cross-node event relay
+ *
+ * @param mode            LOCAL for a single node, POSTGRES to fan out through LISTEN/NOTIFY
+ * @param nodeId          id of this node, defaults to a random value per process
+ * @param channel         PostgreSQL notification channel
+ * @param pollInterval    max time the listener waits for a notification before re-reading the table
+ * @param batchSize       max relay rows read per poll
+ * @param retention       how long relayed rows are kept for late or reconnecting nodes
+ * @param reconnectDelay  delay before re-opening the listener connection after a failure
+ * @param replayCapacity  number of recent events kept in memory for clients resuming a stream
+ */
+@ConfigurationProperties(prefix = "worksync.relay")
+public record RelayProperties(
+        Mode mode,
+        String nodeId,
+        String channel,
+        Duration pollInterval,
+        Integer batchSize,
+        Duration retention,
+        Duration reconnectDelay,
+        Integer replayCapacity
+) {
+    public RelayProperties {
+        mode = mode != null ? mode : Mode.LOCAL;
+        nodeId = nodeId != null && !nodeId.isBlank() ? nodeId : UUID.randomUUID().toString().substring(0, 8);
+        channel = channel != null ? channel : "worksync_events";
+        pollInterval = pollInterval != null ? pollInterval : Duration.ofSeconds(1);
+        batchSize = batchSize != null ? batchSize : 500;
+        retention = retention != null ? retention : Duration.ofMinutes(15);
+        reconnectDelay = reconnectDelay != null ? reconnectDelay : Duration.ofSeconds(2);
+        replayCapacity = replayCapacity != null ? replayCapacity : 10_000;
+    }
+
+    public enum Mode {
+        LOCAL,
+        POSTGRES
+    }
+}
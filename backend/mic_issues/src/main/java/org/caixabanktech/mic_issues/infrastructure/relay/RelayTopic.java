@@ -0,0 +1,46 @@
+package org.caixabanktech.mic_issues.infrastructure.relay;
+
+import org.caixabanktech.mic_issues.infrastructure.websocket.dto.IssueEventMessage;
+import org.caixabanktech.mic_issues.infrastructure.websocket.dto.UserEventMessage;
+
+import java.util.Arrays;
+
+/**
+ * Topics carried by the event relay
+ * Each topic knows its STOMP destination prefix and payload type
+ */
+public enum RelayTopic {
+    ISSUES("issues", IssueEventMessage.class),
+    USERS("users", UserEventMessage.class);
+
+    private final String key;
+    private final Class<?> payloadType;
+
+    RelayTopic(String key, Class<?> payloadType) {
+        this.key = key;
+        this.payloadType = payloadType;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Class<?> getPayloadType() {
+        return payloadType;
+    }
+
+    public String destination() {
+        return "/topic/" + key;
+    }
+
+    public String destination(Long entityId) {
+        return destination() + "/" + entityId;
+    }
+
+    public static RelayTopic fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(topic -> topic.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown relay topic: " + key));
+    }
+}
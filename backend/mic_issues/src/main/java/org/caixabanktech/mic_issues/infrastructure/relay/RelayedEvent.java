@@ -0,0 +1,24 @@
+package org.caixabanktech.mic_issues.infrastructure.relay;
+
+import java.time.Instant;
+
+/**
+ * Event delivered by the relay to local listeners
+ * Carries the cluster-wide sequence so every node fans events out in the same order
+ *
+ * @param sequence    monotonically increasing sequence assigned by the relay
+ * @param originNode  id of the node where the domain event happened
+ * @param topic       relay topic the message belongs to
+ * @param entityId    id of the issue or user the message is about
+ * @param message     the WebSocket DTO to broadcast
+ * @param publishedAt when the origin node handed the message to the relay
+ */
+public record RelayedEvent(
+        long sequence,
+        String originNode,
+        RelayTopic topic,
+        Long entityId,
+        Object message,
+        Instant publishedAt
+) {
+}
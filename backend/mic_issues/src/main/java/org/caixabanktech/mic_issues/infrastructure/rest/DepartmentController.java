@@ -0,0 +1,26 @@
+package org.caixabanktech.mic_issues.infrastructure.rest;
+
+import org.caixabanktech.mic_issues.application.usecases.GetDepartmentSummaryUseCase;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.DepartmentSummaryResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for departments
+ * Workload summaries served from the in-memory department rollup
+ */
+@RestController
+@RequestMapping("/api/departments")
+public class DepartmentController {
+
+    private final GetDepartmentSummaryUseCase getDepartmentSummaryUseCase;
+
+    public DepartmentController(GetDepartmentSummaryUseCase getDepartmentSummaryUseCase) {
+        this.getDepartmentSummaryUseCase = getDepartmentSummaryUseCase;
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<DepartmentSummaryResponse> getSummary() {
+        return ResponseEntity.ok(DepartmentSummaryResponse.from(getDepartmentSummaryUseCase.execute()));
+    }
+}
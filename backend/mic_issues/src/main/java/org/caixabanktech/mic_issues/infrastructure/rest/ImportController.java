@@ -0,0 +1,60 @@
+package org.caixabanktech.mic_issues.infrastructure.rest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.caixabanktech.mic_issues.infrastructure.importer.ImportService;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+
+/**
+ * REST Controller for bulk imports
+ * The request body is the raw CSV (with a header row) or NDJSON upload; the response is an
+ * NDJSON stream of progress lines, see ImportProgressResponse
+ */
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+    private final ImportService importService;
+
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * Fields: title, description, requester, priority, tags (';'-separated in CSV) and assignee (a username)
+     */
+    @PostMapping(value = "/issues", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ResponseBodyEmitter> importIssues(HttpServletRequest request) throws IOException {
+        ResponseBodyEmitter emitter = importService.importIssues(
+                MediaType.parseMediaType(request.getContentType()), request.getInputStream());
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+    }
+
+    /**
+     * Fields: username, password, name, email, phone, address and department
+     */
+    @PostMapping(value = "/users", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ResponseBodyEmitter> importUsers(HttpServletRequest request) throws IOException {
+        ResponseBodyEmitter emitter = importService.importUsers(
+                MediaType.parseMediaType(request.getContentType()), request.getInputStream());
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(ImportService.ImportCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyImports(ImportService.ImportCapacityExceededException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+}
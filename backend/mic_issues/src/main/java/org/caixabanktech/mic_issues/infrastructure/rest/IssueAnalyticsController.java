@@ -0,0 +1,58 @@
+package org.caixabanktech.mic_issues.infrastructure.rest;
+
+import org.caixabanktech.mic_issues.application.usecases.GetStatusTransitionsUseCase;
+import org.caixabanktech.mic_issues.application.usecases.GetTimeInStatusUseCase;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.ErrorResponse;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.StatusTransitionsResponse;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.TimeInStatusResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * REST Controller for issue status analytics
+ * Reports over the status history; from/to are ISO date-times, defaulting to the last 7 days
+ */
+@RestController
+@RequestMapping("/api/issues/analytics")
+public class IssueAnalyticsController {
+
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(7);
+
+    private final GetTimeInStatusUseCase getTimeInStatusUseCase;
+    private final GetStatusTransitionsUseCase getStatusTransitionsUseCase;
+
+    public IssueAnalyticsController(GetTimeInStatusUseCase getTimeInStatusUseCase,
+                                    GetStatusTransitionsUseCase getStatusTransitionsUseCase) {
+        this.getTimeInStatusUseCase = getTimeInStatusUseCase;
+        this.getStatusTransitionsUseCase = getStatusTransitionsUseCase;
+    }
+
+    @GetMapping("/time-in-status")
+    public ResponseEntity<TimeInStatusResponse> timeInStatus(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minus(DEFAULT_RANGE);
+        return ResponseEntity.ok(TimeInStatusResponse.from(start, end, getTimeInStatusUseCase.execute(start, end)));
+    }
+
+    @GetMapping("/transitions")
+    public ResponseEntity<StatusTransitionsResponse> transitions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minus(DEFAULT_RANGE);
+        return ResponseEntity.ok(StatusTransitionsResponse.from(start, end, getStatusTransitionsUseCase.execute(start, end)));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+}
@@ -2,12 +2,16 @@ package org.caixabanktech.mic_issues.infrastructure.rest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.caixabanktech.mic_issues.application.usecases.AssignIssueUseCase;
+import org.caixabanktech.mic_issues.application.usecases.AutoAssignIssueUseCase;
 import org.caixabanktech.mic_issues.application.usecases.CreateIssueUseCase;
+import org.caixabanktech.mic_issues.application.usecases.FindSimilarIssuesUseCase;
 import org.caixabanktech.mic_issues.application.usecases.GetIssueByIdUseCase;
+import org.caixabanktech.mic_issues.application.usecases.GetIssueStatusHistoryUseCase;
 import org.caixabanktech.mic_issues.application.usecases.GetUserByIdUseCase;
 import org.caixabanktech.mic_issues.application.usecases.ListIssuesUseCase;
 import org.caixabanktech.mic_issues.application.usecases.UnassignIssueUseCase;
 import org.caixabanktech.mic_issues.application.usecases.UpdateIssueStatusUseCase;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueScope;
 import org.caixabanktech.mic_issues.domain.IssueStatus;
 import org.caixabanktech.mic_issues.domain.entities.Issue;
 import org.caixabanktech.mic_issues.infrastructure.rest.dto.*;
@@ -32,19 +36,28 @@ public class IssueController {
     private final UnassignIssueUseCase unassignIssueUseCase;
     private final ListIssuesUseCase listIssuesUseCase;
     private final UpdateIssueStatusUseCase updateIssueStatusUseCase;
+    private final GetIssueStatusHistoryUseCase getIssueStatusHistoryUseCase;
+    private final AutoAssignIssueUseCase autoAssignIssueUseCase;
+    private final FindSimilarIssuesUseCase findSimilarIssuesUseCase;
 
     public IssueController(CreateIssueUseCase createIssueUseCase,
                           GetIssueByIdUseCase getIssueByIdUseCase,
                           AssignIssueUseCase assignIssueUseCase,
                           UnassignIssueUseCase unassignIssueUseCase,
                           ListIssuesUseCase listIssuesUseCase,
-                          UpdateIssueStatusUseCase updateIssueStatusUseCase) {
+                          UpdateIssueStatusUseCase updateIssueStatusUseCase,
+                          GetIssueStatusHistoryUseCase getIssueStatusHistoryUseCase,
+                          AutoAssignIssueUseCase autoAssignIssueUseCase,
+                          FindSimilarIssuesUseCase findSimilarIssuesUseCase) {
         this.createIssueUseCase = createIssueUseCase;
         this.getIssueByIdUseCase = getIssueByIdUseCase;
         this.assignIssueUseCase = assignIssueUseCase;
         this.unassignIssueUseCase = unassignIssueUseCase;
         this.listIssuesUseCase = listIssuesUseCase;
         this.updateIssueStatusUseCase = updateIssueStatusUseCase;
+        this.getIssueStatusHistoryUseCase = getIssueStatusHistoryUseCase;
+        this.autoAssignIssueUseCase = autoAssignIssueUseCase;
+        this.findSimilarIssuesUseCase = findSimilarIssuesUseCase;
     }
 
     @PostMapping
@@ -55,14 +68,19 @@ public class IssueController {
                 request.requester(),
                 request.priority(),
                 request.tags(),
-                request.assignedUserId()
+                request.assignedUserId(),
+                request.autoAssign()
+                        ? new CreateIssueUseCase.AutoAssign(request.assignDepartment(), request.assignSkill())
+                        : null,
+                request.checkDuplicates()
         );
         return ResponseEntity.status(HttpStatus.CREATED).body(IssueResponse.from(issue));
     }
 
     @GetMapping
-    public ResponseEntity<List<IssueResponse>> listIssues() {
-        List<Issue> issues = listIssuesUseCase.execute();
+    public ResponseEntity<List<IssueResponse>> listIssues(
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Issue> issues = listIssuesUseCase.execute(includeArchived ? IssueScope.ALL : IssueScope.HOT);
         List<IssueResponse> response = issues.stream()
                 .map(IssueResponse::from)
                 .toList();
@@ -70,11 +88,30 @@ public class IssueController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<IssueResponse> getIssueById(@PathVariable Long id) {
-        Issue issue = getIssueByIdUseCase.execute(id);
+    public ResponseEntity<IssueResponse> getIssueById(@PathVariable Long id,
+                                                      @RequestParam(defaultValue = "false") boolean includeArchived) {
+        Issue issue = getIssueByIdUseCase.execute(id, includeArchived ? IssueScope.ALL : IssueScope.HOT);
         return ResponseEntity.ok(IssueResponse.from(issue));
     }
 
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<StatusTransitionResponse>> getStatusHistory(@PathVariable Long id) {
+        List<StatusTransitionResponse> response = getIssueStatusHistoryUseCase.execute(id).stream()
+                .map(StatusTransitionResponse::from)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarIssueResponse>> getSimilarIssues(@PathVariable Long id,
+                                                                       @RequestParam(required = false) Double minSimilarity,
+                                                                       @RequestParam(required = false) Integer limit) {
+        List<SimilarIssueResponse> response = findSimilarIssuesUseCase.execute(id, minSimilarity, limit).stream()
+                .map(SimilarIssueResponse::from)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}/assign")
     public ResponseEntity<IssueResponse> assignIssue(@PathVariable Long id,
                                                      @RequestBody AssignIssueRequest request) {
@@ -82,6 +119,15 @@ public class IssueController {
         return ResponseEntity.ok(IssueResponse.from(issue));
     }
 
+    @PostMapping("/{id}/auto-assign")
+    public ResponseEntity<IssueResponse> autoAssignIssue(@PathVariable Long id,
+                                                         @RequestBody(required = false) AutoAssignRequest request) {
+        Issue issue = request != null
+                ? autoAssignIssueUseCase.execute(id, request.department(), request.skill())
+                : autoAssignIssueUseCase.execute(id, null, null);
+        return ResponseEntity.ok(IssueResponse.from(issue));
+    }
+
     @PutMapping("/{id}/unassign")
     public ResponseEntity<IssueResponse> unassignIssue(@PathVariable Long id,
                                                        @RequestBody(required = false) UnassignIssueRequest request) {
@@ -110,6 +156,18 @@ public class IssueController {
                 .body(new ErrorResponse(ex.getMessage()));
     }
 
+    @ExceptionHandler(AutoAssignIssueUseCase.NoEligibleAssigneeException.class)
+    public ResponseEntity<ErrorResponse> handleNoEligibleAssignee(AutoAssignIssueUseCase.NoEligibleAssigneeException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(CreateIssueUseCase.PossibleDuplicateException.class)
+    public ResponseEntity<PossibleDuplicateResponse> handlePossibleDuplicate(CreateIssueUseCase.PossibleDuplicateException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(PossibleDuplicateResponse.from(ex));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
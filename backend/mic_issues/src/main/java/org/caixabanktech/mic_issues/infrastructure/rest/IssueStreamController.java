@@ -0,0 +1,110 @@
+package org.caixabanktech.mic_issues.infrastructure.rest;
+
+import org.caixabanktech.mic_issues.application.usecases.ListIssuesUseCase;
+import org.caixabanktech.mic_issues.infrastructure.datasource.ReadYourWrites;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventReplayBuffer;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.ErrorResponse;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.IssueEventsResponse;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.IssueResponse;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.IssueSnapshotResponse;
+import org.caixabanktech.mic_issues.infrastructure.sse.IssueStreamFilter;
+import org.caixabanktech.mic_issues.infrastructure.sse.IssueStreamService;
+import org.caixabanktech.mic_issues.infrastructure.websocket.dto.IssueEventMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * REST Controller for real-time issue synchronization
+ * Snapshot-plus-subscribe bootstrap, catch-up and the Server-Sent Events stream
+ */
+@RestController
+@RequestMapping("/api/issues")
+public class IssueStreamController {
+
+    private final IssueStreamService issueStreamService;
+    private final EventReplayBuffer replayBuffer;
+    private final ListIssuesUseCase listIssuesUseCase;
+
+    public IssueStreamController(IssueStreamService issueStreamService,
+                                 EventReplayBuffer replayBuffer,
+                                 ListIssuesUseCase listIssuesUseCase) {
+        this.issueStreamService = issueStreamService;
+        this.replayBuffer = replayBuffer;
+        this.listIssuesUseCase = listIssuesUseCase;
+    }
+
+    /**
+     * Returns every issue tagged with the event sequence it reflects
+     *
+     * Clients subscribe to /topic/issues first, buffering frames, then load the snapshot
+     * and apply only the frames whose event-sequence header is above the watermark.
+     * The watermark is read before the issues, so an event at or below it has already
+     * been saved when the snapshot is taken; events above it carry the full issue state
+     * and are safe to apply even if the snapshot already shows them.
+     * The snapshot is read from the primary: a lagging replica could miss events below the watermark.
+     */
+    @GetMapping("/bootstrap")
+    public ResponseEntity<IssueSnapshotResponse> bootstrap() {
+        long watermark = replayBuffer.latestSequence();
+        List<IssueResponse> issues = ReadYourWrites.onPrimary(listIssuesUseCase::execute)
+                .stream()
+                .map(IssueResponse::from)
+                .toList();
+        return ResponseEntity.ok(new IssueSnapshotResponse(watermark, issues));
+    }
+
+    /**
+     * Returns the issue events published after a sequence, to fill the gap left by a
+     * late subscription or a dropped connection
+     * Answers 410 Gone when some of them are no longer buffered, or the sequence is from before a
+     * restart; the client must bootstrap again
+     */
+    @GetMapping("/events")
+    public ResponseEntity<?> eventsAfter(@RequestParam long after) {
+        EventReplayBuffer.Replay replay = replayBuffer.since(after);
+        if (!replay.complete()) {
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(new ErrorResponse("Events after " + after + " are no longer available, bootstrap again"));
+        }
+
+        List<IssueEventsResponse.SequencedIssueEvent> events = replay.events()
+                .stream()
+                .filter(event -> event.topic() == RelayTopic.ISSUES)
+                .map(event -> new IssueEventsResponse.SequencedIssueEvent(
+                        event.sequence(), (IssueEventMessage) event.message()))
+                .toList();
+        long watermark = replay.events().isEmpty() ? after : replay.events().getLast().sequence();
+        return ResponseEntity.ok(new IssueEventsResponse(watermark, events));
+    }
+
+    /**
+     * Streams issue events as they happen
+     * Each event id is the relay sequence; reconnecting with Last-Event-ID (or the
+     * lastEventId parameter, for clients that can't set headers) resumes after it.
+     * Passing the bootstrap watermark as lastEventId gives the same gap-free start as STOMP
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIssues(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @RequestParam(required = false) Long lastEventId,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) List<String> priority,
+            @RequestParam(required = false) List<String> eventType,
+            @RequestParam(required = false) List<String> tag,
+            @RequestParam(required = false) Long assignedUserId) {
+        IssueStreamFilter filter = IssueStreamFilter.of(status, priority, eventType, tag, assignedUserId);
+        return issueStreamService.open(lastEventIdHeader != null ? lastEventIdHeader : lastEventId, filter);
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyStreams(IllegalStateException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+}
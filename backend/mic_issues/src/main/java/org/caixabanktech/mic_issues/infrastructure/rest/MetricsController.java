@@ -0,0 +1,67 @@
+package org.caixabanktech.mic_issues.infrastructure.rest;
+
+import org.caixabanktech.mic_issues.application.usecases.GetIssueActivityUseCase;
+import org.caixabanktech.mic_issues.application.usecases.GetSlaReportUseCase;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.Granularity;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.ErrorResponse;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.IssueTimeseriesResponse;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.SlaReportResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * REST Controller for operational issue metrics
+ * Served from in-memory aggregates kept up to date by issue events
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    // Buckets returned when from is omitted
+    private static final int DEFAULT_BUCKETS = 60;
+
+    private final GetSlaReportUseCase getSlaReportUseCase;
+    private final GetIssueActivityUseCase getIssueActivityUseCase;
+
+    public MetricsController(GetSlaReportUseCase getSlaReportUseCase,
+                             GetIssueActivityUseCase getIssueActivityUseCase) {
+        this.getSlaReportUseCase = getSlaReportUseCase;
+        this.getIssueActivityUseCase = getIssueActivityUseCase;
+    }
+
+    @GetMapping("/sla")
+    public ResponseEntity<SlaReportResponse> sla() {
+        return ResponseEntity.ok(SlaReportResponse.from(getSlaReportUseCase.execute()));
+    }
+
+    /**
+     * Issues created and resolved per MINUTE, HOUR or DAY; from/to are ISO date-times,
+     * to defaulting to now and from to DEFAULT_BUCKETS buckets earlier. MINUTE counts cover this node only
+     */
+    @GetMapping("/issues/timeseries")
+    public ResponseEntity<IssueTimeseriesResponse> issueTimeseries(
+            @RequestParam(defaultValue = "HOUR") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        Granularity step = Granularity.valueOf(granularity.strip().toUpperCase(Locale.ROOT));
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minus(step.length().multipliedBy(DEFAULT_BUCKETS));
+        return ResponseEntity.ok(IssueTimeseriesResponse.from(step, start, end,
+                getIssueActivityUseCase.execute(step, start, end)));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+}
@@ -0,0 +1,47 @@
+package org.caixabanktech.mic_issues.infrastructure.rest;
+
+import org.caixabanktech.mic_issues.application.usecases.ClaimNextIssueUseCase;
+import org.caixabanktech.mic_issues.application.usecases.GetUserByIdUseCase;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.ClaimNextIssueRequest;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.ErrorResponse;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.IssueResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for the work queue
+ * Agents pull the next issue instead of racing for it on the dashboard list
+ */
+@RestController
+@RequestMapping("/api/queue")
+public class QueueController {
+
+    private final ClaimNextIssueUseCase claimNextIssueUseCase;
+
+    public QueueController(ClaimNextIssueUseCase claimNextIssueUseCase) {
+        this.claimNextIssueUseCase = claimNextIssueUseCase;
+    }
+
+    /**
+     * 200 with the claimed issue, or 204 when nothing is waiting
+     */
+    @PostMapping("/next")
+    public ResponseEntity<IssueResponse> claimNext(@RequestBody ClaimNextIssueRequest request) {
+        return claimNextIssueUseCase.execute(request.userId(), request.tag())
+                .map(issue -> ResponseEntity.ok(IssueResponse.from(issue)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @ExceptionHandler(GetUserByIdUseCase.UserNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFound(GetUserByIdUseCase.UserNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+}
@@ -0,0 +1,40 @@
+package org.caixabanktech.mic_issues.infrastructure.rest;
+
+import org.caixabanktech.mic_issues.application.usecases.SuggestTagsUseCase;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.ErrorResponse;
+import org.caixabanktech.mic_issues.infrastructure.rest.dto.TagUsageResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for issue tags
+ * Autocompletion served from the in-memory tag index
+ */
+@RestController
+@RequestMapping("/api/tags")
+public class TagController {
+
+    private final SuggestTagsUseCase suggestTagsUseCase;
+
+    public TagController(SuggestTagsUseCase suggestTagsUseCase) {
+        this.suggestTagsUseCase = suggestTagsUseCase;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TagUsageResponse>> suggestTags(@RequestParam(required = false) String prefix,
+                                                              @RequestParam(required = false) Integer limit) {
+        List<TagUsageResponse> response = suggestTagsUseCase.execute(prefix, limit).stream()
+                .map(TagUsageResponse::from)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+}
@@ -2,6 +2,8 @@ package org.caixabanktech.mic_issues.infrastructure.rest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.caixabanktech.mic_issues.application.usecases.*;
+import org.caixabanktech.mic_issues.application.usecases.ports.UserDirectory;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
 import org.caixabanktech.mic_issues.domain.entities.User;
 import org.caixabanktech.mic_issues.infrastructure.rest.dto.*;
 import org.springframework.http.HttpStatus;
@@ -24,17 +26,23 @@ public class UserController {
     private final UpdateUserUseCase updateUserUseCase;
     private final DeleteUserUseCase deleteUserUseCase;
     private final ListUsersUseCase listUsersUseCase;
+    private final ListUserIssuesUseCase listUserIssuesUseCase;
+    private final SearchUsersUseCase searchUsersUseCase;
 
     public UserController(CreateUserUseCase createUserUseCase,
                          GetUserByIdUseCase getUserByIdUseCase,
                          UpdateUserUseCase updateUserUseCase,
                          DeleteUserUseCase deleteUserUseCase,
-                         ListUsersUseCase listUsersUseCase) {
+                         ListUsersUseCase listUsersUseCase,
+                         ListUserIssuesUseCase listUserIssuesUseCase,
+                         SearchUsersUseCase searchUsersUseCase) {
         this.createUserUseCase = createUserUseCase;
         this.getUserByIdUseCase = getUserByIdUseCase;
         this.updateUserUseCase = updateUserUseCase;
         this.deleteUserUseCase = deleteUserUseCase;
         this.listUsersUseCase = listUsersUseCase;
+        this.listUserIssuesUseCase = listUserIssuesUseCase;
+        this.searchUsersUseCase = searchUsersUseCase;
     }
 
     @PostMapping
@@ -68,6 +76,38 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Users matching every term of q in their username, name, email or department, best matches first
+     * Pass the nextOffset of a page as offset to get the following one
+     */
+    @GetMapping("/search")
+    public ResponseEntity<UserSearchResponse> searchUsers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) Integer limit) {
+        UserDirectory.SearchPage page = searchUsersUseCase.execute(q, offset, limit);
+        return ResponseEntity.ok(UserSearchResponse.from(page, offset != null ? offset : 0));
+    }
+
+    /**
+     * Issues assigned to the user, most recently changed first
+     * status may be repeated; pass the nextCursor of a page as cursor to get the following one
+     */
+    @GetMapping("/{id}/issues")
+    public ResponseEntity<UserIssuesResponse> listUserIssues(
+            @PathVariable Long id,
+            @RequestParam(required = false) List<IssueStatus> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        ListUserIssuesUseCase.UserInbox inbox = listUserIssuesUseCase.execute(
+                id,
+                status,
+                cursor != null ? UserIssuesResponse.decodeCursor(cursor) : null,
+                limit
+        );
+        return ResponseEntity.ok(UserIssuesResponse.from(inbox));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UserResponse> updateUser(@PathVariable Long id,
                                                    @RequestBody UpdateUserRequest request) {
@@ -0,0 +1,10 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+/**
+ * DTO for auto-assigning an issue; both restrictions are optional
+ *
+ * @param department only consider users of this department
+ * @param skill only consider users who have worked on issues with this tag
+ */
+public record AutoAssignRequest(String department, String skill) {
+}
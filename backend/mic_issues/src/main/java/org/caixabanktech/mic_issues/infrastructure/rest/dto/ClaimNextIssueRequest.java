@@ -0,0 +1,10 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+/**
+ * DTO for claiming the next issue from the work queue
+ *
+ * @param userId the user picking up work
+ * @param tag only issues with this tag; optional
+ */
+public record ClaimNextIssueRequest(Long userId, String tag) {
+}
@@ -12,7 +12,11 @@ public record CreateIssueRequest(
         String requester,
         String priority,
         List<String> tags,
-        Long assignedUserId
+        Long assignedUserId,
+        Boolean autoAssign,
+        String assignDepartment,
+        String assignSkill,
+        Boolean checkDuplicates
 ) {
     // Constructor with defaults for optional fields
     public CreateIssueRequest {
@@ -20,5 +24,9 @@ public record CreateIssueRequest(
         priority = priority != null ? priority : "NORMAL";
         tags = tags != null ? tags : new ArrayList<>();
         // assignedUserId can be null (unassigned)
+        // autoAssign picks the least-loaded user instead, optionally within assignDepartment / assignSkill
+        autoAssign = autoAssign != null ? autoAssign : Boolean.FALSE;
+        // checkDuplicates answers 409 with similar open issues instead of creating a near-duplicate
+        checkDuplicates = checkDuplicates != null ? checkDuplicates : Boolean.FALSE;
     }
 }
@@ -0,0 +1,44 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.DepartmentStatistics.DepartmentReport;
+import org.caixabanktech.mic_issues.application.usecases.ports.DepartmentStatistics.DepartmentSummary;
+import org.caixabanktech.mic_issues.application.usecases.ports.DepartmentStatistics.IssueCounts;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for the per-department workload summary
+ */
+public record DepartmentSummaryResponse(List<Department> departments, Issues unassigned) {
+
+    /**
+     * department is null for users without one
+     */
+    public record Department(String department, long users, Issues issues) {
+    }
+
+    /**
+     * priorities counts open and in-progress issues together
+     */
+    public record Issues(long open, long inProgress, Map<String, Long> priorities) {
+
+        static Issues from(IssueCounts counts) {
+            Map<String, Long> priorities = new LinkedHashMap<>();
+            counts.byPriority().forEach((priority, count) -> priorities.put(priority.name(), count));
+            return new Issues(counts.open(), counts.inProgress(), priorities);
+        }
+    }
+
+    public static DepartmentSummaryResponse from(DepartmentReport report) {
+        return new DepartmentSummaryResponse(
+                report.departments().stream().map(DepartmentSummaryResponse::department).toList(),
+                Issues.from(report.unassigned())
+        );
+    }
+
+    private static Department department(DepartmentSummary summary) {
+        return new Department(summary.department(), summary.users(), Issues.from(summary.issues()));
+    }
+}
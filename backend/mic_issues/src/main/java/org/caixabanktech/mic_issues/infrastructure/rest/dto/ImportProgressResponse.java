@@ -0,0 +1,39 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.caixabanktech.mic_issues.application.usecases.BulkImport;
+
+import java.util.List;
+
+/**
+ * DTO for one line of the NDJSON import progress stream
+ * type is "progress" after every chunk, with that chunk's rejected rows, then "completed" with
+ * the totals, or "aborted" with a message when the import stopped early
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportProgressResponse(
+        String type,
+        Long processed,
+        Long imported,
+        Long failed,
+        List<RowError> errors,
+        String message
+) {
+    public record RowError(long line, String message) {
+    }
+
+    public static ImportProgressResponse progress(BulkImport.Progress progress) {
+        return new ImportProgressResponse("progress", progress.processed(), progress.imported(), progress.failed(),
+                progress.errors().stream().map(error -> new RowError(error.line(), error.message())).toList(),
+                null);
+    }
+
+    public static ImportProgressResponse completed(BulkImport.Progress progress) {
+        return new ImportProgressResponse("completed", progress.processed(), progress.imported(), progress.failed(),
+                null, null);
+    }
+
+    public static ImportProgressResponse aborted(String message) {
+        return new ImportProgressResponse("aborted", null, null, null, null, message);
+    }
+}
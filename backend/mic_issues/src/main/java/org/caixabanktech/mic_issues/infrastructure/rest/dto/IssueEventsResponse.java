@@ -0,0 +1,14 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.infrastructure.websocket.dto.IssueEventMessage;
+
+import java.util.List;
+
+/**
+ * DTO for the issue events published after a watermark
+ */
+public record IssueEventsResponse(long watermark, List<SequencedIssueEvent> events) {
+
+    public record SequencedIssueEvent(long sequence, IssueEventMessage event) {
+    }
+}
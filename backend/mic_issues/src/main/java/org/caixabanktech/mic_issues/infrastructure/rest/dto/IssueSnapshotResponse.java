@@ -0,0 +1,10 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the real-time bootstrap snapshot
+ * Every event with a sequence at or below the watermark is already reflected in the issues
+ */
+public record IssueSnapshotResponse(long watermark, List<IssueResponse> issues) {
+}
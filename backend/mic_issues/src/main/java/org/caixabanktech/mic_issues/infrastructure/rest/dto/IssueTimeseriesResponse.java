@@ -0,0 +1,34 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.ActivityBucket;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.Granularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the issues created and resolved per bucket over a date range
+ */
+public record IssueTimeseriesResponse(String granularity, String from, String to,
+                                      long created, long resolved, List<Point> points) {
+
+    /**
+     * start is the beginning of the bucket
+     */
+    public record Point(String start, long created, long resolved) {
+    }
+
+    public static IssueTimeseriesResponse from(Granularity granularity, LocalDateTime from, LocalDateTime to,
+                                               List<ActivityBucket> series) {
+        return new IssueTimeseriesResponse(
+                granularity.name(),
+                from.toString(),
+                to.toString(),
+                series.stream().mapToLong(ActivityBucket::created).sum(),
+                series.stream().mapToLong(ActivityBucket::resolved).sum(),
+                series.stream()
+                        .map(bucket -> new Point(bucket.start().toString(), bucket.created(), bucket.resolved()))
+                        .toList()
+        );
+    }
+}
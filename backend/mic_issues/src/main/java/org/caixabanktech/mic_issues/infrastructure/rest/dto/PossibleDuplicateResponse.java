@@ -0,0 +1,17 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.application.usecases.CreateIssueUseCase.PossibleDuplicateException;
+
+import java.util.List;
+
+/**
+ * DTO for a create request refused because open issues look the same
+ * Clients can link to one of the candidates or resubmit with checkDuplicates off
+ */
+public record PossibleDuplicateResponse(String message, List<SimilarIssueResponse> candidates) {
+
+    public static PossibleDuplicateResponse from(PossibleDuplicateException ex) {
+        return new PossibleDuplicateResponse(ex.getMessage(),
+                ex.getCandidates().stream().map(SimilarIssueResponse::from).toList());
+    }
+}
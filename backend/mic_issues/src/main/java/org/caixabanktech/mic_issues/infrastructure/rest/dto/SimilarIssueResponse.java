@@ -0,0 +1,15 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.application.usecases.FindSimilarIssuesUseCase.SimilarIssue;
+
+/**
+ * DTO for an issue resembling another one
+ * similarity is the estimated share of text in common, 0 to 1, rounded to two decimals
+ */
+public record SimilarIssueResponse(IssueResponse issue, double similarity) {
+
+    public static SimilarIssueResponse from(SimilarIssue similar) {
+        return new SimilarIssueResponse(IssueResponse.from(similar.issue()),
+                Math.round(similar.similarity() * 100) / 100.0);
+    }
+}
@@ -0,0 +1,46 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueSlaStatistics.Percentiles;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueSlaStatistics.SlaGroup;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueSlaStatistics.SlaReport;
+
+import java.util.List;
+
+/**
+ * DTO for the SLA percentiles report; durations in seconds
+ */
+public record SlaReportResponse(String generatedAt, String window, List<Group> groups, List<Group> totals) {
+
+    /**
+     * department is null for unassigned issues, and in totals
+     */
+    public record Group(String priority, String department,
+                        Stats timeToAssign, Stats timeToResolve, Stats openAge) {
+    }
+
+    public record Stats(long count, double p50, double p90, double p99) {
+
+        static Stats from(Percentiles percentiles) {
+            return new Stats(percentiles.count(), percentiles.p50Seconds(), percentiles.p90Seconds(), percentiles.p99Seconds());
+        }
+    }
+
+    public static SlaReportResponse from(SlaReport report) {
+        return new SlaReportResponse(
+                report.generatedAt().toString(),
+                report.window().toString(),
+                report.groups().stream().map(SlaReportResponse::group).toList(),
+                report.totals().stream().map(SlaReportResponse::group).toList()
+        );
+    }
+
+    private static Group group(SlaGroup group) {
+        return new Group(
+                group.priority() != null ? group.priority().name() : null,
+                group.department(),
+                Stats.from(group.timeToAssign()),
+                Stats.from(group.timeToResolve()),
+                Stats.from(group.openAge())
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+
+/**
+ * DTO for one entry of an issue's status history
+ */
+public record StatusTransitionResponse(
+        Long issueId,
+        String fromStatus,
+        String toStatus,
+        Long changedBy,
+        String changedAt
+) {
+    public static StatusTransitionResponse from(StatusTransition transition) {
+        return new StatusTransitionResponse(
+                transition.issueId(),
+                transition.fromStatus() != null ? transition.fromStatus().name() : null,
+                transition.toStatus().name(),
+                transition.changedBy(),
+                transition.changedAt().toString()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository.TransitionCount;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the status transition counts over a date range
+ */
+public record StatusTransitionsResponse(String from, String to, List<Transition> transitions) {
+
+    /**
+     * fromStatus is null for issues created directly in toStatus
+     */
+    public record Transition(String fromStatus, String toStatus, long count) {
+    }
+
+    public static StatusTransitionsResponse from(LocalDateTime from, LocalDateTime to, List<TransitionCount> report) {
+        return new StatusTransitionsResponse(from.toString(), to.toString(), report.stream()
+                .map(row -> new Transition(row.fromStatus() != null ? row.fromStatus().name() : null,
+                        row.toStatus().name(), row.count()))
+                .toList());
+    }
+}
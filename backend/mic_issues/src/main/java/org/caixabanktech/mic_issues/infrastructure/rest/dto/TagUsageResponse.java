@@ -0,0 +1,13 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.TagIndex.TagUsage;
+
+/**
+ * DTO for a tag suggestion with the number of issues carrying it
+ */
+public record TagUsageResponse(String tag, long count) {
+
+    public static TagUsageResponse from(TagUsage usage) {
+        return new TagUsageResponse(usage.tag(), usage.count());
+    }
+}
@@ -0,0 +1,26 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository.TimeInStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the time-in-status report over a date range
+ */
+public record TimeInStatusResponse(String from, String to, List<StatusStay> statuses) {
+
+    /**
+     * Durations in seconds; stays still in progress are measured up to now
+     */
+    public record StatusStay(String status, long entered, long left, double averageSeconds,
+                             double medianSeconds, double p95Seconds, double maxSeconds) {
+    }
+
+    public static TimeInStatusResponse from(LocalDateTime from, LocalDateTime to, List<TimeInStatus> report) {
+        return new TimeInStatusResponse(from.toString(), to.toString(), report.stream()
+                .map(row -> new StatusStay(row.status().name(), row.entered(), row.left(), row.averageSeconds(),
+                        row.medianSeconds(), row.p95Seconds(), row.maxSeconds()))
+                .toList());
+    }
+}
@@ -0,0 +1,50 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.application.usecases.ListUserIssuesUseCase.UserInbox;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueCursor;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for one page of a user's issues
+ * nextCursor is opaque to clients and null on the last page; counts has every status, zero included
+ */
+public record UserIssuesResponse(List<IssueResponse> issues, Map<String, Long> counts, String nextCursor) {
+
+    public static UserIssuesResponse from(UserInbox inbox) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (IssueStatus status : IssueStatus.values()) {
+            counts.put(status.name(), inbox.counts().getOrDefault(status, 0L));
+        }
+        return new UserIssuesResponse(
+                inbox.issues().stream().map(IssueResponse::from).toList(),
+                counts,
+                inbox.next() != null ? encodeCursor(inbox.next()) : null);
+    }
+
+    public static String encodeCursor(IssueCursor cursor) {
+        String raw = cursor.lastChangedAt() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor was not produced by encodeCursor
+     */
+    public static IssueCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new IssueCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.caixabanktech.mic_issues.infrastructure.rest.dto;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.UserDirectory.SearchPage;
+import org.caixabanktech.mic_issues.application.usecases.ports.UserDirectory.UserSummary;
+
+import java.util.List;
+
+/**
+ * DTO for one page of user search results
+ * nextOffset is null on the last page
+ */
+public record UserSearchResponse(List<UserSummaryResponse> users, int total, Integer nextOffset) {
+
+    /**
+     * DTO for a user as shown in pickers
+     */
+    public record UserSummaryResponse(Long id, String username, String name, String email, String department) {
+
+        public static UserSummaryResponse from(UserSummary user) {
+            return new UserSummaryResponse(user.id(), user.username(), user.name(), user.email(), user.department());
+        }
+    }
+
+    public static UserSearchResponse from(SearchPage page, int offset) {
+        int next = offset + page.users().size();
+        return new UserSearchResponse(
+                page.users().stream().map(UserSummaryResponse::from).toList(),
+                page.total(),
+                next < page.total() ? next : null);
+    }
+}
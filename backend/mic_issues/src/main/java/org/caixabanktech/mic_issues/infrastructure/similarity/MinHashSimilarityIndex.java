@@ -0,0 +1,167 @@
+package org.caixabanktech.mic_issues.infrastructure.similarity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.application.usecases.ports.SimilarityIndex;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.infrastructure.index.WorkingSetIndex;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Similarity index of MinHash signatures with locality-sensitive hashing
+ *
+ * Every issue's title and description get a signature of bands * rows minimum hashes. The
+ * signature is cut into bands and each band hashed into a bucket; issues sharing a bucket in any
+ * band are candidates, and only candidates are compared signature to signature. A lookup is
+ * therefore a handful of hash probes plus a comparison per candidate, independent of the number
+ * of issues indexed. Pairs at the LSH threshold, about (1 / bands)^(1 / rows), are found about
+ * two times out of three; clearly more similar pairs almost always.
+ *
+ * Loaded from the working set at startup and updated from committed issue events, including
+ * those relayed from other nodes; archived issues are dropped.
+ */
+@Slf4j
+@Component
+public class MinHashSimilarityIndex extends WorkingSetIndex implements SimilarityIndex {
+
+    private final IssueRepository issueRepository;
+    private final MinHasher hasher;
+    private final int bands;
+    private final int rows;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final List<Map<Long, Set<Long>>> buckets;
+
+    public MinHashSimilarityIndex(IssueRepository issueRepository,
+                                  SimilarityProperties properties,
+                                  EventRelay eventRelay,
+                                  PlatformTransactionManager transactionManager) {
+        super(issueRepository, null, eventRelay, transactionManager);
+        this.issueRepository = issueRepository;
+        this.bands = properties.bands();
+        this.rows = properties.rows();
+        this.hasher = new MinHasher(properties.shingleSize(), bands * rows, properties.maxTextLength());
+        this.buckets = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    @Override
+    public void bootstrap() {
+        List<Issue> issues = read(issueRepository::findAll);
+        issuesChanged(issues);
+        log.info("Similarity index loaded: {} issues", issues.size());
+    }
+
+    @Override
+    public List<Match> similarTo(String title, String description, Long excludeId, double minSimilarity, int limit) {
+        int[] signature = hasher.signature(title, description);
+        if (signature == null || limit <= 0) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>();
+            for (int band = 0; band < bands; band++) {
+                Set<Long> bucket = buckets.get(band).get(bandKey(signature, band));
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+            candidates.remove(excludeId);
+            for (Long candidate : candidates) {
+                double similarity = MinHasher.similarity(signature, signatures.get(candidate));
+                if (similarity >= minSimilarity) {
+                    matches.add(new Match(candidate, similarity));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches.stream()
+                .sorted(Comparator.comparingDouble(Match::similarity).reversed()
+                        .thenComparing(Match::issueId, Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Re-hashes every changed issue: edits and rejections change the text
+     */
+    @Override
+    protected void issuesChanged(List<Issue> issues) {
+        // Hashing is the expensive part and needs no lock
+        Map<Long, int[]> computed = new HashMap<>();
+        for (Issue issue : issues) {
+            int[] signature = hasher.signature(issue.getTitle(), issue.getDescription());
+            if (signature != null) {
+                computed.put(issue.getId(), signature);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            computed.forEach((id, signature) -> {
+                remove(id);
+                signatures.put(id, signature);
+                for (int band = 0; band < bands; band++) {
+                    buckets.get(band).computeIfAbsent(bandKey(signature, band), key -> new HashSet<>()).add(id);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Deleted and archived issues are no longer suggested
+     */
+    @Override
+    protected void issuesRemoved(List<Long> issueIds) {
+        lock.writeLock().lock();
+        try {
+            issueIds.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void remove(Long issueId) {
+        int[] signature = signatures.remove(issueId);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            Map<Long, Set<Long>> bandBuckets = buckets.get(band);
+            long key = bandKey(signature, band);
+            Set<Long> bucket = bandBuckets.get(key);
+            if (bucket != null && bucket.remove(issueId) && bucket.isEmpty()) {
+                bandBuckets.remove(key);
+            }
+        }
+    }
+
+    // Bands live in separate maps, so only the rows of the band need hashing
+    private long bandKey(int[] signature, int band) {
+        long key = 0;
+        for (int row = band * rows; row < (band + 1) * rows; row++) {
+            key = MinHasher.mix(key ^ signature[row]);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,99 @@
+package org.caixabanktech.mic_issues.infrastructure.similarity;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * MinHash signatures over the character shingles of a text
+ *
+ * The text is lower-cased and every run of non-alphanumeric characters becomes one space, so
+ * punctuation and spacing never make two reports look different. Each shingle is hashed once to
+ * 64 bits; signature entry i is the minimum over the shingles of an independent remix of that
+ * hash, and the fraction of equal entries between two signatures estimates the Jaccard
+ * similarity of their shingle sets.
+ */
+final class MinHasher {
+
+    private final int shingleSize;
+    private final int maxTextLength;
+    private final long[] seeds;
+
+    MinHasher(int shingleSize, int hashes, int maxTextLength) {
+        this.shingleSize = shingleSize;
+        this.maxTextLength = maxTextLength;
+        this.seeds = new long[hashes];
+        long seed = 0x5EED_1DEA_5EED_1DEAL;
+        for (int i = 0; i < hashes; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix(seed);
+        }
+    }
+
+    /**
+     * @return the signature, or null when the text has nothing to compare
+     */
+    int[] signature(String title, String description) {
+        String text = normalize(title, description);
+        if (text.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        // Texts shorter than a shingle are one shingle
+        int last = Math.max(0, text.length() - shingleSize);
+        for (int start = 0; start <= last; start++) {
+            long shingle = hash(text, start, Math.min(text.length(), start + shingleSize));
+            for (int i = 0; i < seeds.length; i++) {
+                int value = (int) (mix(shingle ^ seeds[i]) >>> 32);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double similarity(int[] left, int[] right) {
+        int equal = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / left.length;
+    }
+
+    private String normalize(String title, String description) {
+        String joined = Objects.toString(title, "") + " " + Objects.toString(description, "");
+        StringBuilder text = new StringBuilder(Math.min(joined.length(), maxTextLength));
+        boolean space = true;
+        for (int i = 0; i < joined.length() && text.length() < maxTextLength; i++) {
+            char c = joined.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                text.append(Character.toLowerCase(c));
+                space = false;
+            } else if (!space) {
+                text.append(' ');
+                space = true;
+            }
+        }
+        return text.toString().strip();
+    }
+
+    // FNV-1a over the chars of text[from, to)
+    private static long hash(String text, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,29 @@
+package org.caixabanktech.mic_issues.infrastructure.similarity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the MinHash/LSH issue similarity index
+ *
+ * @param shingleSize   length of the character shingles taken from the normalized title and description
+ * @param bands         LSH bands; more bands find less similar pairs at the cost of more candidates
+ * @param rows          signature rows per band; the signature holds bands * rows minimum hashes
+ * @param maxTextLength characters of title plus description considered, so huge descriptions stay cheap
+ */
+@ConfigurationProperties(prefix = "worksync.similarity")
+public record SimilarityProperties(
+        Integer shingleSize,
+        Integer bands,
+        Integer rows,
+        Integer maxTextLength
+) {
+    public SimilarityProperties {
+        shingleSize = shingleSize != null ? shingleSize : 4;
+        bands = bands != null ? bands : 32;
+        rows = rows != null ? rows : 4;
+        maxTextLength = maxTextLength != null ? maxTextLength : 4000;
+        if (shingleSize < 1 || bands < 1 || rows < 1 || maxTextLength < 1) {
+            throw new IllegalArgumentException("worksync.similarity settings must be positive");
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package org.caixabanktech.mic_issues.infrastructure.sla;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueSlaStatistics;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository;
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.infrastructure.index.WorkingSetIndex;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * SLA statistics kept in HDR histograms, updated from committed issue events
+ *
+ * Time-to-assign (creation to IN_PROGRESS, from OPEN or at creation) and time-to-resolve
+ * (creation to RESOLVED) go into a {@link SlidingHistogram} per (priority, assignee department)
+ * and metric, so a report only merges a few small histograms instead of scanning issues.
+ * Open-issue age changes with the clock, so open issues are tracked by creation time instead
+ * and their ages bucketed into a histogram when a report is asked for.
+ * At startup the window is rebuilt from the status history and the open set from the working
+ * set. Changes made on other nodes arrive as the re-read issue without its previous status, so
+ * a transition is recorded against the status it was last tracked in, or against creation for an
+ * issue that was never updated.
+ */
+@Slf4j
+@Component
+public class HdrIssueSlaStatistics extends WorkingSetIndex implements IssueSlaStatistics {
+
+    private static final EnumSet<IssueStatus> OPEN_STATUSES = EnumSet.of(IssueStatus.OPEN, IssueStatus.IN_PROGRESS);
+
+    private record Key(IssuePriority priority, String department) {
+
+        static Key of(Issue issue) {
+            return new Key(issue.getPriority(),
+                    issue.getAssignedUser() != null ? issue.getAssignedUser().getDepartment() : null);
+        }
+    }
+
+    private record OpenIssue(Key key, IssueStatus status, long createdAtMillis) {
+    }
+
+    private final IssueRepository issueRepository;
+    private final IssueStatusHistoryRepository historyRepository;
+    private final SlaProperties properties;
+    private final Clock clock;
+
+    private final Map<Key, SlidingHistogram> timeToAssign = new ConcurrentHashMap<>();
+    private final Map<Key, SlidingHistogram> timeToResolve = new ConcurrentHashMap<>();
+    private final Map<Long, OpenIssue> openIssues = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HdrIssueSlaStatistics(IssueRepository issueRepository,
+                                 IssueStatusHistoryRepository historyRepository,
+                                 SlaProperties properties,
+                                 EventRelay eventRelay,
+                                 PlatformTransactionManager transactionManager) {
+        this(issueRepository, historyRepository, properties, eventRelay, transactionManager, Clock.systemDefaultZone());
+    }
+
+    HdrIssueSlaStatistics(IssueRepository issueRepository,
+                          IssueStatusHistoryRepository historyRepository,
+                          SlaProperties properties,
+                          EventRelay eventRelay,
+                          PlatformTransactionManager transactionManager,
+                          Clock clock) {
+        super(issueRepository, null, eventRelay, transactionManager);
+        this.issueRepository = issueRepository;
+        this.historyRepository = historyRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Rebuilds the window from the status history; changes committed meanwhile are counted live
+     */
+    @Override
+    public void bootstrap() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<Long, Issue> issues = read(() -> issueRepository.findAll().stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity())));
+        for (Issue issue : issues.values()) {
+            OpenIssue open = openIssue(issue);
+            if (open != null) {
+                openIssues.putIfAbsent(issue.getId(), open);
+            }
+        }
+
+        List<StatusTransition> transitions = read(() -> historyRepository.findTransitionsInto(
+                EnumSet.of(IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED), now.minus(properties.window()), now));
+        for (StatusTransition transition : transitions) {
+            Issue issue = issues.get(transition.issueId());
+            if (issue != null) {
+                record(issue, transition.fromStatus(), transition.toStatus(), transition.changedAt());
+            }
+        }
+        log.info("SLA statistics bootstrapped from {} issues and {} transitions in {} ms",
+                issues.size(), transitions.size(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    @Override
+    protected void issueChanged(IssueEvent event) {
+        Issue issue = event.getIssue();
+        track(issue);
+        if (event.isStatusChange()) {
+            record(issue, event.getPreviousStatus(), issue.getStatus(), changedAt(issue));
+        }
+    }
+
+    /**
+     * Issues changed on other nodes
+     */
+    @Override
+    protected void issuesChanged(List<Issue> issues) {
+        for (Issue issue : issues) {
+            OpenIssue tracked = openIssues.get(issue.getId());
+            if (tracked != null && tracked.status() != issue.getStatus()) {
+                record(issue, tracked.status(), issue.getStatus(), changedAt(issue));
+            } else if (tracked == null && issue.getUpdatedAt() == null) {
+                record(issue, null, issue.getStatus(), issue.getCreatedAt());
+            }
+            track(issue);
+        }
+    }
+
+    /**
+     * Imported issues count as created, in their initial status, when they were inserted
+     */
+    @Override
+    protected void issuesImported(List<Issue> issues) {
+        for (Issue issue : issues) {
+            track(issue);
+            record(issue, null, issue.getStatus(), issue.getCreatedAt());
+        }
+    }
+
+    /**
+     * Deleted and archived issues no longer age
+     */
+    @Override
+    protected void issuesRemoved(List<Long> issueIds) {
+        issueIds.forEach(openIssues::remove);
+    }
+
+    private void track(Issue issue) {
+        OpenIssue open = openIssue(issue);
+        if (open != null) {
+            openIssues.put(issue.getId(), open);
+        } else {
+            openIssues.remove(issue.getId());
+        }
+    }
+
+    @Override
+    public SlaReport report() {
+        long now = clock.millis();
+        Map<Key, Histogram> openAge = new HashMap<>();
+        openIssues.values().forEach(open -> openAge
+                .computeIfAbsent(open.key(), key -> newHistogram())
+                .recordValue(Math.max(0, (now - open.createdAtMillis()) / 1000)));
+
+        Map<Key, Histogram> assign = merge(timeToAssign, now);
+        Map<Key, Histogram> resolve = merge(timeToResolve, now);
+
+        List<Key> keys = Stream.of(openAge.keySet(), assign.keySet(), resolve.keySet())
+                .flatMap(Collection::stream)
+                .distinct()
+                .sorted(Comparator.comparing(Key::priority, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Key::department, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        List<SlaGroup> groups = keys.stream()
+                .map(key -> group(key, assign.get(key), resolve.get(key), openAge.get(key)))
+                .toList();
+
+        // Histograms merge losslessly, so priority totals are exact up to the recording precision
+        Map<IssuePriority, Histogram[]> byPriority = new TreeMap<>(
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        for (Key key : keys) {
+            Histogram[] totals = byPriority.computeIfAbsent(key.priority(),
+                    priority -> new Histogram[]{newHistogram(), newHistogram(), newHistogram()});
+            addIfPresent(totals[0], assign.get(key));
+            addIfPresent(totals[1], resolve.get(key));
+            addIfPresent(totals[2], openAge.get(key));
+        }
+        List<SlaGroup> totals = byPriority.entrySet().stream()
+                .map(e -> group(new Key(e.getKey(), null), e.getValue()[0], e.getValue()[1], e.getValue()[2]))
+                .toList();
+
+        return new SlaReport(Instant.ofEpochMilli(now), properties.window(), groups, totals);
+    }
+
+    private void record(Issue issue, IssueStatus from, IssueStatus to, LocalDateTime changedAt) {
+        if (issue.getCreatedAt() == null || changedAt == null) {
+            return;
+        }
+        Map<Key, SlidingHistogram> target;
+        if (to == IssueStatus.IN_PROGRESS && (from == null || from == IssueStatus.OPEN)) {
+            target = timeToAssign;
+        } else if (to == IssueStatus.RESOLVED) {
+            target = timeToResolve;
+        } else {
+            return;
+        }
+        long seconds = Duration.between(issue.getCreatedAt(), changedAt).toSeconds();
+        target.computeIfAbsent(Key.of(issue), key -> new SlidingHistogram(
+                        properties.window().toMillis(), properties.slots(), properties.significantDigits()))
+                .record(seconds, millis(changedAt), clock.millis());
+    }
+
+    private OpenIssue openIssue(Issue issue) {
+        if (!OPEN_STATUSES.contains(issue.getStatus()) || issue.getCreatedAt() == null) {
+            return null;
+        }
+        return new OpenIssue(Key.of(issue), issue.getStatus(), millis(issue.getCreatedAt()));
+    }
+
+    private static LocalDateTime changedAt(Issue issue) {
+        return issue.getUpdatedAt() != null ? issue.getUpdatedAt() : issue.getCreatedAt();
+    }
+
+    private Map<Key, Histogram> merge(Map<Key, SlidingHistogram> histograms, long now) {
+        Map<Key, Histogram> merged = new HashMap<>();
+        histograms.forEach((key, sliding) -> {
+            Histogram histogram = newHistogram();
+            sliding.mergeInto(histogram, now);
+            if (histogram.getTotalCount() > 0) {
+                merged.put(key, histogram);
+            }
+        });
+        return merged;
+    }
+
+    private Histogram newHistogram() {
+        return new Histogram(properties.significantDigits());
+    }
+
+    private long millis(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static void addIfPresent(Histogram target, Histogram source) {
+        if (source != null) {
+            target.add(source);
+        }
+    }
+
+    private static SlaGroup group(Key key, Histogram assign, Histogram resolve, Histogram openAge) {
+        return new SlaGroup(key.priority(), key.department(),
+                percentiles(assign), percentiles(resolve), percentiles(openAge));
+    }
+
+    private static Percentiles percentiles(Histogram histogram) {
+        if (histogram == null || histogram.getTotalCount() == 0) {
+            return Percentiles.EMPTY;
+        }
+        return new Percentiles(histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99));
+    }
+}
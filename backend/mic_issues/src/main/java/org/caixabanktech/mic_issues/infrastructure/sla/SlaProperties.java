@@ -0,0 +1,25 @@
+package org.caixabanktech.mic_issues.infrastructure.sla;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the SLA percentile sketches
+ *
+ * @param window             time-to-assign and time-to-resolve cover changes within this trailing window
+ * @param slots              the window is kept as this many rotating histograms; expired slots drop out whole
+ * @param significantDigits  precision of the HDR histograms (1-3); two digits keep values within 1%
+ */
+@ConfigurationProperties(prefix = "worksync.sla")
+public record SlaProperties(
+        Duration window,
+        Integer slots,
+        Integer significantDigits
+) {
+    public SlaProperties {
+        window = window != null ? window : Duration.ofDays(30);
+        slots = slots != null ? slots : 10;
+        significantDigits = significantDigits != null ? significantDigits : 2;
+    }
+}
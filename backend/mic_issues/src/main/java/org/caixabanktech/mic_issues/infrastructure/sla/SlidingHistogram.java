@@ -0,0 +1,56 @@
+package org.caixabanktech.mic_issues.infrastructure.sla;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.IntCountsHistogram;
+
+/**
+ * HDR histogram over a trailing time window
+ * The window is split into slots, each its own auto-resizing histogram keyed by the slot it
+ * covers; recording into a slot whose time has passed recycles it. Reading merges the live
+ * slots, so the window edge moves in steps of one slot.
+ */
+class SlidingHistogram {
+
+    private final long slotMillis;
+    private final int significantDigits;
+    private final IntCountsHistogram[] slots;
+    private final long[] slotIndexes;
+
+    SlidingHistogram(long windowMillis, int slotCount, int significantDigits) {
+        this.slotMillis = Math.max(1, windowMillis / slotCount);
+        this.significantDigits = significantDigits;
+        this.slots = new IntCountsHistogram[slotCount];
+        this.slotIndexes = new long[slotCount];
+    }
+
+    /**
+     * Records a value observed at the given time; times outside the window are ignored
+     */
+    synchronized void record(long value, long atMillis, long nowMillis) {
+        long index = atMillis / slotMillis;
+        long current = nowMillis / slotMillis;
+        if (index <= current - slots.length || index > current) {
+            return;
+        }
+        int position = (int) Math.floorMod(index, (long) slots.length);
+        if (slots[position] == null) {
+            slots[position] = new IntCountsHistogram(significantDigits);
+        } else if (slotIndexes[position] != index) {
+            slots[position].reset();
+        }
+        slotIndexes[position] = index;
+        slots[position].recordValue(Math.max(0, value));
+    }
+
+    /**
+     * Adds the slots still inside the window to the target, which must auto-resize
+     */
+    synchronized void mergeInto(Histogram target, long nowMillis) {
+        long current = nowMillis / slotMillis;
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null && slotIndexes[i] > current - slots.length) {
+                target.add(slots[i]);
+            }
+        }
+    }
+}
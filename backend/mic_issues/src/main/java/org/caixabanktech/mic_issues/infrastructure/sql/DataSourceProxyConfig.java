@@ -0,0 +1,103 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a datasource-proxy
+ * The proxy tags and counts every statement for the current request or use case and times it
+ * for the slow-query log; either feature can be switched off, and with both off the DataSource
+ * is left alone. Only the bean named "dataSource" is wrapped: the auto-configured pool, or the
+ * routing proxy when read replicas are configured.
+ */
+@Configuration
+public class DataSourceProxyConfig implements WebMvcConfigurer {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final SqlAccountingProperties accountingProperties;
+
+    public DataSourceProxyConfig(SqlAccountingProperties accountingProperties) {
+        this.accountingProperties = accountingProperties;
+    }
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<SqlAccountingProperties> accountingProperties,
+                                                                 ObjectProvider<SlowQueryProperties> slowQueryProperties,
+                                                                 ObjectProvider<SqlLatencyHistograms> histograms) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                SqlAccountingProperties accounting = accountingProperties.getObject();
+                SlowQueryProperties slowQuery = slowQueryProperties.getObject();
+                if (!accounting.enabled() && !slowQuery.enabled()) {
+                    return bean;
+                }
+
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(DATA_SOURCE_BEAN);
+                if (accounting.enabled()) {
+                    SqlAccountingListener listener = new SqlAccountingListener(accounting);
+                    builder.listener(listener).methodListener(listener).proxyResultSet();
+                    if (accounting.tagStatements()) {
+                        builder.queryTransformer(new SqlStatementTagger());
+                    }
+                }
+                if (slowQuery.enabled()) {
+                    builder.listener(new SlowQueryListener(slowQuery, histograms.getObject()));
+                }
+                return builder.build();
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "worksync.sql.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SqlLatencyHistograms sqlLatencyHistograms(SlowQueryProperties properties) {
+        return new SqlLatencyHistograms(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "worksync.sql.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SqlLatencyEndpoint sqlLatencyEndpoint(SqlLatencyHistograms histograms) {
+        return new SqlLatencyEndpoint(histograms);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "worksync.sql.accounting", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SqlAccountingReporter sqlAccountingReporter(MeterRegistry meterRegistry) {
+        return new SqlAccountingReporter(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "worksync.sql.accounting", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SqlAccountingFilter sqlAccountingFilter(SqlAccountingReporter reporter) {
+        return new SqlAccountingFilter(reporter);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "worksync.sql.accounting", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public UseCaseSqlAccountingAspect useCaseSqlAccountingAspect(SqlAccountingReporter reporter) {
+        return new UseCaseSqlAccountingAspect(reporter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (accountingProperties.enabled()) {
+            registry.addInterceptor(new SqlAccountingInterceptor());
+        }
+    }
+}
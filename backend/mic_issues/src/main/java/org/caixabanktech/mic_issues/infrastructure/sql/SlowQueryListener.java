@@ -0,0 +1,83 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every statement, feeds the per-fingerprint histograms and logs the slow ones
+ * Statements over the threshold are logged at WARN, a sample of the rest at INFO, both on the
+ * worksync.sql.slow logger with key/value pairs for structured output. Only the fingerprint
+ * is logged: bind parameters are never read and literals are replaced by ?.
+ */
+@Slf4j(topic = "worksync.sql.slow")
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = SlowQueryListener.class.getName() + ".startedAt";
+
+    private final SqlLatencyHistograms histograms;
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int maxSqlLength;
+
+    public SlowQueryListener(SlowQueryProperties properties, SqlLatencyHistograms histograms) {
+        this.histograms = histograms;
+        this.thresholdNanos = properties.threshold().toNanos();
+        this.sampleRate = properties.sampleRate();
+        this.maxSqlLength = properties.maxSqlLength();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (startedAt == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        String sql = queryInfoList.getFirst().getQuery();
+        SqlFingerprint fingerprint = histograms.fingerprint(sql);
+        histograms.record(fingerprint, elapsedNanos);
+
+        if (elapsedNanos >= thresholdNanos) {
+            log(Level.WARN, "Slow query", execInfo, queryInfoList, fingerprint, elapsedNanos);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+            log(Level.INFO, "Sampled query", execInfo, queryInfoList, fingerprint, elapsedNanos);
+        }
+    }
+
+    private void log(Level level, String kind, ExecutionInfo execInfo, List<QueryInfo> queryInfoList,
+                     SqlFingerprint fingerprint, long elapsedNanos) {
+        SqlAccounting.Scope scope = SqlAccounting.current();
+        String endpoint = scope != null ? scope.endpoint() : "-";
+        String useCase = scope != null && scope.useCase() != null ? scope.useCase() : "-";
+        double durationMs = TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / 1000.0;
+        int parameters = queryInfoList.getFirst().getParametersList().stream().mapToInt(List::size).sum();
+        String sql = fingerprint.sql().length() > maxSqlLength
+                ? fingerprint.sql().substring(0, maxSqlLength) + "..."
+                : fingerprint.sql();
+
+        LoggingEventBuilder event = log.atLevel(level)
+                .addKeyValue("durationMs", durationMs)
+                .addKeyValue("fingerprint", fingerprint.id())
+                .addKeyValue("endpoint", endpoint)
+                .addKeyValue("useCase", useCase)
+                .addKeyValue("statementType", execInfo.getStatementType())
+                .addKeyValue("batchSize", execInfo.isBatch() ? execInfo.getBatchSize() : 1)
+                .addKeyValue("success", execInfo.isSuccess())
+                .addKeyValue("parameters", parameters);
+        event.log("{} {} ms [{}] endpoint={} usecase={} params={} (redacted): {}",
+                kind, durationMs, fingerprint.id(), endpoint, useCase, parameters, sql);
+    }
+}
@@ -0,0 +1,31 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the slow-query log and per-statement latency histograms
+ *
+ * @param enabled          times every statement through the DataSource proxy
+ * @param threshold        statements taking longer are logged at WARN
+ * @param sampleRate       fraction (0..1) of the remaining statements logged at INFO; 0 disables sampling
+ * @param maxFingerprints  distinct statement shapes tracked; further shapes share one "other" histogram
+ * @param maxSqlLength     logged SQL is truncated to this many characters
+ */
+@ConfigurationProperties(prefix = "worksync.sql.slow-query")
+public record SlowQueryProperties(
+        Boolean enabled,
+        Duration threshold,
+        Double sampleRate,
+        Integer maxFingerprints,
+        Integer maxSqlLength
+) {
+    public SlowQueryProperties {
+        enabled = enabled != null ? enabled : Boolean.TRUE;
+        threshold = threshold != null ? threshold : Duration.ofMillis(200);
+        sampleRate = sampleRate != null ? sampleRate : 0.01;
+        maxFingerprints = maxFingerprints != null ? maxFingerprints : 500;
+        maxSqlLength = maxSqlLength != null ? maxSqlLength : 2000;
+    }
+}
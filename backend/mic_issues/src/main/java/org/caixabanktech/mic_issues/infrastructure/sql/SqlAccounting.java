@@ -0,0 +1,175 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Per-thread SQL statement accounting
+ *
+ * A scope is opened per HTTP request (or per use case invoked outside a request) and
+ * collects the statements and rows the thread issues, attributed to the endpoint and the
+ * innermost use case. Tests can open their own scope around a call:
+ * <pre>
+ * StatementStats stats = SqlAccounting.measure(() -> mockMvc.perform(get("/api/issues")));
+ * assertThat(stats.statements()).isLessThanOrEqualTo(3);
+ * </pre>
+ */
+public final class SqlAccounting {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final Pattern TAG_COMMENT = Pattern.compile("^/\\*.*?\\*/\\s*", Pattern.DOTALL);
+
+    private SqlAccounting() {
+    }
+
+    /**
+     * Runs an action in a fresh scope and returns what it executed
+     */
+    public static StatementStats measure(Action action) throws Exception {
+        Scope previous = CURRENT.get();
+        Scope scope = new Scope("measure");
+        CURRENT.set(scope);
+        try {
+            action.run();
+            return scope.snapshot();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Statements and rows issued in a scope
+     *
+     * @param endpoint               controller method or use case the scope was opened for
+     * @param statements             JDBC statements executed (a batch counts once)
+     * @param rows                   rows read through result sets plus rows reported by updates
+     * @param statementsByUseCase    statements per innermost use case; "-" outside any use case
+     * @param mostRepeatedStatement  SQL executed most often, without its tag comment
+     * @param mostRepeatedCount      how often it was executed
+     */
+    public record StatementStats(
+            String endpoint,
+            int statements,
+            long rows,
+            Map<String, Integer> statementsByUseCase,
+            String mostRepeatedStatement,
+            int mostRepeatedCount
+    ) {
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    static Scope current() {
+        return CURRENT.get();
+    }
+
+    static Scope open(String endpoint) {
+        Scope scope = new Scope(endpoint);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * SQL without the endpoint/use case comment, so identical statements compare equal
+     */
+    static String untagged(String sql) {
+        return TAG_COMMENT.matcher(sql).replaceFirst("");
+    }
+
+    /**
+     * Mutable accounting state; only ever touched by its own thread
+     */
+    static final class Scope {
+
+        private String endpoint;
+        private final Deque<String> useCases = new ArrayDeque<>();
+        private final Map<String, Integer> statementsByUseCase = new LinkedHashMap<>();
+        private final Map<String, Integer> repetitions = new HashMap<>();
+        private int statements;
+        private long rows;
+        private String mostRepeated;
+        private int mostRepeatedCount;
+        private String violation;
+
+        private Scope(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        String endpoint() {
+            return endpoint;
+        }
+
+        void endpoint(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        String useCase() {
+            return useCases.peek();
+        }
+
+        void enterUseCase(String useCase) {
+            useCases.push(useCase);
+        }
+
+        void exitUseCase() {
+            useCases.poll();
+        }
+
+        int statements() {
+            return statements;
+        }
+
+        /**
+         * @return how many times this SQL has now been executed in the scope
+         */
+        int recordStatement(String sql) {
+            statements++;
+            statementsByUseCase.merge(useCases.isEmpty() ? "-" : useCases.peek(), 1, Integer::sum);
+            int count = repetitions.merge(untagged(sql), 1, Integer::sum);
+            if (count > mostRepeatedCount) {
+                mostRepeatedCount = count;
+                mostRepeated = untagged(sql);
+            }
+            return count;
+        }
+
+        void recordRows(long count) {
+            rows += count;
+        }
+
+        /**
+         * First budget violation in the scope, or null
+         */
+        String violation() {
+            return violation;
+        }
+
+        void violation(String violation) {
+            if (this.violation == null) {
+                this.violation = violation;
+            }
+        }
+
+        StatementStats snapshot() {
+            return new StatementStats(endpoint, statements, rows,
+                    Collections.unmodifiableMap(new LinkedHashMap<>(statementsByUseCase)),
+                    mostRepeated, mostRepeatedCount);
+        }
+    }
+}
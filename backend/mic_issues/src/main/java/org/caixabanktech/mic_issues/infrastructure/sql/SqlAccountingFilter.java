@@ -0,0 +1,41 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens an accounting scope per HTTP request
+ * Wraps the whole request, so lazy loading during response serialization is counted too.
+ * The endpoint name is refined by {@link SqlAccountingInterceptor} once the handler is known.
+ */
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    private final SqlAccountingReporter reporter;
+
+    public SqlAccountingFilter(SqlAccountingReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (SqlAccounting.current() != null) {
+            // Already measured by an enclosing scope, e.g. SqlAccounting.measure in a test
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SqlAccounting.Scope scope = SqlAccounting.open(request.getMethod() + " (unmapped)");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlAccounting.close();
+            reporter.report(scope);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Names the current accounting scope after the controller method handling the request
+ */
+public class SqlAccountingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlAccounting.Scope scope = SqlAccounting.current();
+        if (scope != null && handler instanceof HandlerMethod handlerMethod) {
+            scope.endpoint(handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+}
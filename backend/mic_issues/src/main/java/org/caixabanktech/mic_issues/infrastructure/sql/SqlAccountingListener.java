@@ -0,0 +1,94 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * DataSource proxy listener feeding {@link SqlAccounting}
+ * Counts statements before they run, so FAIL mode stops the statement that breaks the budget,
+ * and counts rows as result sets are iterated and updates report their counts.
+ */
+public class SqlAccountingListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private final SqlAccountingProperties properties;
+
+    public SqlAccountingListener(SqlAccountingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlAccounting.Scope scope = SqlAccounting.current();
+        if (scope == null || queryInfoList.isEmpty()) {
+            return;
+        }
+
+        String sql = queryInfoList.getFirst().getQuery();
+        int repetitions = scope.recordStatement(sql);
+        String violation = null;
+        if (scope.statements() > properties.maxStatements()) {
+            violation = scope.statements() + " statements exceed the budget of " + properties.maxStatements();
+        } else if (repetitions > properties.maxRepeatedStatements()) {
+            violation = "Possible N+1: executed " + repetitions + " times: " + SqlAccounting.untagged(sql);
+        }
+        if (violation == null) {
+            return;
+        }
+
+        scope.violation(violation);
+        if (properties.action() == SqlAccountingProperties.Action.FAIL) {
+            throw new StatementBudgetExceededException(scope.endpoint() + ": " + violation);
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlAccounting.Scope scope = SqlAccounting.current();
+        if (scope == null) {
+            return;
+        }
+        switch (execInfo.getResult()) {
+            case Integer count when count > 0 -> scope.recordRows(count);
+            case Long count when count > 0 -> scope.recordRows(count);
+            case int[] counts -> {
+                for (int count : counts) {
+                    scope.recordRows(Math.max(0, count));
+                }
+            }
+            case null, default -> {
+                // Result sets are counted as they are read
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlAccounting.Scope scope = SqlAccounting.current();
+            if (scope != null) {
+                scope.recordRows(1);
+            }
+        }
+    }
+
+    /**
+     * Raised in FAIL mode when a request or use case exceeds its statement budget
+     */
+    public static class StatementBudgetExceededException extends RuntimeException {
+        public StatementBudgetExceededException(String message) {
+            super(message);
+        }
+    }
+}
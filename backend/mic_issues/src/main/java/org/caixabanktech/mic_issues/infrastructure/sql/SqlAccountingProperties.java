@@ -0,0 +1,34 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for per-request SQL statement accounting
+ *
+ * @param enabled                 wraps the DataSource in a counting proxy
+ * @param maxStatements           statements one request or use case may issue
+ * @param maxRepeatedStatements   executions of the same SQL within one request before it counts as N+1
+ * @param action                  LOG reports offending requests, FAIL aborts them at the offending statement
+ * @param tagStatements           prefixes every statement with a comment naming its endpoint and use case
+ */
+@ConfigurationProperties(prefix = "worksync.sql.accounting")
+public record SqlAccountingProperties(
+        Boolean enabled,
+        Integer maxStatements,
+        Integer maxRepeatedStatements,
+        Action action,
+        Boolean tagStatements
+) {
+    public SqlAccountingProperties {
+        enabled = enabled != null ? enabled : Boolean.TRUE;
+        maxStatements = maxStatements != null ? maxStatements : 20;
+        maxRepeatedStatements = maxRepeatedStatements != null ? maxRepeatedStatements : 5;
+        action = action != null ? action : Action.LOG;
+        tagStatements = tagStatements != null ? tagStatements : Boolean.TRUE;
+    }
+
+    public enum Action {
+        LOG,
+        FAIL
+    }
+}
@@ -0,0 +1,47 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports a closed accounting scope
+ * Every scope feeds the worksync.sql.statements / worksync.sql.rows summaries per endpoint;
+ * scopes that broke the budget are logged with their per-use-case breakdown.
+ */
+@Slf4j
+public class SqlAccountingReporter {
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlAccountingReporter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void report(SqlAccounting.Scope scope) {
+        SqlAccounting.StatementStats stats = scope.snapshot();
+        if (stats.statements() == 0) {
+            return;
+        }
+
+        DistributionSummary.builder("worksync.sql.statements")
+                .description("JDBC statements per request or use case")
+                .tag("endpoint", stats.endpoint())
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("worksync.sql.rows")
+                .description("Rows read or written per request or use case")
+                .tag("endpoint", stats.endpoint())
+                .register(meterRegistry)
+                .record(stats.rows());
+
+        if (scope.violation() != null) {
+            meterRegistry.counter("worksync.sql.budget.exceeded", "endpoint", stats.endpoint()).increment();
+            log.warn("{}: {} ({} statements, {} rows, by use case {})", stats.endpoint(), scope.violation(),
+                    stats.statements(), stats.rows(), stats.statementsByUseCase());
+        } else if (log.isDebugEnabled()) {
+            log.debug("{}: {} statements, {} rows, by use case {}", stats.endpoint(),
+                    stats.statements(), stats.rows(), stats.statementsByUseCase());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Shape of a SQL statement with its values removed
+ * Literals become ?, IN lists and multi-row VALUES collapse to a single element and the
+ * endpoint tag is dropped, so every execution of the same query maps to one fingerprint and
+ * nothing user-supplied ends up in logs.
+ *
+ * @param id   short stable hash of the normalized SQL
+ * @param sql  normalized SQL
+ */
+public record SqlFingerprint(String id, String sql) {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("(?i)\\bvalues\\s*(\\([^()]*\\))(?:\\s*,\\s*\\([^()]*\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static SqlFingerprint of(String sql) {
+        String normalized = SqlAccounting.untagged(sql);
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        normalized = VALUES_ROWS.matcher(normalized).replaceAll("values $1");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+
+        CRC32 crc = new CRC32();
+        crc.update(normalized.getBytes(StandardCharsets.UTF_8));
+        return new SqlFingerprint(String.format("%08x", crc.getValue()), normalized);
+    }
+}
@@ -0,0 +1,46 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing the per-fingerprint SQL latency histograms
+ * GET /actuator/sqllatency?limit=20 lists fingerprints by total time,
+ * GET /actuator/sqllatency/{fingerprint} returns its percentile distribution and
+ * DELETE /actuator/sqllatency starts a new measurement window.
+ */
+@Endpoint(id = "sqllatency")
+public class SqlLatencyEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final SqlLatencyHistograms histograms;
+
+    public SqlLatencyEndpoint(SqlLatencyHistograms histograms) {
+        this.histograms = histograms;
+    }
+
+    @ReadOperation
+    public Fingerprints fingerprints(@Nullable Integer limit) {
+        int max = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+        return new Fingerprints(histograms.size(), histograms.summaries(max));
+    }
+
+    @ReadOperation
+    public SqlLatencyHistograms.Detail fingerprint(@Selector String fingerprint) {
+        return histograms.detail(fingerprint).orElse(null);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        histograms.reset();
+    }
+
+    public record Fingerprints(int tracked, List<SqlLatencyHistograms.Summary> statements) {
+    }
+}
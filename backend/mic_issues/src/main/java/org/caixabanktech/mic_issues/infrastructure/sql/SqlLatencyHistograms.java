@@ -0,0 +1,132 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histogram per statement fingerprint
+ * Values are recorded in microseconds with two significant digits up to one minute; slower
+ * executions are clamped to the top bucket. At most maxFingerprints shapes get their own
+ * histogram, the rest share {@link #OTHER}.
+ */
+public class SqlLatencyHistograms {
+
+    static final SqlFingerprint OTHER = new SqlFingerprint("other", "(statements beyond worksync.sql.slow-query.max-fingerprints)");
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final int maxFingerprints;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, SqlFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    public SqlLatencyHistograms(SlowQueryProperties properties) {
+        this.maxFingerprints = properties.maxFingerprints();
+    }
+
+    /**
+     * Fingerprint of a statement, memoized by its exact text
+     */
+    SqlFingerprint fingerprint(String sql) {
+        SqlFingerprint cached = fingerprints.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        SqlFingerprint fingerprint = SqlFingerprint.of(sql);
+        // Tagged text varies per endpoint; keep the memo a few times larger than the histogram set
+        if (fingerprints.size() < maxFingerprints * 4) {
+            fingerprints.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    void record(SqlFingerprint fingerprint, long elapsedNanos) {
+        Entry entry = entries.get(fingerprint.id());
+        if (entry == null) {
+            SqlFingerprint target = entries.size() < maxFingerprints ? fingerprint : OTHER;
+            entry = entries.computeIfAbsent(target.id(), id -> new Entry(target, newHistogram()));
+        }
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        entry.histogram().recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * Tracked fingerprints, most total time first
+     */
+    public List<Summary> summaries(int limit) {
+        return entries.values().stream()
+                .map(Entry::summary)
+                .sorted(Comparator.comparingDouble(Summary::totalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public Optional<Detail> detail(String id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        Histogram copy = entry.histogram().copy();
+        List<Percentile> percentiles = List.of(50.0, 75.0, 90.0, 95.0, 99.0, 99.9, 100.0).stream()
+                .map(p -> new Percentile(p, millis(copy.getValueAtPercentile(p))))
+                .toList();
+        return Optional.of(new Detail(Entry.summarize(entry.fingerprint(), copy), percentiles));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+
+    private static ConcurrentHistogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+
+    private record Entry(SqlFingerprint fingerprint, ConcurrentHistogram histogram) {
+
+        Summary summary() {
+            return summarize(fingerprint, histogram.copy());
+        }
+
+        static Summary summarize(SqlFingerprint fingerprint, Histogram histogram) {
+            long count = histogram.getTotalCount();
+            return new Summary(
+                    fingerprint.id(),
+                    fingerprint.sql(),
+                    count,
+                    millis(histogram.getMean() * count),
+                    millis(histogram.getMean()),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue())
+            );
+        }
+    }
+
+    /**
+     * Latency summary for one fingerprint; times in milliseconds
+     */
+    public record Summary(String id, String sql, long count, double totalMs, double meanMs,
+                          double p50Ms, double p99Ms, double maxMs) {
+    }
+
+    public record Detail(Summary summary, List<Percentile> percentiles) {
+    }
+
+    public record Percentile(double percentile, double ms) {
+    }
+}
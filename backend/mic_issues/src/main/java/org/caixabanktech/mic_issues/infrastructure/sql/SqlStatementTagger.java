@@ -0,0 +1,29 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import net.ttddyy.dsproxy.transform.QueryTransformer;
+import net.ttddyy.dsproxy.transform.TransformInfo;
+
+/**
+ * Prefixes each statement with the endpoint and use case that issued it
+ * The comment shows up in pg_stat_activity, pg_stat_statements samples and server logs, e.g.
+ * {@code /* endpoint=IssueController#listIssues usecase=ListIssuesUseCase *&#47; select ...}
+ */
+public class SqlStatementTagger implements QueryTransformer {
+
+    @Override
+    public String transformQuery(TransformInfo transformInfo) {
+        String sql = transformInfo.getQuery();
+        SqlAccounting.Scope scope = SqlAccounting.current();
+        if (scope == null) {
+            return sql;
+        }
+        String useCase = scope.useCase();
+        return "/* endpoint=" + sanitize(scope.endpoint())
+                + (useCase != null ? " usecase=" + sanitize(useCase) : "")
+                + " */ " + sql;
+    }
+
+    private static String sanitize(String value) {
+        return value.replace("*/", "* /");
+    }
+}
@@ -0,0 +1,40 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Attributes statements to the use case that issued them
+ * Use cases called outside an HTTP request (WebSocket, scheduled jobs) get a scope of their own.
+ */
+@Aspect
+public class UseCaseSqlAccountingAspect {
+
+    private final SqlAccountingReporter reporter;
+
+    public UseCaseSqlAccountingAspect(SqlAccountingReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Around("within(org.caixabanktech.mic_issues.application.usecases.*UseCase) && execution(public * *(..))")
+    public Object account(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        SqlAccounting.Scope scope = SqlAccounting.current();
+        boolean owner = scope == null;
+        if (owner) {
+            scope = SqlAccounting.open(useCase);
+        }
+
+        scope.enterUseCase(useCase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.exitUseCase();
+            if (owner) {
+                SqlAccounting.close();
+                reporter.report(scope);
+            }
+        }
+    }
+}
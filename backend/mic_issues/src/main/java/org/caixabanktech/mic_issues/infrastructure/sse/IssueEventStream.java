@@ -0,0 +1,158 @@
+package org.caixabanktech.mic_issues.infrastructure.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventReplayBuffer;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
+import org.caixabanktech.mic_issues.infrastructure.websocket.dto.IssueEventMessage;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * One SSE connection
+ *
+ * Relayed events are offered to a bounded queue without blocking the relay; a dedicated
+ * virtual thread drains it to the client. A client that falls behind by more than the
+ * queue capacity gets a reset event and is disconnected, and resumes with Last-Event-ID.
+ * A bulk import chunk reaches every stream, whatever its filter, as a reset event that
+ * keeps the connection open: the client reloads and streams on.
+ */
+@Slf4j
+class IssueEventStream implements Consumer<RelayedEvent> {
+
+    static final String ISSUE_EVENT = "issue";
+    static final String HEARTBEAT_EVENT = "heartbeat";
+    static final String RESET_EVENT = "reset";
+
+    private final SseEmitter emitter;
+    private final IssueStreamFilter filter;
+    private final BlockingQueue<RelayedEvent> queue;
+    private final Duration heartbeatInterval;
+    private final EventReplayBuffer replayBuffer;
+
+    private volatile boolean overflowed;
+    private volatile boolean closed;
+    private long lastSentSequence;
+    private Thread sender;
+
+    IssueEventStream(SseEmitter emitter, IssueStreamFilter filter, int bufferCapacity,
+                     Duration heartbeatInterval, EventReplayBuffer replayBuffer) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.queue = new ArrayBlockingQueue<>(bufferCapacity);
+        this.heartbeatInterval = heartbeatInterval;
+        this.replayBuffer = replayBuffer;
+    }
+
+    @Override
+    public void accept(RelayedEvent event) {
+        if (closed || overflowed || !isSelected(event)) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            overflowed = true;
+        }
+    }
+
+    /**
+     * Replays what the client missed, then streams live events until the connection ends
+     */
+    void start(long afterSequence, Runnable onClose) {
+        lastSentSequence = afterSequence;
+        EventReplayBuffer.Subscription subscription = replayBuffer.subscribe(afterSequence, this);
+
+        Runnable close = () -> {
+            closed = true;
+            subscription.cancel().run();
+            if (sender != null) {
+                sender.interrupt();
+            }
+            onClose.run();
+        };
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(error -> close.run());
+
+        sender = Thread.ofVirtual()
+                .name("sse-issues-" + Integer.toHexString(System.identityHashCode(this)))
+                .start(() -> run(subscription.replay()));
+    }
+
+    private void run(EventReplayBuffer.Replay replay) {
+        try {
+            if (!replay.complete()) {
+                // Some events after Last-Event-ID were already evicted, or it is from before a
+                // restart; the client must reload, and live events continue from here
+                lastSentSequence = Math.min(lastSentSequence, replay.latestSequence());
+                send(SseEmitter.event()
+                        .name(RESET_EVENT)
+                        .data(Map.of("reason", "resume-gap", "sequence", replay.latestSequence())));
+            }
+            for (RelayedEvent event : replay.events()) {
+                if (isSelected(event)) {
+                    sendEvent(event);
+                }
+            }
+
+            while (!closed) {
+                RelayedEvent event = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (overflowed) {
+                    send(SseEmitter.event()
+                            .name(RESET_EVENT)
+                            .data(Map.of("reason", "buffer-overflow", "sequence", lastSentSequence)));
+                    emitter.complete();
+                    return;
+                }
+                if (event == null) {
+                    send(SseEmitter.event()
+                            .name(HEARTBEAT_EVENT)
+                            .data(Map.of("sequence", replayBuffer.latestSequence())));
+                } else if (event.sequence() > lastSentSequence) {
+                    sendEvent(event);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Issue stream closed: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendEvent(RelayedEvent event) throws IOException {
+        if (isImport(event)) {
+            send(SseEmitter.event()
+                    .id(String.valueOf(event.sequence()))
+                    .name(RESET_EVENT)
+                    .data(Map.of("reason", "bulk-import", "sequence", event.sequence())));
+        } else {
+            send(SseEmitter.event()
+                    .id(String.valueOf(event.sequence()))
+                    .name(ISSUE_EVENT)
+                    .data(event.message()));
+        }
+        lastSentSequence = event.sequence();
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) throws IOException {
+        emitter.send(event);
+    }
+
+    private boolean isSelected(RelayedEvent event) {
+        return event.topic() == RelayTopic.ISSUES
+                && event.message() instanceof IssueEventMessage message
+                && (isImport(event) || filter.matches(message));
+    }
+
+    private static boolean isImport(RelayedEvent event) {
+        return event.message() instanceof IssueEventMessage message
+                && IssueEventMessage.IMPORTED.equals(message.eventType());
+    }
+}
@@ -0,0 +1,56 @@
+package org.caixabanktech.mic_issues.infrastructure.sse;
+
+import org.caixabanktech.mic_issues.infrastructure.websocket.dto.IssueEventMessage;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Server-side filter for the issue stream
+ * Empty criteria match everything, criteria within a field are OR-ed, fields are AND-ed
+ */
+public record IssueStreamFilter(
+        Set<String> statuses,
+        Set<String> priorities,
+        Set<String> eventTypes,
+        Set<String> tags,
+        Long assignedUserId
+) {
+    public static IssueStreamFilter of(Collection<String> statuses, Collection<String> priorities,
+                                       Collection<String> eventTypes, Collection<String> tags,
+                                       Long assignedUserId) {
+        return new IssueStreamFilter(
+                upperCase(statuses),
+                upperCase(priorities),
+                upperCase(eventTypes),
+                tags != null ? Set.copyOf(tags) : Set.of(),
+                assignedUserId
+        );
+    }
+
+    public boolean matches(IssueEventMessage message) {
+        if (!statuses.isEmpty() && !statuses.contains(message.status())) {
+            return false;
+        }
+        if (!priorities.isEmpty() && !priorities.contains(message.priority())) {
+            return false;
+        }
+        if (!eventTypes.isEmpty() && !eventTypes.contains(message.eventType())) {
+            return false;
+        }
+        if (!tags.isEmpty() && (message.tags() == null || message.tags().stream().noneMatch(tags::contains))) {
+            return false;
+        }
+        return assignedUserId == null || assignedUserId.equals(message.assignedUserId());
+    }
+
+    private static Set<String> upperCase(Collection<String> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream()
+                .map(String::toUpperCase)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,58 @@
+package org.caixabanktech.mic_issues.infrastructure.sse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventReplayBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opens Server-Sent Events streams of issue changes
+ * Fed by the same relayed events as the WebSocket broadcast
+ */
+@Component
+public class IssueStreamService {
+
+    private final EventReplayBuffer replayBuffer;
+    private final StreamProperties properties;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public IssueStreamService(EventReplayBuffer replayBuffer, StreamProperties properties, MeterRegistry meterRegistry) {
+        this.replayBuffer = replayBuffer;
+        this.properties = properties;
+        Gauge.builder("worksync.stream.connections", connections, AtomicInteger::get)
+                .description("Open Server-Sent Events issue streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream
+     *
+     * @param lastEventId last sequence the client has seen, or null to start from now
+     * @param filter      server-side filter applied to every event
+     * @return the emitter to return from the controller
+     * @throws IllegalStateException if this node already serves the max number of streams
+     */
+    public SseEmitter open(Long lastEventId, IssueStreamFilter filter) {
+        if (connections.incrementAndGet() > properties.maxConnections()) {
+            connections.decrementAndGet();
+            throw new IllegalStateException("Too many open issue streams");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        IssueEventStream stream = new IssueEventStream(
+                emitter, filter, properties.bufferCapacity(), properties.heartbeatInterval(), replayBuffer);
+
+        long afterSequence = lastEventId != null ? lastEventId : replayBuffer.latestSequence();
+        AtomicInteger closed = new AtomicInteger();
+        stream.start(afterSequence, () -> {
+            // completion, timeout and error callbacks may all fire for the same connection
+            if (closed.getAndIncrement() == 0) {
+                connections.decrementAndGet();
+            }
+        });
+        return emitter;
+    }
+}
@@ -0,0 +1,28 @@
+package org.caixabanktech.mic_issues.infrastructure.sse;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the Server-Sent Events issue stream
+ *
+ * @param heartbeatInterval how often an idle connection receives a heartbeat event
+ * @param bufferCapacity    max events queued for one connection before it is reset
+ * @param timeout           connection lifetime, clients reconnect with Last-Event-ID
+ * @param maxConnections    max concurrent stream connections on this node
+ */
+@ConfigurationProperties(prefix = "worksync.stream")
+public record StreamProperties(
+        Duration heartbeatInterval,
+        Integer bufferCapacity,
+        Duration timeout,
+        Integer maxConnections
+) {
+    public StreamProperties {
+        heartbeatInterval = heartbeatInterval != null ? heartbeatInterval : Duration.ofSeconds(15);
+        bufferCapacity = bufferCapacity != null ? bufferCapacity : 256;
+        timeout = timeout != null ? timeout : Duration.ofMinutes(30);
+        maxConnections = maxConnections != null ? maxConnections : 1000;
+    }
+}
@@ -0,0 +1,166 @@
+package org.caixabanktech.mic_issues.infrastructure.tags;
+
+import lombok.extern.slf4j.Slf4j;
+import org.caixabanktech.mic_issues.application.usecases.ports.TagIndex;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.infrastructure.index.WorkingSetIndex;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tag index of every distinct tag in the working set, sorted by lower-cased tag
+ *
+ * The tags starting with a prefix are one contiguous range of the sorted map, found in
+ * O(log n) and walked once while a heap of size limit keeps the most used. A tag's count is
+ * the number of issues carrying it; tags differing only in case are one entry, shown in the
+ * spelling most of those issues use.
+ *
+ * Loaded from the working set at startup and updated from committed issue events of every
+ * node; deleted and archived issues, including those of a deleted user, no longer count.
+ */
+@Slf4j
+@Component
+public class SortedTagIndex extends WorkingSetIndex implements TagIndex {
+
+    private static final Comparator<Map.Entry<String, Tag>> BY_USAGE = Comparator
+            .comparingLong((Map.Entry<String, Tag> entry) -> entry.getValue().count)
+            .thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+
+    private static final class Tag {
+        long count;
+        final Map<String, Integer> spellings = new HashMap<>(2);
+
+        String display() {
+            return spellings.entrySet().stream()
+                    .max(Map.Entry.<String, Integer>comparingByValue()
+                            .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()))
+                    .map(Map.Entry::getKey)
+                    .orElseThrow();
+        }
+    }
+
+    private final IssueRepository issueRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Tag> tags = new TreeMap<>();
+    private final Map<Long, List<String>> tagsByIssue = new HashMap<>();
+
+    public SortedTagIndex(IssueRepository issueRepository, EventRelay eventRelay,
+                          PlatformTransactionManager transactionManager) {
+        super(issueRepository, null, eventRelay, transactionManager);
+        this.issueRepository = issueRepository;
+    }
+
+    @Override
+    public void bootstrap() {
+        List<Issue> issues = read(issueRepository::findAll);
+        issuesChanged(issues);
+        log.info("Tag index loaded: {} distinct tags over {} issues", tags.size(), issues.size());
+    }
+
+    @Override
+    public List<TagUsage> complete(String prefix, int limit) {
+        String start = normalize(prefix);
+        PriorityQueue<Map.Entry<String, Tag>> top = new PriorityQueue<>(limit + 1, BY_USAGE);
+        List<TagUsage> result = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, Tag> entry : tags.tailMap(start, true).entrySet()) {
+                if (!entry.getKey().startsWith(start)) {
+                    break;
+                }
+                top.add(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            while (!top.isEmpty()) {
+                Tag tag = top.poll().getValue();
+                result.add(new TagUsage(tag.display(), tag.count));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result.reversed();
+    }
+
+    @Override
+    protected void issuesChanged(List<Issue> issues) {
+        lock.writeLock().lock();
+        try {
+            for (Issue issue : issues) {
+                List<String> next = distinctTags(issue.getTags());
+                List<String> previous = tagsByIssue.getOrDefault(issue.getId(), List.of());
+                if (previous.equals(next)) {
+                    continue;
+                }
+                previous.forEach(tag -> count(tag, -1));
+                next.forEach(tag -> count(tag, 1));
+                if (next.isEmpty()) {
+                    tagsByIssue.remove(issue.getId());
+                } else {
+                    tagsByIssue.put(issue.getId(), next);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void issuesRemoved(List<Long> issueIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long issueId : issueIds) {
+                List<String> previous = tagsByIssue.remove(issueId);
+                if (previous != null) {
+                    previous.forEach(tag -> count(tag, -1));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void count(String spelling, int delta) {
+        String key = normalize(spelling);
+        Tag tag = tags.computeIfAbsent(key, k -> new Tag());
+        tag.count += delta;
+        if (tag.spellings.merge(spelling, delta, Integer::sum) <= 0) {
+            tag.spellings.remove(spelling);
+        }
+        if (tag.count <= 0) {
+            tags.remove(key);
+        }
+    }
+
+    // One spelling per tag and issue, the first one given
+    private static List<String> distinctTags(List<String> tags) {
+        Map<String, String> distinct = new LinkedHashMap<>();
+        for (String tag : tags) {
+            if (tag != null && !tag.isBlank()) {
+                distinct.putIfAbsent(normalize(tag), tag.strip());
+            }
+        }
+        return List.copyOf(distinct.values());
+    }
+
+    private static String normalize(String tag) {
+        return tag == null ? "" : tag.strip().toLowerCase(Locale.ROOT);
+    }
+}
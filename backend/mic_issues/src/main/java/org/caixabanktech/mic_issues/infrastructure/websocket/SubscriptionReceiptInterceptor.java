@@ -0,0 +1,55 @@
+package org.caixabanktech.mic_issues.infrastructure.websocket;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers SUBSCRIBE frames carrying a receipt header with a RECEIPT frame
+ *
+ * The simple broker only sends receipts for DISCONNECT. This one goes out once the broker
+ * has registered the subscription, so a client waiting for it knows that every message
+ * published from then on reaches it.
+ */
+@Component
+public class SubscriptionReceiptInterceptor implements ExecutorChannelInterceptor {
+
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
+    // Lazily: the outbound channel is created by the broker configuration this interceptor is part of
+    private final ObjectProvider<MessageChannel> clientOutboundChannel;
+
+    public SubscriptionReceiptInterceptor(@Qualifier("clientOutboundChannel") ObjectProvider<MessageChannel> clientOutboundChannel) {
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    /**
+     * Runs once per inbound handler; only the broker's turn means the subscription exists
+     */
+    @Override
+    public void afterMessageHandled(@NotNull Message<?> message, @NotNull MessageChannel channel,
+                                    @NotNull MessageHandler handler, Exception ex) {
+        if (ex != null || !(handler instanceof AbstractBrokerMessageHandler)) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        String receiptId = accessor.getReceipt();
+        if (accessor.getMessageType() != SimpMessageType.SUBSCRIBE || receiptId == null) {
+            return;
+        }
+        StompHeaderAccessor receipt = StompHeaderAccessor.create(StompCommand.RECEIPT);
+        receipt.setReceiptId(receiptId);
+        receipt.setSessionId(accessor.getSessionId());
+        clientOutboundChannel.getObject().send(MessageBuilder.createMessage(EMPTY_PAYLOAD, receipt.getMessageHeaders()));
+    }
+}
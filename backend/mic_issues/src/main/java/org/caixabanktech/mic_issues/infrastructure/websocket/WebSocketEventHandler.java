@@ -2,33 +2,49 @@ package org.caixabanktech.mic_issues.infrastructure.websocket;
 
 import lombok.extern.slf4j.Slf4j;
 import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.domain.events.IssuesImportedEvent;
 import org.caixabanktech.mic_issues.domain.events.UserEvent;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
 import org.caixabanktech.mic_issues.infrastructure.websocket.dto.IssueEventMessage;
 import org.caixabanktech.mic_issues.infrastructure.websocket.dto.UserEventMessage;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
 
 /**
  * WebSocket Event Handler
- * Listens to domain events and broadcasts them to WebSocket clients
+ * Listens to domain events, hands them to the event relay and broadcasts
+ * the relayed events to WebSocket clients connected to this node
  */
 @Slf4j
 @Component
 public class WebSocketEventHandler {
 
+    /**
+     * STOMP header carrying the relay sequence, lets clients drop duplicates and detect gaps
+     */
+    public static final String SEQUENCE_HEADER = "event-sequence";
+
     private final SimpMessagingTemplate messagingTemplate;
+    private final EventRelay eventRelay;
 
-    public WebSocketEventHandler(SimpMessagingTemplate messagingTemplate) {
+    public WebSocketEventHandler(SimpMessagingTemplate messagingTemplate, EventRelay eventRelay) {
         this.messagingTemplate = messagingTemplate;
+        this.eventRelay = eventRelay;
     }
 
     /**
-     * Listens for IssueEvent and broadcasts to all clients subscribed to /topic/issues
+     * Relays an IssueEvent to every node once its transaction has committed,
+     * so a rolled-back change is never sequenced nor sent; runs inline without a transaction
      */
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleIssueEvent(IssueEvent event) {
-        log.info("Broadcasting issue event: {} for issue ID: {}",
+        log.info("Relaying issue event: {} for issue ID: {}",
                 event.getEventType(), event.getIssue().getId());
 
         IssueEventMessage message = IssueEventMessage.from(
@@ -37,22 +53,25 @@ public class WebSocketEventHandler {
                 event.getUserId()
         );
 
-        // Broadcast to all clients subscribed to /topic/issues
-        messagingTemplate.convertAndSend("/topic/issues", message);
+        eventRelay.publish(RelayTopic.ISSUES, event.getIssue().getId(), message);
+    }
 
-        // Also send to specific issue topic for clients watching a specific issue
-        messagingTemplate.convertAndSend(
-                "/topic/issues/" + event.getIssue().getId(),
-                message
-        );
+    /**
+     * Relays one refresh hint per committed import chunk, rather than an event per issue
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleIssuesImported(IssuesImportedEvent event) {
+        log.info("Relaying import of {} issues", event.getIssues().size());
+
+        eventRelay.publish(RelayTopic.ISSUES, null, IssueEventMessage.imported());
     }
 
     /**
-     * Listens for UserEvent and broadcasts to all clients subscribed to /topic/users
+     * Relays a UserEvent to every node once its transaction has committed
      */
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleUserEvent(UserEvent event) {
-        log.info("Broadcasting user event: {} for user ID: {}",
+        log.info("Relaying user event: {} for user ID: {}",
                 event.getEventType(), event.getUser().getId());
 
         UserEventMessage message = UserEventMessage.from(
@@ -60,13 +79,27 @@ public class WebSocketEventHandler {
                 event.getEventType().name()
         );
 
-        // Broadcast to all clients subscribed to /topic/users
-        messagingTemplate.convertAndSend("/topic/users", message);
+        eventRelay.publish(RelayTopic.USERS, event.getUser().getId(), message);
+    }
 
-        // Also send to specific user topic for clients watching a specific user
-        messagingTemplate.convertAndSend(
-                "/topic/users/" + event.getUser().getId(),
-                message
-        );
+    /**
+     * Broadcasts relayed events to clients subscribed to /topic/issues or /topic/users,
+     * and to the entity topic for clients watching a specific issue or user
+     *
+     * Relayed events are committed already, and the local relay publishes them from the
+     * after-commit callback of the handlers above, where a transactional listener would never run
+     */
+    @EventListener
+    public void handleRelayedEvent(RelayedEvent event) {
+        log.debug("Broadcasting relayed event #{} from node {} on {}",
+                event.sequence(), event.originNode(), event.topic().destination());
+
+        Map<String, Object> headers = Map.of(SEQUENCE_HEADER, String.valueOf(event.sequence()));
+
+        messagingTemplate.convertAndSend(event.topic().destination(), event.message(), headers);
+
+        if (event.entityId() != null) {
+            messagingTemplate.convertAndSend(event.topic().destination(event.entityId()), event.message(), headers);
+        }
     }
 }
@@ -0,0 +1,150 @@
+package org.caixabanktech.mic_issues.infrastructure.websocket;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+/**
+ * Tracks per-session outbound buffer occupancy and exports WebSocket metrics
+ *
+ * Spring buffers frames for a client that is not keeping up and evicts the session
+ * once the configured send time or buffer size limit is exceeded. The buffer itself
+ * is not exposed, so occupancy is derived from both ends of it: frames handed to a
+ * session on the outbound channel, minus frames actually written to the socket.
+ */
+@Component
+public class WebSocketSessionMonitor implements WebSocketHandlerDecoratorFactory, ExecutorChannelInterceptor, MeterBinder {
+
+    private final Map<String, SessionCounters> sessions = new ConcurrentHashMap<>();
+    private final ObjectProvider<WebSocketMessageBrokerStats> brokerStats;
+
+    public WebSocketSessionMonitor(ObjectProvider<WebSocketMessageBrokerStats> brokerStats) {
+        this.brokerStats = brokerStats;
+    }
+
+    @Override
+    public @NotNull WebSocketHandler decorate(@NotNull WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(@NotNull WebSocketSession session) throws Exception {
+                SessionCounters counters = new SessionCounters();
+                sessions.put(session.getId(), counters);
+                super.afterConnectionEstablished(new SentFrameCountingSession(session, counters));
+            }
+
+            @Override
+            public void afterConnectionClosed(@NotNull WebSocketSession session, @NotNull CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * Runs once the outbound channel has handed a frame to the session's send buffer
+     */
+    @Override
+    public void afterMessageHandled(@NotNull Message<?> message, @NotNull MessageChannel channel,
+                                    @NotNull MessageHandler handler, Exception ex) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null || ex != null) {
+            return;
+        }
+        SessionCounters counters = sessions.get(sessionId);
+        if (counters != null) {
+            counters.enqueued.incrementAndGet();
+        }
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public long getPendingFrames() {
+        return sessions.values().stream().mapToLong(SessionCounters::pending).sum();
+    }
+
+    public long getMaxPendingFrames() {
+        return sessions.values().stream().mapToLong(SessionCounters::pending).max().orElse(0);
+    }
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        Gauge.builder("worksync.websocket.sessions", this, WebSocketSessionMonitor::getSessionCount)
+                .description("Open WebSocket and SockJS sessions")
+                .register(registry);
+        Gauge.builder("worksync.websocket.buffer.pending", this, WebSocketSessionMonitor::getPendingFrames)
+                .description("Frames buffered across all sessions, waiting to be written")
+                .register(registry);
+        Gauge.builder("worksync.websocket.buffer.pending.max", this, WebSocketSessionMonitor::getMaxPendingFrames)
+                .description("Frames buffered for the slowest session")
+                .register(registry);
+        FunctionCounter.builder("worksync.websocket.evictions", this,
+                        monitor -> monitor.sessionStat(SubProtocolWebSocketHandler.Stats::getLimitExceededSessions))
+                .description("Sessions closed because they exceeded the send time or buffer size limit")
+                .register(registry);
+        FunctionCounter.builder("worksync.websocket.transport.errors", this,
+                        monitor -> monitor.sessionStat(SubProtocolWebSocketHandler.Stats::getTransportErrorSessions))
+                .description("Sessions closed after a transport error")
+                .register(registry);
+    }
+
+    private double sessionStat(ToIntFunction<SubProtocolWebSocketHandler.Stats> stat) {
+        WebSocketMessageBrokerStats stats = brokerStats.getIfAvailable();
+        if (stats == null || stats.getWebSocketSessionStats() == null) {
+            return 0;
+        }
+        return stat.applyAsInt(stats.getWebSocketSessionStats());
+    }
+
+    private static final class SessionCounters {
+        private final AtomicLong enqueued = new AtomicLong();
+        private final AtomicLong sent = new AtomicLong();
+
+        private long pending() {
+            return Math.max(0, enqueued.get() - sent.get());
+        }
+    }
+
+    /**
+     * Sits below Spring's buffering decorator, so it only sees frames leaving the buffer
+     */
+    private static final class SentFrameCountingSession extends WebSocketSessionDecorator {
+        private final SessionCounters counters;
+
+        private SentFrameCountingSession(WebSocketSession session, SessionCounters counters) {
+            super(session);
+            this.counters = counters;
+        }
+
+        @Override
+        public void sendMessage(@NotNull WebSocketMessage<?> message) throws IOException {
+            super.sendMessage(message);
+            counters.sent.incrementAndGet();
+        }
+    }
+}
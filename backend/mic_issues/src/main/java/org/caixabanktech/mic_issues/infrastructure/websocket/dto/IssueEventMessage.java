@@ -8,6 +8,9 @@ import java.util.List;
 /**
  * WebSocket DTO for Issue events
  * Sent to all connected clients when issues change
+ *
+ * A bulk import is sent as one IMPORTED message per chunk, without issue fields: clients
+ * reload their issues instead of receiving one CREATED message per imported issue.
  */
 public record IssueEventMessage(
         String eventType,
@@ -23,6 +26,8 @@ public record IssueEventMessage(
         Long triggeredByUserId,
         LocalDateTime timestamp
 ) {
+    public static final String IMPORTED = "IMPORTED";
+
     public static IssueEventMessage from(Issue issue, String eventType, Long triggeredByUserId) {
         return new IssueEventMessage(
                 eventType,
@@ -39,4 +44,9 @@ public record IssueEventMessage(
                 LocalDateTime.now()
         );
     }
+
+    public static IssueEventMessage imported() {
+        return new IssueEventMessage(IMPORTED, null, null, null, null, null, null, null, null,
+                List.of(), null, LocalDateTime.now());
+    }
 }
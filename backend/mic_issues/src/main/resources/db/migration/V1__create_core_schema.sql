@@ -0,0 +1,42 @@
+-- Core schema: users, issues, tags and collaborators
+-- Databases previously managed by Hibernate ddl-auto are baselined at this version
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(50) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    phone VARCHAR(20),
+    address VARCHAR(255),
+    department VARCHAR(100),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE issues (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    requester VARCHAR(100),
+    status VARCHAR(50) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    assigned_user_id BIGINT REFERENCES users (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT issues_status_check CHECK (status IN ('OPEN', 'IN_PROGRESS', 'RESOLVED', 'CLOSED', 'REJECTED')),
+    CONSTRAINT issues_priority_check CHECK (priority IN ('LOW', 'NORMAL', 'HIGH', 'URGENT'))
+);
+
+CREATE TABLE issue_tags (
+    issue_id BIGINT NOT NULL REFERENCES issues (id),
+    tag VARCHAR(255)
+);
+
+CREATE TABLE user_issue_collaborators (
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    issue_id BIGINT NOT NULL REFERENCES issues (id),
+    PRIMARY KEY (user_id, issue_id)
+);
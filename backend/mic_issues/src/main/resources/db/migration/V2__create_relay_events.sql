@@ -0,0 +1,13 @@
+-- Outbox read by every node when worksync.relay.mode=postgres
+-- IF NOT EXISTS: the relay used to create this table itself at startup
+
+CREATE TABLE IF NOT EXISTS relay_events (
+    id BIGSERIAL PRIMARY KEY,
+    origin_node VARCHAR(64) NOT NULL,
+    topic VARCHAR(20) NOT NULL,
+    entity_id BIGINT,
+    payload TEXT NOT NULL,
+    published_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_relay_events_published_at ON relay_events (published_at);
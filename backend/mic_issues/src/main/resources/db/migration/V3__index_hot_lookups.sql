@@ -0,0 +1,11 @@
+-- Indexes for the lookups issued by IssueJpaRepository / UserJpaRepository
+-- Covered by QueryPlanRegressionTest (mvn test -Pquery-plan)
+-- CONCURRENTLY keeps writes flowing on large tables; Flyway runs this script outside a transaction
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issues_status ON issues (status);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issues_assigned_user_id ON issues (assigned_user_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_tags_issue_id ON issue_tags (issue_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_department ON users (department);
@@ -0,0 +1,37 @@
+-- Cold storage for terminal issues (CLOSED / REJECTED), filled in batches by IssueArchiver
+-- Ids are kept, so an archived issue is still addressable by its original id
+
+CREATE TABLE issues_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    requester VARCHAR(100),
+    status VARCHAR(50) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    assigned_user_id BIGINT REFERENCES users (id) ON DELETE SET NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    archived_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT issues_archive_status_check CHECK (status IN ('CLOSED', 'REJECTED'))
+);
+
+CREATE INDEX idx_issues_archive_status ON issues_archive (status);
+
+CREATE INDEX idx_issues_archive_assigned_user_id ON issues_archive (assigned_user_id);
+
+CREATE TABLE issue_tags_archive (
+    issue_id BIGINT NOT NULL REFERENCES issues_archive (id) ON DELETE CASCADE,
+    tag VARCHAR(255)
+);
+
+CREATE INDEX idx_issue_tags_archive_issue_id ON issue_tags_archive (issue_id);
+
+CREATE TABLE user_issue_collaborators_archive (
+    user_id BIGINT NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    issue_id BIGINT NOT NULL REFERENCES issues_archive (id) ON DELETE CASCADE,
+    PRIMARY KEY (user_id, issue_id)
+);
+
+-- Lets the archiver find candidates without scanning the open working set
+CREATE INDEX idx_issues_terminal_age ON issues (COALESCE(updated_at, created_at))
+    WHERE status IN ('CLOSED', 'REJECTED');
@@ -0,0 +1,30 @@
+-- Append-only log of issue status transitions, written by IssueStatusHistoryRecorder in the
+-- transaction that changes the issue. Statuses are smallint codes (see IssueStatusHistoryAdapter):
+-- 1 OPEN, 2 IN_PROGRESS, 3 RESOLVED, 4 CLOSED, 5 REJECTED. Fixed-width columns come first, so a
+-- row carries no alignment padding. No foreign key to issues: history outlives archiving and deletion.
+
+CREATE TABLE issue_status_history (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    issue_id BIGINT NOT NULL,
+    changed_by BIGINT,
+    changed_at TIMESTAMP(6) NOT NULL,
+    from_status SMALLINT,
+    to_status SMALLINT NOT NULL,
+    CONSTRAINT issue_status_history_from_status_check CHECK (from_status BETWEEN 1 AND 5),
+    CONSTRAINT issue_status_history_to_status_check CHECK (to_status BETWEEN 1 AND 5)
+);
+
+-- Existing issues start with their current status as of their last change; earlier transitions are unknown
+INSERT INTO issue_status_history (issue_id, changed_at, to_status)
+SELECT id, COALESCE(updated_at, created_at),
+       CASE status WHEN 'OPEN' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'RESOLVED' THEN 3
+                   WHEN 'CLOSED' THEN 4 WHEN 'REJECTED' THEN 5 END
+FROM issues
+ORDER BY COALESCE(updated_at, created_at), id;
+
+-- Rows arrive in changed_at order, so block ranges barely overlap: a BRIN index of a few pages
+-- prunes date-range scans over millions of rows
+CREATE INDEX idx_issue_status_history_changed_at ON issue_status_history USING brin (changed_at);
+
+-- Timeline of one issue, and the next-transition lookup behind the time-in-status report
+CREATE INDEX idx_issue_status_history_issue ON issue_status_history (issue_id, changed_at, id);
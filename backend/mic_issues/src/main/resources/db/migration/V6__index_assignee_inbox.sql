@@ -0,0 +1,9 @@
+-- Per-user inbox (GET /api/users/{id}/issues): pages of one assignee's issues in some statuses,
+-- most recently changed first. With the status in the key, a single-status page is one ordered
+-- range scan that stops at the page size, and per-status counts are answered from the index alone.
+-- The sort key matches the COALESCE in IssueJpaRepository.findInboxPage; issues never updated
+-- have a NULL updated_at.
+-- CONCURRENTLY keeps writes flowing on large tables; Flyway runs this script outside a transaction
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issues_assignee_inbox
+    ON issues (assigned_user_id, status, (COALESCE(updated_at, created_at)) DESC, id DESC);
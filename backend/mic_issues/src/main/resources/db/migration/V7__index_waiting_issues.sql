@@ -0,0 +1,9 @@
+-- Work queue (POST /api/queue/next): the unassigned OPEN issue of the highest priority, oldest
+-- first. The partial index holds only waiting issues, in pick-up order, so a claim reads the
+-- first entries and SKIP LOCKED moves past rows other claims hold without scanning the table.
+-- The rank expression matches the ORDER BY in IssueJpaRepository.lockNextWaiting.
+-- CONCURRENTLY keeps writes flowing on large tables; Flyway runs this script outside a transaction
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issues_waiting
+    ON issues ((CASE priority WHEN 'URGENT' THEN 0 WHEN 'HIGH' THEN 1 WHEN 'NORMAL' THEN 2 ELSE 3 END), created_at, id)
+    WHERE status = 'OPEN' AND assigned_user_id IS NULL;
@@ -0,0 +1,26 @@
+-- Issues created and resolved per hour and per day, behind GET /api/metrics/issues/timeseries.
+-- Each node adds its counts every worksync.activity.flush-interval with additive upserts
+-- (see JdbcActivityRollupStore); per-minute counts stay in memory. Granularity codes:
+-- 1 HOUR, 2 DAY. Bucket starts are local times truncated to the hour or day.
+
+CREATE TABLE issue_activity_rollup (
+    granularity SMALLINT NOT NULL,
+    bucket_start TIMESTAMP(0) NOT NULL,
+    created BIGINT NOT NULL DEFAULT 0,
+    resolved BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (granularity, bucket_start),
+    CONSTRAINT issue_activity_rollup_granularity_check CHECK (granularity BETWEEN 1 AND 2)
+);
+
+-- Existing activity: creations of live and archived issues, resolutions from the status history
+INSERT INTO issue_activity_rollup (granularity, bucket_start, created, resolved)
+SELECT g.code, date_trunc(g.unit, e.at),
+       count(*) FILTER (WHERE e.created),
+       count(*) FILTER (WHERE NOT e.created)
+FROM (SELECT created_at AS at, true AS created FROM issues
+      UNION ALL
+      SELECT created_at, true FROM issues_archive
+      UNION ALL
+      SELECT changed_at, false FROM issue_status_history WHERE to_status = 3) e
+CROSS JOIN (VALUES (1, 'hour'), (2, 'day')) AS g (code, unit)
+GROUP BY g.code, date_trunc(g.unit, e.at);
@@ -0,0 +1,9 @@
+-- Unfiltered inbox (GET /api/users/{id}/issues without a status): pages of every issue of one
+-- assignee, most recently changed first. idx_issues_assignee_inbox has the status ahead of the
+-- change time, so across all statuses its entries are not in page order and every issue of
+-- the assignee is read and sorted; this index is one ordered range scan that stops at the
+-- page size. The sort key matches the COALESCE in IssueJpaRepository.findInboxPage.
+-- CONCURRENTLY keeps writes flowing on large tables; Flyway runs this script outside a transaction
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issues_assignee_recent
+    ON issues (assigned_user_id, (COALESCE(updated_at, created_at)) DESC, id DESC);
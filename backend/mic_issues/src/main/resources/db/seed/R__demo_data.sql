@@ -1,16 +1,15 @@
--- Test data initialization script
--- Runs automatically on application startup if database is empty
+-- Demo data, applied only with the "seed" profile
+-- Flyway re-runs this script when its checksum changes, so every insert is idempotent
 
--- Insert test users
 INSERT INTO users (id, username, password, name, email, phone, address, department, created_at, updated_at)
 VALUES
     (1, 'admin', 'admin123', 'Admin User', 'admin@company.com', '+34 600 111 111', 'Madrid, Spain', 'IT', CURRENT_TIMESTAMP, NULL),
     (2, 'john', 'password123', 'John Doe', 'john@company.com', '+34 600 222 222', 'Barcelona, Spain', 'Development', CURRENT_TIMESTAMP, NULL),
     (3, 'jane', 'password123', 'Jane Smith', 'jane@company.com', '+34 600 333 333', 'Valencia, Spain', 'QA', CURRENT_TIMESTAMP, NULL),
     (4, 'bob', 'password123', 'Bob Johnson', 'bob@company.com', '+34 600 444 444', 'Seville, Spain', 'Support', CURRENT_TIMESTAMP, NULL),
-    (5, 'alice', 'password123', 'Alice Williams', 'alice@company.com', '+34 600 555 555', 'Bilbao, Spain', 'Operations', CURRENT_TIMESTAMP, NULL);
+    (5, 'alice', 'password123', 'Alice Williams', 'alice@company.com', '+34 600 555 555', 'Bilbao, Spain', 'Operations', CURRENT_TIMESTAMP, NULL)
+ON CONFLICT DO NOTHING;
 
--- Insert test issues with requester and priority
 INSERT INTO issues (id, title, description, requester, status, priority, assigned_user_id, created_at, updated_at)
 VALUES
     (1, 'User login error', 'Users cannot login after the latest update. Error 500 when attempting to authenticate.', 'Admin User', 'OPEN', 'URGENT', NULL, CURRENT_TIMESTAMP - INTERVAL '2 days', NULL),
@@ -27,11 +26,13 @@ VALUES
 
     (7, 'Price calculation error', 'System is incorrectly calculating discounts in some specific cases.', 'Jane Smith', 'IN_PROGRESS', 'URGENT', 5, CURRENT_TIMESTAMP - INTERVAL '6 days', CURRENT_TIMESTAMP - INTERVAL '12 hours'),
 
-    (8, 'Improve security', 'Implement two-factor authentication (2FA) for admin users.', 'Bob Johnson', 'CLOSED', 'NORMAL', 1, CURRENT_TIMESTAMP - INTERVAL '12 days', CURRENT_TIMESTAMP - INTERVAL '5 days');
+    (8, 'Improve security', 'Implement two-factor authentication (2FA) for admin users.', 'Bob Johnson', 'CLOSED', 'NORMAL', 1, CURRENT_TIMESTAMP - INTERVAL '12 days', CURRENT_TIMESTAMP - INTERVAL '5 days')
+ON CONFLICT DO NOTHING;
 
--- Insert tags for issues
+-- issue_tags has no key, so skip pairs that are already present
 INSERT INTO issue_tags (issue_id, tag)
-VALUES
+SELECT seed.issue_id, seed.tag
+FROM (VALUES
     (1, 'authentication'),
     (1, 'critical'),
     (2, 'frontend'),
@@ -46,8 +47,11 @@ VALUES
     (7, 'pricing'),
     (7, 'calculations'),
     (8, 'security'),
-    (8, 'authentication');
-
--- Reset sequences for PostgreSQL
-SELECT setval('users_id_seq', (SELECT MAX(id) FROM users));
-SELECT setval('issues_id_seq', (SELECT MAX(id) FROM issues));
+    (8, 'authentication')
+) AS seed (issue_id, tag)
+WHERE EXISTS (SELECT 1 FROM issues i WHERE i.id = seed.issue_id)
+  AND NOT EXISTS (SELECT 1 FROM issue_tags t WHERE t.issue_id = seed.issue_id AND t.tag = seed.tag);
+
+-- Move identities past the explicit ids
+SELECT setval(pg_get_serial_sequence('users', 'id'), (SELECT COALESCE(MAX(id), 1) FROM users));
+SELECT setval(pg_get_serial_sequence('issues', 'id'), (SELECT COALESCE(MAX(id), 1) FROM issues));
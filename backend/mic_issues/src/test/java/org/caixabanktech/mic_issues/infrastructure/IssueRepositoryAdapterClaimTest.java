@@ -0,0 +1,116 @@
+package org.caixabanktech.mic_issues.infrastructure;
+
+import org.caixabanktech.mic_issues.application.usecases.ClaimNextIssueUseCase;
+import org.caixabanktech.mic_issues.application.usecases.CreateIssueUseCase;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent claims on the PostgreSQL work queue (FOR UPDATE SKIP LOCKED)
+ * Every claimer keeps claiming until the queue is empty; each issue must be handed out once.
+ */
+@SpringBootTest
+class IssueRepositoryAdapterClaimTest {
+
+    private static final int ISSUES = 40;
+    private static final int CLAIMERS = 8;
+
+    @Autowired
+    private ClaimNextIssueUseCase claimNextIssueUseCase;
+
+    @Autowired
+    private CreateIssueUseCase createIssueUseCase;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final String queue = "claim-" + UUID.randomUUID().toString().substring(0, 8);
+    private final List<Long> issueIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CLAIMERS; i++) {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            User user = userRepository.save(User.builder()
+                    .username("claim-" + suffix)
+                    .password("secret")
+                    .name("Claimer " + i)
+                    .email("claim-" + suffix + "@example.com")
+                    .department("QA")
+                    .build());
+            userIds.add(user.getId());
+        }
+        for (int i = 0; i < ISSUES; i++) {
+            String priority = List.of("LOW", "NORMAL", "HIGH", "URGENT").get(i % 4);
+            Issue issue = createIssueUseCase.execute("Queued " + i, "SKIP LOCKED guard", "test", priority, List.of(queue), null);
+            issueIds.add(issue.getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        issueIds.forEach(issueRepository::deleteById);
+        userIds.forEach(userRepository::deleteById);
+    }
+
+    @Test
+    void concurrentClaimsNeverHandOutTheSameIssueTwice() throws Exception {
+        Map<Long, Long> claimedBy = new ConcurrentHashMap<>();
+        List<Long> claims = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS);
+        try {
+            List<Future<?>> claimers = new ArrayList<>();
+            for (Long userId : userIds) {
+                claimers.add(executor.submit(() -> {
+                    start.await();
+                    Optional<Issue> claimed;
+                    while ((claimed = claimNextIssueUseCase.execute(userId, queue)).isPresent()) {
+                        claims.add(claimed.get().getId());
+                        claimedBy.put(claimed.get().getId(), userId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> claimer : claimers) {
+                claimer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(claims).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(issueIds);
+        for (Long issueId : issueIds) {
+            Issue stored = issueRepository.findById(issueId).orElseThrow();
+            assertThat(stored.getStatus()).isEqualTo(IssueStatus.IN_PROGRESS);
+            assertThat(stored.getAssignedUser().getId()).isEqualTo(claimedBy.get(issueId));
+        }
+    }
+}
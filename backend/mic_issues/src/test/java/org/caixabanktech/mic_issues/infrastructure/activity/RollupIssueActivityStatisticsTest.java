@@ -0,0 +1,100 @@
+package org.caixabanktech.mic_issues.infrastructure.activity;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.ActivityBucket;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueActivityStatistics.Granularity;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.domain.events.IssuesImportedEvent;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Minute, hour and day series before and after the pending counts are flushed
+ */
+class RollupIssueActivityStatisticsTest {
+
+    private final LocalDateTime tenMinutesAgo = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(10);
+    private final InMemoryActivityRollupStore store = new InMemoryActivityRollupStore();
+
+    private RollupIssueActivityStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        IssueStatusHistoryRepository history = mock(IssueStatusHistoryRepository.class);
+        when(history.findTransitionsInto(any(), any(), any())).thenReturn(List.of(
+                new StatusTransition(1L, null, IssueStatus.OPEN, null, tenMinutesAgo),
+                new StatusTransition(1L, IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED, 7L, tenMinutesAgo.plusSeconds(30))));
+        statistics = new RollupIssueActivityStatistics(store, history, new ActivityProperties(Duration.ofHours(1)),
+                mock(EventRelay.class), mock(PlatformTransactionManager.class));
+        statistics.bootstrap();
+    }
+
+    @Test
+    void countsCreationsAndResolutionsPerMinuteFromHistoryAndEvents() {
+        LocalDateTime nineMinutesAgo = tenMinutesAgo.plusMinutes(1);
+        statistics.onIssueEvent(new IssueEvent(this, issue(2L, IssueStatus.OPEN, nineMinutesAgo, null),
+                IssueEvent.EventType.CREATED, null));
+        statistics.onIssueEvent(new IssueEvent(this, issue(2L, IssueStatus.IN_PROGRESS, nineMinutesAgo, nineMinutesAgo),
+                IssueEvent.EventType.ASSIGNED, 7L, IssueStatus.OPEN));
+        statistics.onIssueEvent(new IssueEvent(this, issue(2L, IssueStatus.RESOLVED, nineMinutesAgo, nineMinutesAgo),
+                IssueEvent.EventType.RESOLVED, 7L, IssueStatus.IN_PROGRESS));
+
+        assertThat(statistics.series(Granularity.MINUTE, tenMinutesAgo.minusMinutes(1), tenMinutesAgo.plusMinutes(2)))
+                .containsExactly(
+                        new ActivityBucket(tenMinutesAgo.minusMinutes(1), 0, 0),
+                        new ActivityBucket(tenMinutesAgo, 1, 1),
+                        new ActivityBucket(nineMinutesAgo, 1, 1));
+    }
+
+    @Test
+    void servesHoursAndDaysFromPendingCountsThenFromTheStore() {
+        LocalDateTime lastYear = LocalDateTime.of(LocalDateTime.now().getYear() - 1, 3, 14, 9, 26);
+        statistics.onIssuesImported(new IssuesImportedEvent(this, List.of(
+                issue(3L, IssueStatus.OPEN, lastYear, null),
+                issue(4L, IssueStatus.RESOLVED, lastYear.plusMinutes(50), null))));
+        statistics.onIssueEvent(new IssueEvent(this, issue(5L, IssueStatus.OPEN, tenMinutesAgo, null),
+                IssueEvent.EventType.CREATED, null));
+
+        List<ActivityBucket> hours = List.of(
+                new ActivityBucket(lastYear.truncatedTo(ChronoUnit.HOURS), 1, 0),
+                new ActivityBucket(lastYear.truncatedTo(ChronoUnit.HOURS).plusHours(1), 1, 1));
+        LocalDateTime day = lastYear.truncatedTo(ChronoUnit.DAYS);
+        assertThat(statistics.series(Granularity.HOUR, lastYear, lastYear.plusMinutes(90))).isEqualTo(hours);
+        assertThat(store.find(Granularity.HOUR, day, day.plusDays(1))).isEmpty();
+
+        statistics.flush();
+
+        assertThat(store.find(Granularity.HOUR, day, day.plusDays(1))).isEqualTo(hours);
+        assertThat(statistics.series(Granularity.HOUR, lastYear, lastYear.plusMinutes(90))).isEqualTo(hours);
+        assertThat(statistics.series(Granularity.DAY, day.minusDays(1), day.plusDays(1))).containsExactly(
+                new ActivityBucket(day.minusDays(1), 0, 0),
+                new ActivityBucket(day, 2, 1));
+        assertThat(statistics.series(Granularity.DAY, tenMinutesAgo, tenMinutesAgo.plusMinutes(1)))
+                .containsExactly(new ActivityBucket(tenMinutesAgo.truncatedTo(ChronoUnit.DAYS), 1, 0));
+    }
+
+    private static Issue issue(Long id, IssueStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return Issue.reconstitute()
+                .withId(id)
+                .withTitle("Issue " + id)
+                .withStatus(status)
+                .withCreatedAt(createdAt)
+                .withUpdatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package org.caixabanktech.mic_issues.infrastructure.archive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Moving terminal issues to the archive tables against PostgreSQL. Needs a local PostgreSQL;
+ * run with {@code mvn test -Ppostgres}.
+ */
+@Tag("postgres")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:postgresql://localhost:5432/${POSTGRES_DB:mydb}?currentSchema=archive_test",
+        "spring.flyway.schemas=archive_test",
+        "worksync.archive.after=30d",
+        "worksync.archive.batch-size=2",
+        "worksync.archive.initial-delay=1h"
+})
+class IssueArchiverTest {
+
+    private static final LocalDateTime LONG_AGO = LocalDateTime.now().minusDays(60);
+
+    @Autowired
+    private IssueArchiver archiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void clean() {
+        jdbcTemplate.execute("TRUNCATE user_issue_collaborators_archive, issue_tags_archive, issues_archive, "
+                + "user_issue_collaborators, issue_tags, issues RESTART IDENTITY CASCADE");
+    }
+
+    @Test
+    void movesStaleTerminalIssuesWithTheirTagsAndKeepsThemReadable() throws Exception {
+        long closed = insertIssue("CLOSED", LONG_AGO, "vpn", "network");
+        long rejected = insertIssue("REJECTED", LONG_AGO.plusMinutes(1), "printer");
+        long untagged = insertIssue("CLOSED", LONG_AGO.plusMinutes(2));
+        long open = insertIssue("OPEN", LONG_AGO, "vpn");
+        long recent = insertIssue("CLOSED", LocalDateTime.now(), "vpn");
+
+        // Two batches of at most two issues
+        archiver.archive();
+
+        assertThat(ids("SELECT id FROM issues")).containsExactlyInAnyOrder(open, recent);
+        assertThat(ids("SELECT id FROM issues_archive")).containsExactlyInAnyOrder(closed, rejected, untagged);
+        assertThat(jdbcTemplate.queryForList("SELECT tag FROM issue_tags_archive WHERE issue_id = ?",
+                String.class, closed)).containsExactlyInAnyOrder("vpn", "network");
+        assertThat(ids("SELECT DISTINCT issue_id FROM issue_tags")).containsExactlyInAnyOrder(open, recent);
+
+        mockMvc.perform(get("/api/issues/{id}", closed)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/issues/{id}", closed).param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CLOSED"))
+                .andExpect(jsonPath("$.tags", containsInAnyOrder("vpn", "network")));
+        mockMvc.perform(get("/api/issues").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", hasItems((int) closed, (int) rejected, (int) untagged,
+                        (int) open, (int) recent)));
+    }
+
+    @Test
+    void candidateUpdatedConcurrentlyIsSkippedNotLost() throws Exception {
+        long reopened = insertIssue("CLOSED", LONG_AGO, "vpn");
+        long closed = insertIssue("CLOSED", LONG_AGO.plusMinutes(1));
+
+        // Another transaction reopens the candidate and holds its row lock while the job runs
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement reopen = connection.prepareStatement(
+                    "UPDATE issues SET status = 'OPEN', updated_at = now() WHERE id = ?")) {
+                reopen.setLong(1, reopened);
+                reopen.executeUpdate();
+            }
+            archiver.archive();
+            connection.commit();
+        }
+        archiver.archive();
+
+        assertThat(ids("SELECT id FROM issues_archive")).containsExactly(closed);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM issues WHERE id = ?", String.class, reopened))
+                .isEqualTo("OPEN");
+        assertThat(jdbcTemplate.queryForList("SELECT tag FROM issue_tags WHERE issue_id = ?",
+                String.class, reopened)).containsExactly("vpn");
+    }
+
+    private long insertIssue(String status, LocalDateTime changedAt, String... tags) {
+        Long id = jdbcTemplate.queryForObject("""
+                INSERT INTO issues (title, requester, status, priority, created_at)
+                VALUES (?, 'archive-test', ?, 'NORMAL', ?) RETURNING id""",
+                Long.class, "Issue " + status, status, Timestamp.valueOf(changedAt));
+        for (String tag : tags) {
+            jdbcTemplate.update("INSERT INTO issue_tags (issue_id, tag) VALUES (?, ?)", id, tag);
+        }
+        return id;
+    }
+
+    private List<Long> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+}
@@ -0,0 +1,123 @@
+package org.caixabanktech.mic_issues.infrastructure.assignment;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.domain.events.UserEvent;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Least-loaded lookups as issues and users change
+ */
+class HeapWorkloadIndexTest {
+
+    private final User ana = user(1L, "Support");
+    private final User ben = user(2L, "Support");
+    private final User eva = user(3L, "Network");
+
+    private IssueRepository issueRepository;
+    private UserRepository userRepository;
+    private HeapWorkloadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        issueRepository = mock(IssueRepository.class);
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findAll()).thenReturn(List.of(ana, ben, eva));
+        when(issueRepository.findAll()).thenReturn(List.of(
+                issue(10L, IssueStatus.IN_PROGRESS, IssuePriority.URGENT, ana, "vpn"),
+                issue(11L, IssueStatus.IN_PROGRESS, IssuePriority.LOW, ben, "printer"),
+                issue(12L, IssueStatus.CLOSED, IssuePriority.URGENT, eva, "vpn")));
+        EventRelay eventRelay = mock(EventRelay.class);
+        when(eventRelay.nodeId()).thenReturn("node-a");
+        index = new HeapWorkloadIndex(issueRepository, userRepository, new AssignmentProperties(null),
+                eventRelay, mock(PlatformTransactionManager.class));
+        index.bootstrap();
+    }
+
+    @Test
+    void picksTheLowestWeightedLoadWithinThePool() {
+        // eva only has a closed issue
+        assertThat(index.leastLoaded(null, null)).contains(3L);
+        assertThat(index.leastLoaded("support", null)).contains(2L);
+        assertThat(index.leastLoaded(null, "VPN")).contains(3L);
+        assertThat(index.leastLoaded("Support", "vpn")).contains(1L);
+        assertThat(index.leastLoaded("Finance", null)).isEmpty();
+    }
+
+    @Test
+    void followsAssignmentsResolutionsAndUserChanges() {
+        index.onIssueEvent(new IssueEvent(this, issue(13L, IssueStatus.IN_PROGRESS, IssuePriority.HIGH, ben, "printer"),
+                IssueEvent.EventType.ASSIGNED, 2L, IssueStatus.OPEN));
+        index.onIssueEvent(new IssueEvent(this, issue(14L, IssueStatus.IN_PROGRESS, IssuePriority.HIGH, eva, "vpn"),
+                IssueEvent.EventType.ASSIGNED, 3L, IssueStatus.OPEN));
+        // ana 8, ben 1 + 4, eva 4
+        assertThat(index.leastLoaded(null, null)).contains(3L);
+        assertThat(index.leastLoaded("support", null)).contains(2L);
+
+        index.onIssueEvent(new IssueEvent(this, issue(10L, IssueStatus.RESOLVED, IssuePriority.URGENT, ana, "vpn"),
+                IssueEvent.EventType.RESOLVED, 1L, IssueStatus.IN_PROGRESS));
+        assertThat(index.leastLoaded(null, null)).contains(1L);
+
+        index.onUserEvent(new UserEvent(this, user(1L, "Network"), UserEvent.EventType.PROFILE_UPDATED));
+        assertThat(index.leastLoaded("support", null)).contains(2L);
+        assertThat(index.leastLoaded("network", "vpn")).contains(1L);
+
+        index.forget(1L);
+        assertThat(index.leastLoaded("network", null)).contains(3L);
+    }
+
+    @Test
+    void rereadsIssuesAndUsersChangedOnOtherNodes() {
+        when(issueRepository.findById(13L)).thenReturn(
+                Optional.of(issue(13L, IssueStatus.IN_PROGRESS, IssuePriority.URGENT, eva, "vpn")));
+        index.onRelayedEvent(new RelayedEvent(1, "node-b", RelayTopic.ISSUES, 13L, null, Instant.now()));
+        // ana 8, ben 1, eva 8
+        assertThat(index.leastLoaded(null, null)).contains(2L);
+
+        when(issueRepository.findById(13L)).thenReturn(Optional.empty());
+        index.onRelayedEvent(new RelayedEvent(2, "node-b", RelayTopic.ISSUES, 13L, null, Instant.now()));
+        assertThat(index.leastLoaded(null, null)).contains(3L);
+
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user(3L, "Support")));
+        index.onRelayedEvent(new RelayedEvent(3, "node-b", RelayTopic.USERS, 2L, null, Instant.now()));
+        index.onRelayedEvent(new RelayedEvent(4, "node-b", RelayTopic.USERS, 3L, null, Instant.now()));
+        assertThat(index.leastLoaded("support", null)).contains(3L);
+        assertThat(index.leastLoaded("network", null)).isEmpty();
+    }
+
+    private static User user(Long id, String department) {
+        return User.builder().id(id).username("user" + id).name("User " + id).department(department).build();
+    }
+
+    private static Issue issue(Long id, IssueStatus status, IssuePriority priority, User assignee, String tag) {
+        return Issue.reconstitute()
+                .withId(id)
+                .withTitle("Issue " + id)
+                .withStatus(status)
+                .withPriority(priority)
+                .withAssignedUser(assignee)
+                .withTags(List.of(tag))
+                .withCreatedAt(LocalDateTime.now())
+                .build();
+    }
+}
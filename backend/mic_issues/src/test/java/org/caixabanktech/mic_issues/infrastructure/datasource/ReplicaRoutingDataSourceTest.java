@@ -0,0 +1,151 @@
+package org.caixabanktech.mic_issues.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Where connections go by transaction type, pinning and replica health, and how the pools are configured
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final HikariDataSource primary = pool("primary", primaryConnection);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyTransactionsGoRoundRobinToHealthyReplicas() throws SQLException {
+        Connection first = replicaConnection(0.5);
+        Connection second = replicaConnection(0);
+        ReplicaRoutingDataSource routing = routing(pool("replica-0", first), pool("replica-1", second));
+        routing.checkReplicas();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(routing.getConnection(), routing.getConnection(), routing.getConnection()))
+                .containsExactly(first, second, first);
+    }
+
+    @Test
+    void laggingOrUnreachableReplicasFallBackToThePrimary() throws SQLException {
+        HikariDataSource down = pool("replica-0", null);
+        when(down.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource routing = routing(pool("replica-1", replicaConnection(30)), down);
+        routing.checkReplicas();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void replicaRefusingAConnectionIsTakenOutOfRotation() throws SQLException {
+        HikariDataSource replica = pool("replica-0", replicaConnection(0));
+        ReplicaRoutingDataSource routing = routing(replica);
+        routing.checkReplicas();
+        when(replica.getConnection()).thenThrow(new SQLException("Too many connections"));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void writesAndPinnedReadsAlwaysGoToThePrimary() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(pool("replica-0", replicaConnection(0)));
+        routing.checkReplicas();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(ReadYourWrites.onPrimary(() -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        })).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void primaryPoolTakesTheHikariSettings() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(RoutingProperties.class, DataSourceRoutingConfig.class)
+                .withBean(TaskScheduler.class, () -> mock(TaskScheduler.class))
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues(
+                        "worksync.datasource.replicas[0].url=jdbc:postgresql://replica/db",
+                        "spring.datasource.url=jdbc:postgresql://primary/db",
+                        "spring.datasource.hikari.maximum-pool-size=42",
+                        "spring.datasource.hikari.leak-detection-threshold=30000")
+                .run(context -> {
+                    HikariDataSource pool = context.getBean("primaryDataSource", HikariDataSource.class);
+                    assertThat(pool.getPoolName()).isEqualTo("primary");
+                    assertThat(pool.getJdbcUrl()).isEqualTo("jdbc:postgresql://primary/db");
+                    assertThat(pool.getMaximumPoolSize()).isEqualTo(42);
+                    assertThat(pool.getLeakDetectionThreshold()).isEqualTo(30_000);
+                    assertThat(context.getBean(DataSource.class)).isNotInstanceOf(HikariDataSource.class);
+                });
+    }
+
+    @EnableConfigurationProperties({DataSourceProperties.class, DataSourceRoutingProperties.class})
+    static class RoutingProperties {
+    }
+
+    private ReplicaRoutingDataSource routing(HikariDataSource... replicas) {
+        return new ReplicaRoutingDataSource(primary, List.of(replicas), Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+
+    /**
+     * A pool handing out the given connection
+     */
+    private static HikariDataSource pool(String name, Connection connection) {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getPoolName()).thenReturn(name);
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return dataSource;
+    }
+
+    /**
+     * A replica connection answering the lag check with the given lag
+     */
+    private static Connection replicaConnection(double lagSeconds) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+        return connection;
+    }
+}
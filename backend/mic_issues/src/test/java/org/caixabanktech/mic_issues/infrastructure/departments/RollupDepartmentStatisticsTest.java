@@ -0,0 +1,133 @@
+package org.caixabanktech.mic_issues.infrastructure.departments;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.DepartmentStatistics.DepartmentReport;
+import org.caixabanktech.mic_issues.application.usecases.ports.DepartmentStatistics.DepartmentSummary;
+import org.caixabanktech.mic_issues.application.usecases.ports.DepartmentStatistics.IssueCounts;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.domain.events.UserEvent;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Department rollup as issues move through statuses and users change department
+ */
+class RollupDepartmentStatisticsTest {
+
+    private final User ana = user(1L, "Support");
+    private final User ben = user(2L, "Support");
+    private final User eva = user(3L, "Network");
+    private final User joe = user(4L, null);
+
+    private IssueRepository issueRepository;
+    private UserRepository userRepository;
+    private RollupDepartmentStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        issueRepository = mock(IssueRepository.class);
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findAll()).thenReturn(List.of(ana, ben, eva, joe));
+        when(issueRepository.findAll()).thenReturn(List.of(
+                issue(10L, IssueStatus.IN_PROGRESS, IssuePriority.URGENT, ana),
+                issue(11L, IssueStatus.IN_PROGRESS, IssuePriority.LOW, ben),
+                issue(12L, IssueStatus.CLOSED, IssuePriority.URGENT, eva),
+                issue(13L, IssueStatus.OPEN, IssuePriority.HIGH, null)));
+        EventRelay eventRelay = mock(EventRelay.class);
+        when(eventRelay.nodeId()).thenReturn("node-a");
+        statistics = new RollupDepartmentStatistics(issueRepository, userRepository,
+                eventRelay, mock(PlatformTransactionManager.class));
+        statistics.bootstrap();
+    }
+
+    @Test
+    void countsUsersAndOpenIssuesPerDepartment() {
+        DepartmentReport report = statistics.report();
+
+        assertThat(report.departments()).containsExactly(
+                new DepartmentSummary("Network", 1, counts(0, 0, 0, 0, 0, 0)),
+                new DepartmentSummary("Support", 2, counts(0, 2, 1, 0, 0, 1)),
+                new DepartmentSummary(null, 1, counts(0, 0, 0, 0, 0, 0)));
+        assertThat(report.unassigned()).isEqualTo(counts(1, 0, 0, 0, 1, 0));
+    }
+
+    @Test
+    void followsAssignmentsResolutionsAndDepartmentChanges() {
+        statistics.onIssueEvent(new IssueEvent(this, issue(13L, IssueStatus.IN_PROGRESS, IssuePriority.HIGH, eva),
+                IssueEvent.EventType.ASSIGNED, 3L, IssueStatus.OPEN));
+        statistics.onIssueEvent(new IssueEvent(this, issue(11L, IssueStatus.RESOLVED, IssuePriority.LOW, ben),
+                IssueEvent.EventType.RESOLVED, 2L, IssueStatus.IN_PROGRESS));
+        statistics.onUserEvent(new UserEvent(this, user(1L, "Network"), UserEvent.EventType.PROFILE_UPDATED));
+        statistics.onUserEvent(new UserEvent(this, joe, UserEvent.EventType.DELETED));
+
+        DepartmentReport report = statistics.report();
+
+        assertThat(report.departments()).containsExactly(
+                new DepartmentSummary("Network", 2, counts(0, 2, 0, 0, 1, 1)),
+                new DepartmentSummary("Support", 1, counts(0, 0, 0, 0, 0, 0)));
+        assertThat(report.unassigned()).isEqualTo(counts(0, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void rereadsIssuesAndUsersChangedOnOtherNodes() {
+        when(issueRepository.findById(13L)).thenReturn(
+                Optional.of(issue(13L, IssueStatus.IN_PROGRESS, IssuePriority.HIGH, eva)));
+        when(issueRepository.findById(10L)).thenReturn(Optional.empty());
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, "Network")));
+        when(userRepository.findById(5L)).thenReturn(Optional.of(user(5L, "Finance")));
+
+        statistics.onRelayedEvent(new RelayedEvent(1, "node-b", RelayTopic.ISSUES, 13L, null, Instant.now()));
+        statistics.onRelayedEvent(new RelayedEvent(2, "node-b", RelayTopic.ISSUES, 10L, null, Instant.now()));
+        statistics.onRelayedEvent(new RelayedEvent(3, "node-c", RelayTopic.USERS, 2L, null, Instant.now()));
+        statistics.onRelayedEvent(new RelayedEvent(4, "node-c", RelayTopic.USERS, 5L, null, Instant.now()));
+
+        DepartmentReport report = statistics.report();
+
+        assertThat(report.departments()).containsExactly(
+                new DepartmentSummary("Finance", 1, counts(0, 0, 0, 0, 0, 0)),
+                new DepartmentSummary("Network", 2, counts(0, 2, 1, 0, 1, 0)),
+                new DepartmentSummary("Support", 1, counts(0, 0, 0, 0, 0, 0)),
+                new DepartmentSummary(null, 1, counts(0, 0, 0, 0, 0, 0)));
+        assertThat(report.unassigned()).isEqualTo(counts(0, 0, 0, 0, 0, 0));
+    }
+
+    private static IssueCounts counts(long open, long inProgress, long low, long normal, long high, long urgent) {
+        return new IssueCounts(open, inProgress, Map.of(
+                IssuePriority.LOW, low, IssuePriority.NORMAL, normal,
+                IssuePriority.HIGH, high, IssuePriority.URGENT, urgent));
+    }
+
+    private static User user(Long id, String department) {
+        return User.builder().id(id).username("user" + id).name("User " + id).department(department).build();
+    }
+
+    private static Issue issue(Long id, IssueStatus status, IssuePriority priority, User assignee) {
+        return Issue.reconstitute()
+                .withId(id)
+                .withTitle("Issue " + id)
+                .withStatus(status)
+                .withPriority(priority)
+                .withAssignedUser(assignee)
+                .withCreatedAt(LocalDateTime.now())
+                .build();
+    }
+}
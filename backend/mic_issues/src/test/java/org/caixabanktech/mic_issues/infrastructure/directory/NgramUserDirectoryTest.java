@@ -0,0 +1,101 @@
+package org.caixabanktech.mic_issues.infrastructure.directory;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.UserDirectory.SearchPage;
+import org.caixabanktech.mic_issues.application.usecases.ports.UserDirectory.UserSummary;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.UserEvent;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Prefix and substring search as users change
+ */
+class NgramUserDirectoryTest {
+
+    private UserRepository userRepository;
+    private NgramUserDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findAll()).thenReturn(List.of(
+                user(1L, "jsmith", "Jane Smith", "jane.smith@corp.com", "Support"),
+                user(2L, "bsmithers", "Bob Smithers", "bob@corp.com", "Network"),
+                user(3L, "agoldsmith", "Ann Goldsmith", "ann@corp.com", "Support"),
+                user(4L, "tom", "Tom Jones", "tom@corp.com", "Finance")));
+        EventRelay eventRelay = mock(EventRelay.class);
+        when(eventRelay.nodeId()).thenReturn("node-a");
+        directory = new NgramUserDirectory(userRepository, eventRelay, mock(PlatformTransactionManager.class));
+        directory.bootstrap();
+    }
+
+    @Test
+    void matchesWordStartsBeforeSubstringsAndRequiresEveryTerm() {
+        assertThat(ids(directory.search("smith", 0, 10))).containsExactly(2L, 1L, 3L);
+        assertThat(ids(directory.search("SMITH support", 0, 10))).containsExactly(1L, 3L);
+        assertThat(ids(directory.search("jo", 0, 10))).containsExactly(4L);
+        assertThat(ids(directory.search("ones", 0, 10))).containsExactly(4L);
+        // Short terms only match the start of a word
+        assertThat(ids(directory.search("mi", 0, 10))).isEmpty();
+        assertThat(ids(directory.search("zzz", 0, 10))).isEmpty();
+    }
+
+    @Test
+    void pagesResultsAndListsEveryoneByNameForABlankQuery() {
+        SearchPage first = directory.search("smith", 0, 2);
+        assertThat(first.total()).isEqualTo(3);
+        assertThat(ids(first)).containsExactly(2L, 1L);
+        assertThat(ids(directory.search("smith", 2, 2))).containsExactly(3L);
+        assertThat(ids(directory.search("", 1, 2))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void followsProfileChangesAndDeletions() {
+        directory.onUserEvent(new UserEvent(this,
+                user(4L, "tom", "Tom Jones", "tom@corp.com", "Support"), UserEvent.EventType.PROFILE_UPDATED));
+        assertThat(ids(directory.search("fin", 0, 10))).isEmpty();
+        assertThat(ids(directory.search("support", 0, 10))).containsExactly(3L, 1L, 4L);
+
+        directory.onUserEvent(new UserEvent(this,
+                user(1L, "jsmith", "Jane Smith", "jane.smith@corp.com", "Support"), UserEvent.EventType.DELETED));
+        assertThat(ids(directory.search("jane", 0, 10))).isEmpty();
+        assertThat(directory.search("", 0, 10).total()).isEqualTo(3);
+    }
+
+    @Test
+    void rereadsUsersChangedOnOtherNodes() {
+        when(userRepository.findById(5L)).thenReturn(Optional.of(user(5L, "mnguyen", "Mai Nguyen", "mai@corp.com", "Finance")));
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        directory.onRelayedEvent(new RelayedEvent(1, "node-b", RelayTopic.USERS, 5L, null, Instant.now()));
+        directory.onRelayedEvent(new RelayedEvent(2, "node-b", RelayTopic.USERS, 1L, null, Instant.now()));
+        assertThat(ids(directory.search("finance", 0, 10))).containsExactly(5L, 4L);
+        assertThat(ids(directory.search("jane", 0, 10))).isEmpty();
+
+        // Already applied from this node's own user events
+        when(userRepository.findById(4L)).thenReturn(Optional.empty());
+        directory.onRelayedEvent(new RelayedEvent(3, "node-a", RelayTopic.USERS, 4L, null, Instant.now()));
+        assertThat(ids(directory.search("tom", 0, 10))).containsExactly(4L);
+    }
+
+    private static List<Long> ids(SearchPage page) {
+        return page.users().stream().map(UserSummary::id).toList();
+    }
+
+    private static User user(Long id, String username, String name, String email, String department) {
+        return User.builder().id(id).username(username).name(name).email(email).department(department).build();
+    }
+}
@@ -0,0 +1,217 @@
+package org.caixabanktech.mic_issues.infrastructure.eventstore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.UserEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Recovery of the event-sourced issue store from its segments and snapshots, and its
+ * behaviour inside transactions
+ */
+class EventSourcedIssueRepositoryAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    private final User assignee = User.builder().id(7L).username("jane").name("Jane Smith").build();
+
+    @Test
+    void restartReplaysTheLog() throws Exception {
+        Long keptId;
+        Long deletedId;
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            Issue kept = store.save(Issue.create("Login error", "500 on login", "admin", IssuePriority.URGENT,
+                    List.of("authentication"), null));
+            Issue deleted = store.save(Issue.create("Typo", null, "admin", IssuePriority.LOW, List.of(), null));
+            kept.assign(assignee);
+            store.save(kept);
+            kept.resolve();
+            store.save(kept);
+            store.deleteById(deleted.getId());
+            keptId = kept.getId();
+            deletedId = deleted.getId();
+        }
+
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            Issue recovered = store.findById(keptId).orElseThrow();
+            assertThat(recovered.getStatus()).isEqualTo(IssueStatus.RESOLVED);
+            assertThat(recovered.getTags()).containsExactly("authentication");
+            assertThat(recovered.getAssignedUser()).isEqualTo(assignee);
+            assertThat(store.existsById(deletedId)).isFalse();
+            assertThat(store.findByStatus(IssueStatus.RESOLVED)).containsExactly(recovered);
+            assertThat(store.findByAssignedUserId(assignee.getId())).containsExactly(recovered);
+
+            Issue next = store.save(Issue.create("After restart", null, "admin", null, List.of(), null));
+            assertThat(next.getId()).isGreaterThan(deletedId);
+        }
+    }
+
+    @Test
+    void restartStartsFromTheLatestSnapshot() throws Exception {
+        try (EventSourcedIssueRepositoryAdapter store = open(5)) {
+            for (int i = 0; i < 12; i++) {
+                store.save(Issue.create("Issue " + i, null, "admin", null, List.of("bulk"), null));
+            }
+            store.deleteById(12L);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(p -> p.getFileName().toString())).anyMatch(name -> name.startsWith("snapshot-"));
+        }
+
+        try (EventSourcedIssueRepositoryAdapter store = open(5)) {
+            assertThat(store.findAll()).hasSize(11);
+            assertThat(store.save(Issue.create("Next", null, "admin", null, List.of(), null)).getId()).isEqualTo(13L);
+        }
+    }
+
+    @Test
+    void tornTailIsDiscardedOnRecovery() throws Exception {
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            store.save(Issue.create("Complete", null, "admin", null, List.of(), null));
+        }
+        Path segment = segment();
+        long end = endOfData(segment);
+        // Half-written record after the last complete one
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(SegmentLog.HEADER_BYTES).putInt(40).putInt(12345).putLong(2L).flip(), end);
+        }
+
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            assertThat(store.findAll()).extracting(Issue::getTitle).containsExactly("Complete");
+            store.save(Issue.create("After crash", null, "admin", null, List.of(), null));
+        }
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            assertThat(store.findAll()).extracting(Issue::getTitle).containsExactly("Complete", "After crash");
+        }
+    }
+
+    @Test
+    void rolledBackChangesNeverReachTheLog() throws Exception {
+        TransactionTemplate transaction = transaction();
+        Long keptId;
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            keptId = store.save(Issue.create("Kept", null, "admin", null, List.of(), null)).getId();
+
+            transaction.executeWithoutResult(status -> {
+                Issue created = store.save(Issue.create("Rolled back", null, "admin", null, List.of(), null));
+                store.deleteById(keptId);
+                // The transaction sees its own changes
+                assertThat(store.findById(created.getId())).isPresent();
+                assertThat(store.existsById(keptId)).isFalse();
+                assertThat(store.findAll()).extracting(Issue::getTitle).containsExactly("Rolled back");
+                status.setRollbackOnly();
+            });
+
+            assertThat(store.findAll()).extracting(Issue::getTitle).containsExactly("Kept");
+        }
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            assertThat(store.findAll()).extracting(Issue::getId).containsExactly(keptId);
+        }
+    }
+
+    @Test
+    void committedChangesAreAppendedAndClaimsSkipIssuesHeldByOpenTransactions() throws Exception {
+        TransactionTemplate transaction = transaction();
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            Issue urgent = store.save(Issue.create("Urgent", null, "admin", IssuePriority.URGENT, List.of(), null));
+            Issue low = store.save(Issue.create("Low", null, "admin", IssuePriority.LOW, List.of(), null));
+
+            transaction.executeWithoutResult(status -> {
+                urgent.updateDetails("Urgent, edited", null);
+                store.save(urgent);
+                assertThat(store.findById(urgent.getId()).orElseThrow().getTitle()).isEqualTo("Urgent, edited");
+                // Another thread neither sees the edit nor claims the issue it holds
+                Optional<Issue> claimed = CompletableFuture.supplyAsync(() -> {
+                    assertThat(store.findById(urgent.getId()).orElseThrow().getTitle()).isEqualTo("Urgent");
+                    return store.claimNext(assignee, null);
+                }).join();
+                assertThat(claimed).map(Issue::getId).contains(low.getId());
+            });
+
+            assertThat(store.findById(urgent.getId()).orElseThrow().getTitle()).isEqualTo("Urgent, edited");
+            assertThat(store.claimNext(assignee, null)).map(Issue::getId).contains(urgent.getId());
+        }
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            assertThat(store.findAll()).extracting(Issue::getTitle).containsExactly("Urgent, edited", "Low");
+        }
+    }
+
+    @Test
+    void deletedUsersTakeTheirIssuesWithThem() throws Exception {
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            Issue assigned = Issue.create("Assigned", null, "admin", null, List.of(), null);
+            assigned.assign(assignee);
+            store.save(assigned);
+            store.save(Issue.create("Waiting", null, "admin", null, List.of(), null));
+
+            store.onUserEvent(new UserEvent(this, assignee, UserEvent.EventType.DELETED));
+
+            assertThat(store.findByAssignedUserId(assignee.getId())).isEmpty();
+            assertThat(store.findAll()).extracting(Issue::getTitle).containsExactly("Waiting");
+        }
+        try (EventSourcedIssueRepositoryAdapter store = open(1_000)) {
+            assertThat(store.findAll()).extracting(Issue::getTitle).containsExactly("Waiting");
+        }
+    }
+
+    /**
+     * Real transaction synchronization over a connection that does nothing
+     */
+    private static TransactionTemplate transaction() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    private EventSourcedIssueRepositoryAdapter open(int snapshotEvery) throws IOException {
+        UserRepository users = mock(UserRepository.class);
+        when(users.findAllById(anyCollection())).thenReturn(List.of(assignee));
+        EventStoreProperties properties = new EventStoreProperties(directory, DataSize.ofKilobytes(64),
+                snapshotEvery, false, Duration.ofSeconds(1));
+        return new EventSourcedIssueRepositoryAdapter(users, properties, new SimpleMeterRegistry());
+    }
+
+    private Path segment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+    }
+
+    private static long endOfData(Path segment) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        int position = 0;
+        while (buffer.getInt(position) != 0) {
+            position += SegmentLog.HEADER_BYTES + buffer.getInt(position);
+        }
+        return position;
+    }
+}
@@ -0,0 +1,70 @@
+package org.caixabanktech.mic_issues.infrastructure.eventstore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Which segments a restart reads, given the sequence the snapshot covers
+ */
+class SegmentLogTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restartOpensOnlyTheTailSegments() throws Exception {
+        try (SegmentLog log = new SegmentLog(directory, SEGMENT_SIZE)) {
+            log.open(0, (sequence, payload) -> { });
+            for (long sequence = 1; sequence <= 20; sequence++) {
+                log.append(sequence, new byte[48]);
+            }
+        }
+        List<Path> segments = segments();
+        assertThat(segments).hasSizeGreaterThan(3);
+        // 20 records of 64 bytes, three to a segment
+        assertThat(segments.get(2).getFileName().toString()).isEqualTo("00000000000000000007.log");
+
+        // Records 1 to 6 are in the snapshot, so their segments must not be read
+        corruptFirstRecord(segments.get(0));
+        corruptFirstRecord(segments.get(1));
+        List<Long> replayed = new ArrayList<>();
+        try (SegmentLog log = new SegmentLog(directory, SEGMENT_SIZE)) {
+            assertThat(log.open(6, (sequence, payload) -> replayed.add(sequence))).isEqualTo(20);
+        }
+        assertThat(replayed).containsExactlyElementsOf(Stream.iterate(7L, s -> s + 1).limit(14).toList());
+
+        // The segment holding the first record after the snapshot is still checked
+        try (SegmentLog log = new SegmentLog(directory, SEGMENT_SIZE)) {
+            assertThatThrownBy(() -> log.open(5, (sequence, payload) -> { }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Corrupt record");
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static void corruptFirstRecord(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0xBAD).flip(), Integer.BYTES);
+        }
+    }
+}
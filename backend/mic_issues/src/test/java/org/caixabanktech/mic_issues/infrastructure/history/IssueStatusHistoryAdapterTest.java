@@ -0,0 +1,111 @@
+package org.caixabanktech.mic_issues.infrastructure.history;
+
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository.TimeInStatus;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository.TransitionCount;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * The status history reports run against PostgreSQL. Needs a local PostgreSQL; run with
+ * {@code mvn test -Ppostgres}.
+ */
+@Tag("postgres")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:postgresql://localhost:5432/${POSTGRES_DB:mydb}?currentSchema=history_test",
+        "spring.flyway.schemas=history_test"
+})
+class IssueStatusHistoryAdapterTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 5, 9, 0);
+    private static final LocalDateTime RANGE_END = T0.plusHours(4);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IssueStatusHistoryAdapter adapter;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE issue_status_history RESTART IDENTITY");
+        adapter.appendAll(List.of(
+                // Before the range
+                transition(9L, null, IssueStatus.OPEN, T0.minusDays(1)),
+                transition(1L, null, IssueStatus.OPEN, T0),
+                transition(2L, null, IssueStatus.OPEN, T0.plusMinutes(10)),
+                transition(2L, IssueStatus.OPEN, IssueStatus.IN_PROGRESS, T0.plusMinutes(30)),
+                transition(1L, IssueStatus.OPEN, IssueStatus.IN_PROGRESS, T0.plusHours(1)),
+                transition(3L, null, IssueStatus.OPEN, T0.plusHours(2)),
+                transition(3L, IssueStatus.OPEN, IssueStatus.REJECTED, T0.plusMinutes(150)),
+                transition(1L, IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED, T0.plusHours(3)),
+                transition(4L, null, IssueStatus.OPEN, T0.plusMinutes(230)),
+                // After the range, yet it ends the stay of issue 4 in OPEN
+                transition(4L, IssueStatus.OPEN, IssueStatus.IN_PROGRESS, T0.plusHours(5))));
+    }
+
+    @Test
+    void measuresStaysUntilTheNextTransitionEvenAfterTheRange() {
+        List<TimeInStatus> report = adapter.timeInStatus(T0, RANGE_END);
+
+        assertThat(report).extracting(TimeInStatus::status).containsExactly(
+                IssueStatus.OPEN, IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED, IssueStatus.REJECTED);
+        TimeInStatus open = report.get(0);
+        assertThat(open.entered()).isEqualTo(4);
+        assertThat(open.left()).isEqualTo(4);
+        // Stays of 60, 20, 30 and 70 minutes
+        assertThat(open.averageSeconds()).isCloseTo(2700, within(0.001));
+        assertThat(open.medianSeconds()).isCloseTo(2700, within(0.001));
+        assertThat(open.maxSeconds()).isCloseTo(4200, within(0.001));
+
+        TimeInStatus inProgress = report.get(1);
+        assertThat(inProgress.entered()).isEqualTo(2);
+        assertThat(inProgress.left()).isEqualTo(1);
+        // Issue 2 is still in progress, measured up to now
+        assertThat(inProgress.maxSeconds())
+                .isGreaterThan(Duration.between(T0.plusMinutes(30), LocalDateTime.now()).toSeconds() - 60);
+
+        assertThat(report.get(2).entered()).isEqualTo(1);
+        assertThat(report.get(2).left()).isZero();
+    }
+
+    @Test
+    void countsTransitionsWithinTheRangeMostFrequentFirst() {
+        assertThat(adapter.countTransitions(T0, RANGE_END)).containsExactly(
+                new TransitionCount(null, IssueStatus.OPEN, 4),
+                new TransitionCount(IssueStatus.OPEN, IssueStatus.IN_PROGRESS, 2),
+                new TransitionCount(IssueStatus.OPEN, IssueStatus.REJECTED, 1),
+                new TransitionCount(IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED, 1));
+    }
+
+    @Test
+    void findsTransitionsIntoTheGivenStatusesInOrder() {
+        assertThat(adapter.findTransitionsInto(EnumSet.of(IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED), T0, RANGE_END))
+                .containsExactly(
+                        transition(2L, IssueStatus.OPEN, IssueStatus.IN_PROGRESS, T0.plusMinutes(30)),
+                        transition(1L, IssueStatus.OPEN, IssueStatus.IN_PROGRESS, T0.plusHours(1)),
+                        transition(1L, IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED, T0.plusHours(3)));
+        assertThat(adapter.findTransitionsInto(EnumSet.noneOf(IssueStatus.class), T0, RANGE_END)).isEmpty();
+        assertThat(adapter.findByIssueId(1L)).extracting(StatusTransition::toStatus).containsExactly(
+                IssueStatus.OPEN, IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED);
+    }
+
+    private static StatusTransition transition(Long issueId, IssueStatus from, IssueStatus to, LocalDateTime changedAt) {
+        return new StatusTransition(issueId, from, to, null, changedAt);
+    }
+}
@@ -0,0 +1,62 @@
+package org.caixabanktech.mic_issues.infrastructure.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Streaming CSV parsing of import uploads
+ */
+class CsvRecordReaderTest {
+
+    @Test
+    void readsQuotedFieldsAcrossLines() {
+        List<ImportRecord> records = read("Title,Description,Tags\r\n"
+                + "Printer,\"Jammed, again\",hardware;office\r\n"
+                + "\r\n"
+                + "\"Say \"\"hi\"\"\",\"line one\nline two\",\n", 1000);
+
+        assertThat(records).extracting(ImportRecord::line).containsExactly(2L, 4L);
+        assertThat(records.get(0).text("description")).isEqualTo("Jammed, again");
+        assertThat(records.get(0).list("tags")).containsExactly("hardware", "office");
+        assertThat(records.get(1).text("title")).isEqualTo("Say \"hi\"");
+        assertThat(records.get(1).text("description")).isEqualTo("line one\nline two");
+        assertThat(records.get(1).text("tags")).isEmpty();
+    }
+
+    @Test
+    void rejectsBadRecordsAndCarriesOn() {
+        List<ImportRecord> records = read("""
+                title,description
+                only one field
+                %s,too long
+                ok,"fine"
+                "unterminated,x
+                """.formatted("x".repeat(50)), 40);
+
+        assertThat(records).extracting(ImportRecord::line).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(records.get(0).error()).contains("Expected 2 fields");
+        assertThat(records.get(1).error()).contains("longer than 40");
+        assertThat(records.get(2).error()).isNull();
+        assertThat(records.get(2).text("description")).isEqualTo("fine");
+        assertThat(records.get(3).error()).isEqualTo("Unterminated quoted field");
+    }
+
+    @Test
+    void emptyUploadHasNoHeader() {
+        assertThatThrownBy(() -> new CsvRecordReader(new StringReader(""), 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<ImportRecord> read(String csv, int maxRecordChars) {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv), maxRecordChars);
+        List<ImportRecord> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        return records;
+    }
+}
@@ -0,0 +1,132 @@
+package org.caixabanktech.mic_issues.infrastructure.inmemory;
+
+import org.caixabanktech.mic_issues.application.usecases.BulkImport;
+import org.caixabanktech.mic_issues.application.usecases.BulkImport.Row;
+import org.caixabanktech.mic_issues.application.usecases.BulkImport.RowError;
+import org.caixabanktech.mic_issues.application.usecases.ImportIssuesUseCase;
+import org.caixabanktech.mic_issues.application.usecases.ImportIssuesUseCase.IssueRow;
+import org.caixabanktech.mic_issues.application.usecases.ImportUsersUseCase;
+import org.caixabanktech.mic_issues.application.usecases.ImportUsersUseCase.UserRow;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.IssuesImportedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The import use cases on the in-memory adapters: chunking, the row-by-row retry of a chunk
+ * that fails to write, and the rows they reject
+ */
+class BulkImportTest {
+
+    private final InMemoryIssueRepositoryAdapter issues = spy(new InMemoryIssueRepositoryAdapter());
+    private final InMemoryUserRepositoryAdapter users = spy(new InMemoryUserRepositoryAdapter(issues));
+    private final List<Object> events = new ArrayList<>();
+    private final ApplicationEventPublisher eventPublisher = events::add;
+    private final ImportIssuesUseCase importIssues = new ImportIssuesUseCase(issues, users, eventPublisher,
+            new InMemoryConfig.NoOpTransactionManager());
+    private final ImportUsersUseCase importUsers = new ImportUsersUseCase(users, eventPublisher,
+            new InMemoryConfig.NoOpTransactionManager());
+
+    @Test
+    void writesAndReportsOneChunkAtATime() {
+        List<BulkImport.Progress> reports = new ArrayList<>();
+
+        BulkImport.Progress result = importIssues.execute(List.of(
+                issueRow(2, "A"), issueRow(3, "B"), issueRow(4, "C"), issueRow(5, "D"), issueRow(6, "E")).iterator(),
+                2, reports::add);
+
+        assertThat(reports).extracting(BulkImport.Progress::processed, BulkImport.Progress::imported)
+                .containsExactly(tuple(2L, 2L), tuple(4L, 4L), tuple(5L, 5L));
+        assertThat(result).isEqualTo(reports.getLast());
+        // One write, and one event, per chunk
+        assertThat(events).map(event -> ((IssuesImportedEvent) event).getIssues().size()).containsExactly(2, 2, 1);
+        assertThat(issues.findAll()).extracting(Issue::getTitle).containsExactly("A", "B", "C", "D", "E");
+    }
+
+    @Test
+    void failedChunkIsRetriedRowByRowRejectingOnlyTheOffendingRows() {
+        // First of its chunk, so the failed chunk wrote nothing the no-op transaction could not undo
+        doThrow(new DataIntegrityViolationException("insert failed", new IllegalStateException("value too long")))
+                .when(issues).save(argThat(issue -> issue.getTitle().startsWith("Poison")));
+        List<BulkImport.Progress> reports = new ArrayList<>();
+
+        BulkImport.Progress result = importIssues.execute(List.of(
+                issueRow(2, "Poison"), issueRow(3, "Good 1"), issueRow(4, "Good 2"),
+                issueRow(5, "Good 3")).iterator(), 3, reports::add);
+
+        assertThat(result.processed()).isEqualTo(4);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(reports.getFirst().errors()).containsExactly(new RowError(2, "value too long"));
+        assertThat(reports.getLast().errors()).isEmpty();
+        assertThat(issues.findAll()).extracting(Issue::getTitle).containsExactly("Good 1", "Good 2", "Good 3");
+    }
+
+    @Test
+    void looksUpAssigneesOncePerChunkAndRejectsInvalidRows() {
+        User jane = users.save(User.builder().username("jane").password("secret").name("Jane")
+                .email("jane@example.com").build());
+
+        List<BulkImport.Progress> reports = new ArrayList<>();
+
+        BulkImport.Progress result = importIssues.execute(List.of(
+                Row.of(2, new IssueRow("Assigned", null, null, "urgent", List.of(" vpn "), " jane ")),
+                Row.of(3, new IssueRow("Nobody", null, null, null, List.of(), "ghost")),
+                Row.of(4, new IssueRow("Again", null, null, null, List.of(), "jane")),
+                Row.<IssueRow>unreadable(5, "Unterminated quote"),
+                Row.of(6, new IssueRow("Later", null, null, "SOMEDAY", List.of(), null)),
+                Row.of(7, new IssueRow(" ", null, null, null, List.of(), null))).iterator(),
+                3, reports::add);
+
+        verify(users, times(1)).findAllByUsername(anyCollection());
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(4);
+        assertThat(reports.getFirst().errors()).containsExactly(new RowError(3, "Unknown assignee: ghost"));
+        assertThat(result.errors()).containsExactly(
+                new RowError(5, "Unterminated quote"),
+                new RowError(6, "Unknown priority: SOMEDAY"),
+                new RowError(7, "Title cannot be empty"));
+        assertThat(issues.findByAssignedUserId(jane.getId())).extracting(Issue::getTitle, Issue::getStatus)
+                .containsExactlyInAnyOrder(tuple("Assigned", IssueStatus.IN_PROGRESS), tuple("Again", IssueStatus.IN_PROGRESS));
+        assertThat(issues.findAll()).extracting(Issue::getTitle).doesNotContain("Nobody");
+    }
+
+    @Test
+    void rejectsUsernamesAndEmailsAlreadyTakenOrRepeatedInTheUpload() {
+        users.save(User.builder().username("jane").password("secret").name("Jane").email("jane@example.com").build());
+
+        BulkImport.Progress result = importUsers.execute(List.of(
+                Row.of(2, new UserRow("jane", "pw", "Jane Again", "other@example.com", null, null, null)),
+                Row.of(3, new UserRow("john", "pw", "John", "john@example.com", null, null, "Support")),
+                Row.of(4, new UserRow("johnny", "pw", "Johnny", "john@example.com", null, null, null)),
+                Row.of(5, new UserRow("mary", " ", "Mary", "mary@example.com", null, null, null))).iterator(),
+                10, progress -> {
+                });
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).containsExactly(
+                new RowError(2, "Username already exists: jane"),
+                new RowError(4, "Email already exists: john@example.com"),
+                new RowError(5, "Password cannot be empty"));
+        assertThat(users.findByDepartment("Support")).extracting(User::getUsername).containsExactly("john");
+    }
+
+    private static Row<IssueRow> issueRow(long line, String title) {
+        return Row.of(line, new IssueRow(title, null, "legacy", null, List.of(), null));
+    }
+}
@@ -0,0 +1,361 @@
+package org.caixabanktech.mic_issues.infrastructure.inmemory;
+
+import org.caixabanktech.mic_issues.application.usecases.AssignIssueUseCase;
+import org.caixabanktech.mic_issues.application.usecases.BulkImport;
+import org.caixabanktech.mic_issues.application.usecases.ClaimNextIssueUseCase;
+import org.caixabanktech.mic_issues.application.usecases.CreateIssueUseCase;
+import org.caixabanktech.mic_issues.application.usecases.DeleteUserUseCase;
+import org.caixabanktech.mic_issues.application.usecases.FindSimilarIssuesUseCase;
+import org.caixabanktech.mic_issues.application.usecases.GetIssueStatusHistoryUseCase;
+import org.caixabanktech.mic_issues.application.usecases.GetStatusTransitionsUseCase;
+import org.caixabanktech.mic_issues.application.usecases.ImportIssuesUseCase;
+import org.caixabanktech.mic_issues.application.usecases.ImportIssuesUseCase.IssueRow;
+import org.caixabanktech.mic_issues.application.usecases.ListUserIssuesUseCase;
+import org.caixabanktech.mic_issues.application.usecases.ListUserIssuesUseCase.UserInbox;
+import org.caixabanktech.mic_issues.application.usecases.UpdateIssueStatusUseCase;
+import org.caixabanktech.mic_issues.application.usecases.ports.TagIndex;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+/**
+ * The application on the in-memory adapters, without a database
+ */
+@SpringBootTest
+@ActiveProfiles("inmemory")
+class InMemoryRepositoryAdapterTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CreateIssueUseCase createIssueUseCase;
+
+    @Autowired
+    private AssignIssueUseCase assignIssueUseCase;
+
+    @Autowired
+    private UpdateIssueStatusUseCase updateIssueStatusUseCase;
+
+    @Autowired
+    private DeleteUserUseCase deleteUserUseCase;
+
+    @Autowired
+    private GetIssueStatusHistoryUseCase getIssueStatusHistoryUseCase;
+
+    @Autowired
+    private GetStatusTransitionsUseCase getStatusTransitionsUseCase;
+
+    @Autowired
+    private ListUserIssuesUseCase listUserIssuesUseCase;
+
+    @Autowired
+    private ImportIssuesUseCase importIssuesUseCase;
+
+    @Autowired
+    private FindSimilarIssuesUseCase findSimilarIssuesUseCase;
+
+    @Autowired
+    private ClaimNextIssueUseCase claimNextIssueUseCase;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Test
+    void wiresInMemoryAdapters() {
+        assertThat(userRepository).isInstanceOf(InMemoryUserRepositoryAdapter.class);
+        assertThat(issueRepository).isInstanceOf(InMemoryIssueRepositoryAdapter.class);
+    }
+
+    @Test
+    void secondaryIndexesFollowUpdates() {
+        User user = userRepository.save(newUser("Support"));
+        Issue issue = createIssueUseCase.execute("Printer on fire", "Third floor", "test", "HIGH", List.of("hardware"), null);
+        assertThat(issueRepository.findByStatus(IssueStatus.OPEN)).contains(issue);
+
+        assignIssueUseCase.execute(issue.getId(), user.getId());
+        assertThat(issueRepository.findByStatus(IssueStatus.OPEN)).doesNotContain(issue);
+        assertThat(issueRepository.findByStatus(IssueStatus.IN_PROGRESS)).contains(issue);
+        assertThat(issueRepository.findByAssignedUserId(user.getId())).containsExactly(issue);
+
+        updateIssueStatusUseCase.execute(issue.getId(), IssueStatus.RESOLVED, user.getId());
+        assertThat(issueRepository.findByStatus(IssueStatus.IN_PROGRESS)).doesNotContain(issue);
+        assertThat(issueRepository.findById(issue.getId()).orElseThrow().getUpdatedAt()).isNotNull();
+
+        User moved = userRepository.findById(user.getId()).orElseThrow();
+        moved.updateProfile(moved.getName(), moved.getEmail(), null, null, "Operations");
+        userRepository.save(moved);
+        assertThat(userRepository.findByDepartment("Support")).doesNotContain(moved);
+        assertThat(userRepository.findByDepartment("Operations")).contains(moved);
+        assertThat(issueRepository.findById(issue.getId()).orElseThrow().getAssignedUser().getDepartment())
+                .isEqualTo("Operations");
+    }
+
+    @Test
+    void recordsStatusTransitions() {
+        LocalDateTime from = LocalDateTime.now().minusSeconds(1);
+        User user = userRepository.save(newUser("Support"));
+        Issue issue = createIssueUseCase.execute("Disk full", null, "test", "HIGH", List.of(), null);
+        assignIssueUseCase.execute(issue.getId(), user.getId());
+        assignIssueUseCase.execute(issue.getId(), user.getId());
+        updateIssueStatusUseCase.execute(issue.getId(), IssueStatus.RESOLVED, user.getId());
+
+        assertThat(getIssueStatusHistoryUseCase.execute(issue.getId()))
+                .extracting(StatusTransition::fromStatus, StatusTransition::toStatus)
+                .containsExactly(
+                        tuple(null, IssueStatus.OPEN),
+                        tuple(IssueStatus.OPEN, IssueStatus.IN_PROGRESS),
+                        tuple(IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED));
+        assertThat(getStatusTransitionsUseCase.execute(from, LocalDateTime.now().plusSeconds(1)))
+                .anySatisfy(count -> {
+                    assertThat(count.fromStatus()).isEqualTo(IssueStatus.IN_PROGRESS);
+                    assertThat(count.toStatus()).isEqualTo(IssueStatus.RESOLVED);
+                    assertThat(count.count()).isPositive();
+                });
+    }
+
+    @Test
+    void pagesUserInboxNewestChangeFirst() {
+        User user = userRepository.save(newUser("Support"));
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(createIssueUseCase.execute("Inbox " + i, null, "test", "NORMAL", List.of(), user.getId()).getId());
+        }
+        // Touching the oldest issue moves it to the front
+        updateIssueStatusUseCase.execute(created.getFirst(), IssueStatus.RESOLVED, user.getId());
+
+        UserInbox first = listUserIssuesUseCase.execute(user.getId(), null, null, 2);
+        UserInbox second = listUserIssuesUseCase.execute(user.getId(), null, first.next(), 2);
+        UserInbox last = listUserIssuesUseCase.execute(user.getId(), null, second.next(), 2);
+        assertThat(first.issues()).extracting(Issue::getId).containsExactly(created.get(0), created.get(4));
+        assertThat(second.issues()).extracting(Issue::getId).containsExactly(created.get(3), created.get(2));
+        assertThat(last.issues()).extracting(Issue::getId).containsExactly(created.get(1));
+        assertThat(last.next()).isNull();
+        assertThat(first.counts()).containsEntry(IssueStatus.RESOLVED, 1L)
+                .satisfies(counts -> assertThat(counts.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(5));
+
+        UserInbox resolved = listUserIssuesUseCase.execute(user.getId(), List.of(IssueStatus.RESOLVED), null, null);
+        assertThat(resolved.issues()).extracting(Issue::getId).containsExactly(created.getFirst());
+        assertThat(resolved.counts()).isEqualTo(first.counts());
+    }
+
+    @Test
+    void importsIssuesInChunksAndReportsRejectedRows() {
+        User user = userRepository.save(newUser("Support"));
+        List<BulkImport.Row<IssueRow>> rows = List.of(
+                BulkImport.Row.of(2, new IssueRow("Imported A", null, "legacy", "high", List.of("vpn"), user.getUsername())),
+                BulkImport.Row.of(3, new IssueRow("Imported B", null, null, "SOMEDAY", List.of(), null)),
+                BulkImport.Row.unreadable(4, "Expected 6 fields but found 2"),
+                BulkImport.Row.of(5, new IssueRow(" ", null, null, null, List.of(), null)),
+                BulkImport.Row.of(6, new IssueRow("Imported C", null, null, null, List.of(), "nobody-" + UUID.randomUUID())),
+                BulkImport.Row.of(7, new IssueRow("Imported D", "last", null, null, List.of(" ", "printer"), null)));
+        List<BulkImport.Progress> reports = new ArrayList<>();
+
+        BulkImport.Progress result = importIssuesUseCase.execute(rows.iterator(), 2, reports::add);
+
+        assertThat(result.processed()).isEqualTo(6);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(4);
+        assertThat(reports).hasSize(3);
+        assertThat(reports).flatExtracting(BulkImport.Progress::errors)
+                .extracting(BulkImport.RowError::line)
+                .containsExactly(3L, 4L, 5L, 6L);
+
+        Issue assigned = issueRepository.findByAssignedUserId(user.getId()).getFirst();
+        assertThat(assigned.getTitle()).isEqualTo("Imported A");
+        assertThat(assigned.getStatus()).isEqualTo(IssueStatus.IN_PROGRESS);
+        assertThat(getIssueStatusHistoryUseCase.execute(assigned.getId()))
+                .extracting(StatusTransition::toStatus)
+                .containsExactly(IssueStatus.IN_PROGRESS);
+        assertThat(issueRepository.findAll()).filteredOn(issue -> "Imported D".equals(issue.getTitle()))
+                .singleElement()
+                .satisfies(issue -> assertThat(issue.getTags()).containsExactly("printer"));
+    }
+
+    @Test
+    void refusesNearDuplicatesOfOpenIssuesWhenAsked() {
+        String host = "db-" + UUID.randomUUID().toString().substring(0, 8);
+        Issue original = createIssueUseCase.execute("Database " + host + " unreachable",
+                "Connections to " + host + " time out since 9:00", "test", "URGENT", List.of(), null);
+
+        assertThatThrownBy(() -> createIssueUseCase.execute("Database " + host + " is unreachable",
+                "Connections to " + host + " time out since 9:00!", "test", "URGENT", List.of(), null, null, true))
+                .isInstanceOfSatisfying(CreateIssueUseCase.PossibleDuplicateException.class, ex ->
+                        assertThat(ex.getCandidates()).extracting(candidate -> candidate.issue().getId())
+                                .containsExactly(original.getId()));
+
+        // Without the check, and once the open ones are rejected, the report goes through
+        Issue second = createIssueUseCase.execute("Database " + host + " is unreachable",
+                "Connections to " + host + " time out since 9:00!", "test", "URGENT", List.of(), null, null, false);
+        assertThat(findSimilarIssuesUseCase.execute(original.getId(), 0.6, 5))
+                .extracting(similar -> similar.issue().getId()).containsExactly(second.getId());
+        updateIssueStatusUseCase.execute(original.getId(), IssueStatus.REJECTED, null);
+        updateIssueStatusUseCase.execute(second.getId(), IssueStatus.REJECTED, null);
+        assertThat(createIssueUseCase.execute("Database " + host + " unreachable again",
+                "Connections to " + host + " time out since 9:00", "test", "URGENT", List.of(), null, null, true))
+                .isNotNull();
+    }
+
+    @Test
+    void closedLookAlikesDoNotHideAnOpenDuplicate() {
+        String host = "mx-" + UUID.randomUUID().toString().substring(0, 8);
+        String title = "Mailbox " + host + " rejects attachments";
+        String description = "Attachments over 10MB sent to " + host + " bounce since the upgrade";
+        User user = userRepository.save(newUser("Support"));
+        // Word for word the same as the new report, so more similar than the open one
+        for (int i = 0; i < 6; i++) {
+            Issue closed = createIssueUseCase.execute(title, description, "test", "LOW", List.of(), user.getId());
+            updateIssueStatusUseCase.execute(closed.getId(), IssueStatus.RESOLVED, user.getId());
+            updateIssueStatusUseCase.execute(closed.getId(), IssueStatus.CLOSED, user.getId());
+        }
+        Issue open = createIssueUseCase.execute("Mailbox " + host + " rejects large attachments", description,
+                "test", "LOW", List.of(), null);
+
+        assertThatThrownBy(() -> createIssueUseCase.execute(title, description, "test", "LOW", List.of(), null, null, true))
+                .isInstanceOfSatisfying(CreateIssueUseCase.PossibleDuplicateException.class, ex ->
+                        assertThat(ex.getCandidates()).extracting(candidate -> candidate.issue().getId())
+                                .containsExactly(open.getId()));
+    }
+
+    @Test
+    void claimsWaitingIssuesByPriorityThenAgeAndEachOnlyOnce() throws Exception {
+        String queue = "queue-" + UUID.randomUUID();
+        User user = userRepository.save(newUser("Support"));
+        Issue low = createIssueUseCase.execute("Queue low", null, "test", "LOW", List.of(queue), null);
+        Issue firstHigh = createIssueUseCase.execute("Queue high 1", null, "test", "HIGH", List.of(queue), null);
+        Issue secondHigh = createIssueUseCase.execute("Queue high 2", null, "test", "HIGH", List.of(queue.toUpperCase()), null);
+        createIssueUseCase.execute("Queue taken", null, "test", "URGENT", List.of(queue), user.getId());
+
+        List<Long> claimed = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            claimNextIssueUseCase.execute(user.getId(), queue).ifPresent(issue -> {
+                assertThat(issue.getStatus()).isEqualTo(IssueStatus.IN_PROGRESS);
+                assertThat(issue.getAssignedUser().getId()).isEqualTo(user.getId());
+                claimed.add(issue.getId());
+            });
+        }
+        assertThat(claimed).containsExactly(firstHigh.getId(), secondHigh.getId(), low.getId());
+
+        String contended = "queue-" + UUID.randomUUID();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(createIssueUseCase.execute("Contended " + i, null, "test", "NORMAL", List.of(contended), null).getId());
+        }
+        List<Long> won = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (Optional<Issue> next = claimNextIssueUseCase.execute(user.getId(), contended);
+                         next.isPresent(); next = claimNextIssueUseCase.execute(user.getId(), contended)) {
+                        won.add(next.get().getId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertThat(won).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    void enforcesUniqueUsernameAndEmail() {
+        User user = userRepository.save(newUser("QA"));
+
+        User sameUsername = User.builder().username(user.getUsername()).password("x").name("Other")
+                .email(UUID.randomUUID() + "@example.com").build();
+        assertThatThrownBy(() -> userRepository.save(sameUsername)).isInstanceOf(DataIntegrityViolationException.class);
+
+        User sameEmail = User.builder().username("u-" + UUID.randomUUID()).password("x").name("Other")
+                .email(user.getEmail()).build();
+        assertThatThrownBy(() -> userRepository.save(sameEmail)).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(userRepository.existsByUsername(sameEmail.getUsername())).isFalse();
+    }
+
+    @Test
+    void deletingUserRemovesAssignedIssues() {
+        User user = userRepository.save(newUser("IT"));
+        String tag = "cascade-" + UUID.randomUUID();
+        Issue issue = createIssueUseCase.execute("VPN down", null, "test", "URGENT", List.of(tag), user.getId());
+        assertThat(tagIndex.complete(tag, 1)).isNotEmpty();
+
+        deleteUserUseCase.execute(user.getId());
+
+        assertThat(issueRepository.existsById(issue.getId())).isFalse();
+        assertThat(userRepository.findByUsername(user.getUsername())).isEmpty();
+        assertThat(tagIndex.complete(tag, 1)).isEmpty();
+    }
+
+    @Test
+    void concurrentWritersKeepIndexesConsistent() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            users.add(userRepository.save(newUser("Load")));
+        }
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(createIssueUseCase.execute("Load " + i, null, "test", "NORMAL", List.of(), null).getId());
+        }
+
+        AtomicInteger cursor = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int n = cursor.getAndIncrement(); n < ids.size() * 5; n = cursor.getAndIncrement()) {
+                        Long id = ids.get(n % ids.size());
+                        assignIssueUseCase.execute(id, users.get(n % users.size()).getId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        int assigned = users.stream().mapToInt(u -> issueRepository.findByAssignedUserId(u.getId()).size()).sum();
+        assertThat(assigned).isEqualTo(ids.size());
+        for (Long id : ids) {
+            Issue issue = issueRepository.findById(id).orElseThrow();
+            assertThat(issueRepository.findByAssignedUserId(issue.getAssignedUser().getId())).contains(issue);
+        }
+    }
+
+    private static User newUser(String department) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .username("mem-" + suffix)
+                .password("secret")
+                .name("In Memory " + suffix)
+                .email("mem-" + suffix + "@example.com")
+                .department(department)
+                .build();
+    }
+}
@@ -0,0 +1,312 @@
+package org.caixabanktech.mic_issues.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.infrastructure.history.IssueStatusHistoryAdapter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query-plan regression suite
+ * Captures the SQL Hibernate generates for the repository lookups and runs it through
+ * EXPLAIN (ANALYZE, BUFFERS) against a seeded schema, asserting on index usage and on
+ * the planner's row estimates. Plain JDBC statements are captured from the JdbcTemplate the
+ * adapter runs them through. Needs a local PostgreSQL; run with {@code mvn test -Pquery-plan}.
+ */
+@Tag("query-plan")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:postgresql://localhost:5432/${POSTGRES_DB:mydb}?currentSchema=query_plan",
+        "spring.flyway.schemas=query_plan",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.caixabanktech.mic_issues.infrastructure.persistence.CapturingStatementInspector"
+})
+class QueryPlanRegressionTest {
+
+    private static final int USERS = 20_000;
+    private static final int DEPARTMENTS = 50;
+    private static final int ISSUES = 100_000;
+    private static final int TAG_VOCABULARY = 200;
+
+    /** Planned vs actual rows may differ by at most this factor */
+    private static final double MAX_ESTIMATE_ERROR = 10.0;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private IssueJpaRepository issueRepository;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private record JdbcStatement(String sql, PreparedStatementSetter parameters) {
+    }
+
+    private final List<JdbcStatement> jdbcStatements = new ArrayList<>();
+    private IssueStatusHistoryAdapter historyAdapter;
+
+    @BeforeAll
+    void seed() {
+        historyAdapter = new IssueStatusHistoryAdapter(new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse) {
+                jdbcStatements.add(new JdbcStatement(((SqlProvider) psc).getSql(), pss));
+                return super.query(psc, pss, rse);
+            }
+        });
+
+        jdbcTemplate.execute("TRUNCATE user_issue_collaborators, issue_tags, issues, users, issue_status_history "
+                + "RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("""
+                INSERT INTO users (username, password, name, email, department, created_at)
+                SELECT 'qp-user-' || g, 'secret', 'User ' || g, 'qp-user-' || g || '@example.com',
+                       'dept-' || (g % ?), now()
+                FROM generate_series(1, ?) g""", DEPARTMENTS, USERS);
+        // Most issues are closed, as in production; open work is the selective, hot slice
+        jdbcTemplate.update("""
+                INSERT INTO issues (title, requester, status, priority, assigned_user_id, created_at)
+                SELECT 'Issue ' || g, 'qp',
+                       CASE g % 50 WHEN 0 THEN 'OPEN' WHEN 1 THEN 'IN_PROGRESS' WHEN 2 THEN 'RESOLVED'
+                                   WHEN 3 THEN 'REJECTED' ELSE 'CLOSED' END,
+                       'NORMAL',
+                       CASE WHEN g % 10 < 7 THEN 1 + (g % ?) END,
+                       now() - make_interval(mins => g)
+                FROM generate_series(1, ?) g""", USERS, ISSUES);
+        jdbcTemplate.update("""
+                INSERT INTO issue_tags (issue_id, tag)
+                SELECT id, 'tag-' || (id % ?) FROM issues
+                UNION ALL
+                SELECT id, 'tag-' || ((id * 7 + 3) % ?) FROM issues""", TAG_VOCABULARY, TAG_VOCABULARY);
+        // Appended as issues move on, so the table is physically in changed_at order
+        jdbcTemplate.update("""
+                INSERT INTO issue_status_history (issue_id, changed_at, from_status, to_status)
+                SELECT issue_id, changed_at, from_status, to_status FROM (
+                    SELECT id AS issue_id, created_at AS changed_at, NULL::smallint AS from_status, 1::smallint AS to_status
+                    FROM issues
+                    UNION ALL
+                    SELECT id, created_at + interval '10 minutes', 1, 2 FROM issues
+                    WHERE status IN ('IN_PROGRESS', 'RESOLVED', 'CLOSED')
+                    UNION ALL
+                    SELECT id, created_at + interval '1 hour', 2, 3 FROM issues WHERE status IN ('RESOLVED', 'CLOSED')
+                    UNION ALL
+                    SELECT id, created_at + interval '2 hours', 3, 4 FROM issues WHERE status = 'CLOSED'
+                    UNION ALL
+                    SELECT id, created_at + interval '5 minutes', 1, 5 FROM issues WHERE status = 'REJECTED') t
+                ORDER BY changed_at, issue_id""");
+        jdbcTemplate.execute("ANALYZE users");
+        jdbcTemplate.execute("ANALYZE issues");
+        jdbcTemplate.execute("ANALYZE issue_tags");
+        jdbcTemplate.execute("ANALYZE issue_status_history");
+    }
+
+    @Test
+    void findByStatusUsesStatusIndex() {
+        String sql = capture(() -> issueRepository.findByStatus(IssueStatus.OPEN), "issues");
+
+        assertPlan(explain(sql, "OPEN"), "issues", "idx_issues_status");
+    }
+
+    @Test
+    void findByAssignedUserIdUsesAssigneeIndex() {
+        String sql = capture(() -> issueRepository.findByAssignedUserId(42L), "issues");
+
+        assertPlan(explain(sql, 42L), "issues", "idx_issues_assigned_user_id");
+    }
+
+    @Test
+    void inboxPageUsesInboxIndex() {
+        String sql = capture(() -> issueRepository.findInboxPage(42L, Set.of(IssueStatus.CLOSED), Limit.of(20)), "issues");
+
+        assertPlan(explain(sql, 42L, "CLOSED", 20), "issues", "idx_issues_assignee_inbox");
+    }
+
+    @Test
+    void unfilteredInboxPageIsOneOrderedRangeScan() {
+        String sql = capture(() -> issueRepository.findInboxPage(42L, Limit.of(20)), "issues");
+
+        JsonNode plan = explain(sql, 42L, 20);
+        assertPlan(plan, "issues", "idx_issues_assignee_recent");
+        assertNoSort(plan);
+    }
+
+    @Test
+    void tagCollectionLoadUsesIssueIdIndex() {
+        String sql = capture(() -> transactionTemplate.executeWithoutResult(status ->
+                issueRepository.findById(1234L).orElseThrow().getTags().size()), "issue_tags");
+
+        assertPlan(explain(sql, 1234L), "issue_tags", "idx_issue_tags_issue_id");
+    }
+
+    @Test
+    void findByDepartmentUsesDepartmentIndex() {
+        String sql = capture(() -> userRepository.findByDepartment("dept-7"), "users");
+
+        assertPlan(explain(sql, "dept-7"), "users", "idx_users_department");
+    }
+
+    @Test
+    void findByUsernameUsesUniqueIndex() {
+        String sql = capture(() -> userRepository.findByUsername("qp-user-777"), "users");
+
+        assertPlan(explain(sql, "qp-user-777"), "users", null);
+    }
+
+    @Test
+    void findByEmailUsesUniqueIndex() {
+        String sql = capture(() -> userRepository.findByEmail("qp-user-777@example.com"), "users");
+
+        assertPlan(explain(sql, "qp-user-777@example.com"), "users", null);
+    }
+
+    @Test
+    void transitionsIntoStatusesUseTheBrinIndex() {
+        LocalDateTime from = LocalDateTime.now().minusDays(30);
+        JdbcStatement statement = captureJdbc(() -> historyAdapter.findTransitionsInto(
+                EnumSet.of(IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED), from, from.plusHours(1)));
+
+        assertIndexes(explain(statement), "issue_status_history", "idx_issue_status_history_changed_at");
+    }
+
+    @Test
+    void timeInStatusPrunesTheRangeAndProbesTheIssueIndexPerRow() {
+        LocalDateTime from = LocalDateTime.now().minusDays(30);
+        JdbcStatement statement = captureJdbc(() -> historyAdapter.timeInStatus(from, from.plusHours(1)));
+
+        assertIndexes(explain(statement), "issue_status_history",
+                "idx_issue_status_history_changed_at", "idx_issue_status_history_issue");
+    }
+
+    /**
+     * Runs the repository call and returns the last generated statement that reads the given table.
+     */
+    private String capture(Runnable call, String table) {
+        CapturingStatementInspector.clear();
+        call.run();
+        List<String> statements = CapturingStatementInspector.statements().stream()
+                .filter(sql -> sql.matches("(?s).*\\bfrom " + table + "\\b.*"))
+                .toList();
+        assertFalse(statements.isEmpty(), "No statement captured for table " + table);
+        return statements.getLast();
+    }
+
+    /**
+     * Runs the JDBC call and returns the last statement it executed, with its parameters.
+     */
+    private JdbcStatement captureJdbc(Runnable call) {
+        jdbcStatements.clear();
+        call.run();
+        assertFalse(jdbcStatements.isEmpty(), "No JDBC statement captured");
+        return jdbcStatements.getLast();
+    }
+
+    private JsonNode explain(String sql, Object... parameters) {
+        assertEquals(parameters.length, sql.chars().filter(c -> c == '?').count(),
+                "Parameter count mismatch for: " + sql);
+        return plan(jdbcTemplate.queryForObject(
+                "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql, String.class, parameters));
+    }
+
+    private JsonNode explain(JdbcStatement statement) {
+        return plan(jdbcTemplate.query("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + statement.sql(),
+                statement.parameters(), rs -> rs.next() ? rs.getString(1) : null));
+    }
+
+    private JsonNode plan(String json) {
+        try {
+            return objectMapper.readTree(json).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan: " + json, e);
+        }
+    }
+
+    /**
+     * Asserts the table is never sequentially scanned, is reached through an index
+     * (the named one, if given) and that the index node's row estimate is close to reality.
+     */
+    private void assertPlan(JsonNode plan, String table, String expectedIndex) {
+        List<JsonNode> nodes = new ArrayList<>();
+        collect(plan, nodes);
+        String rendered = plan.toPrettyString();
+
+        assertTrue(nodes.stream().noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+                        && table.equals(node.path("Relation Name").asText())),
+                "Sequential scan on " + table + ":\n" + rendered);
+
+        Predicate<JsonNode> usesIndex = node -> node.has("Index Name")
+                && (expectedIndex == null || expectedIndex.equals(node.path("Index Name").asText()));
+        JsonNode indexNode = nodes.stream().filter(usesIndex).findFirst().orElse(null);
+        assertTrue(indexNode != null,
+                "Expected index " + (expectedIndex != null ? expectedIndex : "scan") + " on " + table + ":\n" + rendered);
+
+        double planned = Math.max(1.0, indexNode.path("Plan Rows").asDouble());
+        double actual = Math.max(1.0, indexNode.path("Actual Rows").asDouble());
+        double error = Math.max(planned / actual, actual / planned);
+        assertTrue(error <= MAX_ESTIMATE_ERROR,
+                "Row estimate off by " + error + "x (planned " + planned + ", actual " + actual + "):\n" + rendered);
+    }
+
+    /**
+     * Asserts the table is never sequentially scanned and every named index is used. Row
+     * estimates are not compared: a BRIN scan is lossy and counts pages, not rows.
+     */
+    private void assertIndexes(JsonNode plan, String table, String... expectedIndexes) {
+        List<JsonNode> nodes = new ArrayList<>();
+        collect(plan, nodes);
+        String rendered = plan.toPrettyString();
+
+        assertTrue(nodes.stream().noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+                        && table.equals(node.path("Relation Name").asText())),
+                "Sequential scan on " + table + ":\n" + rendered);
+        for (String expectedIndex : expectedIndexes) {
+            assertTrue(nodes.stream().anyMatch(node -> expectedIndex.equals(node.path("Index Name").asText())),
+                    "Expected index " + expectedIndex + " on " + table + ":\n" + rendered);
+        }
+    }
+
+    /**
+     * Asserts rows come out of the index in the requested order, with no sort on top
+     */
+    private void assertNoSort(JsonNode plan) {
+        List<JsonNode> nodes = new ArrayList<>();
+        collect(plan, nodes);
+        assertTrue(nodes.stream().noneMatch(node -> node.path("Node Type").asText().endsWith("Sort")),
+                "Sort in plan:\n" + plan.toPrettyString());
+    }
+
+    private static void collect(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodes);
+        }
+    }
+}
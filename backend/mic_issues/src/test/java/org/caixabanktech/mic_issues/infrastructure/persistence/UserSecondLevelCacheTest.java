@@ -0,0 +1,118 @@
+package org.caixabanktech.mic_issues.infrastructure.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.caixabanktech.mic_issues.application.usecases.UpdateUserUseCase;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Second-level and query cache behaviour for users
+ * Each repository call runs in its own session, so hits can only come from the shared cache.
+ */
+@SpringBootTest
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private UpdateUserUseCase updateUserUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private String department;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        department = "cache-" + suffix;
+        user = userRepository.save(User.builder()
+                .username("cache-" + suffix)
+                .password("secret")
+                .name("Cache Test")
+                .email("cache-" + suffix + "@example.com")
+                .department(department)
+                .build());
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void repeatedLookupIsServedFromTheEntityCache() {
+        userRepository.findById(user.getId());
+        userRepository.findById(user.getId());
+
+        assertTrue(statistics.getDomainDataRegionStatistics("users").getHitCount() >= 1,
+                "Second lookup should hit the users region");
+    }
+
+    @Test
+    void updateInvalidatesTheCachedEntity() {
+        userRepository.findById(user.getId());
+
+        updateUserUseCase.execute(user.getId(), "Renamed", user.getEmail(), null, null, department);
+
+        User reloaded = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals("Renamed", reloaded.getName());
+    }
+
+    @Test
+    void repeatedDepartmentQueryIsServedFromTheQueryCache() {
+        userJpaRepository.findByDepartment(department);
+        userJpaRepository.findByDepartment(department);
+
+        assertTrue(statistics.getQueryRegionStatistics(UserJpaRepository.USER_QUERY_REGION).getHitCount() >= 1,
+                "Second query should hit the user-queries region");
+    }
+
+    @Test
+    void updateInvalidatesCachedDepartmentQueries() {
+        assertEquals(List.of(user.getId()), ids(userJpaRepository.findByDepartment(department)));
+
+        updateUserUseCase.execute(user.getId(), user.getName(), user.getEmail(), null, null, department + "-moved");
+
+        assertTrue(userJpaRepository.findByDepartment(department).isEmpty(),
+                "Cached result for the old department must not survive the update");
+        assertEquals(List.of(user.getId()), ids(userJpaRepository.findByDepartment(department + "-moved")));
+    }
+
+    @Test
+    void updateInvalidatesCachedUsernameQuery() {
+        userJpaRepository.findByUsername(user.getUsername());
+
+        updateUserUseCase.execute(user.getId(), "Renamed", user.getEmail(), null, null, department);
+
+        assertEquals("Renamed", userJpaRepository.findByUsername(user.getUsername()).orElseThrow().getName());
+    }
+
+    private static List<Long> ids(List<UserJpaEntity> users) {
+        return users.stream().map(UserJpaEntity::getId).toList();
+    }
+}
@@ -0,0 +1,173 @@
+package org.caixabanktech.mic_issues.infrastructure.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.caixabanktech.mic_issues.application.usecases.CreateIssueUseCase;
+import org.caixabanktech.mic_issues.infrastructure.websocket.dto.IssueEventMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fan-out through LISTEN/NOTIFY between this application, as node-a, and a second relay
+ * started by the test as node-b, both against the same database. Needs a local PostgreSQL;
+ * run with {@code mvn test -Ppostgres}.
+ */
+@Tag("postgres")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:postgresql://localhost:5432/${POSTGRES_DB:mydb}?currentSchema=relay_test",
+        "spring.flyway.schemas=relay_test",
+        "worksync.relay.mode=postgres",
+        "worksync.relay.node-id=node-a",
+        "worksync.relay.channel=relay_test",
+        "worksync.relay.poll-interval=200ms",
+        "worksync.relay.reconnect-delay=100ms"
+})
+class PostgresEventRelayTest {
+
+    /**
+     * What node-a delivers to its own listeners
+     */
+    @TestConfiguration
+    static class Deliveries {
+
+        final List<RelayedEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void onRelayedEvent(RelayedEvent event) {
+            events.add(event);
+        }
+    }
+
+    @Autowired
+    private EventRelay nodeA;
+
+    @Autowired
+    private Deliveries nodeADeliveries;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private CreateIssueUseCase createIssueUseCase;
+
+    private final List<RelayedEvent> nodeBDeliveries = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry nodeBMeters = new SimpleMeterRegistry();
+    private PostgresEventRelay nodeB;
+    private long startSequence;
+
+    @BeforeEach
+    void startNodeB() {
+        startSequence = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM relay_events", Long.class);
+        nodeB = new PostgresEventRelay(jdbcTemplate, transactionManager, objectMapper, dataSourceProperties,
+                event -> nodeBDeliveries.add((RelayedEvent) event), nodeBMeters,
+                new RelayProperties(RelayProperties.Mode.POSTGRES, "node-b", "relay_test",
+                        Duration.ofMillis(200), 500, Duration.ofMinutes(15), Duration.ofMillis(100), 1_000));
+        nodeB.start();
+    }
+
+    @AfterEach
+    void stopNodeB() {
+        nodeB.stop();
+    }
+
+    @Test
+    void everyNodeDeliversConcurrentPublicationsInTheSameOrder() {
+        CompletableFuture<Void> fromA = CompletableFuture.runAsync(() -> publish(nodeA, 1, 50));
+        CompletableFuture<Void> fromB = CompletableFuture.runAsync(() -> publish(nodeB, 1_001, 50));
+        CompletableFuture.allOf(fromA, fromB).join();
+
+        await(() -> since(nodeADeliveries.events).size() >= 100 && since(nodeBDeliveries).size() >= 100);
+        List<Long> orderOnA = since(nodeADeliveries.events).stream().map(RelayedEvent::sequence).toList();
+        List<Long> orderOnB = since(nodeBDeliveries).stream().map(RelayedEvent::sequence).toList();
+        assertThat(orderOnA).hasSize(100).isSorted().doesNotHaveDuplicates();
+        assertThat(orderOnB).isEqualTo(orderOnA);
+        assertThat(since(nodeBDeliveries)).extracting(RelayedEvent::originNode).contains("node-a", "node-b");
+        assertThat(since(nodeBDeliveries).getFirst().message()).isInstanceOf(IssueEventMessage.class);
+    }
+
+    @Test
+    void reconnectingListenerResumesFromItsCursorWithoutDuplicates() {
+        publish(nodeA, 1, 5);
+        await(() -> since(nodeBDeliveries).size() >= 5);
+
+        // Drops node-b's listener connection, whose last statement is the read of pending rows
+        jdbcTemplate.query("""
+                SELECT pg_terminate_backend(pid) FROM pg_stat_activity
+                WHERE datname = current_database() AND pid <> pg_backend_pid()
+                  AND query LIKE 'SELECT id, origin_node%'""", rs -> null);
+        await(() -> nodeBMeters.counter("worksync.relay.reconnects").count() >= 1);
+        publish(nodeA, 6, 5);
+
+        await(() -> since(nodeBDeliveries).size() >= 10);
+        LockSupport.parkNanos(Duration.ofMillis(500).toNanos());
+        assertThat(since(nodeBDeliveries)).extracting(RelayedEvent::entityId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(nodeB.lastDeliveredSequence()).isEqualTo(since(nodeBDeliveries).getLast().sequence());
+    }
+
+    @Test
+    void rolledBackChangesAreNeverPublished() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            createIssueUseCase.execute("Rolled back", null, "relay-test", "LOW", List.of(), null);
+            status.setRollbackOnly();
+        });
+        Long committedId = createIssueUseCase.execute("Committed", null, "relay-test", "LOW", List.of(), null).getId();
+
+        await(() -> since(nodeBDeliveries).stream().anyMatch(event -> committedId.equals(event.entityId())));
+        assertThat(since(nodeBDeliveries)).singleElement().satisfies(event -> {
+            assertThat(event.originNode()).isEqualTo("node-a");
+            assertThat(((IssueEventMessage) event.message()).title()).isEqualTo("Committed");
+        });
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM relay_events WHERE id > ? AND payload LIKE ?",
+                Long.class, startSequence, "%Rolled back%")).isZero();
+    }
+
+    private static void publish(EventRelay relay, long firstIssueId, int count) {
+        for (long issueId = firstIssueId; issueId < firstIssueId + count; issueId++) {
+            relay.publish(RelayTopic.ISSUES, issueId, new IssueEventMessage("UPDATED", issueId, "Issue " + issueId,
+                    null, "relay-test", "OPEN", "LOW", null, null, List.of(), null, LocalDateTime.now()));
+        }
+    }
+
+    private List<RelayedEvent> since(List<RelayedEvent> deliveries) {
+        return deliveries.stream().filter(event -> event.sequence() > startSequence).toList();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+        }
+        assertThat(condition.getAsBoolean()).as("condition met within 10s").isTrue();
+    }
+}
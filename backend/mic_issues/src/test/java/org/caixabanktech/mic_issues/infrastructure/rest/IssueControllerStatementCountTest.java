@@ -0,0 +1,92 @@
+package org.caixabanktech.mic_issues.infrastructure.rest;
+
+import org.caixabanktech.mic_issues.application.usecases.CreateIssueUseCase;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.UserRepository;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.infrastructure.sql.SqlAccounting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the issue endpoints
+ * Several assigned, tagged issues make an N+1 visible as a statement count growing with the data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IssueControllerStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CreateIssueUseCase createIssueUseCase;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Long> issueIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            User user = userRepository.save(User.builder()
+                    .username("sql-" + suffix)
+                    .password("secret")
+                    .name("Statement Count " + i)
+                    .email("sql-" + suffix + "@example.com")
+                    .department("QA")
+                    .build());
+            userIds.add(user.getId());
+            Issue issue = createIssueUseCase.execute("Statement count " + i, "N+1 guard", "test",
+                    "NORMAL", List.of("sql", "n-plus-one"), user.getId());
+            issueIds.add(issue.getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        issueIds.forEach(issueRepository::deleteById);
+        userIds.forEach(userRepository::deleteById);
+    }
+
+    @Test
+    void listIssuesIssuesAtMostThreeStatements() throws Exception {
+        SqlAccounting.StatementStats stats = SqlAccounting.measure(() ->
+                mockMvc.perform(get("/api/issues")).andExpect(status().isOk()));
+
+        assertThat(stats.statements())
+                .as("GET /api/issues executed %s", stats)
+                .isLessThanOrEqualTo(3);
+        assertThat(stats.mostRepeatedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getIssueByIdIssuesAtMostThreeStatements() throws Exception {
+        SqlAccounting.StatementStats stats = SqlAccounting.measure(() ->
+                mockMvc.perform(get("/api/issues/{id}", issueIds.getFirst())).andExpect(status().isOk()));
+
+        assertThat(stats.statements())
+                .as("GET /api/issues/{id} executed %s", stats)
+                .isLessThanOrEqualTo(3);
+    }
+}
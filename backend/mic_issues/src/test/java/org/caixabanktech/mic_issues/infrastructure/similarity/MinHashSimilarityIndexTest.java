@@ -0,0 +1,98 @@
+package org.caixabanktech.mic_issues.infrastructure.similarity;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.SimilarityIndex.Match;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.domain.events.IssuesArchivedEvent;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Near-duplicate lookups as issues come and go
+ */
+class MinHashSimilarityIndexTest {
+
+    private IssueRepository issueRepository;
+    private MinHashSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        issueRepository = mock(IssueRepository.class);
+        when(issueRepository.findAll()).thenReturn(List.of(
+                issue(1L, "User login error", "Users get a 500 error when they log in to the portal"),
+                issue(2L, "Printer out of toner", "The third floor printer needs a new cartridge"),
+                issue(3L, "VPN disconnects every hour", "Remote staff lose the VPN tunnel hourly")));
+        EventRelay eventRelay = mock(EventRelay.class);
+        when(eventRelay.nodeId()).thenReturn("node-a");
+        index = new MinHashSimilarityIndex(issueRepository, new SimilarityProperties(null, null, null, null),
+                eventRelay, mock(PlatformTransactionManager.class));
+        index.bootstrap();
+    }
+
+    @Test
+    void findsRewordedReportsAndIgnoresUnrelatedOnes() {
+        List<Match> matches = index.similarTo("User login error!",
+                "Users get a 500 error when they log into the portal", null, 0.5, 5);
+        assertThat(matches).extracting(Match::issueId).containsExactly(1L);
+        assertThat(matches.getFirst().similarity()).isGreaterThan(0.7);
+
+        assertThat(index.similarTo("Coffee machine broken", "No coffee on the second floor", null, 0.3, 5))
+                .isEmpty();
+        assertThat(index.similarTo("User login error", "Users get a 500 error when they log in to the portal",
+                1L, 0.3, 5)).isEmpty();
+    }
+
+    @Test
+    void followsCreationsDeletionsAndArchiving() {
+        Issue clone = issue(4L, "VPN disconnects every hour", "Remote staff lose the VPN tunnel every hour");
+        index.onIssueEvent(new IssueEvent(this, clone, IssueEvent.EventType.CREATED, null));
+        assertThat(index.similarTo(clone.getTitle(), clone.getDescription(), 4L, 0.5, 5))
+                .extracting(Match::issueId).containsExactly(3L);
+        assertThat(index.similarTo(clone.getTitle(), clone.getDescription(), null, 0.5, 5))
+                .extracting(Match::issueId).containsExactly(4L, 3L);
+
+        index.onIssueEvent(new IssueEvent(this, clone, IssueEvent.EventType.DELETED, null));
+        index.onIssuesArchived(new IssuesArchivedEvent(this, List.of(3L)));
+        assertThat(index.similarTo(clone.getTitle(), clone.getDescription(), null, 0.3, 5)).isEmpty();
+    }
+
+    @Test
+    void indexesIssuesCreatedOnOtherNodes() {
+        Issue clone = issue(4L, "VPN disconnects every hour", "Remote staff lose the VPN tunnel every hour");
+        when(issueRepository.findById(4L)).thenReturn(Optional.of(clone));
+        index.onRelayedEvent(new RelayedEvent(1, "node-b", RelayTopic.ISSUES, 4L, null, Instant.now()));
+        assertThat(index.similarTo(clone.getTitle(), clone.getDescription(), null, 0.5, 5))
+                .extracting(Match::issueId).containsExactly(4L, 3L);
+
+        when(issueRepository.findById(4L)).thenReturn(Optional.empty());
+        index.onRelayedEvent(new RelayedEvent(2, "node-b", RelayTopic.ISSUES, 4L, null, Instant.now()));
+        assertThat(index.similarTo(clone.getTitle(), clone.getDescription(), null, 0.5, 5))
+                .extracting(Match::issueId).containsExactly(3L);
+    }
+
+    private static Issue issue(Long id, String title, String description) {
+        return Issue.reconstitute()
+                .withId(id)
+                .withTitle(title)
+                .withDescription(description)
+                .withStatus(IssueStatus.OPEN)
+                .withTags(List.of())
+                .withCreatedAt(LocalDateTime.now())
+                .build();
+    }
+}
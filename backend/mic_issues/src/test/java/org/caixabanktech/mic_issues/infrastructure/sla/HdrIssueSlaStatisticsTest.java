@@ -0,0 +1,165 @@
+package org.caixabanktech.mic_issues.infrastructure.sla;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueSlaStatistics.SlaGroup;
+import org.caixabanktech.mic_issues.application.usecases.ports.IssueSlaStatistics.SlaReport;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueStatusHistoryRepository;
+import org.caixabanktech.mic_issues.domain.IssuePriority;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.StatusTransition;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.entities.User;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * SLA percentiles from bootstrap history and live issue events
+ */
+class HdrIssueSlaStatisticsTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-02T12:00:00Z");
+    private static final LocalDateTime NOW_LOCAL = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+    private final User support = User.builder().id(1L).username("ana").department("Support").build();
+    private final IssueRepository issueRepository = mock(IssueRepository.class);
+    private final IssueStatusHistoryRepository historyRepository = mock(IssueStatusHistoryRepository.class);
+
+    @Test
+    void bootstrapsFromHistoryAndCountsLiveChanges() {
+        Issue resolved = issue(1L, IssueStatus.RESOLVED, support, NOW_LOCAL.minusHours(10));
+        Issue open = issue(2L, IssueStatus.OPEN, null, NOW_LOCAL.minusHours(3));
+        when(issueRepository.findAll()).thenReturn(List.of(resolved, open));
+        when(historyRepository.findTransitionsInto(any(), any(), any())).thenReturn(List.of(
+                new StatusTransition(1L, IssueStatus.OPEN, IssueStatus.IN_PROGRESS, 1L, NOW_LOCAL.minusHours(9)),
+                new StatusTransition(1L, IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED, 1L, NOW_LOCAL.minusHours(6))));
+
+        HdrIssueSlaStatistics statistics = statistics();
+        statistics.bootstrap();
+
+        Issue assigned = issue(2L, IssueStatus.IN_PROGRESS, support, NOW_LOCAL.minusHours(3));
+        statistics.onIssueEvent(new IssueEvent(this, assigned, IssueEvent.EventType.ASSIGNED, 1L, IssueStatus.OPEN));
+
+        SlaReport report = statistics.report();
+        SlaGroup group = report.groups().stream()
+                .filter(g -> g.priority() == IssuePriority.HIGH && "Support".equals(g.department()))
+                .findFirst().orElseThrow();
+        assertThat(group.timeToAssign().count()).isEqualTo(2);
+        assertThat(group.timeToResolve().count()).isEqualTo(1);
+        assertThat(group.timeToResolve().p50Seconds()).isCloseTo(Duration.ofHours(4).toSeconds(), withinPercentage(1));
+        assertThat(group.openAge().count()).isEqualTo(1);
+        assertThat(group.openAge().p99Seconds()).isCloseTo(Duration.ofHours(3).toSeconds(), withinPercentage(1));
+
+        assertThat(report.totals()).singleElement().satisfies(total -> {
+            assertThat(total.department()).isNull();
+            assertThat(total.timeToAssign().count()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void closedAndDeletedIssuesLeaveTheOpenSet() {
+        when(issueRepository.findAll()).thenReturn(List.of());
+        when(historyRepository.findTransitionsInto(any(), any(), any())).thenReturn(List.of());
+        HdrIssueSlaStatistics statistics = statistics();
+        statistics.bootstrap();
+
+        Issue created = issue(5L, IssueStatus.OPEN, null, NOW_LOCAL.minusMinutes(5));
+        statistics.onIssueEvent(new IssueEvent(this, created, IssueEvent.EventType.CREATED, null));
+        assertThat(statistics.report().totals().getFirst().openAge().count()).isEqualTo(1);
+
+        Issue rejected = issue(5L, IssueStatus.REJECTED, null, NOW_LOCAL.minusMinutes(5));
+        statistics.onIssueEvent(new IssueEvent(this, rejected, IssueEvent.EventType.REJECTED, null, IssueStatus.OPEN));
+        assertThat(statistics.report().totals()).allSatisfy(total -> assertThat(total.openAge().count()).isZero());
+
+        // As published for each issue of a deleted user
+        Issue assigned = issue(6L, IssueStatus.IN_PROGRESS, support, NOW_LOCAL.minusMinutes(5));
+        statistics.onIssueEvent(new IssueEvent(this, assigned, IssueEvent.EventType.CREATED, null));
+        statistics.onIssueEvent(new IssueEvent(this, assigned, IssueEvent.EventType.DELETED, null));
+        assertThat(statistics.report().totals()).allSatisfy(total -> assertThat(total.openAge().count()).isZero());
+    }
+
+    @Test
+    void countsTransitionsMadeOnOtherNodes() {
+        when(issueRepository.findAll()).thenReturn(List.of(issue(2L, IssueStatus.OPEN, null, NOW_LOCAL.minusHours(3))));
+        when(historyRepository.findTransitionsInto(any(), any(), any())).thenReturn(List.of());
+        HdrIssueSlaStatistics statistics = statistics();
+        statistics.bootstrap();
+
+        when(issueRepository.findById(2L)).thenReturn(
+                Optional.of(issue(2L, IssueStatus.IN_PROGRESS, support, NOW_LOCAL.minusHours(3))));
+        statistics.onRelayedEvent(relayed(1, 2L));
+        // A second change that keeps the status is not another assignment
+        statistics.onRelayedEvent(relayed(2, 2L));
+        Issue createdAssigned = Issue.reconstitute()
+                .withId(7L)
+                .withTitle("Issue 7")
+                .withStatus(IssueStatus.IN_PROGRESS)
+                .withPriority(IssuePriority.HIGH)
+                .withAssignedUser(support)
+                .withTags(List.of())
+                .withCreatedAt(NOW_LOCAL.minusMinutes(1))
+                .build();
+        when(issueRepository.findById(7L)).thenReturn(Optional.of(createdAssigned));
+        statistics.onRelayedEvent(relayed(3, 7L));
+        when(issueRepository.findById(2L)).thenReturn(
+                Optional.of(issue(2L, IssueStatus.RESOLVED, support, NOW_LOCAL.minusHours(3))));
+        statistics.onRelayedEvent(relayed(4, 2L));
+
+        SlaReport report = statistics.report();
+        SlaGroup total = report.totals().getFirst();
+        assertThat(total.timeToAssign().count()).isEqualTo(2);
+        assertThat(total.timeToResolve().count()).isEqualTo(1);
+        assertThat(total.timeToResolve().p50Seconds()).isCloseTo(Duration.ofHours(3).toSeconds(), withinPercentage(1));
+        assertThat(total.openAge().count()).isEqualTo(1);
+
+        when(issueRepository.findById(7L)).thenReturn(Optional.empty());
+        statistics.onRelayedEvent(relayed(5, 7L));
+        assertThat(statistics.report().totals()).allSatisfy(group -> assertThat(group.openAge().count()).isZero());
+    }
+
+    private HdrIssueSlaStatistics statistics() {
+        return new HdrIssueSlaStatistics(issueRepository, historyRepository,
+                new SlaProperties(Duration.ofDays(30), 10, 2),
+                eventRelay(), mock(PlatformTransactionManager.class), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static EventRelay eventRelay() {
+        EventRelay eventRelay = mock(EventRelay.class);
+        when(eventRelay.nodeId()).thenReturn("node-a");
+        return eventRelay;
+    }
+
+    private static RelayedEvent relayed(long sequence, Long issueId) {
+        return new RelayedEvent(sequence, "node-b", RelayTopic.ISSUES, issueId, null, NOW);
+    }
+
+    private static Issue issue(Long id, IssueStatus status, User assignee, LocalDateTime createdAt) {
+        return Issue.reconstitute()
+                .withId(id)
+                .withTitle("Issue " + id)
+                .withStatus(status)
+                .withPriority(IssuePriority.HIGH)
+                .withAssignedUser(assignee)
+                .withTags(List.of())
+                .withCreatedAt(createdAt)
+                .withUpdatedAt(NOW_LOCAL)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package org.caixabanktech.mic_issues.infrastructure.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Normalization of statements into fingerprints
+ */
+class SqlFingerprintTest {
+
+    @Test
+    void replacesStringLiteralsIncludingEscapedQuotes() {
+        SqlFingerprint fingerprint = SqlFingerprint.of(
+                "select * from issues where title = 'it''s broken' and requester = 'bob'");
+
+        assertThat(fingerprint.sql()).isEqualTo("select * from issues where title = ? and requester = ?");
+        assertThat(fingerprint.id()).isEqualTo(
+                SqlFingerprint.of("select * from issues where title = '' and requester = 'o''brien'").id());
+    }
+
+    @Test
+    void replacesNegativeAndDecimalNumbers() {
+        assertThat(SqlFingerprint.of("select * from t where a > -5 and b = 3.14 and c < 10 limit 20").sql())
+                .isEqualTo("select * from t where a > ? and b = ? and c < ? limit ?");
+    }
+
+    @Test
+    void keepsDigitsInsideIdentifiers() {
+        assertThat(SqlFingerprint.of("select t1_0.id, t1_0.title from issues t1_0 where t1_0.id = 42").sql())
+                .isEqualTo("select t1_0.id, t1_0.title from issues t1_0 where t1_0.id = ?");
+    }
+
+    @Test
+    void keepsPositionalPlaceholders() {
+        assertThat(SqlFingerprint.of("SELECT id FROM relay_events WHERE id > $1 LIMIT $2").sql())
+                .isEqualTo("select id from relay_events where id > $1 limit $2");
+    }
+
+    @Test
+    void collapsesInListsAndMultiRowValues() {
+        assertThat(SqlFingerprint.of("select * from issues where id in (1, 2, 3)"))
+                .isEqualTo(SqlFingerprint.of("select * from issues where id IN (7)"));
+        assertThat(SqlFingerprint.of("insert into issue_tags (issue_id, tag) values (1, 'a'), (1, 'b'), (2, 'c')").sql())
+                .isEqualTo("insert into issue_tags (issue_id, tag) values (?, ?)");
+    }
+
+    @Test
+    void taggedAndUntaggedStatementsShareAFingerprint() {
+        String sql = "select i1_0.id from issues i1_0 where i1_0.status = 'OPEN'";
+        SqlFingerprint tagged = SqlFingerprint.of(
+                "/* endpoint=IssueController#listIssues usecase=ListIssuesUseCase */ " + sql);
+
+        assertThat(tagged).isEqualTo(SqlFingerprint.of(sql));
+        assertThat(tagged.sql()).doesNotContain("endpoint");
+        assertThat(tagged.id()).matches("[0-9a-f]{8}");
+    }
+}
@@ -0,0 +1,133 @@
+package org.caixabanktech.mic_issues.infrastructure.sse;
+
+import org.caixabanktech.mic_issues.infrastructure.relay.EventReplayBuffer;
+import org.caixabanktech.mic_issues.infrastructure.relay.LocalEventRelay;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayProperties;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
+import org.caixabanktech.mic_issues.infrastructure.websocket.dto.IssueEventMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replay and reset contract of one SSE connection resuming with Last-Event-ID
+ */
+class IssueEventStreamTest {
+
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+    private final SseEmitter emitter = new SseEmitter() {
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sent.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+    };
+
+    private LocalEventRelay relay;
+    private EventReplayBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        RelayProperties properties = new RelayProperties(null, "node-a", null, null, null, null, null, 2);
+        List<EventReplayBuffer> target = new ArrayList<>(1);
+        relay = new LocalEventRelay(event -> target.getFirst().onRelayedEvent((RelayedEvent) event), properties);
+        buffer = new EventReplayBuffer(relay, properties);
+        target.add(buffer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitter.complete();
+    }
+
+    @Test
+    void resumeReplaysMissedEventsWithoutReset() {
+        long seen = publish(1L);
+        long missed = publish(2L);
+
+        start(seen);
+        long live = publish(3L);
+
+        awaitSent(2);
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(0)).contains("id:" + missed).contains("event:issue");
+        assertThat(sent.get(1)).contains("id:" + live);
+    }
+
+    @Test
+    void evictedEventsResetTheClientThenStreamOn() {
+        long seen = publish(1L);
+        publish(2L);
+        long buffered = publish(3L);
+
+        start(seen - 1);
+        awaitSent(3);
+
+        assertThat(sent.getFirst()).contains("event:reset").contains("resume-gap");
+        assertThat(sent.getLast()).contains("id:" + buffered);
+    }
+
+    @Test
+    void lastEventIdFromBeforeARestartResetsAndKeepsStreaming() {
+        long current = publish(1L);
+
+        start(current + 1_000_000);
+        long live = publish(2L);
+
+        awaitSent(2);
+        assertThat(sent.get(0)).contains("event:reset").contains("sequence=" + current);
+        assertThat(sent.get(1)).contains("id:" + live).contains("event:issue");
+    }
+
+    private void awaitSent(int frames) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (sent.size() < frames && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Duration.ofMillis(5).toNanos());
+        }
+        assertThat(sent).as("frames sent").hasSizeGreaterThanOrEqualTo(frames);
+    }
+
+    private void start(long afterSequence) {
+        start(afterSequence, IssueStreamFilter.of(null, null, null, null, null));
+    }
+
+    private void start(long afterSequence, IssueStreamFilter filter) {
+        new IssueEventStream(emitter, filter, 16, Duration.ofMinutes(1), buffer).start(afterSequence, () -> { });
+    }
+    @Test
+    void importsResetEveryStreamWhateverItsFilterAndKeepStreaming() {
+        start(relay.lastDeliveredSequence(), IssueStreamFilter.of(List.of("RESOLVED"), null, null, null, null));
+        publish(1L);
+        relay.publish(RelayTopic.ISSUES, null, IssueEventMessage.imported());
+        long imported = relay.lastDeliveredSequence();
+        long resolved = publish(2L, "RESOLVED");
+
+        awaitSent(2);
+        assertThat(sent.get(0)).contains("id:" + imported).contains("event:reset").contains("bulk-import");
+        assertThat(sent.get(1)).contains("id:" + resolved).contains("event:issue");
+    }
+
+    private long publish(Long issueId) {
+        return publish(issueId, "OPEN");
+    }
+
+    private long publish(Long issueId, String status) {
+        relay.publish(RelayTopic.ISSUES, issueId, new IssueEventMessage("UPDATED", issueId, "Title", null, "test",
+                status, "NORMAL", null, null, List.of(), null, LocalDateTime.now()));
+        return relay.lastDeliveredSequence();
+    }
+}
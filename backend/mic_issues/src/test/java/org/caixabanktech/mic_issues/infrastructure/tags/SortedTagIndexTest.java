@@ -0,0 +1,98 @@
+package org.caixabanktech.mic_issues.infrastructure.tags;
+
+import org.caixabanktech.mic_issues.application.usecases.ports.TagIndex.TagUsage;
+import org.caixabanktech.mic_issues.application.usecases.repositories.IssueRepository;
+import org.caixabanktech.mic_issues.domain.IssueStatus;
+import org.caixabanktech.mic_issues.domain.entities.Issue;
+import org.caixabanktech.mic_issues.domain.events.IssueEvent;
+import org.caixabanktech.mic_issues.domain.events.IssuesArchivedEvent;
+import org.caixabanktech.mic_issues.infrastructure.relay.EventRelay;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayTopic;
+import org.caixabanktech.mic_issues.infrastructure.relay.RelayedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Prefix completion as issues gain and lose tags
+ */
+class SortedTagIndexTest {
+
+    private IssueRepository issueRepository;
+    private SortedTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        issueRepository = mock(IssueRepository.class);
+        when(issueRepository.findAll()).thenReturn(List.of(
+                issue(1L, "network", "VPN"),
+                issue(2L, "network", "vpn"),
+                issue(3L, "Vpn", "vpn-client", "network"),
+                issue(4L, "printer", "network")));
+        EventRelay eventRelay = mock(EventRelay.class);
+        when(eventRelay.nodeId()).thenReturn("node-a");
+        index = new SortedTagIndex(issueRepository, eventRelay, mock(PlatformTransactionManager.class));
+        index.bootstrap();
+    }
+
+    @Test
+    void completesPrefixesMostUsedFirstIgnoringCase() {
+        assertThat(index.complete("V", 10)).containsExactly(
+                new TagUsage("VPN", 3), new TagUsage("vpn-client", 1));
+        assertThat(index.complete("", 2)).containsExactly(
+                new TagUsage("network", 4), new TagUsage("VPN", 3));
+        assertThat(index.complete("vpn-", 10)).containsExactly(new TagUsage("vpn-client", 1));
+        assertThat(index.complete("x", 10)).isEmpty();
+    }
+
+    @Test
+    void followsTagChangesDeletionsAndArchiving() {
+        index.onIssueEvent(new IssueEvent(this, issue(4L, "hardware"), IssueEvent.EventType.UPDATED, null));
+        assertThat(index.complete("p", 10)).isEmpty();
+        assertThat(index.complete("h", 10)).containsExactly(new TagUsage("hardware", 1));
+        assertThat(index.complete("net", 10)).containsExactly(new TagUsage("network", 3));
+
+        index.onIssueEvent(new IssueEvent(this, issue(3L), IssueEvent.EventType.DELETED, null));
+        index.onIssuesArchived(new IssuesArchivedEvent(this, List.of(1L)));
+        assertThat(index.complete("", 10)).containsExactly(
+                new TagUsage("hardware", 1), new TagUsage("network", 1), new TagUsage("vpn", 1));
+    }
+
+    @Test
+    void rereadsIssuesChangedOnOtherNodes() {
+        when(issueRepository.findById(4L)).thenReturn(Optional.of(issue(4L, "hardware")));
+        when(issueRepository.findById(3L)).thenReturn(Optional.empty());
+
+        index.onRelayedEvent(new RelayedEvent(1, "node-b", RelayTopic.ISSUES, 4L, null, Instant.now()));
+        index.onRelayedEvent(new RelayedEvent(2, "node-b", RelayTopic.ISSUES, 3L, null, Instant.now()));
+        assertThat(index.complete("", 10)).containsExactly(
+                new TagUsage("network", 2), new TagUsage("VPN", 2), new TagUsage("hardware", 1));
+    }
+
+    @Test
+    void ignoresRelayedEventsOfItsOwnNode() {
+        when(issueRepository.findById(4L)).thenReturn(Optional.empty());
+
+        index.onRelayedEvent(new RelayedEvent(1, "node-a", RelayTopic.ISSUES, 4L, null, Instant.now()));
+        assertThat(index.complete("p", 10)).containsExactly(new TagUsage("printer", 1));
+    }
+
+    private static Issue issue(Long id, String... tags) {
+        return Issue.reconstitute()
+                .withId(id)
+                .withTitle("Issue " + id)
+                .withStatus(IssueStatus.OPEN)
+                .withTags(List.of(tags))
+                .withCreatedAt(LocalDateTime.now())
+                .build();
+    }
+}
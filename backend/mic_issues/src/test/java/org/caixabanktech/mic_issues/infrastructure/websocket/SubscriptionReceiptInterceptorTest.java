@@ -0,0 +1,77 @@
+package org.caixabanktech.mic_issues.infrastructure.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * RECEIPT frames for SUBSCRIBE, sent only after the broker has handled the subscription
+ */
+class SubscriptionReceiptInterceptorTest {
+
+    private final List<Message<?>> sent = new ArrayList<>();
+    private final MessageChannel inbound = mock(MessageChannel.class);
+    private final MessageHandler broker = mock(SimpleBrokerMessageHandler.class);
+
+    private SubscriptionReceiptInterceptor interceptor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MessageChannel outbound = (message, timeout) -> sent.add(message);
+        ObjectProvider<MessageChannel> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(outbound);
+        interceptor = new SubscriptionReceiptInterceptor(provider);
+    }
+
+    @Test
+    void receiptFollowsTheBrokerRegisteringTheSubscription() {
+        Message<byte[]> subscribe = frame(StompCommand.SUBSCRIBE, "subscribed-1");
+
+        interceptor.afterMessageHandled(subscribe, inbound, mock(MessageHandler.class), null);
+        assertThat(sent).isEmpty();
+
+        interceptor.afterMessageHandled(subscribe, inbound, broker, null);
+        assertThat(sent).singleElement().satisfies(message -> {
+            StompHeaderAccessor receipt = StompHeaderAccessor.wrap(message);
+            assertThat(receipt.getCommand()).isEqualTo(StompCommand.RECEIPT);
+            assertThat(receipt.getReceiptId()).isEqualTo("subscribed-1");
+            assertThat(receipt.getSessionId()).isEqualTo("session-1");
+        });
+    }
+
+    @Test
+    void noReceiptUnlessRequestedForASuccessfulSubscribe() {
+        interceptor.afterMessageHandled(frame(StompCommand.SUBSCRIBE, null), inbound, broker, null);
+        interceptor.afterMessageHandled(frame(StompCommand.SEND, "sent-1"), inbound, broker, null);
+        interceptor.afterMessageHandled(frame(StompCommand.SUBSCRIBE, "subscribed-1"), inbound, broker,
+                new IllegalStateException("Broker rejected the subscription"));
+
+        assertThat(sent).isEmpty();
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String receipt) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-1");
+        accessor.setDestination("/topic/issues");
+        accessor.setSubscriptionId("sub-1");
+        if (receipt != null) {
+            accessor.setReceipt(receipt);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
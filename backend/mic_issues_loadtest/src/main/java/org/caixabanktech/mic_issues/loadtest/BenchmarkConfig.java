@@ -0,0 +1,75 @@
+package org.caixabanktech.mic_issues.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark settings
+ * Parsed from --key=value arguments, falling back to -Dloadtest.key system properties
+ */
+public record BenchmarkConfig(
+        URI baseUrl,
+        URI webSocketUrl,
+        String destination,
+        List<Integer> subscriberSteps,
+        int mutationsPerStep,
+        int mutationsPerSecond,
+        int connectConcurrency,
+        Duration drainTimeout,
+        Duration metricsInterval,
+        Path reportPath,
+        Path baselinePath,
+        double maxP99Regression
+) {
+
+    public static BenchmarkConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        URI baseUrl = URI.create(option(options, "base-url", "http://localhost:8080"));
+        String defaultWebSocketUrl = baseUrl.toString().replaceFirst("^http", "ws") + "/ws-native";
+        String baseline = option(options, "baseline", null);
+
+        return new BenchmarkConfig(
+                baseUrl,
+                URI.create(option(options, "ws-url", defaultWebSocketUrl)),
+                option(options, "destination", "/topic/issues"),
+                Arrays.stream(option(options, "subscribers", "100,500,1000,2000,5000").split(","))
+                        .map(String::trim)
+                        .map(Integer::parseInt)
+                        .sorted()
+                        .toList(),
+                Integer.parseInt(option(options, "mutations", "200")),
+                Integer.parseInt(option(options, "rate", "20")),
+                Integer.parseInt(option(options, "connect-concurrency", "200")),
+                Duration.ofSeconds(Long.parseLong(option(options, "drain-timeout", "10"))),
+                Duration.ofMillis(Long.parseLong(option(options, "metrics-interval-ms", "1000"))),
+                Path.of(option(options, "report", "target/fanout-report.json")),
+                baseline != null ? Path.of(baseline) : null,
+                Double.parseDouble(option(options, "max-p99-regression", "0.25"))
+        );
+    }
+
+    private static String option(Map<String, String> options, String key, String defaultValue) {
+        String value = options.get(key);
+        if (value == null) {
+            value = System.getProperty("loadtest." + key);
+        }
+        return value != null ? value : defaultValue;
+    }
+}
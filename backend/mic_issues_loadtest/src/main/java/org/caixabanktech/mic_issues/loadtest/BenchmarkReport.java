@@ -0,0 +1,71 @@
+package org.caixabanktech.mic_issues.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Machine-readable benchmark result
+ * One entry per subscriber step, serialized as JSON
+ */
+public record BenchmarkReport(
+        Instant startedAt,
+        Instant finishedAt,
+        String baseUrl,
+        String webSocketUrl,
+        String destination,
+        int mutationsPerStep,
+        int mutationsPerSecond,
+        List<StepResult> steps
+) {
+
+    public record StepResult(
+            int targetSubscribers,
+            int connectedSubscribers,
+            int connectFailures,
+            int closedSubscribers,
+            int mutationsSent,
+            int mutationsFailed,
+            long expectedFrames,
+            long receivedFrames,
+            long droppedFrames,
+            double droppedRatio,
+            double serverEvictions,
+            long durationMs,
+            Latency latencyMs,
+            Gauge serverCpuUsage,
+            Gauge serverHeapUsedBytes
+    ) {
+    }
+
+    public record Latency(long count, double mean, double p50, double p99, double p999, double max) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(
+                    histogram.getTotalCount(),
+                    micros(histogram.getMean()),
+                    micros(histogram.getValueAtPercentile(50.0)),
+                    micros(histogram.getValueAtPercentile(99.0)),
+                    micros(histogram.getValueAtPercentile(99.9)),
+                    micros(histogram.getMaxValue())
+            );
+        }
+
+        private static double micros(double value) {
+            // Histogram values are recorded in microseconds
+            return Math.round(value) / 1000.0;
+        }
+    }
+
+    public record Gauge(int samples, double mean, double max) {
+
+        static Gauge of(List<Double> samples) {
+            return new Gauge(
+                    samples.size(),
+                    samples.stream().mapToDouble(Double::doubleValue).average().orElse(Double.NaN),
+                    samples.stream().mapToDouble(Double::doubleValue).max().orElse(Double.NaN)
+            );
+        }
+    }
+}
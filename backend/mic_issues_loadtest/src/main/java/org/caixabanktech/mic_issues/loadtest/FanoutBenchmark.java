@@ -0,0 +1,221 @@
+package org.caixabanktech.mic_issues.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket fan-out benchmark
+ * Ramps STOMP subscribers on the issues topic through the configured steps against a running
+ * mic_issues instance, drives mutations through the REST API at each step and writes a JSON report.
+ * <p>
+ * Start the app (with actuator metrics exposed), then from this module:
+ * <pre>
+ * mvn -q compile exec:java -Dexec.args="--subscribers=100,1000,5000 --mutations=200 --rate=20"
+ * </pre>
+ * Passing {@code --baseline=previous-report.json} fails the run (exit code 2) when the p99 latency
+ * of any step shared with the baseline regresses by more than {@code --max-p99-regression} (default 25%).
+ */
+public final class FanoutBenchmark {
+
+    private final BenchmarkConfig config;
+    private final ObjectMapper objectMapper;
+    private final HttpClient webSocketClient;
+    private final HttpClient restClient;
+    private final MutationDriver driver;
+    private final ServerMetricsSampler sampler;
+    private final List<StompSubscriber> subscribers = new ArrayList<>();
+
+    FanoutBenchmark(BenchmarkConfig config) {
+        this.config = config;
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        // Thousands of sockets share one client; its executor only runs listener callbacks
+        this.webSocketClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.restClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.driver = new MutationDriver(restClient, config.baseUrl(), objectMapper,
+                UUID.randomUUID().toString().substring(0, 8));
+        this.sampler = new ServerMetricsSampler(restClient, config.baseUrl(), objectMapper, config.metricsInterval());
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkConfig config = BenchmarkConfig.parse(args);
+        FanoutBenchmark benchmark = new FanoutBenchmark(config);
+        BenchmarkReport report = benchmark.run();
+        benchmark.write(report);
+
+        if (config.baselinePath() != null && !benchmark.withinBaseline(report)) {
+            System.exit(2);
+        }
+        System.exit(0);
+    }
+
+    BenchmarkReport run() {
+        Instant startedAt = Instant.now();
+        List<BenchmarkReport.StepResult> steps = new ArrayList<>();
+        try {
+            for (int target : config.subscriberSteps()) {
+                steps.add(runStep(target));
+            }
+        } finally {
+            subscribers.forEach(StompSubscriber::close);
+            sampler.close();
+        }
+        return new BenchmarkReport(
+                startedAt,
+                Instant.now(),
+                config.baseUrl().toString(),
+                config.webSocketUrl().toString(),
+                config.destination(),
+                config.mutationsPerStep(),
+                config.mutationsPerSecond(),
+                steps
+        );
+    }
+
+    private BenchmarkReport.StepResult runStep(int target) {
+        long started = System.nanoTime();
+        int connectFailures = connectUpTo(target);
+        List<StompSubscriber> active = subscribers.stream().filter(StompSubscriber::isOpen).toList();
+        active.forEach(StompSubscriber::resetReceivedFrames);
+        driver.reset();
+        log("step %d: %d subscribers connected (%d failed), sending %d mutations",
+                target, active.size(), connectFailures, config.mutationsPerStep());
+
+        double evictionsBefore = sampler.read("worksync.websocket.evictions");
+        sampler.start();
+        int sent = driver.run(target, config.mutationsPerStep(), config.mutationsPerSecond());
+        long expected = (long) sent * active.size();
+        awaitDrain(active, expected);
+        sampler.stop();
+        double evictions = sampler.read("worksync.websocket.evictions") - evictionsBefore;
+
+        long received = active.stream().mapToLong(StompSubscriber::receivedFrames).sum();
+        long dropped = Math.max(0, expected - received);
+        Histogram latency = driver.reset();
+        BenchmarkReport.StepResult result = new BenchmarkReport.StepResult(
+                target,
+                active.size(),
+                connectFailures,
+                (int) active.stream().filter(subscriber -> !subscriber.isOpen()).count(),
+                sent,
+                config.mutationsPerStep() - sent,
+                expected,
+                received,
+                dropped,
+                expected > 0 ? (double) dropped / expected : 0.0,
+                evictions,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                BenchmarkReport.Latency.of(latency),
+                sampler.cpu(),
+                sampler.heap()
+        );
+        log("step %d: p50=%.1fms p99=%.1fms p999=%.1fms dropped=%d/%d",
+                target, result.latencyMs().p50(), result.latencyMs().p99(), result.latencyMs().p999(),
+                dropped, expected);
+        return result;
+    }
+
+    /**
+     * Opens subscribers until the step target is reached, bounding concurrent handshakes.
+     *
+     * @return number of failed connection attempts
+     */
+    private int connectUpTo(int target) {
+        Semaphore permits = new Semaphore(config.connectConcurrency());
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<?>> attempts = new ArrayList<>();
+
+        for (int id = subscribers.size(); id < target; id++) {
+            StompSubscriber subscriber = new StompSubscriber(id, config.destination(), objectMapper, driver);
+            subscribers.add(subscriber);
+            permits.acquireUninterruptibly();
+            attempts.add(subscriber.connect(webSocketClient, config.webSocketUrl())
+                    .orTimeout(30, TimeUnit.SECONDS)
+                    .whenComplete((connected, error) -> {
+                        if (error != null) {
+                            failures.incrementAndGet();
+                        }
+                        permits.release();
+                    }));
+        }
+        CompletableFuture.allOf(attempts.toArray(CompletableFuture[]::new))
+                .exceptionally(error -> null)
+                .join();
+        return failures.get();
+    }
+
+    private void awaitDrain(List<StompSubscriber> active, long expected) {
+        long deadline = System.nanoTime() + config.drainTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            long received = active.stream().mapToLong(StompSubscriber::receivedFrames).sum();
+            if (received >= expected) {
+                return;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    void write(BenchmarkReport report) throws IOException {
+        if (config.reportPath().getParent() != null) {
+            Files.createDirectories(config.reportPath().getParent());
+        }
+        objectMapper.writeValue(config.reportPath().toFile(), report);
+        log("report written to %s", config.reportPath().toAbsolutePath());
+    }
+
+    /**
+     * Compares p99 latency per subscriber step against a previous report.
+     */
+    boolean withinBaseline(BenchmarkReport report) throws IOException {
+        JsonNode baseline = objectMapper.readTree(config.baselinePath().toFile());
+        boolean ok = true;
+        for (BenchmarkReport.StepResult step : report.steps()) {
+            for (JsonNode previous : baseline.path("steps")) {
+                if (previous.path("targetSubscribers").asInt() != step.targetSubscribers()) {
+                    continue;
+                }
+                double before = previous.path("latencyMs").path("p99").asDouble();
+                double limit = before * (1 + config.maxP99Regression());
+                if (before > 0 && step.latencyMs().p99() > limit) {
+                    log("REGRESSION at %d subscribers: p99 %.1fms > %.1fms (baseline %.1fms)",
+                            step.targetSubscribers(), step.latencyMs().p99(), limit, before);
+                    ok = false;
+                }
+            }
+        }
+        return ok;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf(format + "%n", args);
+    }
+}
@@ -0,0 +1,136 @@
+package org.caixabanktech.mic_issues.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives issue mutations through the REST API
+ * Every mutation is stamped before the request goes out, so the latency recorded
+ * when a subscriber sees the matching event covers HTTP, persistence, relay and fan-out.
+ * Creations are matched by a unique title, status changes by issue id and target status.
+ */
+final class MutationDriver {
+
+    private static final List<String> LIFECYCLE = List.of("IN_PROGRESS", "RESOLVED", "CLOSED");
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final ObjectMapper objectMapper;
+    private final String runId;
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final Recorder latency = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+
+    MutationDriver(HttpClient client, URI baseUrl, ObjectMapper objectMapper, String runId) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.runId = runId;
+    }
+
+    /**
+     * Sends {@code count} mutations at a fixed rate: each created issue is walked
+     * through its lifecycle before the next one is created.
+     *
+     * @return number of mutations the API acknowledged
+     */
+    int run(int step, int count, int perSecond) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, perSecond);
+        long next = System.nanoTime();
+        Deque<String> lifecycle = new ArrayDeque<>();
+        Long issueId = null;
+        int acknowledged = 0;
+
+        for (int i = 0; i < count; i++) {
+            LockSupport.parkNanos(next - System.nanoTime());
+            next += intervalNanos;
+            try {
+                if (issueId == null || lifecycle.isEmpty()) {
+                    issueId = createIssue("loadtest-" + runId + "-" + step + "-" + i);
+                    lifecycle.addAll(LIFECYCLE);
+                } else {
+                    updateStatus(issueId, lifecycle.poll());
+                }
+                acknowledged++;
+            } catch (Exception e) {
+                issueId = null;
+            }
+        }
+        return acknowledged;
+    }
+
+    /**
+     * Matches a received event against a pending mutation and records its latency.
+     *
+     * @return true if the event belongs to this run
+     */
+    boolean record(JsonNode event, long receivedAtNanos) {
+        Long sentAt = pending.get(keyOf(event));
+        if (sentAt == null) {
+            return false;
+        }
+        latency.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (receivedAtNanos - sentAt) / 1000));
+        return true;
+    }
+
+    /**
+     * Clears the latency window and pending mutations between steps.
+     */
+    Histogram reset() {
+        pending.clear();
+        return latency.getIntervalHistogram();
+    }
+
+    private Long createIssue(String title) throws Exception {
+        pending.put("CREATED:" + title, System.nanoTime());
+        String body = objectMapper.writeValueAsString(Map.of(
+                "title", title,
+                "description", "WebSocket fan-out benchmark",
+                "requester", "loadtest",
+                "tags", List.of("loadtest")
+        ));
+        HttpResponse<String> response = send(HttpRequest.newBuilder(baseUrl.resolve("/api/issues"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        return objectMapper.readTree(response.body()).path("id").asLong();
+    }
+
+    private void updateStatus(Long issueId, String status) throws Exception {
+        pending.put(issueId + ":" + status, System.nanoTime());
+        String body = objectMapper.writeValueAsString(Map.of("status", status));
+        send(HttpRequest.newBuilder(baseUrl.resolve("/api/issues/" + issueId + "/status"))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private static String keyOf(JsonNode event) {
+        if ("CREATED".equals(event.path("eventType").asText())) {
+            return "CREATED:" + event.path("title").asText();
+        }
+        return event.path("issueId").asLong() + ":" + event.path("status").asText();
+    }
+}
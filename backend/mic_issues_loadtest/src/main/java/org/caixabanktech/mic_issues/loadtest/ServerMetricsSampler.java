@@ -0,0 +1,100 @@
+package org.caixabanktech.mic_issues.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples server-side CPU and heap from the actuator metrics endpoint while a step runs
+ */
+final class ServerMetricsSampler implements AutoCloseable {
+
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final ObjectMapper objectMapper;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<Double> cpu = new ArrayList<>();
+    private final List<Double> heap = new ArrayList<>();
+    private ScheduledFuture<?> task;
+
+    ServerMetricsSampler(HttpClient client, URI baseUrl, ObjectMapper objectMapper, Duration interval) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.interval = interval;
+    }
+
+    synchronized void start() {
+        cpu.clear();
+        heap.clear();
+        task = scheduler.scheduleAtFixedRate(this::sample, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void stop() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    synchronized BenchmarkReport.Gauge cpu() {
+        return BenchmarkReport.Gauge.of(List.copyOf(cpu));
+    }
+
+    synchronized BenchmarkReport.Gauge heap() {
+        return BenchmarkReport.Gauge.of(List.copyOf(heap));
+    }
+
+    /**
+     * Reads a single metric value, or NaN when the endpoint or meter is unavailable.
+     */
+    double read(String metric) {
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(baseUrl.resolve("/actuator/metrics/" + metric)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return Double.NaN;
+            }
+            JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+            return measurements.isEmpty() ? Double.NaN : measurements.get(0).path("value").asDouble();
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    private void sample() {
+        double cpuUsage = read("process.cpu.usage");
+        double heapUsed = read("jvm.memory.used?tag=area:heap");
+        synchronized (this) {
+            if (!Double.isNaN(cpuUsage)) {
+                cpu.add(cpuUsage);
+            }
+            if (!Double.isNaN(heapUsed)) {
+                heap.add(heapUsed);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
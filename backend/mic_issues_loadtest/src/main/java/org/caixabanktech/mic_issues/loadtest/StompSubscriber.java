@@ -0,0 +1,160 @@
+package org.caixabanktech.mic_issues.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulated STOMP client
+ * Speaks just enough STOMP 1.2 over a raw WebSocket to subscribe to one destination
+ * and hand every MESSAGE body to the {@link MutationDriver} for latency matching.
+ * Counts as connected once the server has confirmed the subscription with a RECEIPT.
+ */
+final class StompSubscriber implements WebSocket.Listener {
+
+    private static final char NULL = '\0';
+
+    private final int id;
+    private final String destination;
+    private final ObjectMapper objectMapper;
+    private final MutationDriver driver;
+    private final StringBuilder buffer = new StringBuilder();
+    private final CompletableFuture<StompSubscriber> connected = new CompletableFuture<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong receivedFrames = new AtomicLong();
+
+    private volatile WebSocket webSocket;
+
+    StompSubscriber(int id, String destination, ObjectMapper objectMapper, MutationDriver driver) {
+        this.id = id;
+        this.destination = destination;
+        this.objectMapper = objectMapper;
+        this.driver = driver;
+    }
+
+    CompletableFuture<StompSubscriber> connect(HttpClient client, URI uri) {
+        client.newWebSocketBuilder()
+                .buildAsync(uri, this)
+                .whenComplete((socket, error) -> {
+                    if (error != null) {
+                        connected.completeExceptionally(error);
+                    }
+                });
+        return connected;
+    }
+
+    @Override
+    public void onOpen(WebSocket socket) {
+        this.webSocket = socket;
+        // Heart-beating is disabled so idle clients cost the server nothing but the subscription
+        socket.sendText("CONNECT\naccept-version:1.2\nhost:localhost\nheart-beat:0,0\n\n" + NULL, true);
+        socket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+        buffer.append(data);
+        if (last) {
+            int end;
+            while ((end = buffer.indexOf(String.valueOf(NULL))) >= 0) {
+                String frame = buffer.substring(0, end);
+                buffer.delete(0, end + 1);
+                handleFrame(frame.stripLeading());
+            }
+        }
+        socket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+        markClosed(new IllegalStateException("Closed by server: " + statusCode + " " + reason));
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket socket, Throwable error) {
+        markClosed(error);
+    }
+
+    void close() {
+        WebSocket socket = webSocket;
+        if (socket != null && closed.compareAndSet(false, true)) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "done").exceptionally(error -> null);
+        }
+    }
+
+    boolean isOpen() {
+        return connected.isDone() && !connected.isCompletedExceptionally() && !closed.get();
+    }
+
+    long receivedFrames() {
+        return receivedFrames.get();
+    }
+
+    void resetReceivedFrames() {
+        receivedFrames.set(0);
+    }
+
+    private void handleFrame(String frame) {
+        if (frame.isEmpty()) {
+            return;
+        }
+        int headersEnd = frame.indexOf("\n\n");
+        String command = frame.substring(0, frame.indexOf('\n') > 0 ? frame.indexOf('\n') : frame.length());
+        switch (command) {
+            case "CONNECTED" -> webSocket.sendText("SUBSCRIBE\nid:sub-" + id + "\ndestination:" + destination
+                    + "\nack:auto\nreceipt:" + receiptId() + "\n\n" + NULL, true);
+            case "RECEIPT" -> {
+                // Mutations start once every subscriber is connected; before the receipt, their events could be missed
+                if (receiptId().equals(header(frame, headersEnd, "receipt-id"))) {
+                    connected.complete(this);
+                }
+            }
+            case "MESSAGE" -> {
+                long receivedAt = System.nanoTime();
+                if (headersEnd < 0) {
+                    return;
+                }
+                try {
+                    JsonNode event = objectMapper.readTree(frame.substring(headersEnd + 2));
+                    if (driver.record(event, receivedAt)) {
+                        receivedFrames.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // Foreign or malformed payloads are not part of the measurement
+                }
+            }
+            case "ERROR" -> markClosed(new IllegalStateException("STOMP error: " + frame));
+            default -> {
+                // Anything else is irrelevant to the benchmark
+            }
+        }
+    }
+
+    private String receiptId() {
+        return "subscribed-" + id;
+    }
+
+    private static String header(String frame, int headersEnd, String name) {
+        String headers = frame.substring(0, headersEnd >= 0 ? headersEnd : frame.length());
+        for (String line : headers.split("\n")) {
+            if (line.startsWith(name + ":")) {
+                return line.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private void markClosed(Throwable cause) {
+        closed.set(true);
+        connected.completeExceptionally(cause);
+    }
+}
@@ -38,6 +38,7 @@ export function AssignModal({
 	const [useCustom, setUseCustom] = useState(false);
 	const [users, setUsers] = useState<BackendUser[]>([]);
 	const [isLoadingUsers, setIsLoadingUsers] = useState(false);
+	const [userQuery, setUserQuery] = useState("");
 
 	// Group state selections
 	const { selectedIssues, issues } = useIssuesStore(
@@ -47,18 +48,23 @@ export function AssignModal({
 		})),
 	);
 
-	// Fetch users when modal opens
+	// Search the directory as the user types, once typing pauses
 	useEffect(() => {
-		if (isOpen) {
-			const fetchUsers = async () => {
-				setIsLoadingUsers(true);
-				const fetchedUsers = await usersApi.fetchAll();
-				setUsers(fetchedUsers);
+		if (!isOpen) return;
+		const timer = setTimeout(async () => {
+			setIsLoadingUsers(true);
+			try {
+				const page = await usersApi.search(userQuery.trim(), { limit: 50 });
+				setUsers(page.users);
+			} catch (error) {
+				console.error("[AssignModal] Failed to search users:", error);
+				setUsers([]);
+			} finally {
 				setIsLoadingUsers(false);
-			};
-			fetchUsers();
-		}
-	}, [isOpen]);
+			}
+		}, 200);
+		return () => clearTimeout(timer);
+	}, [isOpen, userQuery]);
 
 	// Calculate issue counts per user
 	const userIssueCounts = useMemo(() => {
@@ -90,6 +96,7 @@ export function AssignModal({
 			setSelectedAssignee("");
 			setCustomAssignee("");
 			setUseCustom(false);
+			setUserQuery("");
 		}
 	}, [isOpen]);
 
@@ -179,7 +186,14 @@ export function AssignModal({
 					<h3 className="text-sm font-semibold text-gray-900 mb-3">
 						Assign to employee
 					</h3>
-					{isLoadingUsers ? (
+					<input
+						type="search"
+						value={userQuery}
+						onChange={(e) => setUserQuery(e.target.value)}
+						placeholder="Search by name, username, email or department"
+						className="w-full mb-3 px-3 py-2 border border-gray-300 rounded-lg focus:outline-none focus:ring-2 focus:ring-blue-500 focus:border-transparent"
+					/>
+					{isLoadingUsers && users.length === 0 ? (
 						<div className="text-center py-8 text-gray-500">
 							<p className="text-sm">Loading users...</p>
 						</div>
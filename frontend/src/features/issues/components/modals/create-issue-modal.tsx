@@ -1,6 +1,7 @@
 import { useState, useEffect } from "react";
 import { Dialog } from "@/components/dialog";
 import type { IssuePriority, IssueStatus } from "@/features/issues/types/issue";
+import { tagsApi } from "@/services/tags/tags-api";
 import { usersApi } from "@/services/users/users-api";
 import type { BackendUser } from "@/services/users/user-types";
 
@@ -31,21 +32,44 @@ export function CreateIssueModal({
 	const [description, setDescription] = useState("");
 	const [tags, setTags] = useState<string[]>([]);
 	const [tagInput, setTagInput] = useState("");
+	const [tagSuggestions, setTagSuggestions] = useState<string[]>([]);
 	const [users, setUsers] = useState<BackendUser[]>([]);
 	const [isLoadingUsers, setIsLoadingUsers] = useState(false);
+	const [userQuery, setUserQuery] = useState("");
+	// Kept so the chosen assignee stays listed when a later search leaves them out
+	const [selectedUser, setSelectedUser] = useState<BackendUser | null>(null);
 
-	// Fetch users when modal opens
+	// Search the directory as the user types, once typing pauses
 	useEffect(() => {
-		if (isOpen) {
-			const fetchUsers = async () => {
-				setIsLoadingUsers(true);
-				const fetchedUsers = await usersApi.fetchAll();
-				setUsers(fetchedUsers);
+		if (!isOpen) return;
+		const timer = setTimeout(async () => {
+			setIsLoadingUsers(true);
+			try {
+				const page = await usersApi.search(userQuery.trim(), { limit: 50 });
+				setUsers(page.users);
+			} catch (error) {
+				console.error("[CreateIssueModal] Failed to search users:", error);
+				setUsers([]);
+			} finally {
 				setIsLoadingUsers(false);
-			};
-			fetchUsers();
+			}
+		}, 200);
+		return () => clearTimeout(timer);
+	}, [isOpen, userQuery]);
+
+	// Suggest existing tags as the user types, once typing pauses
+	useEffect(() => {
+		const prefix = tagInput.trim();
+		if (!isOpen || !prefix) {
+			setTagSuggestions([]);
+			return;
 		}
-	}, [isOpen]);
+		const timer = setTimeout(async () => {
+			const suggestions = await tagsApi.suggest(prefix);
+			setTagSuggestions(suggestions.map((suggestion) => suggestion.tag));
+		}, 150);
+		return () => clearTimeout(timer);
+	}, [isOpen, tagInput]);
 
 	// Reset form when modal closes
 	useEffect(() => {
@@ -55,6 +79,8 @@ export function CreateIssueModal({
 			setStatus("open");
 			setPriority("normal");
 			setAssignedUserId(null);
+			setSelectedUser(null);
+			setUserQuery("");
 			setDescription("");
 			setTags([]);
 			setTagInput("");
@@ -213,16 +239,33 @@ export function CreateIssueModal({
 					>
 						Assignee
 					</label>
+					<input
+						type="search"
+						value={userQuery}
+						onChange={(e) => setUserQuery(e.target.value)}
+						placeholder="Search by name, username, email or department"
+						className="w-full mb-2 px-4 py-2 border border-gray-300 rounded-lg focus:outline-none focus:ring-2 focus:ring-blue-500 focus:border-transparent"
+					/>
 					<select
 						id="assignee"
 						value={assignedUserId || ""}
-						onChange={(e) =>
-							setAssignedUserId(e.target.value ? Number(e.target.value) : null)
-						}
-						disabled={isLoadingUsers}
+						onChange={(e) => {
+							const id = e.target.value ? Number(e.target.value) : null;
+							setAssignedUserId(id);
+							setSelectedUser(
+								users.find((user) => user.id === id) ??
+									(selectedUser?.id === id ? selectedUser : null),
+							);
+						}}
 						className="w-full pl-4 pr-8 py-2 border border-gray-300 rounded-lg focus:outline-none focus:ring-2 focus:ring-blue-500 focus:border-transparent cursor-pointer disabled:bg-gray-100 disabled:cursor-not-allowed"
 					>
 						<option value="">Unassigned</option>
+						{selectedUser &&
+							!users.some((user) => user.id === selectedUser.id) && (
+								<option value={selectedUser.id}>
+									{selectedUser.name} ({selectedUser.username})
+								</option>
+							)}
 						{users.map((user) => (
 							<option key={user.id} value={user.id}>
 								{user.name} ({user.username})
@@ -249,9 +292,18 @@ export function CreateIssueModal({
 							value={tagInput}
 							onChange={(e) => setTagInput(e.target.value)}
 							onKeyDown={handleTagKeyDown}
+							list="tag-suggestions"
+							autoComplete="off"
 							className="flex-1 px-4 py-2 border border-gray-300 rounded-lg focus:outline-none focus:ring-2 focus:ring-blue-500 focus:border-transparent"
 							placeholder="Add a tag and press Enter"
 						/>
+						<datalist id="tag-suggestions">
+							{tagSuggestions
+								.filter((tag) => !tags.includes(tag))
+								.map((tag) => (
+									<option key={tag} value={tag} />
+								))}
+						</datalist>
 						<button
 							type="button"
 							onClick={handleAddTag}
@@ -1,26 +1,102 @@
 import { useEffect } from "react";
 import { eventBus } from "@/services/websocket/event-bus";
+import { issuesApi } from "@/services/issues/issues-api";
 import { useIssuesStore } from "@/features/issues/store/use-issues-store";
+import type { IssueEventMessage } from "@/services/websocket/websocket";
+
+type BufferedEvent = { event: IssueEventMessage; sequence: number | null };
 
 /**
  * Hook to sync issues with WebSocket events
  * Separates WebSocket connection logic from state management
  *
+ * Snapshot-plus-subscribe: live events are buffered while the snapshot loads.
+ * The snapshot carries the event sequence it reflects, so events at or below it
+ * are dropped and nothing is applied twice. Every time the subscription becomes
+ * active (first connect or reconnect) the events published after the last applied
+ * sequence are fetched, which closes the gap before the subscription started
+ * without reloading every issue.
+ *
+ * A bulk import is relayed as one IMPORTED hint per chunk rather than an event per
+ * issue, so the hint reloads the snapshot; hints arriving while it loads coalesce
+ * into one more reload.
+ *
  * Uses getState() to avoid unstable dependencies - the effect runs only once
  * on mount and always uses the latest version of store functions.
  */
 export function useIssuesSync() {
 	useEffect(() => {
-		useIssuesStore.getState().loadIssuesFromAPI();
+		let buffer: BufferedEvent[] | null = [];
+		let refreshing = false;
+		let refreshAgain = false;
+
+		const apply = (event: IssueEventMessage, sequence: number | null) => {
+			if (event.eventType === "IMPORTED") {
+				if (sequence === null || sequence > useIssuesStore.getState().lastEventSequence) {
+					void refresh();
+				}
+				return;
+			}
+			useIssuesStore.getState().handleWebSocketEvent(event, sequence);
+		};
+
+		const bootstrap = async () => {
+			buffer = buffer ?? [];
+			await useIssuesStore.getState().bootstrapFromAPI();
+			const pending = buffer;
+			buffer = null;
+			for (const { event, sequence } of pending) {
+				apply(event, sequence);
+			}
+		};
+
+		const refresh = async () => {
+			if (refreshing) {
+				refreshAgain = true;
+				return;
+			}
+			refreshing = true;
+			try {
+				do {
+					refreshAgain = false;
+					await bootstrap();
+				} while (refreshAgain);
+			} finally {
+				refreshing = false;
+			}
+		};
+
+		const catchUp = async () => {
+			const after = useIssuesStore.getState().lastEventSequence;
+			const missed = await issuesApi.fetchEventsAfter(after).catch(() => null);
+			if (missed === null) {
+				await bootstrap();
+				return;
+			}
+			for (const { event, sequence } of missed) {
+				apply(event, sequence);
+			}
+		};
+
+		const unsubscribe = eventBus.subscribeToIssues((event, sequence) => {
+			if (buffer !== null) {
+				buffer.push({ event, sequence });
+				return;
+			}
+			apply(event, sequence);
+		});
+
+		const ready = bootstrap();
 
-		const unsubscribe = eventBus.subscribeToIssues((event) => {
-			useIssuesStore.getState().handleWebSocketEvent(event);
+		const unsubscribeConnect = eventBus.subscribeToConnect(() => {
+			void ready.then(catchUp);
 		});
 
 		eventBus.connect();
 
 		return () => {
 			unsubscribe();
+			unsubscribeConnect();
 			eventBus.disconnect();
 		};
 	}, []);
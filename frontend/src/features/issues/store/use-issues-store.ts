@@ -33,9 +33,11 @@ interface IssuesState {
 	searchQuery: string;
 	isLoading: boolean;
 	hasInitialized: boolean;
+	lastEventSequence: number;
 
 	setIssues: (issues: Issue[]) => void;
 	loadIssuesFromAPI: () => Promise<void>;
+	bootstrapFromAPI: () => Promise<number | null>;
 	addIssue: (
 		issue: Omit<Issue, "id" | "createdAt" | "updatedAt" | "requesterId"> & {
 			assignedUserId?: number | null;
@@ -49,7 +51,10 @@ interface IssuesState {
 			assignee?: string | null;
 		},
 	) => Promise<void>;
-	handleWebSocketEvent: (event: IssueEventMessage) => void;
+	handleWebSocketEvent: (
+		event: IssueEventMessage,
+		sequence?: number | null,
+	) => void;
 	deleteIssue: (issueId: string) => void;
 	toggleIssueSelection: (issueId: string) => void;
 	selectAllIssues: () => void;
@@ -69,6 +74,7 @@ export const useIssuesStore = create<IssuesState>()(
 			searchQuery: "",
 			isLoading: false,
 			hasInitialized: false,
+			lastEventSequence: 0,
 
 			setIssues: (issues) => set({ issues }),
 
@@ -84,6 +90,25 @@ export const useIssuesStore = create<IssuesState>()(
 				}
 			},
 
+			bootstrapFromAPI: async () => {
+				set({ isLoading: true });
+
+				try {
+					const { watermark, issues } = await issuesApi.bootstrap();
+					set({
+						issues,
+						lastEventSequence: watermark,
+						isLoading: false,
+						hasInitialized: true,
+					});
+					return watermark;
+				} catch (error) {
+					console.error("[Store] Failed to bootstrap issues from API:", error);
+					set({ isLoading: false, hasInitialized: true });
+					return null;
+				}
+			},
+
 			addIssue: async (issue) => {
 				try {
 					const createRequest = {
@@ -179,7 +204,15 @@ export const useIssuesStore = create<IssuesState>()(
 			setSearchQuery: (query) =>
 				set({ searchQuery: query, selectedIssues: new Set() }),
 
-			handleWebSocketEvent: (event: IssueEventMessage) => {
+			handleWebSocketEvent: (event, sequence) => {
+				// Already reflected in the snapshot, or already applied
+				if (sequence != null) {
+					if (sequence <= get().lastEventSequence) {
+						return;
+					}
+					set({ lastEventSequence: sequence });
+				}
+
 				const issueId = `ISSUE-${event.issueId}`;
 				const handler = EVENT_HANDLERS[event.eventType];
 
@@ -22,7 +22,7 @@ export async function assignIssue(
 	numericId: number,
 	assigneeName: string,
 ): Promise<void> {
-	const users = await usersApi.fetchAll();
+	const { users } = await usersApi.search(assigneeName, { limit: 100 });
 	const user = users.find(
 		(u) => u.username === assigneeName || u.name === assigneeName,
 	);
@@ -21,16 +21,24 @@ export const CHATBOT_CONFIG = {
 export const ENDPOINTS = {
 	ISSUES: {
 		BASE: "/issues",
+		BOOTSTRAP: "/issues/bootstrap",
+		EVENTS_AFTER: (sequence: number) => `/issues/events?after=${sequence}`,
 		BY_ID: (id: number) => `/issues/${id}`,
 		ASSIGN: (id: number) => `/issues/${id}/assign`,
 		UNASSIGN: (id: number) => `/issues/${id}/unassign`,
 		STATUS: (id: number) => `/issues/${id}/status`,
+		SIMILAR: (id: number) => `/issues/${id}/similar`,
 	},
 	USERS: {
 		BASE: "/users",
 		BY_ID: (id: number) => `/users/${id}`,
 		BY_DEPARTMENT: (department: string) =>
 			`/users?department=${encodeURIComponent(department)}`,
+		ISSUES: (id: number) => `/users/${id}/issues`,
+		SEARCH: "/users/search",
+	},
+	TAGS: {
+		BASE: "/tags",
 	},
 	CHATBOT: {
 		HEALTH: "/health",
@@ -21,6 +21,15 @@ export interface BackendIssue {
 	updatedAt: string;
 }
 
+/**
+ * Backend Issue Snapshot
+ * Matches IssueSnapshotResponse from IssueStreamController.java
+ */
+export interface BackendIssueSnapshot {
+	watermark: number;
+	issues: BackendIssue[];
+}
+
 /**
  * Create Issue Request
  * Matches CreateIssueRequest from IssueController.java
@@ -32,6 +41,24 @@ export interface CreateIssueRequest {
 	priority?: string; // Optional, defaults to "NORMAL" (LOW, NORMAL, HIGH, URGENT)
 	tags?: string[]; // Optional, defaults to []
 	assignedUserId?: number | null; // Optional, user ID to assign issue to
+	checkDuplicates?: boolean; // Optional, 409 with BackendPossibleDuplicate when open issues look the same
+}
+
+/**
+ * Issue resembling another one
+ * Matches SimilarIssueResponse from IssueController.java
+ */
+export interface BackendSimilarIssue {
+	issue: BackendIssue;
+	similarity: number; // 0 to 1
+}
+
+/**
+ * Body of a 409 answer to a create request with checkDuplicates
+ */
+export interface BackendPossibleDuplicate {
+	message: string;
+	candidates: BackendSimilarIssue[];
 }
 
 /**
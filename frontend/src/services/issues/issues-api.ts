@@ -9,9 +9,12 @@ import {
 	convertBackendIssue,
 	mapFrontendStatusToBackend,
 } from "@/services/issues/issue-mappers";
+import type { SequencedIssueEvent } from "@/services/websocket/websocket";
 import type {
 	AssignIssueRequest,
 	BackendIssue,
+	BackendIssueSnapshot,
+	BackendSimilarIssue,
 	CreateIssueRequest,
 	UnassignIssueRequest,
 	UpdateStatusRequest,
@@ -39,6 +42,64 @@ export const issuesApi = {
 		}
 	},
 
+	/**
+	 * Fetch all issues together with the event sequence they reflect
+	 */
+	async bootstrap(): Promise<{ watermark: number; issues: Issue[] }> {
+		const response = await fetch(
+			`${API_CONFIG.BASE_URL}${ENDPOINTS.ISSUES.BOOTSTRAP}`,
+		);
+		if (!response.ok)
+			throw new Error(`HTTP error! status: ${response.status}`);
+		const data: BackendIssueSnapshot = await response.json();
+		return {
+			watermark: data.watermark,
+			issues: data.issues.map(convertBackendIssue),
+		};
+	},
+
+	/**
+	 * Fetch the issue events published after a sequence
+	 * Returns null when the backend no longer has all of them (a new bootstrap is needed)
+	 */
+	async fetchEventsAfter(
+		sequence: number,
+	): Promise<SequencedIssueEvent[] | null> {
+		const response = await fetch(
+			`${API_CONFIG.BASE_URL}${ENDPOINTS.ISSUES.EVENTS_AFTER(sequence)}`,
+		);
+		if (response.status === 410) return null;
+		if (!response.ok)
+			throw new Error(`HTTP error! status: ${response.status}`);
+		const data: { events: SequencedIssueEvent[] } = await response.json();
+		return data.events;
+	},
+
+	/**
+	 * Fetch the issues most similar to an issue by title and description
+	 */
+	async fetchSimilar(
+		issueId: number,
+		options: { minSimilarity?: number; limit?: number } = {},
+	): Promise<{ issue: Issue; similarity: number }[]> {
+		const params = new URLSearchParams();
+		if (options.minSimilarity !== undefined)
+			params.set("minSimilarity", String(options.minSimilarity));
+		if (options.limit) params.set("limit", String(options.limit));
+
+		const query = params.toString();
+		const response = await fetch(
+			`${API_CONFIG.BASE_URL}${ENDPOINTS.ISSUES.SIMILAR(issueId)}${query ? `?${query}` : ""}`,
+		);
+		if (!response.ok)
+			throw new Error(`HTTP error! status: ${response.status}`);
+		const data: BackendSimilarIssue[] = await response.json();
+		return data.map((similar) => ({
+			issue: convertBackendIssue(similar.issue),
+			similarity: similar.similarity,
+		}));
+	},
+
 	/**
 	 * Create a new issue
 	 */
@@ -0,0 +1,13 @@
+/**
+ * Backend Tag Types
+ * Types matching the backend TagUsageResponse
+ */
+
+/**
+ * Tag suggestion
+ * Matches TagUsageResponse from TagController.java
+ */
+export interface BackendTagUsage {
+	tag: string;
+	count: number; // Issues carrying the tag
+}
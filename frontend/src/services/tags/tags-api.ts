@@ -0,0 +1,30 @@
+/**
+ * Tags API
+ * REST API operations for issue tags
+ */
+
+import { API_CONFIG, ENDPOINTS } from "@/services/config";
+import type { BackendTagUsage } from "@/services/tags/tag-types";
+
+/**
+ * Tags API Service
+ */
+export const tagsApi = {
+	/**
+	 * Fetch the most used tags starting with a prefix, ignoring case
+	 */
+	async suggest(prefix: string, limit = 10): Promise<BackendTagUsage[]> {
+		try {
+			const params = new URLSearchParams({ prefix, limit: String(limit) });
+			const response = await fetch(
+				`${API_CONFIG.BASE_URL}${ENDPOINTS.TAGS.BASE}?${params}`,
+			);
+			if (!response.ok)
+				throw new Error(`HTTP error! status: ${response.status}`);
+			return await response.json();
+		} catch (error) {
+			console.error("[TagsAPI] Failed to fetch tag suggestions:", error);
+			return [];
+		}
+	},
+};
@@ -3,6 +3,8 @@
  * Types matching the backend UserResponse and related DTOs
  */
 
+import type { BackendIssue } from "@/services/issues/issue-types";
+
 /**
  * Backend User Response
  */
@@ -14,6 +16,26 @@ export interface BackendUser {
 	department: string | null;
 }
 
+/**
+ * One page of user search results
+ * Matches UserSearchResponse from UserController.java
+ */
+export interface BackendUserSearchPage {
+	users: BackendUser[];
+	total: number; // Matches across all pages
+	nextOffset: number | null; // Null on the last page
+}
+
+/**
+ * One page of a user's issues
+ * Matches UserIssuesResponse from UserController.java
+ */
+export interface BackendUserIssuesPage {
+	issues: BackendIssue[];
+	counts: Record<string, number>; // Per status, over all the user's issues
+	nextCursor: string | null; // Null on the last page
+}
+
 /**
  * Create User Request
  */
@@ -4,7 +4,11 @@
  */
 
 import { API_CONFIG, ENDPOINTS } from "@/services/config";
-import type { BackendUser } from "@/services/users/user-types";
+import type {
+	BackendUser,
+	BackendUserIssuesPage,
+	BackendUserSearchPage,
+} from "@/services/users/user-types";
 
 /**
  * Users API Service
@@ -28,4 +32,43 @@ export const usersApi = {
 			return [];
 		}
 	},
+
+	/**
+	 * Search users by username, name, email or department, best matches first
+	 * An empty query lists everyone by name, one page at a time
+	 */
+	async search(
+		query: string,
+		options: { offset?: number; limit?: number } = {},
+	): Promise<BackendUserSearchPage> {
+		const params = new URLSearchParams({ q: query });
+		if (options.offset) params.set("offset", String(options.offset));
+		if (options.limit) params.set("limit", String(options.limit));
+
+		const response = await fetch(
+			`${API_CONFIG.BASE_URL}${ENDPOINTS.USERS.SEARCH}?${params}`,
+		);
+		if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`);
+		return await response.json();
+	},
+
+	/**
+	 * Fetch one page of the issues assigned to a user, most recently changed first
+	 */
+	async fetchIssues(
+		userId: number,
+		options: { status?: string[]; cursor?: string; limit?: number } = {},
+	): Promise<BackendUserIssuesPage> {
+		const params = new URLSearchParams();
+		for (const status of options.status ?? []) params.append("status", status);
+		if (options.cursor) params.set("cursor", options.cursor);
+		if (options.limit) params.set("limit", String(options.limit));
+
+		const query = params.toString();
+		const response = await fetch(
+			`${API_CONFIG.BASE_URL}${ENDPOINTS.USERS.ISSUES(userId)}${query ? `?${query}` : ""}`,
+		);
+		if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`);
+		return await response.json();
+	},
 };
@@ -6,7 +6,17 @@
 import { StompWebSocketClient } from "./stomp-client";
 import type { IssueEventMessage } from "./websocket";
 
-type IssueEventListener = (event: IssueEventMessage) => void;
+type IssueEventListener = (
+	event: IssueEventMessage,
+	sequence: number | null,
+) => void;
+type ConnectListener = () => void;
+
+/**
+ * STOMP header carrying the backend event sequence
+ * Matches backend: WebSocketEventHandler.SEQUENCE_HEADER
+ */
+const SEQUENCE_HEADER = "event-sequence";
 
 const WEBSOCKET_CONFIG = {
 	url: "http://localhost:8080/ws",
@@ -23,10 +33,14 @@ const TOPICS = {
 class EventBus {
 	private readonly client: StompWebSocketClient;
 	private issueListeners: IssueEventListener[] = [];
+	private connectListeners: ConnectListener[] = [];
 	private isInitialized = false;
 
 	constructor() {
-		this.client = new StompWebSocketClient(WEBSOCKET_CONFIG);
+		this.client = new StompWebSocketClient({
+			...WEBSOCKET_CONFIG,
+			onConnect: () => this.notifyConnectListeners(),
+		});
 	}
 
 	connect(): void {
@@ -39,7 +53,9 @@ class EventBus {
 		this.client.subscribe(TOPICS.ISSUES, (message) => {
 			try {
 				const event: IssueEventMessage = JSON.parse(message.body);
-				this.notifyIssueListeners(event);
+				const header = message.headers[SEQUENCE_HEADER];
+				const sequence = header ? Number(header) : null;
+				this.notifyIssueListeners(event, sequence);
 			} catch (err) {
 				console.error("[EventBus] Failed to parse issue event:", err);
 			}
@@ -60,10 +76,35 @@ class EventBus {
 		};
 	}
 
-	private notifyIssueListeners(event: IssueEventMessage): void {
+	/**
+	 * Called on every (re)connection, once subscriptions are in place
+	 */
+	subscribeToConnect(listener: ConnectListener): () => void {
+		this.connectListeners = [...this.connectListeners, listener];
+		return () => {
+			this.connectListeners = this.connectListeners.filter(
+				(l) => l !== listener,
+			);
+		};
+	}
+
+	private notifyConnectListeners(): void {
+		for (const listener of this.connectListeners) {
+			try {
+				listener();
+			} catch (e) {
+				console.error("[EventBus] Connect listener threw:", e);
+			}
+		}
+	}
+
+	private notifyIssueListeners(
+		event: IssueEventMessage,
+		sequence: number | null,
+	): void {
 		for (const listener of this.issueListeners) {
 			try {
-				listener(event);
+				listener(event, sequence);
 			} catch (e) {
 				console.error("[EventBus] Issue listener threw:", e);
 			}
@@ -67,6 +67,7 @@ export class StompWebSocketClient implements WebSocketClient {
 			}
 
 			this.resubscribeAll();
+			this.config.onConnect?.();
 		};
 
 		this.client.onStompError = () => {
@@ -159,6 +160,7 @@ export class StompWebSocketClient implements WebSocketClient {
 			const wsMessage: WebSocketMessage = {
 				topic,
 				body: message.body,
+				headers: message.headers,
 			};
 
 			for (const callback of callbacks) {
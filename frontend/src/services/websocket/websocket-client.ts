@@ -12,6 +12,7 @@ export type ConnectionStatus =
 export interface WebSocketMessage {
 	topic: string;
 	body: string;
+	headers: Record<string, string>;
 }
 
 export interface WebSocketClientConfig {
@@ -20,6 +21,7 @@ export interface WebSocketClientConfig {
 	heartbeatIncoming?: number;
 	heartbeatOutgoing?: number;
 	debug?: boolean;
+	onConnect?: () => void;
 }
 
 export interface WebSocketClient {
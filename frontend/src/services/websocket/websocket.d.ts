@@ -13,7 +13,8 @@ export type IssueEventType =
 	| "RESOLVED"
 	| "CLOSED"
 	| "REJECTED"
-	| "DELETED";
+	| "DELETED"
+	| "IMPORTED";
 
 /**
  * User Event Types
@@ -39,6 +40,15 @@ export interface IssueEventMessage {
 	timestamp: string; // ISO 8601 date string
 }
 
+/**
+ * Issue event tagged with its relay sequence
+ * Matches backend: IssueEventsResponse.SequencedIssueEvent
+ */
+export interface SequencedIssueEvent {
+	sequence: number;
+	event: IssueEventMessage;
+}
+
 /**
  * User Event Message from WebSocket
  * Matches backend: UserEventMessage.java
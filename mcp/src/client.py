@@ -2,7 +2,9 @@
 WorkSync HTTP Client - Clean separation of HTTP logic
 """
 
+import json
 import os
+import time
 from typing import Dict, Any, List, Optional
 
 import httpx
@@ -42,6 +44,19 @@ class WorkSyncClient:
             resp.raise_for_status()
             return resp.json()
 
+    async def find_similar_issues(
+        self,
+        issue_id: int,
+        min_similarity: float = 0.3,
+        limit: int = 5
+    ) -> List[Dict[str, Any]]:
+        """List the issues most similar to an issue by title and description"""
+        params = {"minSimilarity": min_similarity, "limit": limit}
+        async with httpx.AsyncClient(base_url=self.base_url, timeout=30.0) as client:
+            resp = await client.get(f"/api/issues/{issue_id}/similar", params=params)
+            resp.raise_for_status()
+            return resp.json()
+
     async def assign_issue(self, issue_id: int, user_id: int) -> Dict[str, Any]:
         """Assign an issue to a user"""
         async with httpx.AsyncClient(base_url=self.base_url, timeout=30.0) as client:
@@ -52,6 +67,16 @@ class WorkSyncClient:
             resp.raise_for_status()
             return resp.json()
 
+    async def claim_next_issue(self, user_id: int, tag: Optional[str] = None) -> Optional[Dict[str, Any]]:
+        """Claim the next waiting issue for a user; None when nothing is waiting"""
+        payload: Dict[str, Any] = {"userId": user_id}
+        if tag:
+            payload["tag"] = tag
+        async with httpx.AsyncClient(base_url=self.base_url, timeout=30.0) as client:
+            resp = await client.post("/api/queue/next", json=payload)
+            resp.raise_for_status()
+            return resp.json() if resp.status_code != 204 else None
+
     async def unassign_issue(self, issue_id: int, user_id: int = 0) -> Dict[str, Any]:
         """Unassign an issue"""
         async with httpx.AsyncClient(base_url=self.base_url, timeout=30.0) as client:
@@ -77,6 +102,54 @@ class WorkSyncClient:
             resp.raise_for_status()
             return resp.json()
 
+    async def watch_issue_events(
+        self,
+        last_event_id: Optional[int] = None,
+        wait_seconds: float = 30.0,
+        status: Optional[List[str]] = None,
+        assigned_user_id: Optional[int] = None
+    ) -> Dict[str, Any]:
+        """Collect issue events from the SSE stream for up to wait_seconds.
+
+        Pass the returned last_event_id back in to resume without gaps instead of
+        polling the full issue list.
+        """
+        params: Dict[str, Any] = {}
+        if status:
+            params["status"] = status
+        if assigned_user_id is not None:
+            params["assignedUserId"] = assigned_user_id
+        headers = {"Last-Event-ID": str(last_event_id)} if last_event_id is not None else {}
+
+        events: List[Dict[str, Any]] = []
+        reset = None
+        deadline = time.monotonic() + wait_seconds
+        event_id, event_name, data_lines = None, None, []
+
+        timeout = httpx.Timeout(10.0, read=wait_seconds + 30.0)
+        async with httpx.AsyncClient(base_url=self.base_url, timeout=timeout) as client:
+            async with client.stream("GET", "/api/issues/stream", params=params, headers=headers) as resp:
+                resp.raise_for_status()
+                async for line in resp.aiter_lines():
+                    if line.startswith("id:"):
+                        event_id = int(line[3:].strip())
+                    elif line.startswith("event:"):
+                        event_name = line[6:].strip()
+                    elif line.startswith("data:"):
+                        data_lines.append(line[5:].strip())
+                    elif line == "":
+                        if event_name == "issue" and data_lines:
+                            events.append(json.loads("\n".join(data_lines)))
+                            last_event_id = event_id
+                        elif event_name == "reset" and data_lines:
+                            reset = json.loads("\n".join(data_lines))
+                        event_id, event_name, data_lines = None, None, []
+                        # Heartbeats arrive at least every 15s, so the deadline is honoured
+                        if reset is not None or time.monotonic() >= deadline:
+                            break
+
+        return {"events": events, "last_event_id": last_event_id, "reset": reset}
+
     # ============================================================================
     # USER OPERATIONS
     # ============================================================================
@@ -110,6 +183,38 @@ class WorkSyncClient:
             resp.raise_for_status()
             return resp.json()
 
+    async def search_users(self, query: str, offset: int = 0, limit: int = 20) -> Dict[str, Any]:
+        """Search users by username, name, email or department"""
+        params = {"q": query, "offset": offset, "limit": limit}
+        async with httpx.AsyncClient(base_url=self.base_url, timeout=30.0) as client:
+            resp = await client.get("/api/users/search", params=params)
+            resp.raise_for_status()
+            return resp.json()
+
+    async def get_department_summary(self) -> Dict[str, Any]:
+        """Get users and open workload per department"""
+        async with httpx.AsyncClient(base_url=self.base_url, timeout=30.0) as client:
+            resp = await client.get("/api/departments/summary")
+            resp.raise_for_status()
+            return resp.json()
+
+    async def get_issue_timeseries(
+        self,
+        granularity: str = "HOUR",
+        from_: Optional[str] = None,
+        to: Optional[str] = None
+    ) -> Dict[str, Any]:
+        """Get issues created and resolved per minute, hour or day"""
+        params: Dict[str, Any] = {"granularity": granularity}
+        if from_:
+            params["from"] = from_
+        if to:
+            params["to"] = to
+        async with httpx.AsyncClient(base_url=self.base_url, timeout=30.0) as client:
+            resp = await client.get("/api/metrics/issues/timeseries", params=params)
+            resp.raise_for_status()
+            return resp.json()
+
     async def get_user(self, user_id: int) -> Dict[str, Any]:
         """Get a user by ID"""
         async with httpx.AsyncClient(base_url=self.base_url, timeout=30.0) as client:
@@ -117,6 +222,24 @@ class WorkSyncClient:
             resp.raise_for_status()
             return resp.json()
 
+    async def list_user_issues(
+        self,
+        user_id: int,
+        status: Optional[List[str]] = None,
+        cursor: Optional[str] = None,
+        limit: int = 20
+    ) -> Dict[str, Any]:
+        """List one page of the issues assigned to a user, most recently changed first"""
+        params: Dict[str, Any] = {"limit": limit}
+        if status:
+            params["status"] = [s.upper() for s in status]
+        if cursor:
+            params["cursor"] = cursor
+        async with httpx.AsyncClient(base_url=self.base_url, timeout=30.0) as client:
+            resp = await client.get(f"/api/users/{user_id}/issues", params=params)
+            resp.raise_for_status()
+            return resp.json()
+
     async def update_user(
         self,
         user_id: int,
@@ -36,12 +36,30 @@ async def get_issue(issue_id: int) -> Dict[str, Any]:
     return await client.get_issue(issue_id)
 
 
+@mcp.tool()
+async def find_similar_issues(
+    issue_id: int,
+    min_similarity: float = 0.3,
+    limit: int = 5
+) -> List[Dict[str, Any]]:
+    """Find issues that look like near-duplicates of an issue, most similar first"""
+    return await client.find_similar_issues(issue_id, min_similarity, limit)
+
+
 @mcp.tool()
 async def assign_issue(issue_id: int, user_id: int) -> Dict[str, Any]:
     """Assign an issue to a user (automatically changes status to IN_PROGRESS)"""
     return await client.assign_issue(issue_id, user_id)
 
 
+@mcp.tool()
+async def claim_next_issue(user_id: int, tag: Optional[str] = None) -> Optional[Dict[str, Any]]:
+    """Pick up the next unassigned OPEN issue for a user: highest priority, oldest first.
+    The issue is assigned to the user in the same step, so two agents never get the same one.
+    Returns None when no issue is waiting."""
+    return await client.claim_next_issue(user_id, tag)
+
+
 @mcp.tool()
 async def unassign_issue(issue_id: int, user_id: int = 0) -> Dict[str, Any]:
     """Unassign an issue (reverts status to OPEN)"""
@@ -54,6 +72,18 @@ async def update_issue_status(issue_id: int, status: str, user_id: int) -> Dict[
     return await client.update_issue_status(issue_id, status, user_id)
 
 
+@mcp.tool()
+async def wait_for_issue_changes(
+    last_event_id: Optional[int] = None,
+    wait_seconds: float = 30.0,
+    status: Optional[List[str]] = None,
+    assigned_user_id: Optional[int] = None
+) -> Dict[str, Any]:
+    """Wait for issue changes after last_event_id instead of re-listing all issues.
+    A non-null reset means events were missed and list_issues should be called again."""
+    return await client.watch_issue_events(last_event_id, wait_seconds, status, assigned_user_id)
+
+
 @mcp.tool()
 async def create_user(username: str, password: str, name: str, email: str) -> Dict[str, Any]:
     """Create a new user in the system"""
@@ -66,12 +96,50 @@ async def list_users(department: Optional[str] = None) -> List[Dict[str, Any]]:
     return await client.list_users(department)
 
 
+@mcp.tool()
+async def search_users(query: str, offset: int = 0, limit: int = 20) -> Dict[str, Any]:
+    """Search users by username, name, email or department, best matches first.
+    Pass nextOffset back as offset for the following page; it is null on the last page."""
+    return await client.search_users(query, offset, limit)
+
+
+@mcp.tool()
+async def get_department_summary() -> Dict[str, Any]:
+    """Get each department's user count and its open and in-progress issues by priority,
+    plus the issues nobody is assigned to"""
+    return await client.get_department_summary()
+
+
+@mcp.tool()
+async def get_issue_timeseries(
+    granularity: str = "HOUR",
+    from_: Optional[str] = None,
+    to: Optional[str] = None
+) -> Dict[str, Any]:
+    """Get how many issues were created and resolved per MINUTE, HOUR or DAY between from_ and to
+    (ISO date-times, to defaults to now, from_ to 60 buckets before it).
+    Minutes only reach back as far as the server keeps them, 24 hours by default."""
+    return await client.get_issue_timeseries(granularity, from_, to)
+
+
 @mcp.tool()
 async def get_user(user_id: int) -> Dict[str, Any]:
     """Get details of a specific user by ID"""
     return await client.get_user(user_id)
 
 
+@mcp.tool()
+async def list_user_issues(
+    user_id: int,
+    status: Optional[List[str]] = None,
+    cursor: Optional[str] = None,
+    limit: int = 20
+) -> Dict[str, Any]:
+    """List the issues assigned to a user, one page at a time, with counts per status.
+    Pass nextCursor back as cursor for the following page; it is null on the last page."""
+    return await client.list_user_issues(user_id, status, cursor, limit)
+
+
 @mcp.tool()
 async def update_user(
     user_id: int,
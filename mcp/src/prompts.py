@@ -38,6 +38,23 @@ Returns:
     Complete issue details including title, description, status, assignee, and timestamps
 """
 
+FIND_SIMILAR_ISSUES = """
+Find issues whose title and description resemble an issue, to spot duplicates.
+
+Args:
+    issue_id: The ID of the issue to compare against (required)
+    min_similarity: Leave out matches below this similarity, 0 to 1 (optional, default 0.3)
+    limit: Maximum number of matches, 1 to 50 (optional, default 5)
+
+Returns:
+    List of {issue, similarity}, most similar first; similarity is the estimated
+    share of text the two issues have in common
+
+Example:
+    issue_id: 42
+    min_similarity: 0.6  # Likely duplicates only
+"""
+
 ASSIGN_ISSUE = """
 Assign an issue to a user. This automatically changes the issue status to IN_PROGRESS.
 
@@ -52,6 +69,22 @@ Business Rule:
     Assigning an issue automatically changes its status to IN_PROGRESS
 """
 
+CLAIM_NEXT_ISSUE = """
+Pick up the next issue from the work queue and assign it to a user in one step.
+
+Args:
+    user_id: The ID of the user picking up work (required)
+    tag: Only issues with this tag, ignoring case (optional)
+
+Returns:
+    The claimed issue, now IN_PROGRESS and assigned to the user, or None if no
+    unassigned OPEN issue is waiting
+
+Business Rule:
+    Issues are handed out by priority (URGENT first), then oldest first. Concurrent
+    claims never return the same issue, unlike listing issues and assigning one.
+"""
+
 UNASSIGN_ISSUE = """
 Unassign an issue (remove the current assignee). This reverts the status to OPEN.
 
@@ -125,6 +158,38 @@ Example:
     department: None           # Returns all users
 """
 
+SEARCH_USERS = """
+Search users by username, name, email or department, ignoring case.
+
+Args:
+    query: Terms that must all match (required). Terms of three or more characters
+           match anywhere; shorter ones match the start of a word. Empty lists everyone.
+    offset: The nextOffset of the previous page (optional, default 0)
+    limit: Page size, 1 to 100 (optional, default 20)
+
+Returns:
+    - users: The page of users (id, username, name, email, department)
+    - total: Number of matching users across all pages
+    - nextOffset: Offset of the following page, null on the last page
+
+Example:
+    query: "smith support"  # Smiths in the Support department
+"""
+
+GET_DEPARTMENT_SUMMARY = """
+Get the workload of every department in one call.
+
+Returns:
+    - departments: One entry per department, by name, users without one last (department null)
+        - users: Number of users in the department
+        - issues: open and inProgress counts of the issues assigned to them, and
+                  priorities with both counted per priority (LOW, NORMAL, HIGH, URGENT)
+    - unassigned: The same counts for issues nobody is assigned to
+
+Example:
+    Use it to spot the department with the most URGENT work before assigning.
+"""
+
 GET_USER = """
 Get details of a specific user by ID.
 
@@ -135,6 +200,25 @@ Returns:
     Complete user profile including name, email, phone, address, and department
 """
 
+LIST_USER_ISSUES = """
+List the issues assigned to a user, most recently changed first, one page at a time.
+
+Args:
+    user_id: The ID of the user (required)
+    status: Only include these statuses, e.g. ["OPEN", "IN_PROGRESS"] (optional, default all)
+    cursor: The nextCursor of the previous page (optional, omit for the first page)
+    limit: Page size, 1 to 100 (optional, default 20)
+
+Returns:
+    - issues: The page of issues
+    - counts: Number of issues assigned to the user per status, regardless of the filter
+    - nextCursor: Cursor for the following page, null on the last page
+
+Example:
+    user_id: 3
+    status: ["OPEN", "IN_PROGRESS"]  # The user's active work
+"""
+
 UPDATE_USER = """
 Update a user's profile information.
 
@@ -171,3 +255,21 @@ Returns:
 Warning:
     This operation is permanent and cannot be undone.
 """
+
+
+GET_ISSUE_TIMESERIES = """
+Get issue activity over time, one bucket per minute, hour or day.
+
+Args:
+    granularity: MINUTE, HOUR (default) or DAY
+    from_: Start as an ISO date-time, rounded down to the bucket; defaults to 60 buckets before to
+    to: End as an ISO date-time, exclusive; defaults to now
+
+Returns:
+    - granularity, from, to: The range actually served
+    - created, resolved: Totals over the range
+    - points: One entry per bucket, empty ones included, with start, created and resolved
+
+Example:
+    Use DAY over the last month to see whether the backlog is growing.
+"""